@@ -15,10 +15,12 @@ package org.assertj.db.api;
 import org.assertj.core.api.Condition;
 import org.assertj.db.api.assertions.*;
 import org.assertj.db.api.assertions.impl.*;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.navigation.element.ValueElement;
 import org.assertj.db.navigation.origin.OriginWithColumnsAndRowsFromChange;
 import org.assertj.db.type.*;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -68,151 +70,166 @@ public abstract class AbstractAssertWithValues<E extends AbstractAssertWithValue
   /** {@inheritDoc} */
   @Override
   public E isOfClass(Class<?> expected) {
-    return AssertionsOnValueClass.isOfClass(myself, info, value, expected);
+    return DbListeners.evaluate("isOfClass", () -> AssertionsOnValueClass.isOfClass(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isOfType(ValueType expected) {
-    return AssertionsOnValueType.isOfType(myself, info, value, expected);
+    return DbListeners.evaluate("isOfType", () -> AssertionsOnValueType.isOfType(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isOfAnyTypeIn(ValueType... expected) {
-    return AssertionsOnValueType.isOfAnyTypeIn(myself, info, value, expected);
+    return DbListeners.evaluate("isOfAnyTypeIn",
+        () -> AssertionsOnValueType.isOfAnyTypeIn(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNumber() {
-    return AssertionsOnValueType.isNumber(myself, info, value);
+    return DbListeners.evaluate("isNumber", () -> AssertionsOnValueType.isNumber(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isBoolean() {
-    return AssertionsOnValueType.isBoolean(myself, info, value);
+    return DbListeners.evaluate("isBoolean", () -> AssertionsOnValueType.isBoolean(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isDate() {
-    return AssertionsOnValueType.isDate(myself, info, value);
+    return DbListeners.evaluate("isDate", () -> AssertionsOnValueType.isDate(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isTime() {
-    return AssertionsOnValueType.isTime(myself, info, value);
+    return DbListeners.evaluate("isTime", () -> AssertionsOnValueType.isTime(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isDateTime() {
-    return AssertionsOnValueType.isDateTime(myself, info, value);
+    return DbListeners.evaluate("isDateTime", () -> AssertionsOnValueType.isDateTime(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isBytes() {
-    return AssertionsOnValueType.isBytes(myself, info, value);
+    return DbListeners.evaluate("isBytes", () -> AssertionsOnValueType.isBytes(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isText() {
-    return AssertionsOnValueType.isText(myself, info, value);
+    return DbListeners.evaluate("isText", () -> AssertionsOnValueType.isText(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isUUID() {
-    return AssertionsOnValueType.isUUID(myself, info, value);
+    return DbListeners.evaluate("isUUID", () -> AssertionsOnValueType.isUUID(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNull() {
-    return AssertionsOnValueNullity.isNull(myself, info, value);
+    return DbListeners.evaluate("isNull", () -> AssertionsOnValueNullity.isNull(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNotNull() {
-    return AssertionsOnValueNullity.isNotNull(myself, info, value);
+    return DbListeners.evaluate("isNotNull", () -> AssertionsOnValueNullity.isNotNull(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isEqualTo(Object expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isEqualTo(Boolean expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isTrue() {
-    return AssertionsOnValueEquality.isTrue(myself, info, value);
+    return DbListeners.evaluate("isTrue", () -> AssertionsOnValueEquality.isTrue(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isFalse() {
-    return AssertionsOnValueEquality.isFalse(myself, info, value);
+    return DbListeners.evaluate("isFalse", () -> AssertionsOnValueEquality.isFalse(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isEqualTo(Number expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isEqualTo(byte[] expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public E isEqualToContentOf(Path expected) {
+    return DbListeners.evaluate("isEqualToContentOf",
+        () -> AssertionsOnValueEquality.isEqualToContentOf(myself, info, value, expected));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public E isEqualToContentFromClassPathOf(String resource) {
+    return DbListeners.evaluate("isEqualToContentFromClassPathOf",
+        () -> AssertionsOnValueEquality.isEqualToContentFromClassPathOf(myself, info, value, resource));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isEqualTo(String expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isEqualTo(Character expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isEqualTo(UUID expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isEqualTo(DateValue expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isEqualTo(TimeValue expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isEqualTo(DateTimeValue expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
@@ -236,61 +253,71 @@ public abstract class AbstractAssertWithValues<E extends AbstractAssertWithValue
   /** {@inheritDoc} */
   @Override
   public E isNotEqualTo(Object expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNotEqualTo(Boolean expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNotEqualTo(byte[] expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNotEqualTo(DateTimeValue expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNotEqualTo(DateValue expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNotEqualTo(Number expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNotEqualTo(String expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNotEqualTo(Character expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNotEqualTo(UUID expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNotEqualTo(TimeValue expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
@@ -314,19 +341,19 @@ public abstract class AbstractAssertWithValues<E extends AbstractAssertWithValue
   /** {@inheritDoc} */
   @Override
   public E isBefore(DateValue date) {
-    return AssertionsOnValueChronology.isBefore(myself, info, value, date);
+    return DbListeners.evaluate("isBefore", () -> AssertionsOnValueChronology.isBefore(myself, info, value, date));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isBefore(TimeValue time) {
-    return AssertionsOnValueChronology.isBefore(myself, info, value, time);
+    return DbListeners.evaluate("isBefore", () -> AssertionsOnValueChronology.isBefore(myself, info, value, time));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isBefore(DateTimeValue dateTime) {
-    return AssertionsOnValueChronology.isBefore(myself, info, value, dateTime);
+    return DbListeners.evaluate("isBefore", () -> AssertionsOnValueChronology.isBefore(myself, info, value, dateTime));
   }
 
   /** {@inheritDoc} */
@@ -350,25 +377,28 @@ public abstract class AbstractAssertWithValues<E extends AbstractAssertWithValue
   /** {@inheritDoc} */
   @Override
   public E isBefore(String expected) {
-    return AssertionsOnValueChronology.isBefore(myself, info, value, expected);
+    return DbListeners.evaluate("isBefore", () -> AssertionsOnValueChronology.isBefore(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isBeforeOrEqualTo(DateValue date) {
-    return AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, date);
+    return DbListeners.evaluate("isBeforeOrEqualTo",
+        () -> AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, date));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isBeforeOrEqualTo(TimeValue time) {
-    return AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, time);
+    return DbListeners.evaluate("isBeforeOrEqualTo",
+        () -> AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, time));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isBeforeOrEqualTo(DateTimeValue dateTime) {
-    return AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, dateTime);
+    return DbListeners.evaluate("isBeforeOrEqualTo",
+        () -> AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, dateTime));
   }
 
   /** {@inheritDoc} */
@@ -392,25 +422,26 @@ public abstract class AbstractAssertWithValues<E extends AbstractAssertWithValue
   /** {@inheritDoc} */
   @Override
   public E isBeforeOrEqualTo(String expected) {
-    return AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isBeforeOrEqualTo",
+        () -> AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isAfter(DateValue date) {
-    return AssertionsOnValueChronology.isAfter(myself, info, value, date);
+    return DbListeners.evaluate("isAfter", () -> AssertionsOnValueChronology.isAfter(myself, info, value, date));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isAfter(TimeValue time) {
-    return AssertionsOnValueChronology.isAfter(myself, info, value, time);
+    return DbListeners.evaluate("isAfter", () -> AssertionsOnValueChronology.isAfter(myself, info, value, time));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isAfter(DateTimeValue dateTime) {
-    return AssertionsOnValueChronology.isAfter(myself, info, value, dateTime);
+    return DbListeners.evaluate("isAfter", () -> AssertionsOnValueChronology.isAfter(myself, info, value, dateTime));
   }
 
   /** {@inheritDoc} */
@@ -434,25 +465,28 @@ public abstract class AbstractAssertWithValues<E extends AbstractAssertWithValue
   /** {@inheritDoc} */
   @Override
   public E isAfter(String expected) {
-    return AssertionsOnValueChronology.isAfter(myself, info, value, expected);
+    return DbListeners.evaluate("isAfter", () -> AssertionsOnValueChronology.isAfter(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isAfterOrEqualTo(DateValue date) {
-    return AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, date);
+    return DbListeners.evaluate("isAfterOrEqualTo",
+        () -> AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, date));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isAfterOrEqualTo(TimeValue time) {
-    return AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, time);
+    return DbListeners.evaluate("isAfterOrEqualTo",
+        () -> AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, time));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isAfterOrEqualTo(DateTimeValue dateTime) {
-    return AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, dateTime);
+    return DbListeners.evaluate("isAfterOrEqualTo",
+        () -> AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, dateTime));
   }
 
   /** {@inheritDoc} */
@@ -476,120 +510,134 @@ public abstract class AbstractAssertWithValues<E extends AbstractAssertWithValue
   /** {@inheritDoc} */
   @Override
   public E isAfterOrEqualTo(String expected) {
-    return AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isAfterOrEqualTo",
+        () -> AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isZero() {
-    return AssertionsOnValueEquality.isZero(myself, info, value);
+    return DbListeners.evaluate("isZero", () -> AssertionsOnValueEquality.isZero(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNotZero() {
-    return AssertionsOnValueInequality.isNotZero(myself, info, value);
+    return DbListeners.evaluate("isNotZero", () -> AssertionsOnValueInequality.isNotZero(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isGreaterThan(Number expected) {
-    return AssertionsOnValueComparison.isGreaterThan(myself, info, value, expected);
+    return DbListeners.evaluate("isGreaterThan",
+        () -> AssertionsOnValueComparison.isGreaterThan(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isLessThan(Number expected) {
-    return AssertionsOnValueComparison.isLessThan(myself, info, value, expected);
+    return DbListeners.evaluate("isLessThan",
+        () -> AssertionsOnValueComparison.isLessThan(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isGreaterThanOrEqualTo(Number expected) {
-    return AssertionsOnValueComparison.isGreaterThanOrEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isGreaterThanOrEqualTo",
+        () -> AssertionsOnValueComparison.isGreaterThanOrEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isLessThanOrEqualTo(Number expected) {
-    return AssertionsOnValueComparison.isLessThanOrEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isLessThanOrEqualTo",
+        () -> AssertionsOnValueComparison.isLessThanOrEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isCloseTo(Number expected, Number tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isCloseTo(DateValue expected, DateValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isCloseTo(DateValue expected, TimeValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isCloseTo(DateValue expected, DateTimeValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isCloseTo(TimeValue expected, TimeValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isCloseTo(DateTimeValue expected, DateValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isCloseTo(DateTimeValue expected, TimeValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isCloseTo(DateTimeValue expected, DateTimeValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public E is(Condition<?> condition) {
-    return AssertionsOnValueCondition.is(myself, info, value, condition);
+    return DbListeners.evaluate("is", () -> AssertionsOnValueCondition.is(myself, info, value, condition));
   }
 
   /** {@inheritDoc} */
   @Override
   public E isNot(Condition<?> condition) {
-    return AssertionsOnValueCondition.isNot(myself, info, value, condition);
+    return DbListeners.evaluate("isNot", () -> AssertionsOnValueCondition.isNot(myself, info, value, condition));
   }
 
   /** {@inheritDoc} */
   @Override
   public E has(Condition<?> condition) {
-    return AssertionsOnValueCondition.is(myself, info, value, condition);
+    return DbListeners.evaluate("has", () -> AssertionsOnValueCondition.is(myself, info, value, condition));
   }
 
   /** {@inheritDoc} */
   @Override
   public E doesNotHave(Condition<?> condition) {
-    return AssertionsOnValueCondition.isNot(myself, info, value, condition);
+    return DbListeners.evaluate("doesNotHave", () -> AssertionsOnValueCondition.isNot(myself, info, value, condition));
   }
 
   /** {@inheritDoc} */
   @Override
   public E satisfies(Condition<?> condition) {
-    return AssertionsOnValueCondition.satisfies(myself, info, value, condition);
+    return DbListeners.evaluate("satisfies",
+        () -> AssertionsOnValueCondition.satisfies(myself, info, value, condition));
   }
 }
@@ -12,14 +12,20 @@
  */
 package org.assertj.db.api;
 
+import org.assertj.core.internal.Failures;
 import org.assertj.db.api.assertions.*;
 import org.assertj.db.api.assertions.impl.*;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.navigation.Position;
 import org.assertj.db.navigation.element.ColumnElement;
 import org.assertj.db.type.*;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.assertj.db.util.Descriptions.getColumnValueDescription;
 
@@ -93,6 +99,56 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
     return column.getValuesList();
   }
 
+  /**
+   * Executes an assertion on the values of the column.
+   * <p>
+   * If the column comes from a sample of a table (see {@link Table#setSampling(Sampling)}), the error reports the size
+   * of the sample and the estimated violation rate : the number of values which fail the assertion on their own,
+   * divided by the size of the sample.
+   * </p>
+   *
+   * @param assertionName The name of the assertion, reported to the {@link DbListeners}.
+   * @param assertion The assertion on a list of values.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the assertion fails.
+   */
+  private C onValues(String assertionName, Function<List<Value>, C> assertion) {
+    return DbListeners.evaluate(assertionName, () -> onValues(assertion));
+  }
+
+  /**
+   * Executes an assertion on the values of the column, reporting the estimated violation rate of a sample.
+   *
+   * @param assertion The assertion on a list of values.
+   * @return {@code this} assertion object.
+   * @throws AssertionError If the assertion fails.
+   */
+  private C onValues(Function<List<Value>, C> assertion) {
+    Sampling sampling = column.getSampling();
+    if (sampling == null) {
+      return assertion.apply(getValuesList());
+    }
+    try {
+      return assertion.apply(getValuesList());
+    } catch (AssertionError error) {
+      List<Value> valuesList = getValuesList();
+      int violations = 0;
+      for (Value value : valuesList) {
+        try {
+          assertion.apply(Collections.singletonList(value));
+        } catch (AssertionError valueError) {
+          violations++;
+        }
+      }
+      BigDecimal rate = BigDecimal.valueOf(violations * 100L).divide(BigDecimal.valueOf(valuesList.size()), 2,
+                                                                     RoundingMode.HALF_UP);
+      throw Failures.instance().failure(String.format("%s%n(on a sample of %s rows with %s : %s violations, "
+                                                      + "estimated violation rate : %s%%)",
+                                                      error.getMessage(), valuesList.size(), sampling, violations,
+                                                      rate.toPlainString()));
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public C isEmpty() {
@@ -102,235 +158,275 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRows(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, column.getValuesList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfRows",
+        () -> AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, column.getValuesList().size(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsGreaterThan(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThan(myself, info, column.getValuesList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfRowsGreaterThan",
+        () -> AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThan(myself, info, column.getValuesList().size(),
+            expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsLessThan(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThan(myself, info, column.getValuesList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfRowsLessThan",
+        () -> AssertionsOnNumberOfRows.hasNumberOfRowsLessThan(myself, info, column.getValuesList().size(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsGreaterThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThanOrEqualTo(myself, info, column.getValuesList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfRowsGreaterThanOrEqualTo",
+        () -> AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThanOrEqualTo(myself, info,
+            column.getValuesList().size(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRowsLessThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThanOrEqualTo(myself, info, column.getValuesList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfRowsLessThanOrEqualTo",
+        () -> AssertionsOnNumberOfRows.hasNumberOfRowsLessThanOrEqualTo(myself, info, column.getValuesList().size(),
+            expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C isOfClass(Class<?> expected, boolean lenient) {
-    return AssertionsOnColumnClass.isOfClass(myself, info, getValuesList(), expected, lenient);
+    return onValues("isOfClass", values -> AssertionsOnColumnClass.isOfClass(myself, info, values, expected, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public C isOfType(ValueType expected, boolean lenient) {
-    return AssertionsOnColumnType.isOfType(myself, info, getValuesList(), expected, lenient);
+    return onValues("isOfType", values -> AssertionsOnColumnType.isOfType(myself, info, values, expected, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public C isOfAnyTypeIn(ValueType... expected) {
-    return AssertionsOnColumnType.isOfAnyTypeIn(myself, info, getValuesList(), expected);
+    return onValues("isOfAnyTypeIn", values -> AssertionsOnColumnType.isOfAnyTypeIn(myself, info, values, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C isNumber(boolean lenient) {
-    return AssertionsOnColumnType.isNumber(myself, info, getValuesList(), lenient);
+    return onValues("isNumber", values -> AssertionsOnColumnType.isNumber(myself, info, values, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public C isBoolean(boolean lenient) {
-    return AssertionsOnColumnType.isBoolean(myself, info, getValuesList(), lenient);
+    return onValues("isBoolean", values -> AssertionsOnColumnType.isBoolean(myself, info, values, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public C isDate(boolean lenient) {
-    return AssertionsOnColumnType.isDate(myself, info, getValuesList(), lenient);
+    return onValues("isDate", values -> AssertionsOnColumnType.isDate(myself, info, values, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public C isTime(boolean lenient) {
-    return AssertionsOnColumnType.isTime(myself, info, getValuesList(), lenient);
+    return onValues("isTime", values -> AssertionsOnColumnType.isTime(myself, info, values, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public C isDateTime(boolean lenient) {
-    return AssertionsOnColumnType.isDateTime(myself, info, getValuesList(), lenient);
+    return onValues("isDateTime", values -> AssertionsOnColumnType.isDateTime(myself, info, values, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public C isBytes(boolean lenient) {
-    return AssertionsOnColumnType.isBytes(myself, info, getValuesList(), lenient);
+    return onValues("isBytes", values -> AssertionsOnColumnType.isBytes(myself, info, values, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public C isText(boolean lenient) {
-    return AssertionsOnColumnType.isText(myself, info, getValuesList(), lenient);
+    return onValues("isText", values -> AssertionsOnColumnType.isText(myself, info, values, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public C isUUID(boolean lenient) {
-    return AssertionsOnColumnType.isUUID(myself, info, getValuesList(), lenient);
+    return onValues("isUUID", values -> AssertionsOnColumnType.isUUID(myself, info, values, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNullValues() {
-    return AssertionsOnValuesNullity.hasOnlyNullValues(myself, info, getValuesList());
+    return DbListeners.evaluate("hasOnlyNullValues", () -> {
+      if (column.getNumberOfNotNullValues() == 0) {
+        return myself;
+      }
+      return onValues(values -> AssertionsOnValuesNullity.hasOnlyNullValues(myself, info, values));
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNotNullValues() {
-    return AssertionsOnValuesNullity.hasOnlyNotNullValues(myself, info, getValuesList());
+    return DbListeners.evaluate("hasOnlyNotNullValues", () -> {
+      if (column.getNumberOfNullValues() == 0) {
+        return myself;
+      }
+      return onValues(values -> AssertionsOnValuesNullity.hasOnlyNotNullValues(myself, info, values));
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(Object... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValues",
+        () -> AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(Boolean... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValues",
+        () -> AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(Number... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValues",
+        () -> AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(byte[]... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValues",
+        () -> AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(String... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValues",
+        () -> AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(Character... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValues",
+        () -> AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(UUID... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValues",
+        () -> AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(DateValue... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValues",
+        () -> AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(TimeValue... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValues",
+        () -> AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(DateTimeValue... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValues",
+        () -> AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(Object... expected) {
-    return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("containsValues",
+        () -> AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(Boolean... expected) {
-    return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("containsValues",
+        () -> AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(Number... expected) {
-    return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("containsValues",
+        () -> AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(byte[]... expected) {
-    return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("containsValues",
+        () -> AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(String... expected) {
-    return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("containsValues",
+        () -> AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(Character... expected) {
-    return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("containsValues",
+        () -> AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(UUID... expected) {
-    return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("containsValues",
+        () -> AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(DateValue... expected) {
-    return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("containsValues",
+        () -> AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(TimeValue... expected) {
-    return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("containsValues",
+        () -> AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C containsValues(DateTimeValue... expected) {
-    return AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("containsValues",
+        () -> AssertionsOnColumnContent.containsValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasColumnName(String columnName) {
-    String name = column.getName();
-    return AssertionsOnColumnName.hasColumnName(myself, info, name, columnName, column.getColumnLetterCase());
+    return DbListeners.evaluate("hasColumnName", () -> {
+      String name = column.getName();
+      return AssertionsOnColumnName.hasColumnName(myself, info, name, columnName, column.getColumnLetterCase());
+    });
   }
 }
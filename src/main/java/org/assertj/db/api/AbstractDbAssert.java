@@ -16,6 +16,7 @@ import org.assertj.db.api.assertions.AssertOnNumberOfColumns;
 import org.assertj.db.api.assertions.AssertOnNumberOfRows;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfColumns;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfRows;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.navigation.Position;
 import org.assertj.db.navigation.PositionWithColumns;
 import org.assertj.db.navigation.origin.OriginWithColumnsAndRows;
@@ -124,80 +125,95 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRows(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
-    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfRows", () -> {
+      int size = actual.getNumberOfRows();
+      return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsGreaterThan(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
-    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThan(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfRowsGreaterThan", () -> {
+      int size = actual.getNumberOfRows();
+      return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThan(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsLessThan(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
-    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThan(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfRowsLessThan", () -> {
+      int size = actual.getNumberOfRows();
+      return AssertionsOnNumberOfRows.hasNumberOfRowsLessThan(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsGreaterThanOrEqualTo(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
-    return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThanOrEqualTo(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfRowsGreaterThanOrEqualTo", () -> {
+      int size = actual.getNumberOfRows();
+      return AssertionsOnNumberOfRows.hasNumberOfRowsGreaterThanOrEqualTo(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRowsLessThanOrEqualTo(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
-    return AssertionsOnNumberOfRows.hasNumberOfRowsLessThanOrEqualTo(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfRowsLessThanOrEqualTo", () -> {
+      int size = actual.getNumberOfRows();
+      return AssertionsOnNumberOfRows.hasNumberOfRowsLessThanOrEqualTo(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfColumns(int expected) {
-    List<String> columnsNameList = actual.getColumnsNameList();
-    int size = columnsNameList.size();
-    return AssertionsOnNumberOfColumns.hasNumberOfColumns(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfColumns", () -> {
+      List<String> columnsNameList = actual.getColumnsNameList();
+      int size = columnsNameList.size();
+      return AssertionsOnNumberOfColumns.hasNumberOfColumns(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfColumnsGreaterThan(int expected) {
-    List<String> columnsNameList = actual.getColumnsNameList();
-    int size = columnsNameList.size();
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThan(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfColumnsGreaterThan", () -> {
+      List<String> columnsNameList = actual.getColumnsNameList();
+      int size = columnsNameList.size();
+      return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThan(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfColumnsLessThan(int expected) {
-    List<String> columnsNameList = actual.getColumnsNameList();
-    int size = columnsNameList.size();
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThan(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfColumnsLessThan", () -> {
+      List<String> columnsNameList = actual.getColumnsNameList();
+      int size = columnsNameList.size();
+      return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThan(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfColumnsGreaterThanOrEqualTo(int expected) {
-    List<String> columnsNameList = actual.getColumnsNameList();
-    int size = columnsNameList.size();
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThanOrEqualTo(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfColumnsGreaterThanOrEqualTo", () -> {
+      List<String> columnsNameList = actual.getColumnsNameList();
+      int size = columnsNameList.size();
+      return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThanOrEqualTo(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfColumnsLessThanOrEqualTo(int expected) {
-    List<String> columnsNameList = actual.getColumnsNameList();
-    int size = columnsNameList.size();
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThanOrEqualTo(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfColumnsLessThanOrEqualTo", () -> {
+      List<String> columnsNameList = actual.getColumnsNameList();
+      int size = columnsNameList.size();
+      return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThanOrEqualTo(myself, info, size, expected);
+    });
   }
 }
@@ -20,6 +20,7 @@ import org.assertj.db.api.assertions.impl.AssertionsOnRowCondition;
 import org.assertj.db.api.assertions.impl.AssertionsOnValuesNullity;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfColumns;
 import org.assertj.db.api.assertions.impl.AssertionsOnRowEquality;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.navigation.Position;
 import org.assertj.db.navigation.PositionWithColumns;
 import org.assertj.db.navigation.ToValueFromRow;
@@ -111,49 +112,59 @@ public abstract class AbstractRowAssert<D extends AbstractDbData<D>, A extends A
   /** {@inheritDoc} */
   @Override
   public R hasNumberOfColumns(int expected) {
-    return AssertionsOnNumberOfColumns.hasNumberOfColumns(myself, info, getValuesList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfColumns",
+        () -> AssertionsOnNumberOfColumns.hasNumberOfColumns(myself, info, getValuesList().size(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public R hasNumberOfColumnsGreaterThan(int expected) {
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThan(myself, info, getValuesList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfColumnsGreaterThan",
+        () -> AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThan(myself, info, getValuesList().size(),
+            expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public R hasNumberOfColumnsLessThan(int expected) {
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThan(myself, info, getValuesList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfColumnsLessThan",
+        () -> AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThan(myself, info, getValuesList().size(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public R hasNumberOfColumnsGreaterThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThanOrEqualTo(myself, info, getValuesList().size(),
-                                                                              expected);
+    return DbListeners.evaluate("hasNumberOfColumnsGreaterThanOrEqualTo",
+        () -> AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThanOrEqualTo(myself, info, getValuesList().size(),
+            expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public R hasNumberOfColumnsLessThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThanOrEqualTo(myself, info, getValuesList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfColumnsLessThanOrEqualTo",
+        () -> AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThanOrEqualTo(myself, info, getValuesList().size(),
+            expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public R hasValues(Object... expected) {
-    return AssertionsOnRowEquality.hasValues(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValues",
+        () -> AssertionsOnRowEquality.hasValues(myself, info, getValuesList(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public R hasOnlyNotNullValues() {
-    return AssertionsOnValuesNullity.hasOnlyNotNullValues(myself, info, getValuesList());
+    return DbListeners.evaluate("hasOnlyNotNullValues",
+        () -> AssertionsOnValuesNullity.hasOnlyNotNullValues(myself, info, getValuesList()));
   }
 
   /** {@inheritDoc} */
   @Override
   public R hasValuesSatisfying(Object... expected) {
-    return AssertionsOnRowCondition.hasValuesSatisfying(myself, info, getValuesList(), expected);
+    return DbListeners.evaluate("hasValuesSatisfying",
+        () -> AssertionsOnRowCondition.hasValuesSatisfying(myself, info, getValuesList(), expected));
   }
 }
@@ -14,6 +14,7 @@ package org.assertj.db.api;
 
 import org.assertj.db.api.assertions.AssertOnColumnName;
 import org.assertj.db.api.assertions.impl.AssertionsOnColumnName;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.navigation.ToValueFromRow;
 import org.assertj.db.type.AbstractDbData;
 import org.assertj.db.type.Row;
@@ -57,7 +58,9 @@ public abstract class AbstractRowValueAssert<D extends AbstractDbData<D>, A exte
   /** {@inheritDoc} */
   @Override
   public RV hasColumnName(String columnName) {
-    return AssertionsOnColumnName.hasColumnName(myself, info, value.getColumnName(), columnName, value.getColumnLetterCase());
+    return DbListeners.evaluate("hasColumnName",
+        () -> AssertionsOnColumnName.hasColumnName(myself, info, value.getColumnName(), columnName,
+            value.getColumnLetterCase()));
   }
 
   /**
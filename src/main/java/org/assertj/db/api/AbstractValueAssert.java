@@ -15,10 +15,12 @@ package org.assertj.db.api;
 import org.assertj.core.api.Condition;
 import org.assertj.db.api.assertions.*;
 import org.assertj.db.api.assertions.impl.*;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.navigation.ToValue;
 import org.assertj.db.navigation.element.ValueElement;
 import org.assertj.db.type.*;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -86,151 +88,166 @@ public abstract class AbstractValueAssert<D extends AbstractDbData<D>, A extends
   /** {@inheritDoc} */
   @Override
   public V isOfClass(Class<?> expected) {
-    return AssertionsOnValueClass.isOfClass(myself, info, value, expected);
+    return DbListeners.evaluate("isOfClass", () -> AssertionsOnValueClass.isOfClass(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isOfType(ValueType expected) {
-    return AssertionsOnValueType.isOfType(myself, info, value, expected);
+    return DbListeners.evaluate("isOfType", () -> AssertionsOnValueType.isOfType(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isOfAnyTypeIn(ValueType... expected) {
-    return AssertionsOnValueType.isOfAnyTypeIn(myself, info, value, expected);
+    return DbListeners.evaluate("isOfAnyTypeIn",
+        () -> AssertionsOnValueType.isOfAnyTypeIn(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNumber() {
-    return AssertionsOnValueType.isNumber(myself, info, value);
+    return DbListeners.evaluate("isNumber", () -> AssertionsOnValueType.isNumber(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isBoolean() {
-    return AssertionsOnValueType.isBoolean(myself, info, value);
+    return DbListeners.evaluate("isBoolean", () -> AssertionsOnValueType.isBoolean(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isDate() {
-    return AssertionsOnValueType.isDate(myself, info, value);
+    return DbListeners.evaluate("isDate", () -> AssertionsOnValueType.isDate(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isTime() {
-    return AssertionsOnValueType.isTime(myself, info, value);
+    return DbListeners.evaluate("isTime", () -> AssertionsOnValueType.isTime(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isDateTime() {
-    return AssertionsOnValueType.isDateTime(myself, info, value);
+    return DbListeners.evaluate("isDateTime", () -> AssertionsOnValueType.isDateTime(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isBytes() {
-    return AssertionsOnValueType.isBytes(myself, info, value);
+    return DbListeners.evaluate("isBytes", () -> AssertionsOnValueType.isBytes(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isText() {
-    return AssertionsOnValueType.isText(myself, info, value);
+    return DbListeners.evaluate("isText", () -> AssertionsOnValueType.isText(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isUUID() {
-    return AssertionsOnValueType.isUUID(myself, info, value);
+    return DbListeners.evaluate("isUUID", () -> AssertionsOnValueType.isUUID(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNull() {
-    return AssertionsOnValueNullity.isNull(myself, info, value);
+    return DbListeners.evaluate("isNull", () -> AssertionsOnValueNullity.isNull(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNotNull() {
-    return AssertionsOnValueNullity.isNotNull(myself, info, value);
+    return DbListeners.evaluate("isNotNull", () -> AssertionsOnValueNullity.isNotNull(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isEqualTo(Object expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isEqualTo(Boolean expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isTrue() {
-    return AssertionsOnValueEquality.isTrue(myself, info, value);
+    return DbListeners.evaluate("isTrue", () -> AssertionsOnValueEquality.isTrue(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isFalse() {
-    return AssertionsOnValueEquality.isFalse(myself, info, value);
+    return DbListeners.evaluate("isFalse", () -> AssertionsOnValueEquality.isFalse(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isEqualTo(Number expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isEqualTo(byte[] expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public V isEqualToContentOf(Path expected) {
+    return DbListeners.evaluate("isEqualToContentOf",
+        () -> AssertionsOnValueEquality.isEqualToContentOf(myself, info, value, expected));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public V isEqualToContentFromClassPathOf(String resource) {
+    return DbListeners.evaluate("isEqualToContentFromClassPathOf",
+        () -> AssertionsOnValueEquality.isEqualToContentFromClassPathOf(myself, info, value, resource));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isEqualTo(String expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isEqualTo(Character expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isEqualTo(UUID expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isEqualTo(DateValue expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isEqualTo(TimeValue expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isEqualTo(DateTimeValue expected) {
-    return AssertionsOnValueEquality.isEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isEqualTo", () -> AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
@@ -254,61 +271,71 @@ public abstract class AbstractValueAssert<D extends AbstractDbData<D>, A extends
   /** {@inheritDoc} */
   @Override
   public V isNotEqualTo(Object expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNotEqualTo(Boolean expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNotEqualTo(byte[] expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNotEqualTo(DateTimeValue expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNotEqualTo(DateValue expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNotEqualTo(Number expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNotEqualTo(String expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNotEqualTo(Character expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNotEqualTo(UUID expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNotEqualTo(TimeValue expected) {
-    return AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isNotEqualTo",
+        () -> AssertionsOnValueInequality.isNotEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
@@ -332,19 +359,19 @@ public abstract class AbstractValueAssert<D extends AbstractDbData<D>, A extends
   /** {@inheritDoc} */
   @Override
   public V isBefore(DateValue date) {
-    return AssertionsOnValueChronology.isBefore(myself, info, value, date);
+    return DbListeners.evaluate("isBefore", () -> AssertionsOnValueChronology.isBefore(myself, info, value, date));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isBefore(TimeValue time) {
-    return AssertionsOnValueChronology.isBefore(myself, info, value, time);
+    return DbListeners.evaluate("isBefore", () -> AssertionsOnValueChronology.isBefore(myself, info, value, time));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isBefore(DateTimeValue dateTime) {
-    return AssertionsOnValueChronology.isBefore(myself, info, value, dateTime);
+    return DbListeners.evaluate("isBefore", () -> AssertionsOnValueChronology.isBefore(myself, info, value, dateTime));
   }
 
   /** {@inheritDoc} */
@@ -368,25 +395,28 @@ public abstract class AbstractValueAssert<D extends AbstractDbData<D>, A extends
   /** {@inheritDoc} */
   @Override
   public V isBefore(String expected) {
-    return AssertionsOnValueChronology.isBefore(myself, info, value, expected);
+    return DbListeners.evaluate("isBefore", () -> AssertionsOnValueChronology.isBefore(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isBeforeOrEqualTo(DateValue date) {
-    return AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, date);
+    return DbListeners.evaluate("isBeforeOrEqualTo",
+        () -> AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, date));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isBeforeOrEqualTo(TimeValue time) {
-    return AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, time);
+    return DbListeners.evaluate("isBeforeOrEqualTo",
+        () -> AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, time));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isBeforeOrEqualTo(DateTimeValue dateTime) {
-    return AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, dateTime);
+    return DbListeners.evaluate("isBeforeOrEqualTo",
+        () -> AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, dateTime));
   }
 
   /** {@inheritDoc} */
@@ -410,25 +440,26 @@ public abstract class AbstractValueAssert<D extends AbstractDbData<D>, A extends
   /** {@inheritDoc} */
   @Override
   public V isBeforeOrEqualTo(String expected) {
-    return AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isBeforeOrEqualTo",
+        () -> AssertionsOnValueChronology.isBeforeOrEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isAfter(DateValue date) {
-    return AssertionsOnValueChronology.isAfter(myself, info, value, date);
+    return DbListeners.evaluate("isAfter", () -> AssertionsOnValueChronology.isAfter(myself, info, value, date));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isAfter(TimeValue time) {
-    return AssertionsOnValueChronology.isAfter(myself, info, value, time);
+    return DbListeners.evaluate("isAfter", () -> AssertionsOnValueChronology.isAfter(myself, info, value, time));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isAfter(DateTimeValue dateTime) {
-    return AssertionsOnValueChronology.isAfter(myself, info, value, dateTime);
+    return DbListeners.evaluate("isAfter", () -> AssertionsOnValueChronology.isAfter(myself, info, value, dateTime));
   }
 
   /** {@inheritDoc} */
@@ -452,25 +483,28 @@ public abstract class AbstractValueAssert<D extends AbstractDbData<D>, A extends
   /** {@inheritDoc} */
   @Override
   public V isAfter(String expected) {
-    return AssertionsOnValueChronology.isAfter(myself, info, value, expected);
+    return DbListeners.evaluate("isAfter", () -> AssertionsOnValueChronology.isAfter(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isAfterOrEqualTo(DateValue date) {
-    return AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, date);
+    return DbListeners.evaluate("isAfterOrEqualTo",
+        () -> AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, date));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isAfterOrEqualTo(TimeValue time) {
-    return AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, time);
+    return DbListeners.evaluate("isAfterOrEqualTo",
+        () -> AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, time));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isAfterOrEqualTo(DateTimeValue dateTime) {
-    return AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, dateTime);
+    return DbListeners.evaluate("isAfterOrEqualTo",
+        () -> AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, dateTime));
   }
 
   /** {@inheritDoc} */
@@ -494,120 +528,134 @@ public abstract class AbstractValueAssert<D extends AbstractDbData<D>, A extends
   /** {@inheritDoc} */
   @Override
   public V isAfterOrEqualTo(String expected) {
-    return AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isAfterOrEqualTo",
+        () -> AssertionsOnValueChronology.isAfterOrEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isZero() {
-    return AssertionsOnValueEquality.isZero(myself, info, value);
+    return DbListeners.evaluate("isZero", () -> AssertionsOnValueEquality.isZero(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNotZero() {
-    return AssertionsOnValueInequality.isNotZero(myself, info, value);
+    return DbListeners.evaluate("isNotZero", () -> AssertionsOnValueInequality.isNotZero(myself, info, value));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isGreaterThan(Number expected) {
-    return AssertionsOnValueComparison.isGreaterThan(myself, info, value, expected);
+    return DbListeners.evaluate("isGreaterThan",
+        () -> AssertionsOnValueComparison.isGreaterThan(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isLessThan(Number expected) {
-    return AssertionsOnValueComparison.isLessThan(myself, info, value, expected);
+    return DbListeners.evaluate("isLessThan",
+        () -> AssertionsOnValueComparison.isLessThan(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isGreaterThanOrEqualTo(Number expected) {
-    return AssertionsOnValueComparison.isGreaterThanOrEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isGreaterThanOrEqualTo",
+        () -> AssertionsOnValueComparison.isGreaterThanOrEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isLessThanOrEqualTo(Number expected) {
-    return AssertionsOnValueComparison.isLessThanOrEqualTo(myself, info, value, expected);
+    return DbListeners.evaluate("isLessThanOrEqualTo",
+        () -> AssertionsOnValueComparison.isLessThanOrEqualTo(myself, info, value, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isCloseTo(Number expected, Number tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isCloseTo(DateValue expected, DateValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isCloseTo(DateValue expected, TimeValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isCloseTo(DateValue expected, DateTimeValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isCloseTo(TimeValue expected, TimeValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isCloseTo(DateTimeValue expected, DateValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isCloseTo(DateTimeValue expected, TimeValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isCloseTo(DateTimeValue expected, DateTimeValue tolerance) {
-    return AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance);
+    return DbListeners.evaluate("isCloseTo",
+        () -> AssertionsOnValueCloseness.isCloseTo(myself, info, value, expected, tolerance));
   }
 
   /** {@inheritDoc} */
   @Override
   public V is(Condition<?> condition) {
-    return AssertionsOnValueCondition.is(myself, info, value, condition);
+    return DbListeners.evaluate("is", () -> AssertionsOnValueCondition.is(myself, info, value, condition));
   }
 
   /** {@inheritDoc} */
   @Override
   public V isNot(Condition<?> condition) {
-    return AssertionsOnValueCondition.isNot(myself, info, value, condition);
+    return DbListeners.evaluate("isNot", () -> AssertionsOnValueCondition.isNot(myself, info, value, condition));
   }
 
   /** {@inheritDoc} */
   @Override
   public V has(Condition<?> condition) {
-    return AssertionsOnValueCondition.is(myself, info, value, condition);
+    return DbListeners.evaluate("has", () -> AssertionsOnValueCondition.is(myself, info, value, condition));
   }
 
   /** {@inheritDoc} */
   @Override
   public V doesNotHave(Condition<?> condition) {
-    return AssertionsOnValueCondition.isNot(myself, info, value, condition);
+    return DbListeners.evaluate("doesNotHave", () -> AssertionsOnValueCondition.isNot(myself, info, value, condition));
   }
 
   /** {@inheritDoc} */
   @Override
   public V satisfies(Condition<?> condition) {
-    return AssertionsOnValueCondition.satisfies(myself, info, value, condition);
+    return DbListeners.evaluate("satisfies",
+        () -> AssertionsOnValueCondition.satisfies(myself, info, value, condition));
   }
 }
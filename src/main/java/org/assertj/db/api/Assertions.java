@@ -116,7 +116,7 @@ public final class Assertions {
    * @return The created assertion object.
    */
   public static TableAssert assertThat(Table table) {
-    return new TableAssert(table).as(getDescription(table));
+    return new TableAssert(table).as(() -> getDescription(table));
   }
 
   /**
@@ -126,7 +126,7 @@ public final class Assertions {
    * @return The created assertion object.
    */
   public static RequestAssert assertThat(Request request) {
-    return new RequestAssert(request).as(getDescription(request));
+    return new RequestAssert(request).as(() -> getDescription(request));
   }
 
   /**
@@ -136,7 +136,7 @@ public final class Assertions {
    * @return The created assertion object.
    */
   public static ChangesAssert assertThat(Changes changes) {
-    return new ChangesAssert(changes).as(getDescription(changes));
+    return new ChangesAssert(changes).as(() -> getDescription(changes));
   }
 
   /**
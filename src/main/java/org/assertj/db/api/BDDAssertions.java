@@ -116,7 +116,7 @@ public final class BDDAssertions {
    * @return The created assertion object.
    */
   public static TableAssert then(Table table) {
-    return new TableAssert(table).as(getDescription(table));
+    return new TableAssert(table).as(() -> getDescription(table));
   }
 
   /**
@@ -126,7 +126,7 @@ public final class BDDAssertions {
    * @return The created assertion object.
    */
   public static RequestAssert then(Request request) {
-    return new RequestAssert(request).as(getDescription(request));
+    return new RequestAssert(request).as(() -> getDescription(request));
   }
 
   /**
@@ -136,7 +136,7 @@ public final class BDDAssertions {
    * @return The created assertion object.
    */
   public static ChangesAssert then(Changes changes) {
-    return new ChangesAssert(changes).as(getDescription(changes));
+    return new ChangesAssert(changes).as(() -> getDescription(changes));
   }
 
   /**
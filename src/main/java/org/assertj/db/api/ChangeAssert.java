@@ -14,6 +14,7 @@ package org.assertj.db.api;
 
 import org.assertj.db.api.assertions.*;
 import org.assertj.db.api.assertions.impl.*;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.navigation.PositionWithColumnsChange;
 import org.assertj.db.navigation.PositionWithPoints;
 import org.assertj.db.navigation.element.ChangeElement;
@@ -134,134 +135,155 @@ public class ChangeAssert
   /** {@inheritDoc} */
   @Override
   public ChangeAssert isOnDataType(DataType expected) {
-    return AssertionsOnDataType.isOnDataType(myself, info, change, expected);
+    return DbListeners.evaluate("isOnDataType",
+        () -> AssertionsOnDataType.isOnDataType(myself, info, change, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert isOnTable() {
-    return AssertionsOnDataType.isOnTable(myself, info, change);
+    return DbListeners.evaluate("isOnTable", () -> AssertionsOnDataType.isOnTable(myself, info, change));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert isOnRequest() {
-    return AssertionsOnDataType.isOnRequest(myself, info, change);
+    return DbListeners.evaluate("isOnRequest", () -> AssertionsOnDataType.isOnRequest(myself, info, change));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert isOnTable(String name) {
-    return AssertionsOnDataType.isOnTable(myself, info, change, change.getTableLetterCase(), name);
+    return DbListeners.evaluate("isOnTable",
+        () -> AssertionsOnDataType.isOnTable(myself, info, change, change.getTableLetterCase(), name));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasPksNames(String... names) {
-    return AssertionsOnPrimaryKey.hasPksNames(myself, info, change, change.getPrimaryKeyLetterCase(), names);
+    return DbListeners.evaluate("hasPksNames",
+        () -> AssertionsOnPrimaryKey.hasPksNames(myself, info, change, change.getPrimaryKeyLetterCase(), names));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasPksValues(Object... values) {
-    return AssertionsOnPrimaryKey.hasPksValues(myself, info, change, values);
+    return DbListeners.evaluate("hasPksValues",
+        () -> AssertionsOnPrimaryKey.hasPksValues(myself, info, change, values));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert isOfType(ChangeType expected) {
-    return AssertionsOnChangeType.isOfType(myself, info, change, expected);
+    return DbListeners.evaluate("isOfType", () -> AssertionsOnChangeType.isOfType(myself, info, change, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert isCreation() {
-    return AssertionsOnChangeType.isCreation(myself, info, change);
+    return DbListeners.evaluate("isCreation", () -> AssertionsOnChangeType.isCreation(myself, info, change));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert isModification() {
-    return AssertionsOnChangeType.isModification(myself, info, change);
+    return DbListeners.evaluate("isModification", () -> AssertionsOnChangeType.isModification(myself, info, change));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert isDeletion() {
-    return AssertionsOnChangeType.isDeletion(myself, info, change);
+    return DbListeners.evaluate("isDeletion", () -> AssertionsOnChangeType.isDeletion(myself, info, change));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasNumberOfModifiedColumns(int number) {
-    return AssertionsOnModifiedColumns.hasNumberOfModifiedColumns(myself, info, change, number);
+    return DbListeners.evaluate("hasNumberOfModifiedColumns",
+        () -> AssertionsOnModifiedColumns.hasNumberOfModifiedColumns(myself, info, change, number));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasNumberOfModifiedColumnsGreaterThan(int number) {
-    return AssertionsOnModifiedColumns.hasNumberOfModifiedColumnsGreaterThan(myself, info, change, number);
+    return DbListeners.evaluate("hasNumberOfModifiedColumnsGreaterThan",
+        () -> AssertionsOnModifiedColumns.hasNumberOfModifiedColumnsGreaterThan(myself, info, change, number));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasNumberOfModifiedColumnsLessThan(int number) {
-    return AssertionsOnModifiedColumns.hasNumberOfModifiedColumnsLessThan(myself, info, change, number);
+    return DbListeners.evaluate("hasNumberOfModifiedColumnsLessThan",
+        () -> AssertionsOnModifiedColumns.hasNumberOfModifiedColumnsLessThan(myself, info, change, number));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasNumberOfModifiedColumnsGreaterThanOrEqualTo(int number) {
-    return AssertionsOnModifiedColumns.hasNumberOfModifiedColumnsGreaterThanOrEqualTo(myself, info, change, number);
+    return DbListeners.evaluate("hasNumberOfModifiedColumnsGreaterThanOrEqualTo",
+        () -> AssertionsOnModifiedColumns.hasNumberOfModifiedColumnsGreaterThanOrEqualTo(myself, info, change, number));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasNumberOfModifiedColumnsLessThanOrEqualTo(int number) {
-    return AssertionsOnModifiedColumns.hasNumberOfModifiedColumnsLessThanOrEqualTo(myself, info, change, number);
+    return DbListeners.evaluate("hasNumberOfModifiedColumnsLessThanOrEqualTo",
+        () -> AssertionsOnModifiedColumns.hasNumberOfModifiedColumnsLessThanOrEqualTo(myself, info, change, number));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasModifiedColumns(Integer... indexes) {
-    return AssertionsOnModifiedColumns.hasModifiedColumns(myself, info, change, indexes);
+    return DbListeners.evaluate("hasModifiedColumns",
+        () -> AssertionsOnModifiedColumns.hasModifiedColumns(myself, info, change, indexes));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasModifiedColumns(String... names) {
-    return AssertionsOnModifiedColumns.hasModifiedColumns(myself, info, change, change.getColumnLetterCase(), names);
+    return DbListeners.evaluate("hasModifiedColumns",
+        () -> AssertionsOnModifiedColumns.hasModifiedColumns(myself, info, change, change.getColumnLetterCase(),
+            names));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasNumberOfColumns(int expected) {
-    return AssertionsOnNumberOfColumns.hasNumberOfColumns(myself, info, change.getColumnsNameList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfColumns",
+        () -> AssertionsOnNumberOfColumns.hasNumberOfColumns(myself, info, change.getColumnsNameList().size(),
+            expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasNumberOfColumnsGreaterThan(int expected) {
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThan(myself, info, change.getColumnsNameList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfColumnsGreaterThan",
+        () -> AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThan(myself, info,
+            change.getColumnsNameList().size(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasNumberOfColumnsLessThan(int expected) {
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThan(myself, info, change.getColumnsNameList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfColumnsLessThan",
+        () -> AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThan(myself, info, change.getColumnsNameList().size(),
+            expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasNumberOfColumnsGreaterThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThanOrEqualTo(myself, info, change.getColumnsNameList().size(),
-                                                                              expected);
+    return DbListeners.evaluate("hasNumberOfColumnsGreaterThanOrEqualTo",
+        () -> AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThanOrEqualTo(myself, info,
+            change.getColumnsNameList().size(), expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeAssert hasNumberOfColumnsLessThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThanOrEqualTo(myself, info, change.getColumnsNameList().size(), expected);
+    return DbListeners.evaluate("hasNumberOfColumnsLessThanOrEqualTo",
+        () -> AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThanOrEqualTo(myself, info,
+            change.getColumnsNameList().size(), expected));
   }
 
   /**
@@ -14,6 +14,7 @@ package org.assertj.db.api;
 
 import org.assertj.db.api.assertions.*;
 import org.assertj.db.api.assertions.impl.*;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.navigation.PositionWithPoints;
 import org.assertj.db.navigation.element.ColumnElement;
 import org.assertj.db.navigation.origin.OriginWithValuesFromColumn;
@@ -99,231 +100,248 @@ public class ChangeColumnAssert
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isModified() {
-    return AssertionsOnModifiedColumn.isModified(myself, info, valueAtStartPoint, valueAtEndPoint);
+    return DbListeners.evaluate("isModified",
+        () -> AssertionsOnModifiedColumn.isModified(myself, info, valueAtStartPoint, valueAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isNotModified() {
-    return AssertionsOnModifiedColumn.isNotModified(myself, info, valueAtStartPoint, valueAtEndPoint);
+    return DbListeners.evaluate("isNotModified",
+        () -> AssertionsOnModifiedColumn.isNotModified(myself, info, valueAtStartPoint, valueAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(Object expected) {
-    return AssertionsOnColumnOfChangeEquality
-            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected);
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
+            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(Object expectedAtStartPoint, Object expectedAtEndPoint) {
-    return AssertionsOnColumnOfChangeEquality
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
             .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expectedAtStartPoint,
-                       expectedAtEndPoint);
+                       expectedAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(Boolean expected) {
-    return AssertionsOnColumnOfChangeEquality
-            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected);
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
+            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(Boolean expectedAtStartPoint, Boolean expectedAtEndPoint) {
-    return AssertionsOnColumnOfChangeEquality
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
             .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expectedAtStartPoint,
-                    expectedAtEndPoint);
+                    expectedAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(Number expected) {
-    return AssertionsOnColumnOfChangeEquality
-            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected);
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
+            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(Number expectedAtStartPoint, Number expectedAtEndPoint) {
-    return AssertionsOnColumnOfChangeEquality
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
             .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expectedAtStartPoint,
-                       expectedAtEndPoint);
+                       expectedAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(byte[] expected) {
-    return AssertionsOnColumnOfChangeEquality
-            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected);
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
+            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(byte[] expectedAtStartPoint, byte[] expectedAtEndPoint) {
-    return AssertionsOnColumnOfChangeEquality
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
             .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expectedAtStartPoint,
-                       expectedAtEndPoint);
+                       expectedAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(String expected) {
-    return AssertionsOnColumnOfChangeEquality
-            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected);
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
+            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(String expectedAtStartPoint, String expectedAtEndPoint) {
-    return AssertionsOnColumnOfChangeEquality
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
             .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expectedAtStartPoint,
-                       expectedAtEndPoint);
+                       expectedAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(Character expected) {
-    return AssertionsOnColumnOfChangeEquality
-            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected);
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
+            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(Character expectedAtStartPoint, Character expectedAtEndPoint) {
-    return AssertionsOnColumnOfChangeEquality
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
             .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expectedAtStartPoint,
-                       expectedAtEndPoint);
+                       expectedAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(UUID expected) {
-    return AssertionsOnColumnOfChangeEquality
-            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected);
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
+            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(UUID expectedAtStartPoint, UUID expectedAtEndPoint) {
-    return AssertionsOnColumnOfChangeEquality
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
             .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expectedAtStartPoint,
-                    expectedAtEndPoint);
+                    expectedAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(DateValue expected) {
-    return AssertionsOnColumnOfChangeEquality
-            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected);
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
+            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(DateValue expectedAtStartPoint, DateValue expectedAtEndPoint) {
-    return AssertionsOnColumnOfChangeEquality
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
             .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expectedAtStartPoint,
-                       expectedAtEndPoint);
+                       expectedAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(TimeValue expected) {
-    return AssertionsOnColumnOfChangeEquality
-            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected);
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
+            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(TimeValue expectedAtStartPoint, TimeValue expectedAtEndPoint) {
-    return AssertionsOnColumnOfChangeEquality
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
             .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expectedAtStartPoint,
-                       expectedAtEndPoint);
+                       expectedAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(DateTimeValue expected) {
-    return AssertionsOnColumnOfChangeEquality
-            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected);
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
+            .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasValues(DateTimeValue expectedAtStartPoint, DateTimeValue expectedAtEndPoint) {
-    return AssertionsOnColumnOfChangeEquality
+    return DbListeners.evaluate("hasValues", () -> AssertionsOnColumnOfChangeEquality
             .hasValues(myself, info, valueAtStartPoint, valueAtEndPoint, expectedAtStartPoint,
-                       expectedAtEndPoint);
+                       expectedAtEndPoint));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert hasColumnName(String columnName) {
-    return AssertionsOnColumnName.hasColumnName(myself, info, this.columnName, columnName, valueAtStartPoint.getColumnLetterCase());
+    return DbListeners.evaluate("hasColumnName",
+        () -> AssertionsOnColumnName.hasColumnName(myself, info, this.columnName, columnName,
+            valueAtStartPoint.getColumnLetterCase()));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isOfClass(Class<?> expected, boolean lenient) {
-    return AssertionsOnColumnOfChangeClass.isOfClass(myself, info, valueAtStartPoint, valueAtEndPoint, expected, lenient);
+    return DbListeners.evaluate("isOfClass",
+        () -> AssertionsOnColumnOfChangeClass.isOfClass(myself, info, valueAtStartPoint, valueAtEndPoint, expected,
+            lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isOfType(ValueType expected, boolean lenient) {
-    return AssertionsOnColumnOfChangeType.isOfType(myself, info, valueAtStartPoint, valueAtEndPoint, expected, lenient);
+    return DbListeners.evaluate("isOfType",
+        () -> AssertionsOnColumnOfChangeType.isOfType(myself, info, valueAtStartPoint, valueAtEndPoint, expected,
+            lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isOfAnyTypeIn(ValueType... expected) {
-    return AssertionsOnColumnOfChangeType.isOfAnyTypeIn(myself, info, valueAtStartPoint, valueAtEndPoint, expected);
+    return DbListeners.evaluate("isOfAnyTypeIn",
+        () -> AssertionsOnColumnOfChangeType.isOfAnyTypeIn(myself, info, valueAtStartPoint, valueAtEndPoint, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isNumber(boolean lenient) {
-    return AssertionsOnColumnOfChangeType.isNumber(myself, info, valueAtStartPoint, valueAtEndPoint, lenient);
+    return DbListeners.evaluate("isNumber",
+        () -> AssertionsOnColumnOfChangeType.isNumber(myself, info, valueAtStartPoint, valueAtEndPoint, lenient));
   }
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isBoolean(boolean lenient) {
-    return AssertionsOnColumnOfChangeType.isBoolean(myself, info, valueAtStartPoint, valueAtEndPoint, lenient);
+    return DbListeners.evaluate("isBoolean",
+        () -> AssertionsOnColumnOfChangeType.isBoolean(myself, info, valueAtStartPoint, valueAtEndPoint, lenient));
   }
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isDate(boolean lenient) {
-    return AssertionsOnColumnOfChangeType.isDate(myself, info, valueAtStartPoint, valueAtEndPoint, lenient);
+    return DbListeners.evaluate("isDate",
+        () -> AssertionsOnColumnOfChangeType.isDate(myself, info, valueAtStartPoint, valueAtEndPoint, lenient));
   }
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isTime(boolean lenient) {
-    return AssertionsOnColumnOfChangeType.isTime(myself, info, valueAtStartPoint, valueAtEndPoint, lenient);
+    return DbListeners.evaluate("isTime",
+        () -> AssertionsOnColumnOfChangeType.isTime(myself, info, valueAtStartPoint, valueAtEndPoint, lenient));
   }
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isDateTime(boolean lenient) {
-    return AssertionsOnColumnOfChangeType.isDateTime(myself, info, valueAtStartPoint, valueAtEndPoint, lenient);
+    return DbListeners.evaluate("isDateTime",
+        () -> AssertionsOnColumnOfChangeType.isDateTime(myself, info, valueAtStartPoint, valueAtEndPoint, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isBytes(boolean lenient) {
-    return AssertionsOnColumnOfChangeType.isBytes(myself, info, valueAtStartPoint, valueAtEndPoint, lenient);
+    return DbListeners.evaluate("isBytes",
+        () -> AssertionsOnColumnOfChangeType.isBytes(myself, info, valueAtStartPoint, valueAtEndPoint, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isText(boolean lenient) {
-    return AssertionsOnColumnOfChangeType.isText(myself, info, valueAtStartPoint, valueAtEndPoint, lenient);
+    return DbListeners.evaluate("isText",
+        () -> AssertionsOnColumnOfChangeType.isText(myself, info, valueAtStartPoint, valueAtEndPoint, lenient));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeColumnAssert isUUID(boolean lenient) {
-    return AssertionsOnColumnOfChangeType.isUUID(myself, info, valueAtStartPoint, valueAtEndPoint, lenient);
+    return DbListeners.evaluate("isUUID",
+        () -> AssertionsOnColumnOfChangeType.isUUID(myself, info, valueAtStartPoint, valueAtEndPoint, lenient));
   }
 
   /**
@@ -21,6 +21,7 @@ import org.assertj.db.api.assertions.impl.AssertionsOnRowCondition;
 import org.assertj.db.api.assertions.impl.AssertionsOnRowEquality;
 import org.assertj.db.api.assertions.impl.AssertionsOnRowOfChangeExistence;
 import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.navigation.PositionWithColumns;
 import org.assertj.db.navigation.element.RowElement;
 import org.assertj.db.navigation.origin.OriginWithValuesFromRow;
@@ -105,73 +106,87 @@ public class ChangeRowAssert
   /** {@inheritDoc} */
   @Override
   public ChangeRowAssert hasNumberOfColumns(int expected) {
-    exists();
-    List<String> columnsNameList = row.getColumnsNameList();
-    int size = columnsNameList.size();
-    return AssertionsOnNumberOfColumns.hasNumberOfColumns(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfColumns", () -> {
+      exists();
+      List<String> columnsNameList = row.getColumnsNameList();
+      int size = columnsNameList.size();
+      return AssertionsOnNumberOfColumns.hasNumberOfColumns(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeRowAssert hasNumberOfColumnsGreaterThan(int expected) {
-    exists();
-    List<String> columnsNameList = row.getColumnsNameList();
-    int size = columnsNameList.size();
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThan(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfColumnsGreaterThan", () -> {
+      exists();
+      List<String> columnsNameList = row.getColumnsNameList();
+      int size = columnsNameList.size();
+      return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThan(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeRowAssert hasNumberOfColumnsLessThan(int expected) {
-    exists();
-    List<String> columnsNameList = row.getColumnsNameList();
-    int size = columnsNameList.size();
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThan(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfColumnsLessThan", () -> {
+      exists();
+      List<String> columnsNameList = row.getColumnsNameList();
+      int size = columnsNameList.size();
+      return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThan(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeRowAssert hasNumberOfColumnsGreaterThanOrEqualTo(int expected) {
-    exists();
-    List<String> columnsNameList = row.getColumnsNameList();
-    int size = columnsNameList.size();
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThanOrEqualTo(myself, info, size,
-                                                                              expected);
+    return DbListeners.evaluate("hasNumberOfColumnsGreaterThanOrEqualTo", () -> {
+      exists();
+      List<String> columnsNameList = row.getColumnsNameList();
+      int size = columnsNameList.size();
+      return AssertionsOnNumberOfColumns.hasNumberOfColumnsGreaterThanOrEqualTo(myself, info, size,
+                                                                                expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeRowAssert hasNumberOfColumnsLessThanOrEqualTo(int expected) {
-    exists();
-    List<String> columnsNameList = row.getColumnsNameList();
-    int size = columnsNameList.size();
-    return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThanOrEqualTo(myself, info, size, expected);
+    return DbListeners.evaluate("hasNumberOfColumnsLessThanOrEqualTo", () -> {
+      exists();
+      List<String> columnsNameList = row.getColumnsNameList();
+      int size = columnsNameList.size();
+      return AssertionsOnNumberOfColumns.hasNumberOfColumnsLessThanOrEqualTo(myself, info, size, expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeRowAssert hasValues(Object... expected) {
-    exists();
-    return AssertionsOnRowEquality.hasValues(myself, info, row.getValuesList(), expected);
+    return DbListeners.evaluate("hasValues", () -> {
+      exists();
+      return AssertionsOnRowEquality.hasValues(myself, info, row.getValuesList(), expected);
+    });
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeRowAssert exists() {
-    return AssertionsOnRowOfChangeExistence.exists(myself, info, row);
+    return DbListeners.evaluate("exists", () -> AssertionsOnRowOfChangeExistence.exists(myself, info, row));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeRowAssert doesNotExist() {
-    return AssertionsOnRowOfChangeExistence.doesNotExist(myself, info, row);
+    return DbListeners.evaluate("doesNotExist", () -> AssertionsOnRowOfChangeExistence.doesNotExist(myself, info, row));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangeRowAssert hasValuesSatisfying(Object... expected) {
-    exists();
-    return AssertionsOnRowCondition.hasValuesSatisfying(myself, info, row.getValuesList(), expected);
+    return DbListeners.evaluate("hasValuesSatisfying", () -> {
+      exists();
+      return AssertionsOnRowCondition.hasValuesSatisfying(myself, info, row.getValuesList(), expected);
+    });
   }
 
   /**
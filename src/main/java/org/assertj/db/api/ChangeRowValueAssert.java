@@ -14,6 +14,7 @@ package org.assertj.db.api;
 
 import org.assertj.db.api.assertions.AssertOnColumnName;
 import org.assertj.db.api.assertions.impl.AssertionsOnColumnName;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.navigation.ToValue;
 import org.assertj.db.navigation.ToValueFromRow;
 import org.assertj.db.type.Value;
@@ -61,7 +62,9 @@ public class ChangeRowValueAssert
   /** {@inheritDoc} */
   @Override
   public ChangeRowValueAssert hasColumnName(String columnName) {
-    return AssertionsOnColumnName.hasColumnName(myself, info, value.getColumnName(), columnName, value.getColumnLetterCase());
+    return DbListeners.evaluate("hasColumnName",
+        () -> AssertionsOnColumnName.hasColumnName(myself, info, value.getColumnName(), columnName,
+            value.getColumnLetterCase()));
   }
 
   /**
@@ -14,6 +14,7 @@ package org.assertj.db.api;
 
 import org.assertj.db.api.assertions.AssertOnNumberOfChanges;
 import org.assertj.db.api.assertions.impl.AssertionsOnNumberOfChanges;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.navigation.PositionWithChanges;
 import org.assertj.db.navigation.element.ChangesElement;
 import org.assertj.db.navigation.origin.OriginWithChanges;
@@ -300,30 +301,35 @@ public class ChangesAssert
   /** {@inheritDoc} */
   @Override
   public ChangesAssert hasNumberOfChanges(int expected) {
-    return AssertionsOnNumberOfChanges.hasNumberOfChanges(myself, info, changes, expected);
+    return DbListeners.evaluate("hasNumberOfChanges",
+        () -> AssertionsOnNumberOfChanges.hasNumberOfChanges(myself, info, changes, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangesAssert hasNumberOfChangesGreaterThan(int expected) {
-    return AssertionsOnNumberOfChanges.hasNumberOfChangesGreaterThan(myself, info, changes, expected);
+    return DbListeners.evaluate("hasNumberOfChangesGreaterThan",
+        () -> AssertionsOnNumberOfChanges.hasNumberOfChangesGreaterThan(myself, info, changes, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangesAssert hasNumberOfChangesLessThan(int expected) {
-    return AssertionsOnNumberOfChanges.hasNumberOfChangesLessThan(myself, info, changes, expected);
+    return DbListeners.evaluate("hasNumberOfChangesLessThan",
+        () -> AssertionsOnNumberOfChanges.hasNumberOfChangesLessThan(myself, info, changes, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangesAssert hasNumberOfChangesGreaterThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfChanges.hasNumberOfChangesGreaterThanOrEqualTo(myself, info, changes, expected);
+    return DbListeners.evaluate("hasNumberOfChangesGreaterThanOrEqualTo",
+        () -> AssertionsOnNumberOfChanges.hasNumberOfChangesGreaterThanOrEqualTo(myself, info, changes, expected));
   }
 
   /** {@inheritDoc} */
   @Override
   public ChangesAssert hasNumberOfChangesLessThanOrEqualTo(int expected) {
-    return AssertionsOnNumberOfChanges.hasNumberOfChangesLessThanOrEqualTo(myself, info, changes, expected);
+    return DbListeners.evaluate("hasNumberOfChangesLessThanOrEqualTo",
+        () -> AssertionsOnNumberOfChanges.hasNumberOfChangesLessThanOrEqualTo(myself, info, changes, expected));
   }
 }
@@ -14,8 +14,15 @@ package org.assertj.db.api;
 
 import org.assertj.db.api.assertions.AssertOnExistence;
 import org.assertj.db.api.assertions.impl.AssertionsOnTableExistence;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.monitoring.DbListeners;
+import org.assertj.db.type.Row;
 import org.assertj.db.type.Table;
 
+import java.util.Arrays;
+
+import static org.assertj.db.util.Descriptions.getRowWithPksDescription;
+
 /**
  * Assertion methods for a {@link Table}.
  *
@@ -49,7 +56,9 @@ public class TableAssert
    */
   @Override
   public TableAssert exists() {
-    return AssertionsOnTableExistence.exists(this, info, actual.getName(), actual.getSource(), actual.getDataSource());
+    return DbListeners.evaluate("exists",
+        () -> AssertionsOnTableExistence.exists(this, info, actual.getName(), actual.getSource(),
+            actual.getDataSource()));
   }
 
   /**
@@ -66,6 +75,34 @@ public class TableAssert
    */
   @Override
   public TableAssert doesNotExist() {
-    return AssertionsOnTableExistence.doesNotExists(this, info, actual.getName(), actual.getSource(), actual.getDataSource());
+    return DbListeners.evaluate("doesNotExist",
+        () -> AssertionsOnTableExistence.doesNotExists(this, info, actual.getName(), actual.getSource(),
+            actual.getDataSource()));
+  }
+
+  /**
+   * Returns assertion methods on the {@link Row} with the primary keys values in parameter.
+   * <p>
+   * If the table is not loaded yet, only this row is loaded from the database (with a condition on the primary keys).
+   * </p>
+   *
+   * <pre><code class='java'>
+   * assertThat(table).rowWithPks(3).value(&quot;title&quot;).isEqualTo(&quot;Avatar&quot;);
+   * </code></pre>
+   *
+   * @param pksValues The primary keys values of the row.
+   * @return An object to make assertions on the {@link Row}.
+   * @throws AssertJDBException If there is no row with these primary keys values.
+   * @see Table#getRowWithPks(Object...)
+   * @since 2.1.0
+   */
+  public TableRowAssert rowWithPks(Object... pksValues) {
+    Row row = actual.getRowWithPks(pksValues);
+    if (row == null) {
+      throw new AssertJDBException("No row found for primary keys " + Arrays.asList(pksValues));
+    }
+    TableRowAssert rowAssert = new TableRowAssert(this, row);
+    rowAssert.as(() -> getRowWithPksDescription(info, pksValues));
+    return rowAssert;
   }
 }
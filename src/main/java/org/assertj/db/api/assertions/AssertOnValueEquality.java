@@ -16,6 +16,7 @@ import org.assertj.db.type.DateTimeValue;
 import org.assertj.db.type.DateValue;
 import org.assertj.db.type.TimeValue;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -216,6 +217,67 @@ public interface AssertOnValueEquality<T extends AssertOnValueEquality<T>> {
    */
   T isEqualTo(byte[] expected);
 
+  /**
+   * Verifies that the value is equal to the content of a file.
+   * <p>
+   * Unlike {@link #isEqualTo(byte[])} with {@link org.assertj.db.api.Assertions#bytesContentOf(java.io.File)}, the
+   * content of the file is never loaded entirely in memory : the file is compared by chunks and a LOB loaded lazily
+   * is compared with its digest, without reading it again in the database.
+   * </p>
+   * <p>
+   * The value itself is in memory unless the LOBs are loaded lazily (see
+   * {@link org.assertj.db.type.Table#setLazyLobs(boolean)}) : a BLOB is read entirely as an array of bytes during the
+   * loading.
+   * </p>
+   * <p>
+   * Example where the assertion verifies that the value in the first {@code Column} of the first {@code Row} of the
+   * {@code Table} is equal to the content of a file :
+   * </p>
+   *
+   * <pre>
+   * <code class='java'>
+   * assertThat(table).row().value().isEqualToContentOf(Paths.get(&quot;file.png&quot;));
+   * </code>
+   * </pre>
+   *
+   * @param expected The path of the file.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If the path in parameter is {@code null}.
+   * @throws AssertionError If the value is not equal to the content of the file in parameter.
+   * @see org.assertj.db.api.AbstractValueAssert#isEqualToContentOf(java.nio.file.Path)
+   * @see org.assertj.db.api.AbstractAssertWithValues#isEqualToContentOf(java.nio.file.Path)
+   * @since 2.1.0
+   */
+  T isEqualToContentOf(Path expected);
+
+  /**
+   * Verifies that the value is equal to the content of a resource in the classpath.
+   * <p>
+   * The resource is read as a stream and compared by chunks, so its content is never loaded entirely in memory. Like
+   * for {@link #isEqualToContentOf(Path)}, the value itself is in memory unless the LOBs are loaded lazily.
+   * </p>
+   * <p>
+   * Example where the assertion verifies that the value in the first {@code Column} of the {@code Row} at end point
+   * of the first {@code Change} is equal to the content of a file in the classpath :
+   * </p>
+   *
+   * <pre>
+   * <code class='java'>
+   * assertThat(changes).change().rowAtEndPoint().value().isEqualToContentFromClassPathOf(&quot;file.png&quot;);
+   * </code>
+   * </pre>
+   *
+   * @param resource The name of the resource in the classpath.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If the name of the resource in parameter is {@code null}.
+   * @throws org.assertj.db.exception.AssertJDBException If the resource is not found or can not be read.
+   * @throws AssertionError If the value is not equal to the content of the resource in parameter.
+   * @see org.assertj.db.api.AbstractValueAssert#isEqualToContentFromClassPathOf(String)
+   * @see org.assertj.db.api.AbstractAssertWithValues#isEqualToContentFromClassPathOf(String)
+   * @since 2.1.0
+   */
+  T isEqualToContentFromClassPathOf(String resource);
+
   /**
    * Verifies that the value is equal to a text.
    * <p>
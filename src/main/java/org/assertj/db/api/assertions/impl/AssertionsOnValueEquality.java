@@ -15,9 +15,13 @@ package org.assertj.db.api.assertions.impl;
 import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.core.internal.Failures;
 import org.assertj.db.api.AbstractAssert;
+import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.*;
 import org.assertj.db.util.Values;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -164,6 +168,71 @@ public class AssertionsOnValueEquality {
     throw failures.failure(info, shouldBeEqual());
   }
 
+  /**
+   * Verifies that the value is equal to the content of a file.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param value     The value.
+   * @param expected  The path of the file.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If the path in parameter is {@code null}.
+   * @throws AssertionError If the value is not equal to the content of the file in parameter.
+   * @since 2.1.0
+   */
+  public static <A extends AbstractAssert<?>> A isEqualToContentOf(A assertion, WritableAssertionInfo info,
+                                                                  Value value, Path expected) {
+    if (expected == null) {
+      throw new NullPointerException("Path to compare can not be null");
+    }
+    AssertionsOnValueType.isBytes(assertion, info, value);
+    if (areEqual(value, expected)) {
+      return assertion;
+    }
+    throw failures.failure(info, shouldBeEqual());
+  }
+
+  /**
+   * Verifies that the value is equal to the content of a resource in the classpath.
+   *
+   * @param <A>       The type of the assertion which call this method.
+   * @param assertion The assertion which call this method.
+   * @param info      Writable information about an assertion.
+   * @param value     The value.
+   * @param resource  The name of the resource in the classpath.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException If the name of the resource in parameter is {@code null}.
+   * @throws AssertJDBException If the resource is not found or can not be read.
+   * @throws AssertionError If the value is not equal to the content of the resource in parameter.
+   * @since 2.1.0
+   */
+  public static <A extends AbstractAssert<?>> A isEqualToContentFromClassPathOf(A assertion,
+                                                                               WritableAssertionInfo info,
+                                                                               Value value, String resource) {
+    if (resource == null) {
+      throw new NullPointerException("Resource to compare can not be null");
+    }
+    AssertionsOnValueType.isBytes(assertion, info, value);
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    if (classLoader == null) {
+      classLoader = AssertionsOnValueEquality.class.getClassLoader();
+    }
+    boolean equal;
+    try (InputStream inputStream = classLoader.getResourceAsStream(resource)) {
+      if (inputStream == null) {
+        throw new AssertJDBException("Resource %s not found in the classpath", resource);
+      }
+      equal = areEqual(value, inputStream);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    if (equal) {
+      return assertion;
+    }
+    throw failures.failure(info, shouldBeEqual());
+  }
+
   /**
    * Verifies that the value is equal to a text.
    *
@@ -48,7 +48,9 @@ public class AssertionsOnValueNullity {
    * @throws AssertionError If the value is not {@code null}.
    */
   public static <A extends AbstractAssert<?>> A isNull(A assertion, WritableAssertionInfo info, Value value) {
-    objects.assertNull(info, value.getValue());
+    if (!value.isNull()) {
+      objects.assertNull(info, value.getValue());
+    }
     return assertion;
   }
 
@@ -63,7 +65,9 @@ public class AssertionsOnValueNullity {
    * @throws AssertionError If the value is {@code null}.
    */
   public static <A extends AbstractAssert<?>> A isNotNull(A assertion, WritableAssertionInfo info, Value value) {
-    objects.assertNotNull(info, value.getValue());
+    if (value.isNull()) {
+      objects.assertNotNull(info, null);
+    }
     return assertion;
   }
 }
@@ -57,7 +57,7 @@ public class AssertionsOnValuesNullity {
                                                                List<Value> valuesList) {
     int index = 0;
     for (Value value : valuesList) {
-      if (value.getValue() != null) {
+      if (!value.isNull()) {
         throw failures.failure(info, shouldContainsOnlyNull(index));
       }
       index++;
@@ -79,7 +79,7 @@ public class AssertionsOnValuesNullity {
                                                                   List<Value> valuesList) {
     int index = 0;
     for (Value value : valuesList) {
-      if (value.getValue() == null) {
+      if (value.isNull()) {
         throw failures.failure(info, shouldContainsOnlyNotNull(index));
       }
       index++;
@@ -0,0 +1,348 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.monitoring;
+
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Changes;
+import org.assertj.db.type.DbElement;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Built-in {@link DbListener} which aggregates the events (number, total and maximum duration, rows, bytes and
+ * changes) and produces a report.
+ *
+ * <pre><code class='java'>
+ * AggregatingDbListener listener = new AggregatingDbListener();
+ * DbListeners.add(listener);
+ * // ... tests
+ * System.out.println(listener.getReport());
+ * </code></pre>
+ *
+ * @since 2.1.0
+ */
+public class AggregatingDbListener implements DbListener {
+
+  /**
+   * Statistics on the acquisitions of connection.
+   */
+  private final Statistics connections = new Statistics();
+  /**
+   * Statistics on the loadings of data.
+   */
+  private final Statistics loadings = new Statistics();
+  /**
+   * Statistics on the readings of metadata.
+   */
+  private final Statistics metadata = new Statistics();
+  /**
+   * Statistics on the captures of the start and end points of changes.
+   */
+  private final Statistics captures = new Statistics();
+  /**
+   * Statistics on the computations of changes.
+   */
+  private final Statistics diffs = new Statistics();
+  /**
+   * Statistics on the assertions, by name of assertion.
+   */
+  private final Map<String, Statistics> assertions = new ConcurrentHashMap<>();
+  /**
+   * Number of rows loaded.
+   */
+  private final LongAdder rows = new LongAdder();
+  /**
+   * Estimation of the number of bytes fetched.
+   */
+  private final LongAdder bytes = new LongAdder();
+  /**
+   * Number of changes found.
+   */
+  private final LongAdder changes = new LongAdder();
+  /**
+   * Number of assertions which failed.
+   */
+  private final LongAdder failedAssertions = new LongAdder();
+
+  /**
+   * Statistics on a kind of event.
+   */
+  public static final class Statistics {
+    /**
+     * Number of events.
+     */
+    private final LongAdder count = new LongAdder();
+    /**
+     * Total of the durations.
+     */
+    private final LongAdder totalNanos = new LongAdder();
+    /**
+     * Maximum of the durations.
+     */
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records an event.
+     *
+     * @param durationNanos The duration of the event.
+     */
+    private void record(long durationNanos) {
+      count.increment();
+      totalNanos.add(durationNanos);
+      maxNanos.accumulate(durationNanos);
+    }
+
+    /**
+     * Resets the statistics.
+     */
+    private void reset() {
+      count.reset();
+      totalNanos.reset();
+      maxNanos.reset();
+    }
+
+    /**
+     * Returns the number of events.
+     *
+     * @return The number of events.
+     */
+    public long getCount() {
+      return count.sum();
+    }
+
+    /**
+     * Returns the total of the durations in nanoseconds.
+     *
+     * @return The total of the durations.
+     */
+    public long getTotalNanos() {
+      return totalNanos.sum();
+    }
+
+    /**
+     * Returns the maximum of the durations in nanoseconds.
+     *
+     * @return The maximum of the durations.
+     */
+    public long getMaxNanos() {
+      return maxNanos.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+      return String.format("count=%d total=%.3fms max=%.3fms", getCount(), toMillis(getTotalNanos()),
+                           toMillis(getMaxNanos()));
+    }
+  }
+
+  /**
+   * Converts nanoseconds to milliseconds.
+   *
+   * @param nanos The nanoseconds.
+   * @return The milliseconds.
+   */
+  private static double toMillis(long nanos) {
+    return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void connectionAcquired(DbElement element, long durationNanos) {
+    connections.record(durationNanos);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dataLoaded(AbstractDbData<?> data, String request, int rowsNumber, int columnsNumber,
+                         long bytesFetched, long durationNanos) {
+    loadings.record(durationNanos);
+    rows.add(rowsNumber);
+    bytes.add(bytesFetched);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void metadataRead(DbElement element, String tableName, long durationNanos) {
+    metadata.record(durationNanos);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void pointCaptured(Changes changes, AbstractDbData<?> data, boolean startPoint, long durationNanos) {
+    captures.record(durationNanos);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void changesComputed(Changes changes, String dataName, boolean withPks, int changesNumber,
+                              long durationNanos) {
+    diffs.record(durationNanos);
+    this.changes.add(changesNumber);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void assertionEvaluated(String assertionName, boolean succeeded, long durationNanos) {
+    assertions.computeIfAbsent(assertionName, k -> new Statistics()).record(durationNanos);
+    if (!succeeded) {
+      failedAssertions.increment();
+    }
+  }
+
+  /**
+   * Returns the statistics on the acquisitions of connection.
+   *
+   * @return The statistics on the acquisitions of connection.
+   */
+  public Statistics getConnections() {
+    return connections;
+  }
+
+  /**
+   * Returns the statistics on the loadings of data.
+   *
+   * @return The statistics on the loadings of data.
+   */
+  public Statistics getLoadings() {
+    return loadings;
+  }
+
+  /**
+   * Returns the statistics on the readings of metadata.
+   *
+   * @return The statistics on the readings of metadata.
+   */
+  public Statistics getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * Returns the statistics on the captures of the start and end points of changes.
+   *
+   * @return The statistics on the captures.
+   */
+  public Statistics getCaptures() {
+    return captures;
+  }
+
+  /**
+   * Returns the statistics on the computations of changes.
+   *
+   * @return The statistics on the computations of changes.
+   */
+  public Statistics getDiffs() {
+    return diffs;
+  }
+
+  /**
+   * Returns the statistics on the assertions with the name in parameter.
+   *
+   * @param assertionName The name of the assertion.
+   * @return The statistics on the assertions ({@code null} if this assertion was never evaluated).
+   */
+  public Statistics getAssertions(String assertionName) {
+    return assertions.get(assertionName);
+  }
+
+  /**
+   * Returns the number of rows loaded.
+   *
+   * @return The number of rows loaded.
+   */
+  public long getRowsNumber() {
+    return rows.sum();
+  }
+
+  /**
+   * Returns the estimation of the number of bytes fetched.
+   *
+   * @return The estimation of the number of bytes fetched.
+   */
+  public long getBytesFetched() {
+    return bytes.sum();
+  }
+
+  /**
+   * Returns the number of changes found.
+   *
+   * @return The number of changes found.
+   */
+  public long getChangesNumber() {
+    return changes.sum();
+  }
+
+  /**
+   * Returns the number of assertions which failed.
+   *
+   * @return The number of assertions which failed.
+   */
+  public long getFailedAssertionsNumber() {
+    return failedAssertions.sum();
+  }
+
+  /**
+   * Resets all the statistics.
+   */
+  public void reset() {
+    connections.reset();
+    loadings.reset();
+    metadata.reset();
+    captures.reset();
+    diffs.reset();
+    assertions.clear();
+    rows.reset();
+    bytes.reset();
+    changes.reset();
+    failedAssertions.reset();
+  }
+
+  /**
+   * Returns a report of the statistics.
+   *
+   * @return The report.
+   */
+  public String getReport() {
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(String.format("Connections : %s%n", connections));
+    stringBuilder.append(String.format("Loadings    : %s rows=%d bytes=%d%n", loadings, getRowsNumber(),
+                                       getBytesFetched()));
+    stringBuilder.append(String.format("Metadata    : %s%n", metadata));
+    stringBuilder.append(String.format("Captures    : %s%n", captures));
+    stringBuilder.append(String.format("Diffs       : %s changes=%d%n", diffs, getChangesNumber()));
+    stringBuilder.append(String.format("Assertions  : failed=%d%n", getFailedAssertionsNumber()));
+    for (Map.Entry<String, Statistics> entry : new ConcurrentSkipListMap<>(assertions).entrySet()) {
+      stringBuilder.append(String.format("  %s : %s%n", entry.getKey(), entry.getValue()));
+    }
+    return stringBuilder.toString();
+  }
+}
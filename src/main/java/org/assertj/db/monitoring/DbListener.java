@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.monitoring;
+
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Changes;
+import org.assertj.db.type.DbElement;
+
+/**
+ * Listener notified of the operations done by assertj-db on the database and of the evaluation of the assertions.
+ * <p>
+ * All the methods have an empty default implementation, so an implementation only overrides the events it needs.
+ * A listener is registered with {@link DbListeners#add(DbListener)}. The durations are in nanoseconds.
+ * </p>
+ * <p>
+ * The methods can be called by several threads at the same time, so the implementations must be thread-safe.
+ * </p>
+ *
+ * @see DbListeners
+ * @see AggregatingDbListener
+ * @since 2.1.0
+ */
+public interface DbListener {
+
+  /**
+   * Called when a connection has been acquired from a {@code DataSource} or a {@code Source}.
+   *
+   * @param element       The element which acquired the connection.
+   * @param durationNanos The duration of the acquisition.
+   */
+  default void connectionAcquired(DbElement element, long durationNanos) {
+  }
+
+  /**
+   * Called when the data of a {@code Table} or of a {@code Request} have been loaded.
+   *
+   * @param data          The loaded data.
+   * @param request       The SQL request executed.
+   * @param rowsNumber    The number of rows loaded.
+   * @param columnsNumber The number of columns loaded.
+   * @param bytesFetched  An estimation of the number of bytes of the values fetched.
+   * @param durationNanos The duration of the loading (execution of the request, collect of the rows and, for a
+   *                      {@code Table}, reading of the primary keys) without the acquisition of the connection.
+   */
+  default void dataLoaded(AbstractDbData<?> data, String request, int rowsNumber, int columnsNumber,
+                          long bytesFetched, long durationNanos) {
+  }
+
+  /**
+   * Called when metadata (tables, columns or primary keys) have been read from the database.
+   *
+   * @param element       The element which read the metadata.
+   * @param tableName     The name of the table on which are the metadata ({@code null} for all the tables).
+   * @param durationNanos The duration of the reading.
+   */
+  default void metadataRead(DbElement element, String tableName, long durationNanos) {
+  }
+
+  /**
+   * Called when the data of a table or of a request have been captured at the start point or at the end point of
+   * {@code Changes}.
+   *
+   * @param changes       The changes.
+   * @param data          The captured data.
+   * @param startPoint    {@code true} for the start point, {@code false} for the end point.
+   * @param durationNanos The duration of the capture (including the loading of the data).
+   */
+  default void pointCaptured(Changes changes, AbstractDbData<?> data, boolean startPoint, long durationNanos) {
+  }
+
+  /**
+   * Called when the changes between the start point and the end point have been computed for a table or a request.
+   *
+   * @param changes       The changes.
+   * @param dataName      The name of the table or the SQL request.
+   * @param withPks       {@code true} if the changes are computed with the primary keys, {@code false} if the data
+   *                      have no primary key and the rows are compared value by value.
+   * @param changesNumber The number of changes found.
+   * @param durationNanos The duration of the computation.
+   */
+  default void changesComputed(Changes changes, String dataName, boolean withPks, int changesNumber,
+                               long durationNanos) {
+  }
+
+  /**
+   * Called when an assertion has been evaluated.
+   *
+   * @param assertionName The name of the assertion.
+   * @param succeeded     {@code true} if the assertion succeeded, {@code false} if it failed.
+   * @param durationNanos The duration of the evaluation (including the possible loading of the data).
+   */
+  default void assertionEvaluated(String assertionName, boolean succeeded, long durationNanos) {
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.monitoring;
+
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Changes;
+import org.assertj.db.type.DbElement;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the {@link DbListener}s.
+ * <p>
+ * When no listener is registered, {@link #isEnabled()} returns {@code false} and the instrumented code does not
+ * measure anything : the only cost is the reading of the volatile array of the listeners.
+ * </p>
+ *
+ * <pre><code class='java'>
+ * AggregatingDbListener listener = new AggregatingDbListener();
+ * DbListeners.add(listener);
+ * // ... tests
+ * System.out.println(listener.getReport());
+ * DbListeners.remove(listener);
+ * </code></pre>
+ *
+ * @since 2.1.0
+ */
+public final class DbListeners {
+
+  /**
+   * The registered listeners.
+   */
+  private static final List<DbListener> LISTENERS = new CopyOnWriteArrayList<>();
+  /**
+   * Start returned by {@link #assertionStarted()} when no listener is registered.
+   */
+  public static final long NOT_MONITORED = Long.MIN_VALUE;
+
+  /**
+   * Private constructor.
+   */
+  private DbListeners() {
+    // Empty
+  }
+
+  /**
+   * Registers a listener.
+   *
+   * @param listener The listener to register.
+   * @throws NullPointerException If {@code listener} is {@code null}.
+   */
+  public static void add(DbListener listener) {
+    if (listener == null) {
+      throw new NullPointerException("listener must be not null");
+    }
+    LISTENERS.add(listener);
+  }
+
+  /**
+   * Unregisters a listener.
+   *
+   * @param listener The listener to unregister.
+   */
+  public static void remove(DbListener listener) {
+    LISTENERS.remove(listener);
+  }
+
+  /**
+   * Unregisters all the listeners.
+   */
+  public static void clear() {
+    LISTENERS.clear();
+  }
+
+  /**
+   * Returns if at least one listener is registered.
+   *
+   * @return {@code true} if at least one listener is registered.
+   */
+  public static boolean isEnabled() {
+    // Read from the listeners themselves : a flag updated after the list could miss a concurrent registration
+    return !LISTENERS.isEmpty();
+  }
+
+  /**
+   * Notifies the listeners that a connection has been acquired.
+   *
+   * @param element       The element which acquired the connection.
+   * @param durationNanos The duration of the acquisition.
+   * @see DbListener#connectionAcquired(DbElement, long)
+   */
+  public static void connectionAcquired(DbElement element, long durationNanos) {
+    for (DbListener listener : LISTENERS) {
+      listener.connectionAcquired(element, durationNanos);
+    }
+  }
+
+  /**
+   * Notifies the listeners that data have been loaded.
+   *
+   * @param data          The loaded data.
+   * @param request       The SQL request executed.
+   * @param rowsNumber    The number of rows loaded.
+   * @param columnsNumber The number of columns loaded.
+   * @param bytesFetched  An estimation of the number of bytes of the values fetched.
+   * @param durationNanos The duration of the loading.
+   * @see DbListener#dataLoaded(AbstractDbData, String, int, int, long, long)
+   */
+  public static void dataLoaded(AbstractDbData<?> data, String request, int rowsNumber, int columnsNumber,
+                                long bytesFetched, long durationNanos) {
+    for (DbListener listener : LISTENERS) {
+      listener.dataLoaded(data, request, rowsNumber, columnsNumber, bytesFetched, durationNanos);
+    }
+  }
+
+  /**
+   * Notifies the listeners that metadata have been read.
+   *
+   * @param element       The element which read the metadata.
+   * @param tableName     The name of the table on which are the metadata ({@code null} for all the tables).
+   * @param durationNanos The duration of the reading.
+   * @see DbListener#metadataRead(DbElement, String, long)
+   */
+  public static void metadataRead(DbElement element, String tableName, long durationNanos) {
+    for (DbListener listener : LISTENERS) {
+      listener.metadataRead(element, tableName, durationNanos);
+    }
+  }
+
+  /**
+   * Notifies the listeners that data have been captured at a point of {@code Changes}.
+   *
+   * @param changes       The changes.
+   * @param data          The captured data.
+   * @param startPoint    {@code true} for the start point, {@code false} for the end point.
+   * @param durationNanos The duration of the capture.
+   * @see DbListener#pointCaptured(Changes, AbstractDbData, boolean, long)
+   */
+  public static void pointCaptured(Changes changes, AbstractDbData<?> data, boolean startPoint, long durationNanos) {
+    for (DbListener listener : LISTENERS) {
+      listener.pointCaptured(changes, data, startPoint, durationNanos);
+    }
+  }
+
+  /**
+   * Notifies the listeners that changes have been computed.
+   *
+   * @param changes       The changes.
+   * @param dataName      The name of the table or the SQL request.
+   * @param withPks       {@code true} if the changes are computed with the primary keys.
+   * @param changesNumber The number of changes found.
+   * @param durationNanos The duration of the computation.
+   * @see DbListener#changesComputed(Changes, String, boolean, int, long)
+   */
+  public static void changesComputed(Changes changes, String dataName, boolean withPks, int changesNumber,
+                                     long durationNanos) {
+    for (DbListener listener : LISTENERS) {
+      listener.changesComputed(changes, dataName, withPks, changesNumber, durationNanos);
+    }
+  }
+
+  /**
+   * Returns the start of the evaluation of an assertion, to give to
+   * {@link #assertionEvaluated(String, long, boolean)} at the end of the evaluation.
+   *
+   * @return The current time in nanoseconds, or {@link #NOT_MONITORED} if no listener is registered.
+   */
+  public static long assertionStarted() {
+    return isEnabled() ? System.nanoTime() : NOT_MONITORED;
+  }
+
+  /**
+   * Notifies the listeners that an assertion has been evaluated.
+   * <p>
+   * Nothing is notified if the evaluation started when no listener was registered.
+   * </p>
+   *
+   * @param assertionName The name of the assertion.
+   * @param start         The start returned by {@link #assertionStarted()}.
+   * @param succeeded     {@code true} if the assertion succeeded.
+   * @see DbListener#assertionEvaluated(String, boolean, long)
+   */
+  public static void assertionEvaluated(String assertionName, long start, boolean succeeded) {
+    if (start == NOT_MONITORED) {
+      return;
+    }
+    long duration = System.nanoTime() - start;
+    for (DbListener listener : LISTENERS) {
+      listener.assertionEvaluated(assertionName, succeeded, duration);
+    }
+  }
+
+  /**
+   * Evaluates an assertion and notifies the listeners of its evaluation (see
+   * {@link #assertionEvaluated(String, long, boolean)}).
+   * <p>
+   * The assertion succeeded if it returns a result, and failed if it throws an exception (which is thrown again).
+   * </p>
+   *
+   * <pre><code class='java'>
+   * return DbListeners.evaluate(&quot;isEqualTo&quot;,
+   *     () -&gt; AssertionsOnValueEquality.isEqualTo(myself, info, value, expected));
+   * </code></pre>
+   *
+   * @param <T>           The type of the result of the assertion.
+   * @param assertionName The name of the assertion.
+   * @param assertion     The assertion.
+   * @return The result of the assertion.
+   */
+  public static <T> T evaluate(String assertionName, Supplier<T> assertion) {
+    long start = assertionStarted();
+    if (start == NOT_MONITORED) {
+      return assertion.get();
+    }
+    boolean succeeded = false;
+    try {
+      T result = assertion.get();
+      succeeded = true;
+      return result;
+    } finally {
+      assertionEvaluated(assertionName, start, succeeded);
+    }
+  }
+}
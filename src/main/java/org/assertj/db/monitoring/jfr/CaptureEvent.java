@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for the capture of a table or of a request at the start point or at the end point of
+ * {@code Changes}.
+ *
+ * @since 2.1.0
+ */
+@Name("org.assertj.db.Capture")
+@Label("Changes Capture")
+@Category({ "AssertJ-DB" })
+@Description("Capture of a table or of a request at the start point or at the end point of changes")
+class CaptureEvent extends Event {
+
+  /**
+   * Point of the capture ({@code START} or {@code END}).
+   */
+  @Label("Point")
+  String point;
+
+  /**
+   * Name of the table or SQL request.
+   */
+  @Label("Data Name")
+  String dataName;
+
+  /**
+   * Number of rows captured ({@code -1} if the rows are not loaded yet : loaded by pages for example).
+   */
+  @Label("Rows")
+  int rows;
+
+  /**
+   * Duration of the capture.
+   */
+  @Label("Elapsed")
+  @Timespan(Timespan.NANOSECONDS)
+  long elapsed;
+}
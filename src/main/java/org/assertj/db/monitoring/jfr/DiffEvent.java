@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for the computation of the changes of a table or of a request.
+ *
+ * @since 2.1.0
+ */
+@Name("org.assertj.db.Diff")
+@Label("Changes Computation")
+@Category({ "AssertJ-DB" })
+@Description("Computation of the changes between the start point and the end point")
+class DiffEvent extends Event {
+
+  /**
+   * Name of the table or SQL request.
+   */
+  @Label("Data Name")
+  String dataName;
+
+  /**
+   * Indicates if the changes are computed with the primary keys.
+   */
+  @Label("With Primary Keys")
+  boolean withPks;
+
+  /**
+   * Number of changes found.
+   */
+  @Label("Changes")
+  int changes;
+
+  /**
+   * Duration of the computation.
+   */
+  @Label("Elapsed")
+  @Timespan(Timespan.NANOSECONDS)
+  long elapsed;
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.monitoring.jfr;
+
+import org.assertj.db.monitoring.DbListener;
+import org.assertj.db.monitoring.DbListeners;
+import org.assertj.db.type.AbstractDbData;
+import org.assertj.db.type.Changes;
+import org.assertj.db.type.Table;
+
+/**
+ * {@link DbListener} which emits Java Flight Recorder events for the loadings of data, for the captures of the
+ * start and end points of {@code Changes} and for the computations of changes.
+ * <p>
+ * This listener needs a JVM with Flight Recorder ({@code jdk.jfr}). The events are in the {@code AssertJ-DB}
+ * category and are only built when they are enabled in the recording. This package is compiled for Java 11 (it is
+ * not part of the build with a JDK 8).
+ * </p>
+ *
+ * <pre><code class='java'>
+ * DbListeners.add(new JfrDbListener());
+ * </code></pre>
+ *
+ * @see DbListeners#add(DbListener)
+ * @since 2.1.0
+ */
+public class JfrDbListener implements DbListener {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void dataLoaded(AbstractDbData<?> data, String request, int rowsNumber, int columnsNumber,
+                         long bytesFetched, long durationNanos) {
+    LoadEvent event = new LoadEvent();
+    if (event.isEnabled()) {
+      event.dataType = data.getDataType().name();
+      event.sql = request;
+      event.rows = rowsNumber;
+      event.columns = columnsNumber;
+      event.bytesFetched = bytesFetched;
+      event.elapsed = durationNanos;
+      event.commit();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void pointCaptured(Changes changes, AbstractDbData<?> data, boolean startPoint, long durationNanos) {
+    CaptureEvent event = new CaptureEvent();
+    if (event.isEnabled()) {
+      event.point = startPoint ? "START" : "END";
+      event.dataName = data instanceof Table ? ((Table) data).getName() : data.getRequest();
+      // The size is only read if the data are loaded : reading it could load the data (or a page of the rows)
+      event.rows = data.isLoaded() ? data.getRowsList().size() : -1;
+      event.elapsed = durationNanos;
+      event.commit();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void changesComputed(Changes changes, String dataName, boolean withPks, int changesNumber,
+                              long durationNanos) {
+    DiffEvent event = new DiffEvent();
+    if (event.isEnabled()) {
+      event.dataName = dataName;
+      event.withPks = withPks;
+      event.changes = changesNumber;
+      event.elapsed = durationNanos;
+      event.commit();
+    }
+  }
+}
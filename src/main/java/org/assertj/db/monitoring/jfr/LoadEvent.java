@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for the loading of a {@code Table} or of a {@code Request}.
+ *
+ * @since 2.1.0
+ */
+@Name("org.assertj.db.Load")
+@Label("Load")
+@Category({ "AssertJ-DB" })
+@Description("Loading of the data of a table or of a request")
+class LoadEvent extends Event {
+
+  /**
+   * Type of the data ({@code TABLE} or {@code REQUEST}).
+   */
+  @Label("Data Type")
+  String dataType;
+
+  /**
+   * SQL request executed.
+   */
+  @Label("SQL")
+  String sql;
+
+  /**
+   * Number of rows loaded.
+   */
+  @Label("Rows")
+  int rows;
+
+  /**
+   * Number of columns loaded.
+   */
+  @Label("Columns")
+  int columns;
+
+  /**
+   * Estimation of the number of bytes fetched.
+   */
+  @Label("Bytes Fetched")
+  @DataAmount
+  long bytesFetched;
+
+  /**
+   * Duration of the loading.
+   */
+  @Label("Elapsed")
+  @Timespan(Timespan.NANOSECONDS)
+  long elapsed;
+}
@@ -0,0 +1,21 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+/**
+ * This package contains the Java Flight Recorder integration of the monitoring.
+ * <p>
+ * The classes of this package need a JVM with Flight Recorder and are only loaded when a
+ * {@link org.assertj.db.monitoring.jfr.JfrDbListener} is created. They are compiled separately for Java 11 (by the
+ * {@code java11} profile, active with a JDK 11 or later) : the rest of the library stays compatible with Java 8.
+ * </p>
+ */
+package org.assertj.db.monitoring.jfr;
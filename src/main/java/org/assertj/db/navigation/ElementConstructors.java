@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.navigation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the constructors of the elements of navigation.
+ * <p>
+ * The constructor of an element is looked up once by reflection for each class of element and each type of parameters,
+ * then kept as a {@link MethodHandle} : the next instantiations do not use the reflection any more.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class ElementConstructors {
+
+  /**
+   * The constructors with the class of the element followed by the types of the parameters in key.
+   */
+  private static final ConcurrentMap<List<Class<?>>, MethodHandle> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+  /**
+   * Private constructor.
+   */
+  private ElementConstructors() {
+    // Empty
+  }
+
+  /**
+   * Returns the constructor of an element of navigation.
+   * <p>
+   * A type of parameter which is not public (for example a column loaded lazily) is replaced by its first public
+   * super-class, which is the type declared by the constructor.
+   * </p>
+   *
+   * @param elementClass   The class of the element.
+   * @param parameterTypes The types of the parameters of the constructor.
+   * @return The constructor (which takes and returns {@code Object}s).
+   * @throws ReflectiveOperationException If the constructor does not exist or is not accessible.
+   */
+  static MethodHandle getConstructor(Class<?> elementClass, Class<?>... parameterTypes)
+      throws ReflectiveOperationException {
+
+    Class<?>[] publicTypes = new Class<?>[parameterTypes.length];
+    for (int index = 0; index < parameterTypes.length; index++) {
+      publicTypes[index] = getPublicClass(parameterTypes[index]);
+    }
+    List<Class<?>> key = new ArrayList<>(publicTypes.length + 1);
+    key.add(elementClass);
+    key.addAll(Arrays.asList(publicTypes));
+    MethodHandle constructor = CONSTRUCTORS.get(key);
+    if (constructor == null) {
+      Constructor<?> declaredConstructor;
+      try {
+        declaredConstructor = elementClass.getDeclaredConstructor(publicTypes);
+      } catch (NoSuchMethodException e) {
+        // The message of the JDK depends on its version
+        throw new NoSuchMethodException(getSignature(elementClass, publicTypes));
+      }
+      constructor = MethodHandles.publicLookup()
+                                 .unreflectConstructor(declaredConstructor)
+                                 .asType(MethodType.genericMethodType(publicTypes.length));
+      CONSTRUCTORS.putIfAbsent(key, constructor);
+    }
+    return constructor;
+  }
+
+  /**
+   * Returns the signature of a constructor, like in the message of the {@link NoSuchMethodException} of Java 8 (for
+   * example {@code TableRowAssert.<init>(TableAssert, Row)} with the full names of the classes).
+   *
+   * @param elementClass   The class of the element.
+   * @param parameterTypes The types of the parameters of the constructor.
+   * @return The signature.
+   */
+  private static String getSignature(Class<?> elementClass, Class<?>... parameterTypes) {
+    StringBuilder stringBuilder = new StringBuilder(elementClass.getName()).append(".<init>(");
+    for (int index = 0; index < parameterTypes.length; index++) {
+      if (index > 0) {
+        stringBuilder.append(", ");
+      }
+      stringBuilder.append(parameterTypes[index].getName());
+    }
+    return stringBuilder.append(")").toString();
+  }
+
+  /**
+   * Returns the first public class in the hierarchy of a class.
+   *
+   * @param clazz The class.
+   * @return The class itself if it is public, otherwise its first public super-class.
+   */
+  private static Class<?> getPublicClass(Class<?> clazz) {
+    Class<?> publicClass = clazz;
+    while (!Modifier.isPublic(publicClass.getModifiers()) && publicClass.getSuperclass() != null) {
+      publicClass = publicClass.getSuperclass();
+    }
+    return publicClass;
+  }
+
+  /**
+   * Creates an instance with a constructor with two parameters.
+   *
+   * @param constructor The constructor.
+   * @param origin      The origin of the element.
+   * @param element     The database element.
+   * @return The instance.
+   * @throws Exception If the constructor throws an exception.
+   */
+  static Object newInstance(MethodHandle constructor, Object origin, Object element) throws Exception {
+    try {
+      return constructor.invoke(origin, element);
+    } catch (Exception | Error e) {
+      throw e;
+    } catch (Throwable throwable) {
+      throw new UndeclaredThrowableException(throwable);
+    }
+  }
+
+  /**
+   * Creates an instance with a constructor with four parameters.
+   *
+   * @param constructor The constructor.
+   * @param origin      The origin of the element.
+   * @param parameter1  The first parameter after the origin.
+   * @param parameter2  The second parameter after the origin.
+   * @param parameter3  The third parameter after the origin.
+   * @return The instance.
+   * @throws Exception If the constructor throws an exception.
+   */
+  static Object newInstance(MethodHandle constructor, Object origin, Object parameter1, Object parameter2,
+                            Object parameter3) throws Exception {
+    try {
+      return constructor.invoke(origin, parameter1, parameter2, parameter3);
+    } catch (Exception | Error e) {
+      throw e;
+    } catch (Throwable throwable) {
+      throw new UndeclaredThrowableException(throwable);
+    }
+  }
+}
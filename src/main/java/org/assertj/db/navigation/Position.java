@@ -17,10 +17,9 @@ import org.assertj.db.global.AbstractElement;
 import org.assertj.db.type.DbElement;
 import org.assertj.db.type.Row;
 
-import java.lang.reflect.Constructor;
-import java.util.HashMap;
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import static org.assertj.db.util.Proxies.unProxy;
 
@@ -49,9 +48,13 @@ public abstract class Position<E extends AbstractElement<E> & Navigation, N exte
    */
   private final Class<N> elementClass;
   /**
-   * Map the elements of navigation with their index in key (contains the elements of navigation already generated).
+   * The elements of navigation at their index (contains the elements of navigation already generated).
    */
-  private final Map<Integer, N> elementsMap = new HashMap<>();
+  private Object[] elements = new Object[0];
+  /**
+   * Constructor of the elements of navigation (looked up at the first instantiation).
+   */
+  private MethodHandle constructor;
 
   /**
    * Constructor.
@@ -103,20 +106,22 @@ public abstract class Position<E extends AbstractElement<E> & Navigation, N exte
    */
 
   public N getInstance(List<D> elementsList, int index) {
-    if (elementsMap.containsKey(index)) {
-      N rowAssert = elementsMap.get(index);
+    if (index >= 0 && index < elements.length && elements[index] != null) {
       nextIndex = index + 1;
-      return rowAssert;
+      return elementClass.cast(elements[index]);
     }
 
     D element = getDbElement(elementsList, index);
     try {
-
-      Class clazz = unProxy(myself.getClass());
-      Constructor<N> constructor = elementClass.getDeclaredConstructor(clazz, element.getClass());
-      N instance = constructor.newInstance(myself, element);
-      elementsMap.put(index, instance);
-      instance.as(getDescription(index));
+      if (constructor == null) {
+        constructor = ElementConstructors.getConstructor(elementClass, unProxy(myself.getClass()), element.getClass());
+      }
+      N instance = elementClass.cast(ElementConstructors.newInstance(constructor, myself, element));
+      if (index >= elements.length) {
+        elements = Arrays.copyOf(elements, Math.max(index + 1, elementsList.size()));
+      }
+      elements[index] = instance;
+      instance.as(() -> getDescription(index));
       return instance;
     } catch (Exception e) {
       throw new AssertJDBException(String.format("There is an exception '" + e.getMessage()
@@ -20,7 +20,7 @@ import org.assertj.db.type.Changes;
 import org.assertj.db.type.Value;
 import org.assertj.db.util.Values;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
 import java.util.*;
 
 import static org.assertj.db.util.Proxies.unProxy;
@@ -50,8 +50,11 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
 
   /**
    * Map the change assert with the change in key (contains the change assert already generated).
+   * <p>
+   * The changes are compared by identity : two changes with the same values are different elements of navigation.
+   * </p>
    */
-  private final Map<Change, N> changeMap = new HashMap<>();
+  private final Map<Change, N> changeMap = new IdentityHashMap<>();
   /**
    * Class of the actual element of navigation (used to make instance).
    */
@@ -62,6 +65,16 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
    */
   private final Class<N> nextElementClass;
 
+  /**
+   * Constructor of the actual elements of navigation (looked up at the first instantiation).
+   */
+  private MethodHandle actualElementConstructor;
+
+  /**
+   * Constructor of the next elements of navigation (looked up at the first instantiation).
+   */
+  private MethodHandle nextElementConstructor;
+
   /**
    * Constructor.
    *
@@ -125,10 +138,12 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
     }
 
     try {
-      Class<?> clazz = unProxy(myself.getClass());
-      Constructor<E> constructor = actualElementClass.getDeclaredConstructor(clazz, Changes.class);
-      instance = constructor.newInstance(myself, nextChanges);
-      instance.as(getChangesDescription(changeType, tableName));
+      if (actualElementConstructor == null) {
+        actualElementConstructor = ElementConstructors.getConstructor(actualElementClass, unProxy(myself.getClass()),
+                                                                      Changes.class);
+      }
+      instance = actualElementClass.cast(ElementConstructors.newInstance(actualElementConstructor, myself, nextChanges));
+      instance.as(() -> getChangesDescription(changeType, tableName));
       setInCache(changeType, tableName, instance);
       return instance;
     } catch (Exception e) {
@@ -200,10 +215,12 @@ public abstract class PositionWithChanges<E extends AbstractElement<E> & Navigat
     }
 
     try {
-      Class<?> clazz = unProxy(myself.getClass());
-      Constructor<N> constructor = nextElementClass.getDeclaredConstructor(clazz, Change.class);
-      instance = constructor.newInstance(myself, change);
-      instance.as(getChangeDescription(changes, change, index, changeType, tableName));
+      if (nextElementConstructor == null) {
+        nextElementConstructor = ElementConstructors.getConstructor(nextElementClass, unProxy(myself.getClass()),
+                                                                    Change.class);
+      }
+      instance = nextElementClass.cast(ElementConstructors.newInstance(nextElementConstructor, myself, change));
+      instance.as(() -> getChangeDescription(changes, change, index, changeType, tableName));
       changeMap.put(change, instance);
       setIndexNextChange(changeType, tableName, index + 1);
       return instance;
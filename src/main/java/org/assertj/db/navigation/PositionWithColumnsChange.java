@@ -21,11 +21,10 @@ import org.assertj.db.type.lettercase.CaseComparison;
 import org.assertj.db.util.Changes;
 import org.assertj.db.util.NameComparator;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import static org.assertj.db.util.Proxies.unProxy;
 
@@ -53,9 +52,13 @@ public abstract class PositionWithColumnsChange<E extends AbstractElement<E> & N
    */
   private final Class<N> elementClass;
   /**
-   * Map the elements of navigation with their index in key (contains the elements of navigation already generated).
+   * The elements of navigation at their index (contains the elements of navigation already generated).
    */
-  private final Map<Integer, N> elementsMap = new HashMap<>();
+  private Object[] elements = new Object[0];
+  /**
+   * Constructor of the elements of navigation (looked up at the first instantiation).
+   */
+  private MethodHandle constructor;
 
   /**
    * Constructor.
@@ -90,10 +93,9 @@ public abstract class PositionWithColumnsChange<E extends AbstractElement<E> & N
    * @throws org.assertj.db.exception.AssertJDBException If the {@code index} is out of the bounds.
    */
   public N getChangeColumnInstance(Change change, int index) {
-    if (elementsMap.containsKey(index)) {
-      N instance = elementsMap.get(index);
+    if (index >= 0 && index < elements.length && elements[index] != null) {
       nextIndex = index + 1;
-      return instance;
+      return elementClass.cast(elements[index]);
     }
 
     int size = change.getColumnsNameList().size();
@@ -119,12 +121,18 @@ public abstract class PositionWithColumnsChange<E extends AbstractElement<E> & N
       valueAtEndPoint = Value.getNullValue(columnName, change.getColumnLetterCase());
     }
     try {
-      Class clazz = unProxy(myself.getClass());
-      Constructor<N> constructor = elementClass.getDeclaredConstructor(clazz, String.class, Value.class, Value.class);
-      N instance = constructor.newInstance(myself, columnName, valueAtStartPoint, valueAtEndPoint);
-      elementsMap.put(index, instance);
+      if (constructor == null) {
+        constructor = ElementConstructors.getConstructor(elementClass, unProxy(myself.getClass()),
+                                                         String.class, Value.class, Value.class);
+      }
+      N instance = elementClass.cast(ElementConstructors.newInstance(constructor, myself, columnName,
+                                                                     valueAtStartPoint, valueAtEndPoint));
+      if (elements.length < size) {
+        elements = Arrays.copyOf(elements, size);
+      }
+      elements[index] = instance;
       nextIndex = index + 1;
-      instance.as(getDescription(index, columnName));
+      instance.as(() -> getDescription(index, columnName));
       return instance;
     } catch (Exception e) {
       throw new AssertJDBException(String.format("There is an exception '" + e.getMessage()
@@ -16,7 +16,7 @@ import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.global.AbstractElement;
 import org.assertj.db.type.DbElement;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
 
 import static org.assertj.db.util.Proxies.unProxy;
 
@@ -90,7 +90,7 @@ public abstract class PositionWithPoints<E extends AbstractElement<E> & Navigati
   public N getInstanceAtStartPoint() {
     if (instanceAtStartPoint == null) {
       instanceAtStartPoint = getInstance(atStartPoint);
-      instanceAtStartPoint.as(getDescriptionAtStartPoint());
+      instanceAtStartPoint.as(this::getDescriptionAtStartPoint);
     }
     return instanceAtStartPoint;
   }
@@ -104,7 +104,7 @@ public abstract class PositionWithPoints<E extends AbstractElement<E> & Navigati
   public N getInstanceAtEndPoint() {
     if (instanceAtEndPoint == null) {
       instanceAtEndPoint = getInstance(atEndPoint);
-      instanceAtEndPoint.as(getDescriptionAtEndPoint());
+      instanceAtEndPoint.as(this::getDescriptionAtEndPoint);
     }
     return instanceAtEndPoint;
   }
@@ -117,9 +117,9 @@ public abstract class PositionWithPoints<E extends AbstractElement<E> & Navigati
    */
   protected N getInstance(D element) {
     try {
-      Class clazz = unProxy(myself.getClass());
-      Constructor<N> constructor = elementClass.getDeclaredConstructor(clazz, pointClass);
-      return constructor.newInstance(myself, element);
+      MethodHandle constructor = ElementConstructors.getConstructor(elementClass, unProxy(myself.getClass()),
+                                                                    pointClass);
+      return elementClass.cast(ElementConstructors.newInstance(constructor, myself, element));
     } catch (Exception e) {
       throw new AssertJDBException(String.format("There is an exception '" + e.getMessage()
                                                  + "'%n\t in the instantiation of the element " + elementClass.getName()
@@ -46,6 +46,11 @@ public abstract class AbstractDbOutputter<D extends AbstractDbData<D>, A extends
    */
   protected final D actual;
 
+  /**
+   * The maximum number of rows in the output ({@code 0} for all the rows).
+   */
+  protected int maxRows;
+
   /**
    * Position of navigation to column.
    */
@@ -81,6 +86,26 @@ public abstract class AbstractDbOutputter<D extends AbstractDbData<D>, A extends
     withType(OutputType.PLAIN);
   }
 
+  /**
+   * Limits the number of rows in the output.
+   * <p>
+   * When the output is written (with {@link #toConsole()}, {@link #toStream(java.io.OutputStream)} or
+   * {@link #toFile(String)}), only the first rows are written followed by the number of remaining rows.
+   * </p>
+   *
+   * @param maxRows The maximum number of rows ({@code 0} for all the rows).
+   * @return {@code this} output object.
+   * @throws IllegalArgumentException If {@code maxRows} is negative.
+   * @since 2.1.0
+   */
+  public A withMaxRows(int maxRows) {
+    if (maxRows < 0) {
+      throw new IllegalArgumentException("The maximum number of rows must be positive or zero");
+    }
+    this.maxRows = maxRows;
+    return myself;
+  }
+
   /** {@inheritDoc} */
   @Override
   public R row() {
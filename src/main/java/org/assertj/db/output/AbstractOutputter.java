@@ -17,6 +17,7 @@ import org.assertj.db.global.AbstractElement;
 import org.assertj.db.output.impl.Output;
 
 import java.io.*;
+import java.nio.charset.Charset;
 
 /**
  * Base class for all output of assertj-db.
@@ -63,6 +64,21 @@ public abstract class AbstractOutputter<E extends AbstractOutputter<E>>
    */
   protected abstract String getOutput(Output outputType);
 
+  /**
+   * Writes the output for the output.
+   * <p>
+   * By default, the text returned by {@link #getOutput(Output)} is written. The sub-classes with a lot of data
+   * override this method to write the output directly without building the whole text in memory.
+   * </p>
+   *
+   * @param outputType Type of output.
+   * @param writer     The destination of the output.
+   * @throws IOException If the output can not be written.
+   */
+  protected void writeOutput(Output outputType, Writer writer) throws IOException {
+    writer.write(getOutput(outputType));
+  }
+
   /**
    * Output {@code this} to the {@code System.out}.
    *
@@ -78,11 +94,16 @@ public abstract class AbstractOutputter<E extends AbstractOutputter<E>>
    *
    * @param outputStream {@code OutputStream} to use for output.
    * @return {@code this} output object.
+   * @throws AssertJDBException If exception in IO.
    */
   public E toStream(OutputStream outputStream) {
-    String output = getOutput(outputType);
-    PrintStream printStream = new PrintStream(outputStream);
-    printStream.print(output);
+    Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, Charset.defaultCharset()));
+    try {
+      writeOutput(outputType, writer);
+      writer.flush();
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
     return myself;
   }
 
@@ -94,10 +115,9 @@ public abstract class AbstractOutputter<E extends AbstractOutputter<E>>
    * @throws AssertJDBException If exception in IO.
    */
   public E toFile(String fileName) {
-    String output = getOutput(outputType);
-    try (FileOutputStream fileOutputStream = new FileOutputStream(fileName)) {
-      PrintStream printStream = new PrintStream(fileOutputStream);
-      printStream.print(output);
+    try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fileName),
+                                                                   Charset.defaultCharset()))) {
+      writeOutput(outputType, writer);
     } catch (IOException e) {
       throw new AssertJDBException(e);
     }
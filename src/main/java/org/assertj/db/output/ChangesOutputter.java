@@ -22,6 +22,9 @@ import org.assertj.db.type.ChangeType;
 import org.assertj.db.type.Changes;
 import org.assertj.db.util.Descriptions;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * Output methods for {@link Changes}.
  *
@@ -303,4 +306,12 @@ public class ChangesOutputter
   protected String getOutput(Output outputType) {
     return outputType.getChangesOutput(info, changes);
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void writeOutput(Output outputType, Writer writer) throws IOException {
+    outputType.writeChangesOutput(info, changes, writer);
+  }
 }
@@ -40,7 +40,7 @@ public class Outputs {
    * @return The created output object.
    */
   public static TableOutputter output(Table table) {
-    return new TableOutputter(table).as(getDescription(table));
+    return new TableOutputter(table).as(() -> getDescription(table));
   }
 
   /**
@@ -50,7 +50,7 @@ public class Outputs {
    * @return The created output object.
    */
   public static RequestOutputter output(Request request) {
-    return new RequestOutputter(request).as(getDescription(request));
+    return new RequestOutputter(request).as(() -> getDescription(request));
   }
 
   /**
@@ -60,6 +60,6 @@ public class Outputs {
    * @return The created output object.
    */
   public static ChangesOutputter output(Changes changes) {
-    return new ChangesOutputter(changes).as(getDescription(changes));
+    return new ChangesOutputter(changes).as(() -> getDescription(changes));
   }
 }
@@ -15,6 +15,9 @@ package org.assertj.db.output;
 import org.assertj.db.output.impl.Output;
 import org.assertj.db.type.Request;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * Output methods for a {@link org.assertj.db.type.Request}.
  *
@@ -40,4 +43,12 @@ public class RequestOutputter extends
   protected String getOutput(Output outputType) {
     return outputType.getRequestOutput(info, actual);
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void writeOutput(Output outputType, Writer writer) throws IOException {
+    outputType.writeRequestOutput(info, actual, maxRows, writer);
+  }
 }
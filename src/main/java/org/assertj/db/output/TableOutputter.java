@@ -15,6 +15,9 @@ package org.assertj.db.output;
 import org.assertj.db.output.impl.Output;
 import org.assertj.db.type.Table;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * Output methods for a {@link org.assertj.db.type.Table}.
  *
@@ -40,4 +43,12 @@ public class TableOutputter extends
   protected String getOutput(Output outputType) {
     return outputType.getTableOutput(info, actual);
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void writeOutput(Output outputType, Writer writer) throws IOException {
+    outputType.writeTableOutput(info, actual, maxRows, writer);
+  }
 }
@@ -0,0 +1,354 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.output.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.db.util.Changes.getIndexesOfModifiedColumns;
+
+/**
+ * Implementation of CSV output of assertj-db.
+ * <p>
+ * The output follows the <a href="https://tools.ietf.org/html/rfc4180">RFC 4180</a> : a header line with the names of
+ * the fields, then a record by row of a table or a request and a record by change.
+ * </p>
+ * <p>
+ * A {@code null} value is an empty field and an empty text is a quoted empty field ({@code ""}). The values of the
+ * primary key and the names of the modified columns of a change are written as a record in a single field (so a value
+ * with a comma can be read again) : for example {@code 1} for a single primary key and {@code "1,""A, B"""} for the
+ * values {@code 1} and {@code A, B}.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+enum CsvOutput implements Output {
+
+  /**
+   * Singleton instance.
+   */
+  INSTANCE;
+
+  /**
+   * End of a record.
+   */
+  private static final String EOL = "\r\n";
+
+  /**
+   * Header of the output of the changes.
+   */
+  private static final String CHANGES_HEADER = "changeType,dataType,dataName,primaryKey,modifiedColumns" + EOL;
+
+  /**
+   * Appends a field (between quotes if it is empty or if it contains a separator, a quote or an end of line).
+   *
+   * @param appendable The destination of the output.
+   * @param text       The text ({@code null} is written as an empty field without quotes).
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendField(Appendable appendable, String text) throws IOException {
+    if (text == null) {
+      return;
+    }
+    boolean quoted = text.isEmpty();
+    for (int index = 0; index < text.length() && !quoted; index++) {
+      char character = text.charAt(index);
+      quoted = character == ',' || character == '"' || character == '\r' || character == '\n';
+    }
+    if (!quoted) {
+      appendable.append(text);
+      return;
+    }
+    appendable.append('"');
+    for (int index = 0; index < text.length(); index++) {
+      char character = text.charAt(index);
+      if (character == '"') {
+        appendable.append('"');
+      }
+      appendable.append(character);
+    }
+    appendable.append('"');
+  }
+
+  /**
+   * Appends a field which contains a record of texts.
+   *
+   * @param appendable The destination of the output.
+   * @param textsList  The list of the texts of the record (an empty list is written as an empty field).
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendRecordField(Appendable appendable, List<String> textsList) throws IOException {
+    if (textsList.isEmpty()) {
+      return;
+    }
+    StringBuilder stringBuilder = new StringBuilder();
+    int index = 0;
+    for (String text : textsList) {
+      if (index > 0) {
+        stringBuilder.append(',');
+      }
+      appendField(stringBuilder, text);
+      index++;
+    }
+    appendField(appendable, stringBuilder.toString());
+  }
+
+  /**
+   * Appends a record with the names of the columns.
+   *
+   * @param appendable      The destination of the output.
+   * @param columnsNameList The list of the column names.
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendHeader(Appendable appendable, List<String> columnsNameList) throws IOException {
+    int index = 0;
+    for (String columnName : columnsNameList) {
+      if (index > 0) {
+        appendable.append(',');
+      }
+      appendField(appendable, columnName);
+      index++;
+    }
+    appendable.append(EOL);
+  }
+
+  /**
+   * Appends the record of a row.
+   *
+   * @param appendable The destination of the output.
+   * @param row        The row.
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendRow(Appendable appendable, Row row) throws IOException {
+    int index = 0;
+    for (Value value : row.getValuesList()) {
+      if (index > 0) {
+        appendable.append(',');
+      }
+      appendField(appendable, OutputType.getMachineText(value));
+      index++;
+    }
+    appendable.append(EOL);
+  }
+
+  /**
+   * Appends the record of a change.
+   *
+   * @param appendable The destination of the output.
+   * @param change     The change.
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendChange(Appendable appendable, Change change) throws IOException {
+    appendField(appendable, "" + change.getChangeType());
+    appendable.append(',');
+    appendField(appendable, "" + change.getDataType());
+    appendable.append(',');
+    appendField(appendable, change.getDataName());
+    appendable.append(',');
+    List<String> pksTextList = new ArrayList<>();
+    for (Value pkValue : change.getPksValueList()) {
+      pksTextList.add(OutputType.getMachineText(pkValue));
+    }
+    appendRecordField(appendable, pksTextList);
+    appendable.append(',');
+    List<String> columnsNameList = change.getColumnsNameList();
+    List<String> modifiedColumnsNameList = new ArrayList<>();
+    for (Integer modifiedColumn : getIndexesOfModifiedColumns(change)) {
+      modifiedColumnsNameList.add(columnsNameList.get(modifiedColumn));
+    }
+    appendRecordField(appendable, modifiedColumnsNameList);
+    appendable.append(EOL);
+  }
+
+  /**
+   * Writes the records of the rows of a table or of a request.
+   *
+   * @param columnsNameList The list of the column names.
+   * @param rowsList        The list of the rows.
+   * @param maxRows         The maximum number of rows to write ({@code 0} for all the rows).
+   * @param appendable      The destination of the output.
+   * @throws IOException If the output can not be written.
+   */
+  private static void writeDataOutput(List<String> columnsNameList, List<Row> rowsList, int maxRows,
+                                      Appendable appendable) throws IOException {
+    appendHeader(appendable, columnsNameList);
+    int index = 0;
+    for (Row row : rowsList) {
+      if (maxRows > 0 && index >= maxRows) {
+        break;
+      }
+      appendRow(appendable, row);
+      index++;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getTableOutput(WritableAssertionInfo info, Table table) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      writeTableOutput(info, table, 0, stringBuilder);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getRequestOutput(WritableAssertionInfo info, Request request) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      writeRequestOutput(info, request, 0, stringBuilder);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeTableOutput(WritableAssertionInfo info, Table table, int maxRows, Appendable appendable)
+      throws IOException {
+    writeDataOutput(table.getColumnsNameList(), table.getRowsList(), maxRows, appendable);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeRequestOutput(WritableAssertionInfo info, Request request, int maxRows, Appendable appendable)
+      throws IOException {
+    writeDataOutput(request.getColumnsNameList(), request.getRowsList(), maxRows, appendable);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getChangesOutput(WritableAssertionInfo info, Changes changes) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      writeChangesOutput(info, changes, stringBuilder);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeChangesOutput(WritableAssertionInfo info, Changes changes, Appendable appendable)
+      throws IOException {
+    appendable.append(CHANGES_HEADER);
+    for (Change change : changes.getChangesList()) {
+      appendChange(appendable, change);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getChangeOutput(WritableAssertionInfo info, Change change) {
+    StringBuilder stringBuilder = new StringBuilder(CHANGES_HEADER);
+    try {
+      appendChange(stringBuilder, change);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getRowOutput(WritableAssertionInfo info, Row row) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      appendHeader(stringBuilder, row.getColumnsNameList());
+      appendRow(stringBuilder, row);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getColumnOutput(WritableAssertionInfo info, Column column) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      appendField(stringBuilder, column.getName());
+      stringBuilder.append(EOL);
+      for (Value value : column.getValuesList()) {
+        appendField(stringBuilder, OutputType.getMachineText(value));
+        stringBuilder.append(EOL);
+      }
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getChangeColumnOutput(WritableAssertionInfo info, String columnName, Value valueAtStartPoint,
+                                      Value valueAtEndPoint) {
+    StringBuilder stringBuilder = new StringBuilder("column,atStartPoint,atEndPoint" + EOL);
+    try {
+      appendField(stringBuilder, columnName);
+      stringBuilder.append(',');
+      appendField(stringBuilder, OutputType.getMachineText(valueAtStartPoint));
+      stringBuilder.append(',');
+      appendField(stringBuilder, OutputType.getMachineText(valueAtEndPoint));
+      stringBuilder.append(EOL);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getValueOutput(WritableAssertionInfo info, Value value) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      appendField(stringBuilder, OutputType.getMachineText(value));
+      stringBuilder.append(EOL);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+}
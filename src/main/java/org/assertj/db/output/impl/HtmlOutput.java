@@ -13,8 +13,10 @@
 package org.assertj.db.output.impl;
 
 import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.*;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -30,6 +32,11 @@ enum HtmlOutput implements Output {
    */
   INSTANCE;
 
+  /**
+   * The number of rows in each {@code <table>} of the output of a table or a request.
+   */
+  private static final int ROWS_BY_TABLE = 1000;
+
   /**
    * Returns the html document for output.
    * @param info  Writable information about an assertion.
@@ -37,78 +44,148 @@ enum HtmlOutput implements Output {
    * @return The html document.
    */
   private static String getHtml(WritableAssertionInfo info, String content) {
-
-    return "<html><head><title>description</title></head>"
-           + "<body><h1>"
-           + info.descriptionText()
-           + "</h1>"
-           + content
-           + "</body></html>";
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      appendHtmlStart(stringBuilder, info);
+      stringBuilder.append(content);
+      appendHtmlEnd(stringBuilder);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
   }
 
   /**
-   * {@inheritDoc}
+   * Appends the beginning of the html document, until the description of the assertion.
+   *
+   * @param appendable The destination of the output.
+   * @param info       Writable information about an assertion.
+   * @throws IOException If the output can not be written.
    */
-  @Override
-  public String getTableOutput(WritableAssertionInfo info, Table table) {
-    List<String> pksNameList = table.getPksNameList();
-    List<String> columnsNameList = table.getColumnsNameList();
-    List<Row> rowsList = table.getRowsList();
-    Row[] rows = rowsList.toArray(new Row[0]);
-
-    List<String> typesList = OutputType.getTypesList(rows);
-    StringBuilder[] pksValueStringBuilders = OutputType.getPksValueStringBuilder(rows);
+  private static void appendHtmlStart(Appendable appendable, WritableAssertionInfo info) throws IOException {
+    appendable.append("<html><head><title>description</title></head>")
+              .append("<body><h1>")
+              .append(info.descriptionText())
+              .append("</h1>");
+  }
 
-    StringBuilder stringBuilder = new StringBuilder();
+  /**
+   * Appends the end of the html document.
+   *
+   * @param appendable The destination of the output.
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendHtmlEnd(Appendable appendable) throws IOException {
+    appendable.append("</body></html>");
+  }
 
-    stringBuilder.append("<table border=\"1\" cellspacing=\"0\">");
-    stringBuilder.append("<tr>");
-    stringBuilder.append("<th>");
-    stringBuilder.append("</th>");
-    stringBuilder.append("<th>");
-    stringBuilder.append("<br/>PRIMARY<br/>KEY");
-    stringBuilder.append("</th>");
+  /**
+   * Appends the beginning of a {@code <table>} with the header row of the columns.
+   *
+   * @param appendable      The destination of the output.
+   * @param pksNameList     The list of the primary key names.
+   * @param columnsNameList The list of the column names.
+   * @param typesList       The list of the types.
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendTableHeader(Appendable appendable, List<String> pksNameList, List<String> columnsNameList,
+                                        List<String> typesList) throws IOException {
+    appendable.append("<table border=\"1\" cellspacing=\"0\">");
+    appendable.append("<tr>");
+    appendable.append("<th>");
+    appendable.append("</th>");
+    appendable.append("<th>");
+    appendable.append("<br/>PRIMARY<br/>KEY");
+    appendable.append("</th>");
     int index = 0;
     for (String columnName : columnsNameList) {
       String pk = "";
       if (pksNameList.contains(columnName)) {
         pk = "*";
       }
-      stringBuilder.append("<th>");
-      stringBuilder.append(pk);
-      stringBuilder.append("<br/>");
-      stringBuilder.append(columnName);
-      stringBuilder.append("<br/>");
+      appendable.append("<th>");
+      appendable.append(pk);
+      appendable.append("<br/>");
+      appendable.append(columnName);
+      appendable.append("<br/>");
       if (index < typesList.size()) {
-        stringBuilder.append(typesList.get(index));
+        appendable.append(typesList.get(index));
       }
-      stringBuilder.append("<br/>Index : ");
-      stringBuilder.append(index);
-      stringBuilder.append("</th>");
+      appendable.append("<br/>Index : ");
+      appendable.append(String.valueOf(index));
+      appendable.append("</th>");
 
       index++;
     }
-    stringBuilder.append("</tr>");
-    index = 0;
-    for (Row row : table.getRowsList()) {
-      stringBuilder.append("<tr>");
-      stringBuilder.append("<td>Index :");
-      stringBuilder.append(index);
-      stringBuilder.append("</td>");
-      stringBuilder.append("<td>");
-      stringBuilder.append(pksValueStringBuilders[index]);
-      stringBuilder.append("</td>");
+    appendable.append("</tr>");
+  }
+
+  /**
+   * Writes the output of the rows of a table or of a request.
+   * <p>
+   * The types of the columns are computed on a sample of the rows, then each row is written directly to the
+   * {@code appendable}. A new {@code <table>} (with the header row) is started every {@link #ROWS_BY_TABLE} rows,
+   * so the browsers can render the first rows of a big output before having read all the document.
+   * </p>
+   *
+   * @param info            Writable information about an assertion.
+   * @param pksNameList     The list of the primary key names.
+   * @param columnsNameList The list of the column names.
+   * @param rowsList        The list of the rows.
+   * @param maxRows         The maximum number of rows to write ({@code 0} for all the rows).
+   * @param appendable      The destination of the output.
+   * @throws IOException If the output can not be written.
+   */
+  private static void writeDataOutput(WritableAssertionInfo info, List<String> pksNameList,
+                                      List<String> columnsNameList, List<Row> rowsList, int maxRows,
+                                      Appendable appendable) throws IOException {
+
+    int size = rowsList.size();
+    int numberOfRows = maxRows > 0 && maxRows < size ? maxRows : size;
+    List<String> typesList = OutputType.getTypesList(OutputType.getSampleRows(rowsList, numberOfRows));
+
+    appendHtmlStart(appendable, info);
+    appendTableHeader(appendable, pksNameList, columnsNameList, typesList);
+    int index = 0;
+    for (Row row : rowsList.subList(0, numberOfRows)) {
+      if (index > 0 && index % ROWS_BY_TABLE == 0) {
+        appendable.append("</table>");
+        appendTableHeader(appendable, pksNameList, columnsNameList, typesList);
+      }
+      appendable.append("<tr>");
+      appendable.append("<td>Index :");
+      appendable.append(String.valueOf(index));
+      appendable.append("</td>");
+      appendable.append("<td>");
+      appendable.append(OutputType.getPksValueText(row));
+      appendable.append("</td>");
       for (Value value : row.getValuesList()) {
-        stringBuilder.append("<td>");
-        stringBuilder.append(OutputType.getText(value));
-        stringBuilder.append("</td>");
+        appendable.append("<td>");
+        appendable.append(OutputType.getText(value));
+        appendable.append("</td>");
       }
-      stringBuilder.append("</tr>");
+      appendable.append("</tr>");
       index++;
     }
-    stringBuilder.append("</table>");
+    appendable.append("</table>");
+    if (numberOfRows < size) {
+      appendable.append("<p>... ").append(String.valueOf(size - numberOfRows)).append(" more rows</p>");
+    }
+    appendHtmlEnd(appendable);
+  }
 
-    return getHtml(info, stringBuilder.toString());
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getTableOutput(WritableAssertionInfo info, Table table) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      writeTableOutput(info, table, 0, stringBuilder);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
   }
 
   /**
@@ -116,64 +193,32 @@ enum HtmlOutput implements Output {
    */
   @Override
   public String getRequestOutput(WritableAssertionInfo info, Request request) {
-    List<String> pksNameList = request.getPksNameList();
-    List<String> columnsNameList = request.getColumnsNameList();
-    List<Row> rowsList = request.getRowsList();
-    Row[] rows = rowsList.toArray(new Row[0]);
-
-    List<String> typesList = OutputType.getTypesList(rows);
-    StringBuilder[] pksValueStringBuilders = OutputType.getPksValueStringBuilder(rows);
-
     StringBuilder stringBuilder = new StringBuilder();
-
-    stringBuilder.append("<table border=\"1\" cellspacing=\"0\">");
-    stringBuilder.append("<tr>");
-    stringBuilder.append("<th>");
-    stringBuilder.append("</th>");
-    stringBuilder.append("<th>");
-    stringBuilder.append("<br/>PRIMARY<br/>KEY");
-    stringBuilder.append("</th>");
-    int index = 0;
-    for (String columnName : columnsNameList) {
-      String pk = "";
-      if (pksNameList.contains(columnName)) {
-        pk = "*";
-      }
-      stringBuilder.append("<th>");
-      stringBuilder.append(pk);
-      stringBuilder.append("<br/>");
-      stringBuilder.append(columnName);
-      stringBuilder.append("<br/>");
-      if (index < typesList.size()) {
-        stringBuilder.append(typesList.get(index));
-      }
-      stringBuilder.append("<br/>Index : ");
-      stringBuilder.append(index);
-      stringBuilder.append("</th>");
-
-      index++;
+    try {
+      writeRequestOutput(info, request, 0, stringBuilder);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
     }
-    stringBuilder.append("</tr>");
-    index = 0;
-    for (Row row : request.getRowsList()) {
-      stringBuilder.append("<tr>");
-      stringBuilder.append("<td>Index :");
-      stringBuilder.append(index);
-      stringBuilder.append("</td>");
-      stringBuilder.append("<td>");
-      stringBuilder.append(pksValueStringBuilders[index]);
-      stringBuilder.append("</td>");
-      for (Value value : row.getValuesList()) {
-        stringBuilder.append("<td>");
-        stringBuilder.append(OutputType.getText(value));
-        stringBuilder.append("</td>");
-      }
-      stringBuilder.append("</tr>");
-      index++;
-    }
-    stringBuilder.append("</table>");
+    return stringBuilder.toString();
+  }
 
-    return getHtml(info, stringBuilder.toString());
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeTableOutput(WritableAssertionInfo info, Table table, int maxRows, Appendable appendable)
+      throws IOException {
+    writeDataOutput(info, table.getPksNameList(), table.getColumnsNameList(), table.getRowsList(), maxRows, appendable);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeRequestOutput(WritableAssertionInfo info, Request request, int maxRows, Appendable appendable)
+      throws IOException {
+    writeDataOutput(info, request.getPksNameList(), request.getColumnsNameList(), request.getRowsList(), maxRows,
+                    appendable);
   }
 
   /**
@@ -505,7 +550,7 @@ enum HtmlOutput implements Output {
 
     String typeAtStartPoint = OutputType.getType(valueAtStartPoint);
     String typeAtEndPoint = OutputType.getType(valueAtEndPoint);
-    String type = valueAtStartPoint.getValue() != null ? typeAtStartPoint : typeAtEndPoint;
+    String type = !valueAtStartPoint.isNull() ? typeAtStartPoint : typeAtEndPoint;
 
     String stringBuilder = "<table border=\"1\" cellspacing=\"0\">"
                            + "<tr>"
@@ -0,0 +1,410 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.output.impl;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.*;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.db.util.Changes.getIndexesOfModifiedColumns;
+
+/**
+ * Implementation of JSON lines output of assertj-db.
+ * <p>
+ * Each row of a table or a request and each change is written as a JSON object on one line
+ * (see <a href="https://jsonlines.org/">JSON Lines</a>), so the output can be written and read record by record.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+enum JsonLinesOutput implements Output {
+
+  /**
+   * Singleton instance.
+   */
+  INSTANCE;
+
+  /**
+   * End of a record.
+   */
+  private static final char EOL = '\n';
+
+  /**
+   * Appends a JSON string.
+   *
+   * @param appendable The destination of the output.
+   * @param text       The text ({@code null} is written as {@code null}).
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendString(Appendable appendable, String text) throws IOException {
+    if (text == null) {
+      appendable.append("null");
+      return;
+    }
+    appendable.append('"');
+    for (int index = 0; index < text.length(); index++) {
+      char character = text.charAt(index);
+      switch (character) {
+        case '"':
+          appendable.append("\\\"");
+          break;
+        case '\\':
+          appendable.append("\\\\");
+          break;
+        case '\n':
+          appendable.append("\\n");
+          break;
+        case '\r':
+          appendable.append("\\r");
+          break;
+        case '\t':
+          appendable.append("\\t");
+          break;
+        default:
+          if (character < 0x20) {
+            appendable.append(String.format("\\u%04x", (int) character));
+          } else {
+            appendable.append(character);
+          }
+      }
+    }
+    appendable.append('"');
+  }
+
+  /**
+   * Returns if the text of a number can be written as a JSON number (and not {@code NaN} or {@code Infinity}).
+   *
+   * @param text The text of the number.
+   * @return {@code true} if it is a JSON number.
+   */
+  private static boolean isJsonNumber(String text) {
+    int index = text.startsWith("-") ? 1 : 0;
+    return index < text.length() && Character.isDigit(text.charAt(index));
+  }
+
+  /**
+   * Appends a JSON value.
+   *
+   * @param appendable The destination of the output.
+   * @param value      The value.
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendValue(Appendable appendable, Value value) throws IOException {
+    String text = OutputType.getMachineText(value);
+    ValueType valueType = value.getValueType();
+    if (text != null && (valueType == ValueType.BOOLEAN || valueType == ValueType.NUMBER && isJsonNumber(text))) {
+      appendable.append(text);
+    } else {
+      appendString(appendable, text);
+    }
+  }
+
+  /**
+   * Appends a JSON object with the values of a row.
+   *
+   * @param appendable      The destination of the output.
+   * @param columnsNameList The list of the column names.
+   * @param row             The row ({@code null} is written as {@code null}).
+   * @param modifiedColumns The indexes of the columns to write ({@code null} for all the columns).
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendValues(Appendable appendable, List<String> columnsNameList, Row row,
+                                   BitSet modifiedColumns) throws IOException {
+    if (row == null) {
+      appendable.append("null");
+      return;
+    }
+    appendable.append('{');
+    List<Value> valuesList = row.getValuesList();
+    boolean first = true;
+    for (int index = 0; index < valuesList.size(); index++) {
+      if (modifiedColumns == null || modifiedColumns.get(index)) {
+        if (!first) {
+          appendable.append(',');
+        }
+        appendString(appendable, columnsNameList.get(index));
+        appendable.append(':');
+        appendValue(appendable, valuesList.get(index));
+        first = false;
+      }
+    }
+    appendable.append('}');
+  }
+
+  /**
+   * Appends a JSON object with the values of the primary key.
+   *
+   * @param appendable   The destination of the output.
+   * @param pksNameList  The list of the primary key names.
+   * @param pksValueList The list of the primary key values.
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendPrimaryKey(Appendable appendable, List<String> pksNameList, List<Value> pksValueList)
+      throws IOException {
+    appendable.append('{');
+    for (int index = 0; index < pksValueList.size(); index++) {
+      if (index > 0) {
+        appendable.append(',');
+      }
+      appendString(appendable, pksNameList.get(index));
+      appendable.append(':');
+      appendValue(appendable, pksValueList.get(index));
+    }
+    appendable.append('}');
+  }
+
+  /**
+   * Appends the record of a row.
+   *
+   * @param appendable      The destination of the output.
+   * @param columnsNameList The list of the column names.
+   * @param row             The row.
+   * @param index           The index of the row.
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendRow(Appendable appendable, List<String> columnsNameList, Row row, int index)
+      throws IOException {
+    appendable.append("{\"index\":").append(String.valueOf(index));
+    appendable.append(",\"primaryKey\":");
+    appendPrimaryKey(appendable, row.getPksNameList(), row.getPksValueList());
+    appendable.append(",\"values\":");
+    appendValues(appendable, columnsNameList, row, null);
+    appendable.append('}').append(EOL);
+  }
+
+  /**
+   * Appends the record of a change.
+   * <p>
+   * Only the values of the modified columns are written.
+   * </p>
+   *
+   * @param appendable The destination of the output.
+   * @param change     The change.
+   * @param index      The index of the change.
+   * @throws IOException If the output can not be written.
+   */
+  private static void appendChange(Appendable appendable, Change change, int index) throws IOException {
+    List<String> columnsNameList = change.getColumnsNameList();
+    BitSet modifiedColumns = change.getModifiedColumns();
+    appendable.append("{\"index\":").append(String.valueOf(index));
+    appendable.append(",\"changeType\":");
+    appendString(appendable, "" + change.getChangeType());
+    appendable.append(",\"dataType\":");
+    appendString(appendable, "" + change.getDataType());
+    appendable.append(",\"dataName\":");
+    appendString(appendable, change.getDataName());
+    appendable.append(",\"primaryKey\":");
+    appendPrimaryKey(appendable, change.getPksNameList(), change.getPksValueList());
+    appendable.append(",\"modifiedColumns\":[");
+    boolean first = true;
+    for (Integer modifiedColumn : getIndexesOfModifiedColumns(change)) {
+      if (!first) {
+        appendable.append(',');
+      }
+      appendString(appendable, columnsNameList.get(modifiedColumn));
+      first = false;
+    }
+    appendable.append("],\"atStartPoint\":");
+    appendValues(appendable, columnsNameList, change.getRowAtStartPoint(), modifiedColumns);
+    appendable.append(",\"atEndPoint\":");
+    appendValues(appendable, columnsNameList, change.getRowAtEndPoint(), modifiedColumns);
+    appendable.append('}').append(EOL);
+  }
+
+  /**
+   * Writes the records of the rows of a table or of a request.
+   *
+   * @param columnsNameList The list of the column names.
+   * @param rowsList        The list of the rows.
+   * @param maxRows         The maximum number of rows to write ({@code 0} for all the rows).
+   * @param appendable      The destination of the output.
+   * @throws IOException If the output can not be written.
+   */
+  private static void writeDataOutput(List<String> columnsNameList, List<Row> rowsList, int maxRows,
+                                      Appendable appendable) throws IOException {
+    int index = 0;
+    for (Row row : rowsList) {
+      if (maxRows > 0 && index >= maxRows) {
+        break;
+      }
+      appendRow(appendable, columnsNameList, row, index);
+      index++;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getTableOutput(WritableAssertionInfo info, Table table) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      writeTableOutput(info, table, 0, stringBuilder);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getRequestOutput(WritableAssertionInfo info, Request request) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      writeRequestOutput(info, request, 0, stringBuilder);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeTableOutput(WritableAssertionInfo info, Table table, int maxRows, Appendable appendable)
+      throws IOException {
+    writeDataOutput(table.getColumnsNameList(), table.getRowsList(), maxRows, appendable);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeRequestOutput(WritableAssertionInfo info, Request request, int maxRows, Appendable appendable)
+      throws IOException {
+    writeDataOutput(request.getColumnsNameList(), request.getRowsList(), maxRows, appendable);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getChangesOutput(WritableAssertionInfo info, Changes changes) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      writeChangesOutput(info, changes, stringBuilder);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeChangesOutput(WritableAssertionInfo info, Changes changes, Appendable appendable)
+      throws IOException {
+    int index = 0;
+    for (Change change : changes.getChangesList()) {
+      appendChange(appendable, change, index);
+      index++;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getChangeOutput(WritableAssertionInfo info, Change change) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      appendChange(stringBuilder, change, 0);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getRowOutput(WritableAssertionInfo info, Row row) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      appendRow(stringBuilder, row.getColumnsNameList(), row, 0);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getColumnOutput(WritableAssertionInfo info, Column column) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      stringBuilder.append("{\"column\":");
+      appendString(stringBuilder, column.getName());
+      stringBuilder.append(",\"values\":[");
+      int index = 0;
+      for (Value value : column.getValuesList()) {
+        if (index > 0) {
+          stringBuilder.append(',');
+        }
+        appendValue(stringBuilder, value);
+        index++;
+      }
+      stringBuilder.append("]}").append(EOL);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getChangeColumnOutput(WritableAssertionInfo info, String columnName, Value valueAtStartPoint,
+                                      Value valueAtEndPoint) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      stringBuilder.append("{\"column\":");
+      appendString(stringBuilder, columnName);
+      stringBuilder.append(",\"atStartPoint\":");
+      appendValue(stringBuilder, valueAtStartPoint);
+      stringBuilder.append(",\"atEndPoint\":");
+      appendValue(stringBuilder, valueAtEndPoint);
+      stringBuilder.append('}').append(EOL);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getValueOutput(WritableAssertionInfo info, Value value) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      appendValue(stringBuilder, value);
+      stringBuilder.append(EOL);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return stringBuilder.toString();
+  }
+}
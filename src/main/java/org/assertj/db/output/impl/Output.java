@@ -15,6 +15,8 @@ package org.assertj.db.output.impl;
 import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.db.type.*;
 
+import java.io.IOException;
+
 /**
  * Interface of the output of a output of assertj-db.
  *
@@ -41,6 +43,44 @@ public interface Output {
    */
   String getRequestOutput(WritableAssertionInfo info, Request request);
 
+  /**
+   * Writes the output of a {@code Table}.
+   * <p>
+   * The implementations write the rows one by one, so the whole output is never in memory. By default, the output of
+   * {@link #getTableOutput(WritableAssertionInfo, Table)} is written (and the maximum number of rows is ignored).
+   * </p>
+   *
+   * @param info       Writable information about an assertion.
+   * @param table      Table.
+   * @param maxRows    The maximum number of rows to write ({@code 0} for all the rows).
+   * @param appendable The destination of the output.
+   * @throws IOException If the output can not be written.
+   * @since 2.1.0
+   */
+  default void writeTableOutput(WritableAssertionInfo info, Table table, int maxRows, Appendable appendable)
+      throws IOException {
+    appendable.append(getTableOutput(info, table));
+  }
+
+  /**
+   * Writes the output of a {@code Request}.
+   * <p>
+   * The implementations write the rows one by one, so the whole output is never in memory. By default, the output of
+   * {@link #getRequestOutput(WritableAssertionInfo, Request)} is written (and the maximum number of rows is ignored).
+   * </p>
+   *
+   * @param info       Writable information about an assertion.
+   * @param request    Request.
+   * @param maxRows    The maximum number of rows to write ({@code 0} for all the rows).
+   * @param appendable The destination of the output.
+   * @throws IOException If the output can not be written.
+   * @since 2.1.0
+   */
+  default void writeRequestOutput(WritableAssertionInfo info, Request request, int maxRows, Appendable appendable)
+      throws IOException {
+    appendable.append(getRequestOutput(info, request));
+  }
+
   /**
    * Returns the output of {@code Changes}.
    *
@@ -50,6 +90,23 @@ public interface Output {
    */
   String getChangesOutput(WritableAssertionInfo info, Changes changes);
 
+  /**
+   * Writes the output of a {@code Changes}.
+   * <p>
+   * By default, the output of {@link #getChangesOutput(WritableAssertionInfo, Changes)} is written.
+   * </p>
+   *
+   * @param info       Writable information about an assertion.
+   * @param changes    Changes.
+   * @param appendable The destination of the output.
+   * @throws IOException If the output can not be written.
+   * @since 2.1.0
+   */
+  default void writeChangesOutput(WritableAssertionInfo info, Changes changes, Appendable appendable)
+      throws IOException {
+    appendable.append(getChangesOutput(info, changes));
+  }
+
   /**
    * Returns the output of a {@code Change}.
    *
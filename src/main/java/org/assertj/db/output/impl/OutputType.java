@@ -15,10 +15,12 @@ package org.assertj.db.output.impl;
 import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.db.type.*;
 
+import java.io.IOException;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
 /**
@@ -38,7 +40,24 @@ public enum OutputType implements Output {
    * Html output.
    * @see HtmlOutput
    */
-  HTML(HtmlOutput.INSTANCE);
+  HTML(HtmlOutput.INSTANCE),
+  /**
+   * JSON lines output (one JSON object by line).
+   * @see JsonLinesOutput
+   * @since 2.1.0
+   */
+  JSON_LINES(JsonLinesOutput.INSTANCE),
+  /**
+   * CSV output.
+   * @see CsvOutput
+   * @since 2.1.0
+   */
+  CSV(CsvOutput.INSTANCE);
+
+  /**
+   * The maximum number of rows read to estimate the types and the widths of the columns.
+   */
+  static final int SAMPLE_SIZE = 10000;
 
   /**
    * Returns the data name of the change.
@@ -62,7 +81,7 @@ public enum OutputType implements Output {
    */
   static String getType(Value... values) {
     for (Value value : values) {
-      if (value.getValue() != null) {
+      if (!value.isNull()) {
         return "(" + value.getValueTypeRepresentation() + ")";
       }
     }
@@ -76,11 +95,11 @@ public enum OutputType implements Output {
    * @return The text.
    */
   static String getText(Value value) {
-    Object object = value.getValue();
     ValueType type = value.getValueType();
     if (type == ValueType.BYTES) {
       return "...";
     }
+    Object object = value.getValue();
     if (type == ValueType.DATE_TIME) {
       return "" + DateTimeValue.from((Timestamp) object);
     }
@@ -94,6 +113,34 @@ public enum OutputType implements Output {
     }
   }
 
+  /**
+   * Returns the text representing a value in the machine-readable outputs.
+   * <p>
+   * Unlike {@link #getText(Value)}, the bytes are not hidden : the content is encoded in Base64. For a LOB (BLOB or
+   * CLOB) loaded lazily, the SHA-256 digest is written instead, so the content is not loaded.
+   * </p>
+   *
+   * @param value The value.
+   * @return The text or {@code null} if the value is {@code null}.
+   */
+  static String getMachineText(Value value) {
+    if (value.isNull()) {
+      return null;
+    }
+    byte[] digest = value.getContentDigest();
+    if (digest != null) {
+      return "sha256:" + Base64.getEncoder().encodeToString(digest);
+    }
+    Object object = value.getValue();
+    if (object == null) {
+      return null;
+    }
+    if (object instanceof byte[]) {
+      return Base64.getEncoder().encodeToString((byte[]) object);
+    }
+    return getText(value);
+  }
+
   /**
    * Returns the labels for the columns corresponding to the type of the values of the column.
    *
@@ -126,6 +173,46 @@ public enum OutputType implements Output {
     return typesList;
   }
 
+  /**
+   * Returns the rows used to estimate the types and the widths of the columns.
+   * <p>
+   * Up to {@link #SAMPLE_SIZE} rows, all the rows are used. Above, the rows are sampled at regular intervals (with the
+   * first and the last rows), so the whole list is not read twice.
+   * </p>
+   *
+   * @param rowsList     The list of rows.
+   * @param numberOfRows The number of rows to output.
+   * @return The rows.
+   */
+  static Row[] getSampleRows(List<Row> rowsList, int numberOfRows) {
+    if (numberOfRows <= SAMPLE_SIZE) {
+      return rowsList.subList(0, numberOfRows).toArray(new Row[0]);
+    }
+    Row[] rows = new Row[SAMPLE_SIZE];
+    long step = numberOfRows - 1;
+    for (int index = 0; index < SAMPLE_SIZE; index++) {
+      rows[index] = rowsList.get((int) (index * step / (SAMPLE_SIZE - 1)));
+    }
+    return rows;
+  }
+
+  /**
+   * Returns the text representing the values of the primary key of a row.
+   *
+   * @param row The row.
+   * @return The text.
+   */
+  static String getPksValueText(Row row) {
+    StringBuilder pksValueStringBuilder = new StringBuilder();
+    for (Value pkValue : row.getPksValueList()) {
+      if (pksValueStringBuilder.length() > 0) {
+        pksValueStringBuilder.append(", ");
+      }
+      pksValueStringBuilder.append(getText(pkValue));
+    }
+    return pksValueStringBuilder.toString();
+  }
+
   /**
    * Returns a {@code StringBuilder} representing the values of the primary key.
    *
@@ -195,12 +282,33 @@ public enum OutputType implements Output {
     return displayer.getRequestOutput(info, request);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void writeTableOutput(WritableAssertionInfo info, Table table, int maxRows, Appendable appendable)
+      throws IOException {
+    displayer.writeTableOutput(info, table, maxRows, appendable);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void writeRequestOutput(WritableAssertionInfo info, Request request, int maxRows, Appendable appendable)
+      throws IOException {
+    displayer.writeRequestOutput(info, request, maxRows, appendable);
+  }
+
   /** {@inheritDoc} */
   @Override
   public String getChangesOutput(WritableAssertionInfo info, Changes changes) {
     return displayer.getChangesOutput(info, changes);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void writeChangesOutput(WritableAssertionInfo info, Changes changes, Appendable appendable)
+      throws IOException {
+    displayer.writeChangesOutput(info, changes, appendable);
+  }
+
   /** {@inheritDoc} */
   @Override
   public String getChangeOutput(WritableAssertionInfo info, Change change) {
@@ -13,8 +13,10 @@
 package org.assertj.db.output.impl;
 
 import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.*;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -414,48 +416,101 @@ enum PlainOutput implements Output {
   }
 
   /**
-   * {@inheritDoc}
+   * Appends a text followed by the spaces to reach the {@code size} in parameter
+   * (the same text as {@link #getFilledText(String, int)} without creating an intermediate {@code StringBuilder}).
+   *
+   * @param appendable The destination of the output.
+   * @param text       The text.
+   * @param size       The size.
+   * @throws IOException If the output can not be written.
    */
-  @Override
-  public String getTableOutput(WritableAssertionInfo info, Table table) {
-    List<String> pksNameList = table.getPksNameList();
-    List<String> columnsNameList = table.getColumnsNameList();
-    List<Row> rowsList = table.getRowsList();
-    Row[] rows = rowsList.toArray(new Row[0]);
+  private static void appendFilledText(Appendable appendable, String text, int size) throws IOException {
+    appendable.append(' ').append(text);
+    for (int length = text.length() + 1; length < size; length++) {
+      appendable.append(' ');
+    }
+  }
+
+  /**
+   * Writes the output of the rows of a table or of a request.
+   * <p>
+   * The sizes and the types of the columns are computed on a sample of the rows (all the rows if there are less than
+   * {@link OutputType#SAMPLE_SIZE}), then each row is written directly to the {@code appendable}.
+   * </p>
+   *
+   * @param info            Writable information about an assertion.
+   * @param pksNameList     The list of the primary key names.
+   * @param columnsNameList The list of the column names.
+   * @param rowsList        The list of the rows.
+   * @param maxRows         The maximum number of rows to write ({@code 0} for all the rows).
+   * @param appendable      The destination of the output.
+   * @throws IOException If the output can not be written.
+   */
+  private void writeDataOutput(WritableAssertionInfo info, List<String> pksNameList, List<String> columnsNameList,
+                               List<Row> rowsList, int maxRows, Appendable appendable) throws IOException {
+
+    int size = rowsList.size();
+    int numberOfRows = maxRows > 0 && maxRows < size ? maxRows : size;
+    Row[] rows = OutputType.getSampleRows(rowsList, numberOfRows);
 
     List<String> typesList = OutputType.getTypesList(rows);
-    int indexColumnSize = getIndexColumnSize(rows.length);
+    int indexColumnSize = getIndexColumnSize(numberOfRows);
     StringBuilder[] pksValueStringBuilders = OutputType.getPksValueStringBuilder(rows);
     int primaryKeyColumnSize = getColumnSize("PRIMARY", pksValueStringBuilders);
     List<Integer> sizesList = getSizesList(rows.length == 0 ? getColumnSizesList(columnsNameList) : getColumnSizesList(rows),
                                            indexColumnSize,
                                            primaryKeyColumnSize);
 
-    StringBuilder stringBuilder = new StringBuilder();
     // Description
-    stringBuilder.append("[").append(info.descriptionText()).append("]").append(EOL);
+    appendable.append("[").append(info.descriptionText()).append("]").append(EOL);
     // Line
-    stringBuilder.append(getCompleteLine(sizesList));
+    appendable.append(getCompleteLine(sizesList));
     // Primary key
-    stringBuilder.append(getCompletePrimaryKey(sizesList, pksNameList, columnsNameList));
+    appendable.append(getCompletePrimaryKey(sizesList, pksNameList, columnsNameList));
     // Column name
-    stringBuilder.append(getCompleteColumnName(sizesList, columnsNameList, "", "PRIMARY"));
+    appendable.append(getCompleteColumnName(sizesList, columnsNameList, "", "PRIMARY"));
     // Type
-    stringBuilder.append(getCompleteType(sizesList, typesList, "", "KEY"));
+    appendable.append(getCompleteType(sizesList, typesList, "", "KEY"));
     // Index
-    stringBuilder.append(getCompleteIndex(sizesList, 2));
+    appendable.append(getCompleteIndex(sizesList, 2));
     // Line
-    stringBuilder.append(getCompleteLine(sizesList));
+    StringBuilder line = getCompleteLine(sizesList);
+    appendable.append(line);
     // Values
     int index = 0;
-    for (Row row : rows) {
-      stringBuilder.append(getCompleteRow(sizesList, row,
-                                          "Index : " + index, pksValueStringBuilders[index]));
+    for (Row row : rowsList.subList(0, numberOfRows)) {
+      appendable.append('|');
+      appendFilledText(appendable, "Index : " + index, sizesList.get(0));
+      appendable.append('|');
+      appendFilledText(appendable, OutputType.getPksValueText(row), sizesList.get(1));
+      appendable.append('|');
+      int columnIndex = 2;
+      for (Value value : row.getValuesList()) {
+        appendFilledText(appendable, OutputType.getText(value), sizesList.get(columnIndex));
+        appendable.append('|');
+        columnIndex++;
+      }
+      appendable.append(EOL);
       index++;
     }
     // Line
-    stringBuilder.append(getCompleteLine(sizesList));
+    appendable.append(line);
+    if (numberOfRows < size) {
+      appendable.append("... ").append(String.valueOf(size - numberOfRows)).append(" more rows").append(EOL);
+    }
+  }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getTableOutput(WritableAssertionInfo info, Table table) {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      writeTableOutput(info, table, 0, stringBuilder);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
     return stringBuilder.toString();
   }
 
@@ -464,50 +519,34 @@ enum PlainOutput implements Output {
    */
   @Override
   public String getRequestOutput(WritableAssertionInfo info, Request request) {
-    List<String> pksNameList = request.getPksNameList();
-    List<String> columnsNameList = request.getColumnsNameList();
-    List<Row> rowsList = request.getRowsList();
-    Row[] rows = rowsList.toArray(new Row[0]);
-
-    List<String> typesList = OutputType.getTypesList(rows);
-    int indexColumnSize = getIndexColumnSize(rows.length);
-    StringBuilder[] pksValueStringBuilders = OutputType.getPksValueStringBuilder(rows);
-    int primaryKeyColumnSize = getColumnSize("PRIMARY", pksValueStringBuilders);
-    List<Integer> sizesList = getSizesList(rows.length == 0 ? getColumnSizesList(columnsNameList) : getColumnSizesList(rows),
-                                           indexColumnSize,
-                                           primaryKeyColumnSize);
-
     StringBuilder stringBuilder = new StringBuilder();
-    // Description
-    stringBuilder.append("[").append(info.descriptionText()).append("]").append(EOL);
-    // Line
-    stringBuilder.append(getCompleteLine(sizesList));
-    // Primary key
-    stringBuilder.append(getCompletePrimaryKey(sizesList, pksNameList, columnsNameList
-    ));
-    // Column name
-    stringBuilder.append(getCompleteColumnName(sizesList, columnsNameList,
-                                               "", "PRIMARY"));
-    // Type
-    stringBuilder.append(getCompleteType(sizesList, typesList,
-                                         "", "KEY"));
-    // Index
-    stringBuilder.append(getCompleteIndex(sizesList, 2));
-    // Line
-    stringBuilder.append(getCompleteLine(sizesList));
-    // Values
-    int index = 0;
-    for (Row row : rows) {
-      stringBuilder.append(getCompleteRow(sizesList, row,
-                                          "Index : " + index, pksValueStringBuilders[index]));
-      index++;
+    try {
+      writeRequestOutput(info, request, 0, stringBuilder);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
     }
-    // Line
-    stringBuilder.append(getCompleteLine(sizesList));
-
     return stringBuilder.toString();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeTableOutput(WritableAssertionInfo info, Table table, int maxRows, Appendable appendable)
+      throws IOException {
+    writeDataOutput(info, table.getPksNameList(), table.getColumnsNameList(), table.getRowsList(), maxRows, appendable);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeRequestOutput(WritableAssertionInfo info, Request request, int maxRows, Appendable appendable)
+      throws IOException {
+    writeDataOutput(info, request.getPksNameList(), request.getColumnsNameList(), request.getRowsList(), maxRows,
+                    appendable);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -713,7 +752,7 @@ enum PlainOutput implements Output {
 
     String typeAtStartPoint = OutputType.getType(valueAtStartPoint);
     String typeAtEndPoint = OutputType.getType(valueAtEndPoint);
-    String type = valueAtStartPoint.getValue() != null ? typeAtStartPoint : typeAtEndPoint;
+    String type = !valueAtStartPoint.isNull() ? typeAtStartPoint : typeAtEndPoint;
 
     int columnSize = getColumnSize(columnName, type, null, valueAtStartPoint, valueAtEndPoint);
 
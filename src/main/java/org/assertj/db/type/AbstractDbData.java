@@ -13,14 +13,25 @@
 package org.assertj.db.type;
 
 import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.util.NameComparator;
 import org.assertj.db.util.RowComparator;
 
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * This class represents data from the database (either a {@link Table} or a {@link Request}).
@@ -46,19 +57,184 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   /**
    * List of the column names.
    */
-  private List<String> columnsNameList;
+  private volatile List<String> columnsNameList;
   /**
    * List of the primary key names.
    */
-  private List<String> pksNameList;
+  private volatile List<String> pksNameList;
   /**
    * List of the rows.
    */
-  private List<Row> rowsList;
+  private volatile List<Row> rowsList;
   /**
    * List of the columns.
    */
-  private List<Column> columnsList;
+  private volatile List<Column> columnsList;
+  /**
+   * Indicates if the data are loaded.
+   * @since 2.1.0
+   */
+  private volatile boolean loaded;
+  /**
+   * Lock which guarantees that the data are loaded only once, even if several threads access to the data.
+   * @since 2.1.0
+   */
+  private final ReentrantLock loadingLock = new ReentrantLock();
+  /**
+   * The cache of the data ({@code null} if the data are not cached).
+   * @since 2.1.0
+   */
+  private SnapshotCache snapshotCache;
+  /**
+   * Indicates if the rows come from a {@link SnapshotCache} (so they are shared with other data).
+   * @since 2.1.0
+   */
+  private boolean rowsFromSnapshot;
+  /**
+   * Estimation of the number of bytes fetched during the last loading (only computed if a listener is registered).
+   * @since 2.1.0
+   */
+  private long bytesFetched;
+  /**
+   * Indicates if a loading in background was started by {@link #prefetch()}.
+   * @since 2.1.0
+   */
+  private final AtomicBoolean prefetched = new AtomicBoolean();
+  /**
+   * The failure of the loading in background started by {@link #prefetch()} ({@code null} if there is no failure or if
+   * it was already thrown).
+   * @since 2.1.0
+   */
+  private RuntimeException prefetchFailure;
+  /**
+   * The number of rows computed by the database before the loading ({@code -1} if it was not computed or if the
+   * data are loaded).
+   * @since 2.1.0
+   */
+  private volatile int countedRowsNumber = -1;
+  /**
+   * The cache of the statements of the connection during a loading with {@link #load(StatementCache)} ({@code null}
+   * otherwise).
+   * @since 2.1.0
+   */
+  private StatementCache statementCache;
+  /**
+   * The plan of the columns read in the metadata during the last loading, shared with the copies of these data (see
+   * {@link #shareColumnsPlan(AbstractDbData)}).
+   * @since 2.1.0
+   */
+  private AtomicReference<ColumnsPlan> columnsPlan = new AtomicReference<>();
+
+  /**
+   * Holder of the default executor used by {@link #prefetch()}.
+   */
+  private static final class PrefetchExecutorHolder {
+    /**
+     * The default executor (the threads are daemon threads).
+     */
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "assertj-db-prefetch");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * The plan of the columns of a result set : the indexes and the types of the columns read in the metadata.
+   * <p>
+   * The plan is reused by the next loading of the same request if the metadata have the same labels and types, so the
+   * names of the columns are not searched again in the metadata.
+   * </p>
+   */
+  private static final class ColumnsPlan {
+    /**
+     * The list of the column names.
+     */
+    private final List<String> columnsNameList;
+    /**
+     * The letter case of the columns.
+     */
+    private final LetterCase columnLetterCase;
+    /**
+     * The labels of the columns in the metadata.
+     */
+    private final String[] labels;
+    /**
+     * The types of the columns in the metadata.
+     */
+    private final int[] metaDataTypes;
+    /**
+     * The names of the columns shared by the rows.
+     */
+    private final ColumnsSchema columnsSchema;
+    /**
+     * The indexes of the columns in the result set ({@code -1} if the column is not found).
+     */
+    private final int[] indexes;
+    /**
+     * The types of the columns.
+     */
+    private final int[] types;
+
+    /**
+     * Constructor.
+     *
+     * @param columnsNameList  The list of the column names.
+     * @param columnLetterCase The letter case of the columns.
+     * @param metaData         The metadata of the result set.
+     * @throws SQLException SQL Exception.
+     */
+    private ColumnsPlan(List<String> columnsNameList, LetterCase columnLetterCase, ResultSetMetaData metaData)
+        throws SQLException {
+      this.columnsNameList = columnsNameList;
+      this.columnLetterCase = columnLetterCase;
+      int columnCount = metaData.getColumnCount();
+      labels = new String[columnCount];
+      metaDataTypes = new int[columnCount];
+      for (int i = 1; i <= columnCount; i++) {
+        labels[i - 1] = metaData.getColumnLabel(i);
+        metaDataTypes[i - 1] = metaData.getColumnType(i);
+      }
+      columnsSchema = new ColumnsSchema(columnsNameList);
+      indexes = new int[columnsNameList.size()];
+      types = new int[columnsNameList.size()];
+      for (int columnIndex = 0; columnIndex < indexes.length; columnIndex++) {
+        String columnName = columnsNameList.get(columnIndex);
+        int index = -1;
+        for (int i = 1; i <= columnCount; i++) {
+          if (columnLetterCase.isEqual(columnName, labels[i - 1])) {
+            index = i;
+            break;
+          }
+        }
+        indexes[columnIndex] = index;
+        types[columnIndex] = index == -1 ? Types.OTHER : metaDataTypes[index - 1];
+      }
+    }
+
+    /**
+     * Returns if this plan can be used for a result set.
+     *
+     * @param columnsNameList  The list of the column names.
+     * @param columnLetterCase The letter case of the columns.
+     * @param metaData         The metadata of the result set.
+     * @return {@code true} if the plan can be used, {@code false} otherwise.
+     * @throws SQLException SQL Exception.
+     */
+    private boolean matches(List<String> columnsNameList, LetterCase columnLetterCase, ResultSetMetaData metaData)
+        throws SQLException {
+      if (columnLetterCase != this.columnLetterCase || !columnsNameList.equals(this.columnsNameList)
+          || metaData.getColumnCount() != labels.length) {
+        return false;
+      }
+      for (int i = 1; i <= labels.length; i++) {
+        if (!labels[i - 1].equals(metaData.getColumnLabel(i)) || metaDataTypes[i - 1] != metaData.getColumnType(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
 
   /**
    * Default constructor.
@@ -126,22 +302,336 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
   private void load() {
-    try (Connection connection = getConnection()) {
-      // Call the specific loading depending of Table or Request.
-      loadImpl(connection);
-      if (pksNameList == null) {
-        pksNameList = new ArrayList<>();
+    load(false);
+  }
+
+  /**
+   * Loads the information of the data from the database, in background or not.
+   * <p>
+   * A failure of a loading in background is kept and thrown by the next loading (which does not load the data again).
+   * </p>
+   *
+   * @param background {@code true} if the loading is done in background (see {@link #prefetch(Executor)}).
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  private void load(boolean background) {
+    if (loaded || loadingLock.isHeldByCurrentThread()) {
+      // Already loaded or called by the loading itself
+      return;
+    }
+    loadingLock.lock();
+    try {
+      if (!loaded) {
+        RuntimeException failure = prefetchFailure;
+        if (failure != null) {
+          // The failure of the loading in background is reported once, the next loading is done again
+          prefetchFailure = null;
+          prefetched.set(false);
+          throw failure;
+        }
+        try {
+          loadWithCache();
+          forgetTheNumberOfRowsCounted();
+        } catch (RuntimeException e) {
+          if (background) {
+            prefetchFailure = e;
+            return;
+          }
+          throw e;
+        }
+        loaded = true;
+      }
+    } finally {
+      loadingLock.unlock();
+    }
+  }
+
+  /**
+   * Loads the information of the data from the cache or from the database.
+   *
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  private void loadWithCache() {
+    if (snapshotCache == null) {
+      loadFromDatabase();
+    } else {
+      SnapshotCache.Snapshot snapshot = snapshotCache.get(getSnapshotKey(), () -> {
+        loadFromDatabase();
+        return new SnapshotCache.Snapshot(columnsNameList, pksNameList, rowsList);
+      });
+      columnsNameList = snapshot.columnsNameList;
+      pksNameList = snapshot.pksNameList;
+      rowsList = snapshot.rowsList;
+      rowsFromSnapshot = true;
+    }
+  }
+
+  /**
+   * Loads the information of the data from the database with the connection of the cache of statements in parameter
+   * (which is not closed).
+   * <p>
+   * This method is used to load several data with the same connection (in the same transaction for example) : the
+   * statements of the SQL requests are kept in the cache of statements, the cache of the data is not used and nothing
+   * is done if the data are already loaded.
+   * </p>
+   *
+   * @param statementCache The cache of the statements of the connection.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  void load(StatementCache statementCache) {
+    if (loaded || loadingLock.isHeldByCurrentThread()) {
+      // Already loaded or called by the loading itself
+      return;
+    }
+    loadingLock.lock();
+    try {
+      if (!loaded) {
+        this.statementCache = statementCache;
+        try {
+          loadFromDatabase(statementCache.getConnection());
+        } finally {
+          this.statementCache = null;
+        }
+        forgetTheNumberOfRowsCounted();
+        loaded = true;
       }
     } catch (SQLException e) {
       throw new AssertJDBException(e);
+    } finally {
+      loadingLock.unlock();
+    }
+  }
+
+  /**
+   * Prepares the statement of the SQL request of the data, which comes from the cache of statements during a loading
+   * with {@link #load(StatementCache)}.
+   * <p>
+   * The statement must be released with {@link #releaseStatement(PreparedStatement)} instead of being closed.
+   * </p>
+   *
+   * @param connection The connection.
+   * @param sql        The SQL request.
+   * @return The statement.
+   * @throws SQLException SQL Exception.
+   */
+  PreparedStatement prepareCachedStatement(Connection connection, String sql) throws SQLException {
+    if (statementCache != null && statementCache.getConnection() == connection) {
+      return statementCache.prepareStatement(getFetchStrategy(), sql);
     }
+    return prepareStatement(connection, sql);
   }
 
+  /**
+   * Returns the result set of the SQL request of the data which is already executed, during a loading with
+   * {@link #load(StatementCache)} (see {@link StatementCache#putResultSet(AbstractDbData, ResultSet)}).
+   *
+   * @param connection The connection.
+   * @return The result set (which must not be closed) or {@code null} if the SQL request is not already executed.
+   */
+  ResultSet getCachedResultSet(Connection connection) {
+    if (statementCache != null && statementCache.getConnection() == connection) {
+      return statementCache.getResultSet(this);
+    }
+    return null;
+  }
+
+  /**
+   * Releases a statement prepared with {@link #prepareCachedStatement(Connection, String)} : the statement is closed
+   * if it does not come from the cache of statements.
+   *
+   * @param statement The statement.
+   * @throws SQLException SQL Exception.
+   */
+  void releaseStatement(PreparedStatement statement) throws SQLException {
+    if (statementCache == null || !statementCache.contains(statement)) {
+      statement.close();
+    }
+  }
+
+  /**
+   * Shares the plan of the columns with other data which have the same SQL request (a copy of these data for example) :
+   * the next loading of one of them reuses the indexes and the types of the columns read in the metadata by the
+   * previous one.
+   *
+   * @param data The other data.
+   */
+  void shareColumnsPlan(AbstractDbData<?> data) {
+    columnsPlan = data.columnsPlan;
+  }
+
+  /**
+   * Loads the information of the data from the database (without using the cache).
+   *
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  private void loadFromDatabase() {
+    try (Connection connection = getConnection()) {
+      loadFromDatabase(connection);
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Loads the information of the data from the database with the connection in parameter (which is not closed).
+   *
+   * @param connection The connection.
+   * @throws SQLException SQL Exception.
+   */
+  private void loadFromDatabase(Connection connection) throws SQLException {
+    boolean monitored = DbListeners.isEnabled();
+    long start = monitored ? System.nanoTime() : 0;
+    bytesFetched = 0;
+    // Call the specific loading depending of Table or Request.
+    boolean readOnly = getFetchStrategy().isReadOnly() && !connection.isReadOnly();
+    if (readOnly) {
+      connection.setReadOnly(true);
+    }
+    try {
+      loadImpl(connection);
+    } finally {
+      if (readOnly) {
+        // The connection can come back to a pool.
+        connection.setReadOnly(false);
+      }
+    }
+    endLoadingFromDatabase(monitored, start);
+  }
+
+  /**
+   * Ends the loading of the data from the database.
+   *
+   * @param monitored {@code true} if the loading is monitored.
+   * @param start     The start of the loading (in nanoseconds).
+   */
+  private void endLoadingFromDatabase(boolean monitored, long start) {
+    if (pksNameList == null) {
+      pksNameList = new ArrayList<>();
+    }
+    if (monitored) {
+      DbListeners.dataLoaded(this, getRequest(), rowsList == null ? 0 : rowsList.size(),
+                             columnsNameList == null ? 0 : columnsNameList.size(), bytesFetched,
+                             System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Starts the loading of the data in background with a default executor.
+   * <p>
+   * A call to {@link #getColumnsNameList()}, {@link #getPksNameList()} or {@link #getRowsList()} during this loading
+   * waits for the end of the loading instead of loading the data again. So the loadings of several {@code Table} or {@code Request}
+   * are done at the same time :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * Table table1 = new Table(dataSource, &quot;movie&quot;).prefetch();
+   * Table table2 = new Table(dataSource, &quot;actor&quot;).prefetch();
+   * assertThat(table1).hasNumberOfRows(3);
+   * assertThat(table2).hasNumberOfRows(3);
+   * </code></pre>
+   * <p>
+   * The data must be completely configured before calling this method. If the data are already loaded or if a
+   * loading is in progress, this method does nothing. If the loading in background fails, its exception is thrown by
+   * the next call to one of the getters (the following calls load the data again).
+   * </p>
+   *
+   * @return The actual instance.
+   * @since 2.1.0
+   */
+  public D prefetch() {
+    return prefetch(PrefetchExecutorHolder.EXECUTOR);
+  }
+
+  /**
+   * Returns the default executor used to load data in background.
+   *
+   * @return The default executor.
+   */
+  static Executor getDefaultExecutor() {
+    return PrefetchExecutorHolder.EXECUTOR;
+  }
+
+  /**
+   * Starts the loading of the data in background with the executor in parameter.
+   *
+   * @param executor The executor which loads the data.
+   * @return The actual instance.
+   * @throws NullPointerException If {@code executor} is {@code null}.
+   * @see #prefetch()
+   * @since 2.1.0
+   */
+  public D prefetch(Executor executor) {
+    if (executor == null) {
+      throw new NullPointerException("executor must be not null");
+    }
+    if (!loaded && prefetched.compareAndSet(false, true)) {
+      // If the loading fails, the exception is thrown by the next getter
+      CompletableFuture.runAsync(() -> load(true), executor);
+    }
+    return myself;
+  }
+
+  /**
+   * Returns the cache of the data.
+   *
+   * @return The cache of the data ({@code null} if the data are not cached).
+   * @see #setSnapshotCache(SnapshotCache)
+   * @since 2.1.0
+   */
+  public SnapshotCache getSnapshotCache() {
+    return snapshotCache;
+  }
+
+  /**
+   * Sets the cache of the data.
+   * <p>
+   * The data are loaded from the cache if an other element with the same source (or data source), SQL request,
+   * parameters and letter cases was already loaded with this cache. Otherwise, the data are loaded from the database
+   * and put in the cache.
+   * </p>
+   *
+   * @param snapshotCache The cache of the data ({@code null} to not use a cache).
+   * @return The actual instance.
+   * @see SnapshotCache
+   * @since 2.1.0
+   */
+  public D setSnapshotCache(SnapshotCache snapshotCache) {
+    this.snapshotCache = snapshotCache;
+    return myself;
+  }
+
+  /**
+   * Returns the key of the data in a {@link SnapshotCache}.
+   *
+   * @return The key.
+   */
+  SnapshotCache.Key getSnapshotKey() {
+    // The key is only made of the configuration (and not of what is loaded) : it is the same before and after the loading
+    Object connectionProvider = getDataSource() != null ? getDataSource() : getSource();
+    return new SnapshotCache.Key(connectionProvider, dataType, getRequest(), getSnapshotKeyComponents(),
+                                 getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase());
+  }
+
+  /**
+   * Returns the components specific to the kind of data which are part of the key in a {@link SnapshotCache}.
+   *
+   * @return The components (the parameters of a request or the columns to exclude of a table for example).
+   */
+  abstract Object[] getSnapshotKeyComponents();
+
   /**
    * Sorts the list of rows.
+   * <p>
+   * The rows are sorted only if they are not already in order.
+   * </p>
+   *
+   * @see RowComparator#sort(List)
    */
   protected void sortRows() {
-    rowsList.sort(RowComparator.INSTANCE);
+    rowsList = RowComparator.sort(rowsList);
   }
 
   /**
@@ -171,45 +661,167 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   protected void collectRowsFromResultSet(ResultSet resultSet) throws SQLException {
     ResultSetMetaData metaData = resultSet.getMetaData();
-    rowsList = new ArrayList<>();
+    boolean monitored = DbListeners.isEnabled();
+    boolean lazyLobs = hasLazyLobs();
+    List<LazyLob> lobsList = new ArrayList<>();
+    List<Row> rowsList = new ArrayList<>();
+    // The indexes and the types of the columns are read once from the metadata (and not for each row)
+    ColumnsPlan plan = columnsPlan.get();
+    if (plan == null || !plan.matches(columnsNameList, getColumnLetterCase(), metaData)) {
+      plan = new ColumnsPlan(columnsNameList, getColumnLetterCase(), metaData);
+      columnsPlan.set(plan);
+    }
+    ColumnsSchema columnsSchema = plan.columnsSchema;
+    int[] indexes = plan.indexes;
+    int[] types = plan.types;
     while (resultSet.next()) {
-      List<Value> valuesList = new ArrayList<>();
-      for (String columnName : columnsNameList) {
-        // TODO Improve the check of the type
-        int index = -1;
-        for (int i = 1; i <= metaData.getColumnCount(); i++) {
-          if (getColumnLetterCase().isEqual(columnName, metaData.getColumnLabel(i))) {
-            index = i;
-            break;
-          }
-        }
+      List<Value> valuesList = new ArrayList<>(indexes.length);
+      for (int columnIndex = 0; columnIndex < indexes.length; columnIndex++) {
+        String columnName = columnsNameList.get(columnIndex);
+        int index = indexes[columnIndex];
         Object object;
-        int type = metaData.getColumnType(index);
+        LazyLob lob = null;
+        int type = types[columnIndex];
         switch (type) {
         case Types.DATE:
-          object = resultSet.getDate(columnName);
+          object = resultSet.getDate(index);
           break;
         case Types.TIME:
-          object = resultSet.getTime(columnName);
+          object = resultSet.getTime(index);
           break;
         case Types.TIMESTAMP:
-          object = resultSet.getTimestamp(columnName);
+          object = resultSet.getTimestamp(index);
           break;
         case Types.BLOB:
-          object = resultSet.getBytes(columnName);
+          if (lazyLobs) {
+            lob = readLazyLob(columnName, resultSet.getBinaryStream(index));
+            object = null;
+          } else {
+            object = resultSet.getBytes(index);
+          }
           break;
         case Types.CLOB:
-          object = resultSet.getString(columnName);
+          if (lazyLobs) {
+            lob = readLazyLob(columnName, resultSet.getCharacterStream(index));
+            object = null;
+          } else {
+            object = resultSet.getString(index);
+          }
           break;
 
         default:
-          object = resultSet.getObject(columnName);
+          object = resultSet.getObject(index);
           break;
         }
-        valuesList.add(new Value(columnName, object, getColumnLetterCase()));
+        if (monitored) {
+          bytesFetched += lob == null ? getEstimatedSize(object) : lob.getLength();
+        }
+        if (lob == null) {
+          valuesList.add(new Value(columnName, object, getColumnLetterCase()));
+        } else {
+          valuesList.add(Value.lazyLob(columnName, lob, getColumnLetterCase()));
+          lobsList.add(lob);
+        }
       }
-      rowsList.add(new Row(pksNameList, columnsNameList, valuesList, getColumnLetterCase(), getPrimaryKeyLetterCase()));
+      Row row = new Row(pksNameList, columnsSchema, valuesList, getColumnLetterCase(), getPrimaryKeyLetterCase());
+      for (LazyLob lob : lobsList) {
+        lob.setRow(row);
+      }
+      lobsList.clear();
+      rowsList.add(row);
     }
+    this.rowsList = rowsList;
+  }
+
+  /**
+   * Reads the stream of a BLOB to create a LOB value which is loaded at the first access.
+   *
+   * @param columnName The name of the column.
+   * @param stream     The stream of the BLOB ({@code null} if the value is {@code null}).
+   * @return The LOB or {@code null} if the value is {@code null}.
+   * @throws SQLException If the stream can not be read.
+   */
+  private LazyLob readLazyLob(String columnName, InputStream stream) throws SQLException {
+    if (stream == null) {
+      return null;
+    }
+    try (InputStream inputStream = stream) {
+      return LazyLob.of(this, columnName, inputStream);
+    } catch (IOException e) {
+      throw new SQLException(e);
+    }
+  }
+
+  /**
+   * Reads the stream of a CLOB to create a LOB value which is loaded at the first access.
+   *
+   * @param columnName The name of the column.
+   * @param reader     The stream of the CLOB ({@code null} if the value is {@code null}).
+   * @return The LOB or {@code null} if the value is {@code null}.
+   * @throws SQLException If the stream can not be read.
+   */
+  private LazyLob readLazyLob(String columnName, Reader reader) throws SQLException {
+    if (reader == null) {
+      return null;
+    }
+    try (Reader characterReader = reader) {
+      return LazyLob.of(this, columnName, characterReader);
+    } catch (IOException e) {
+      throw new SQLException(e);
+    }
+  }
+
+  /**
+   * Returns if the LOBs are read during the loading without keeping their contents in memory.
+   *
+   * @return {@code true} if the LOBs are loaded lazily, {@code false} otherwise.
+   * @see LazyLob
+   */
+  boolean hasLazyLobs() {
+    return false;
+  }
+
+  /**
+   * Loads the content of a LOB which was not kept in memory during the loading.
+   *
+   * @param columnName The name of the column of the LOB.
+   * @param row        The row which contains the LOB.
+   * @return The content : an array of {@code byte} for a BLOB or a {@code String} for a CLOB.
+   * @throws AssertJDBException If the content can not be loaded.
+   */
+  Object loadLob(String columnName, Row row) {
+    throw new AssertJDBException("The value of the column %s can not be loaded again", columnName);
+  }
+
+  /**
+   * Returns an estimation of the number of bytes of a value fetched from the database.
+   *
+   * @param object The value.
+   * @return The estimation of the number of bytes.
+   */
+  private static long getEstimatedSize(Object object) {
+    if (object == null) {
+      return 0;
+    }
+    if (object instanceof byte[]) {
+      return ((byte[]) object).length;
+    }
+    if (object instanceof CharSequence) {
+      return 2L * ((CharSequence) object).length();
+    }
+    if (object instanceof Boolean || object instanceof Byte) {
+      return 1;
+    }
+    if (object instanceof Short || object instanceof Character) {
+      return 2;
+    }
+    if (object instanceof Integer || object instanceof Float) {
+      return 4;
+    }
+    if (object instanceof Long || object instanceof Double) {
+      return 8;
+    }
+    return 16;
   }
 
   /**
@@ -224,7 +836,7 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
   public List<String> getColumnsNameList() {
-    if (columnsNameList == null) {
+    if (!loaded) {
       load();
     }
     return columnsNameList;
@@ -239,6 +851,15 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     this.columnsNameList = columnsNameList;
   }
 
+  /**
+   * Sets the list of the rows (used when the rows are not read from a single result set).
+   *
+   * @param rowsList The list of the rows.
+   */
+  void setRowsList(List<Row> rowsList) {
+    this.rowsList = rowsList;
+  }
+
   /**
    * Return the list of the primary key name for the data from database.
    * <p>
@@ -279,11 +900,22 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws AssertJDBException If one the primary keys do not exist in the columns name, the exception is triggered.
    */
   protected void setPksNameList(List<String> pksNameList) {
-    this.pksNameList = new ArrayList<>();
-    this.pksNameList.addAll(pksNameList);
+    this.pksNameList = new ArrayList<>(pksNameList);
     if (rowsList != null) {
-      for (Row row : rowsList) {
-        row.setPksNameList(this.pksNameList);
+      if (rowsFromSnapshot) {
+        // The rows are shared with the other data loaded from the cache : they are copied instead of being modified
+        List<Row> copiedRowsList = new ArrayList<>(rowsList.size());
+        for (Row row : rowsList) {
+          copiedRowsList.add(new Row(this.pksNameList, row.getColumnsSchema(), row.getValuesList(),
+                                     row.getColumnLetterCase(), row.getPrimaryKeyLetterCase()));
+        }
+        rowsList = copiedRowsList;
+        columnsList = null;
+        rowsFromSnapshot = false;
+      } else {
+        for (Row row : rowsList) {
+          row.setPksNameList(this.pksNameList);
+        }
       }
     }
     controlIfAllThePksNameExistInTheColumns();
@@ -301,12 +933,163 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
   public List<Row> getRowsList() {
-    if (rowsList == null) {
+    if (!loaded) {
       load();
     }
     return rowsList;
   }
 
+  /**
+   * Returns if the data are loaded.
+   * <p>
+   * Unlike the getters, this method does not trigger a loading.
+   * </p>
+   *
+   * @return {@code true} if the data are loaded, {@code false} otherwise.
+   * @since 2.1.0
+   */
+  public boolean isLoaded() {
+    return loaded;
+  }
+
+  /**
+   * Returns the number of rows of the data.
+   * <p>
+   * If the data are already loaded, this method returns the size of {@link #getRowsList()}. If not, the number of rows
+   * is computed by the database with a {@code SELECT COUNT(*)} request on the request of the data (so the rows are not
+   * transferred). If the database does not accept the request of the data as a sub-query, the data are loaded.
+   * </p>
+   * <p>
+   * Until the data are loaded, the number of rows is read only once : the next calls return the same number. Once the
+   * rows are loaded (by a navigation for example), the loaded rows are the snapshot of the data : this method returns
+   * their number, even if the database was modified since the count.
+   * </p>
+   *
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   * @since 2.1.0
+   */
+  public int getNumberOfRows() {
+    if (!loaded) {
+      int numberOfRows = countedRowsNumber;
+      if (numberOfRows < 0) {
+        Number count = getAggregate("COUNT(*)");
+        if (count != null) {
+          numberOfRows = count.intValue();
+          countedRowsNumber = numberOfRows;
+        }
+      }
+      if (numberOfRows >= 0) {
+        return numberOfRows;
+      }
+    }
+    return getRowsList().size();
+  }
+
+  /**
+   * Forgets the number of rows computed by the database before the loading : the loaded rows replace it.
+   */
+  private void forgetTheNumberOfRowsCounted() {
+    countedRowsNumber = -1;
+  }
+
+  /**
+   * Returns the result of an aggregate function computed by the database on the request of the data.
+   * <p>
+   * If the database reports a syntax error or an access rule violation (SQL state of class {@code 42}), the request
+   * of the data is considered as not usable as a sub-query and {@code null} is returned : the caller loads the data
+   * instead, and this loading throws the error again if it comes from the request itself.
+   * </p>
+   *
+   * @param expression The aggregate expression (for example {@code COUNT(*)} or {@code MAX(ID)}).
+   * @return The result of the aggregate function or {@code null} if the database can not execute the request.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap an other {@link SQLException} during the request.
+   */
+  Number getAggregate(String expression) {
+    String request = getAggregateRequest(expression);
+    Object[] parameters = getAggregateParameters();
+    try (Connection connection = getConnection();
+         PreparedStatement statement = prepareStatement(connection, request)) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        if (resultSet.next()) {
+          Object value = resultSet.getObject(1);
+          if (value instanceof Number) {
+            return (Number) value;
+          }
+        }
+        return null;
+      }
+    } catch (SQLException e) {
+      if (isSyntaxError(e)) {
+        // The request of the data can not be used as a sub-query with this database
+        return null;
+      }
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns if an exception is a syntax error or an access rule violation.
+   *
+   * @param exception The exception.
+   * @return {@code true} if the exception is a {@link SQLSyntaxErrorException} or if its SQL state is of class
+   *         {@code 42}.
+   */
+  private static boolean isSyntaxError(SQLException exception) {
+    String sqlState = exception.getSQLState();
+    return exception instanceof SQLSyntaxErrorException || (sqlState != null && sqlState.startsWith("42"));
+  }
+
+  /**
+   * Returns the SQL request which computes an aggregate function on the request of the data.
+   *
+   * @param expression The aggregate expression.
+   * @return The SQL request.
+   */
+  String getAggregateRequest(String expression) {
+    return "SELECT " + expression + " FROM (" + getRequestToAggregate() + ") AGGREGATED_DATA";
+  }
+
+  /**
+   * Returns the SQL request of the data used as a sub-query by {@link #getAggregateRequest(String)}.
+   * <p>
+   * By default, this is {@link #getRequest()} without the final {@code ;} (which is not allowed in a sub-query).
+   * </p>
+   *
+   * @return The SQL request.
+   */
+  String getRequestToAggregate() {
+    String request = getRequest().trim();
+    while (request.endsWith(";")) {
+      request = request.substring(0, request.length() - 1).trim();
+    }
+    return request;
+  }
+
+  /**
+   * Returns the sampling of the rows.
+   *
+   * @return The sampling ({@code null} if all the rows are loaded).
+   * @see Table#getSampling()
+   */
+  Sampling getSampling() {
+    return null;
+  }
+
+  /**
+   * Returns the parameters of the request returned by {@link #getAggregateRequest(String)}.
+   *
+   * @return The parameters.
+   */
+  Object[] getAggregateParameters() {
+    return new Object[0];
+  }
+
   /**
    * Returns the list of the values in columns for the data from database.
    * <p>
@@ -321,16 +1104,18 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
   public List<Column> getColumnsList() {
+    List<Column> columnsList = this.columnsList;
     if (columnsList == null) {
       columnsList = new ArrayList<>();
       List<String> loadedColumnsNameList = getColumnsNameList();
       int index = 0;
       for (String name : loadedColumnsNameList) {
         List<Value> valuesList = getValuesList(index);
-        Column column = new Column(name, valuesList, getColumnLetterCase());
+        Column column = new Column(name, valuesList, getColumnLetterCase(), getSampling());
         columnsList.add(column);
         index++;
       }
+      this.columnsList = columnsList;
     }
     return columnsList;
   }
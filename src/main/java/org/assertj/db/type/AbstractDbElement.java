@@ -12,13 +12,16 @@
  */
 package org.assertj.db.type;
 
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.type.lettercase.WithLetterCase;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 /**
  * This class represents element from the database (either a {@link AbstractDbData} or a {@link Change}).
@@ -59,6 +62,11 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
    * @since 1.1.0
    */
   private LetterCase primaryKeyLetterCase;
+  /**
+   * The way the data are fetched (if {@code null}, the strategy of the source is used).
+   * @since 2.1.0
+   */
+  private FetchStrategy fetchStrategy;
 
   /**
    * Default constructor.
@@ -210,6 +218,65 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
     return myself;
   }
 
+  /**
+   * Returns the way the data are fetched from the database.
+   * <p>
+   * If no strategy is set on this element, the strategy of the {@link Source} is used (or
+   * {@link FetchStrategy#DEFAULT} with a {@link DataSource}).
+   * </p>
+   *
+   * @see #setFetchStrategy(FetchStrategy)
+   * @return The fetch strategy.
+   * @since 2.1.0
+   */
+  public FetchStrategy getFetchStrategy() {
+    if (fetchStrategy != null) {
+      return fetchStrategy;
+    }
+    if (source != null) {
+      return source.getFetchStrategy();
+    }
+    return FetchStrategy.DEFAULT;
+  }
+
+  /**
+   * Sets the way the data are fetched from the database for this element.
+   *
+   * @see #getFetchStrategy()
+   * @param fetchStrategy The fetch strategy ({@code null} to use the strategy of the source).
+   * @return The actual instance.
+   * @since 2.1.0
+   */
+  public D setFetchStrategy(FetchStrategy fetchStrategy) {
+    this.fetchStrategy = fetchStrategy;
+    return myself;
+  }
+
+  /**
+   * Creates a {@link Statement} on the connection with the fetch strategy of this element.
+   *
+   * @param connection The connection.
+   * @return The statement.
+   * @throws SQLException SQL Exception
+   * @since 2.1.0
+   */
+  protected Statement createStatement(Connection connection) throws SQLException {
+    return getFetchStrategy().createStatement(connection);
+  }
+
+  /**
+   * Creates a {@link PreparedStatement} on the connection with the fetch strategy of this element.
+   *
+   * @param connection The connection.
+   * @param sql The SQL request.
+   * @return The statement.
+   * @throws SQLException SQL Exception
+   * @since 2.1.0
+   */
+  protected PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+    return getFetchStrategy().prepareStatement(connection, sql);
+  }
+
   /**
    * Returns a {@link Connection} from a {@link DataSource} or from a {@link Source}.
    * 
@@ -221,6 +288,22 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> implemen
       throw new NullPointerException("connection or dataSource must be not null");
     }
 
+    if (!DbListeners.isEnabled()) {
+      return openConnection();
+    }
+    long start = System.nanoTime();
+    Connection connection = openConnection();
+    DbListeners.connectionAcquired(this, System.nanoTime() - start);
+    return connection;
+  }
+
+  /**
+   * Opens a {@link Connection} from the {@link DataSource} or from the {@link Source}.
+   *
+   * @return A {@link Connection}.
+   * @throws SQLException SQL Exception
+   */
+  private Connection openConnection() throws SQLException {
     // Get a Connection differently, depending if it is a DataSource or a Source.
     if (dataSource != null) {
       return dataSource.getConnection();
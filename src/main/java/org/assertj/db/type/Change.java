@@ -16,7 +16,9 @@ import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.type.lettercase.WithColumnLetterCase;
 import org.assertj.db.type.lettercase.WithPrimaryKeyLetterCase;
 import org.assertj.db.type.lettercase.WithTableLetterCase;
+import org.assertj.db.util.Values;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -46,9 +48,9 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
    */
   private final List<String> pksNameList;
   /**
-   * The list of the column names.
+   * The names of the columns (shared with the rows).
    */
-  private final List<String> columnsNameList;
+  private final ColumnsSchema columnsSchema;
   /**
    * The type of the change.
    */
@@ -80,6 +82,12 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
    */
   private final LetterCase primaryKeyLetterCase;
 
+  /**
+   * The indexes of the modified columns ({@code null} before the first access, then computed once).
+   * @since 2.1.0
+   */
+  private volatile BitSet modifiedColumns;
+
   /**
    * Returns a new instance of a creation change.
    * 
@@ -117,6 +125,28 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
                       tableLetterCase, columnLetterCase, primaryKeyLetterCase);
   }
 
+  /**
+   * Returns a new instance of a modification change with the modified columns already computed.
+   *
+   * @param dataType The type of the data on which is the change.
+   * @param dataName The name of the data.
+   * @param rowAtStartPoint The row at start point.
+   * @param rowAtEndPoint The row at end point.
+   * @param modifiedColumns The indexes of the modified columns (computed by {@link #getModifiedColumns(Row, Row)}).
+   * @param tableLetterCase Letter case of the tables.
+   * @param columnLetterCase Letter case of the columns.
+   * @param primaryKeyLetterCase Letter case of the primary keys.
+   * @return The new instance of a modification change.
+   * @throws NullPointerException If the name of the date is {@code null}.
+   * @since 2.1.0
+   */
+  static Change createModificationChange(DataType dataType, String dataName, Row rowAtStartPoint, Row rowAtEndPoint,
+                                         BitSet modifiedColumns, LetterCase tableLetterCase,
+                                         LetterCase columnLetterCase, LetterCase primaryKeyLetterCase) {
+    return new Change(dataType, dataName, ChangeType.MODIFICATION, rowAtStartPoint, rowAtEndPoint, modifiedColumns,
+                      tableLetterCase, columnLetterCase, primaryKeyLetterCase);
+  }
+
   /**
    * Returns a new instance of a deletion change.
    * 
@@ -150,6 +180,27 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
    */
   private Change(DataType dataType, String dataName, ChangeType changeType, Row rowAtStartPoint, Row rowAtEndPoint,
                  LetterCase tableLetterCase, LetterCase columnLetterCase, LetterCase primaryKeyLetterCase) {
+    this(dataType, dataName, changeType, rowAtStartPoint, rowAtEndPoint, null,
+         tableLetterCase, columnLetterCase, primaryKeyLetterCase);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param dataType The type of the data on which is the change.
+   * @param dataName The name of the data on which is the change.
+   * @param changeType The type of the change.
+   * @param rowAtStartPoint The row at start point.
+   * @param rowAtEndPoint The row at end point.
+   * @param modifiedColumns The indexes of the modified columns ({@code null} to compute them).
+   * @param tableLetterCase Letter case of the tables.
+   * @param columnLetterCase Letter case of the columns.
+   * @param primaryKeyLetterCase Letter case of the primary keys.
+   * @throws NullPointerException If the type of the data is {@code null} or if the name of the data is {@code null}.
+   */
+  private Change(DataType dataType, String dataName, ChangeType changeType, Row rowAtStartPoint, Row rowAtEndPoint,
+                 BitSet modifiedColumns, LetterCase tableLetterCase, LetterCase columnLetterCase,
+                 LetterCase primaryKeyLetterCase) {
 
     if (dataType == null) {
       throw new NullPointerException("The type of the data must be not null");
@@ -161,10 +212,10 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
     this.dataName = dataName;
     if (rowAtStartPoint != null) {
       this.pksNameList = rowAtStartPoint.getPksNameList();
-      this.columnsNameList = rowAtStartPoint.getColumnsNameList();
+      this.columnsSchema = rowAtStartPoint.getColumnsSchema();
     } else {
       this.pksNameList = rowAtEndPoint.getPksNameList();
-      this.columnsNameList = rowAtEndPoint.getColumnsNameList();
+      this.columnsSchema = rowAtEndPoint.getColumnsSchema();
     }
     this.changeType = changeType;
     this.rowAtStartPoint = rowAtStartPoint;
@@ -172,6 +223,49 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
     this.tableLetterCase = tableLetterCase;
     this.columnLetterCase = columnLetterCase;
     this.primaryKeyLetterCase = primaryKeyLetterCase;
+    this.modifiedColumns = modifiedColumns;
+  }
+
+  /**
+   * Returns the indexes of the modified columns between two rows.
+   * <p>
+   * The values are compared with {@link Values#areEqual(Value, Object)} (the same comparison as
+   * {@link Row#hasValues(Row)}) and the LOBs loaded lazily with their digests. If one of the rows is {@code null}
+   * (creation or deletion), the columns with a value which is not {@code null} are modified.
+   * </p>
+   *
+   * @param rowAtStartPoint The row at start point.
+   * @param rowAtEndPoint The row at end point.
+   * @return The indexes of the modified columns.
+   * @since 2.1.0
+   */
+  static BitSet getModifiedColumns(Row rowAtStartPoint, Row rowAtEndPoint) {
+    BitSet modifiedColumns = new BitSet();
+    if (rowAtStartPoint != null && rowAtEndPoint != null) {
+      List<Value> valuesListAtStartPoint = rowAtStartPoint.getValuesList();
+      List<Value> valuesListAtEndPoint = rowAtEndPoint.getValuesList();
+      for (int index = 0; index < valuesListAtStartPoint.size(); index++) {
+        Value valueAtStartPoint = valuesListAtStartPoint.get(index);
+        Value valueAtEndPoint = valuesListAtEndPoint.get(index);
+        if (valueAtStartPoint.getContentDigest() != null && valueAtEndPoint.getContentDigest() != null) {
+          // LOBs loaded lazily : compared without loading the contents
+          if (!valueAtStartPoint.hasSameLobContent(valueAtEndPoint)) {
+            modifiedColumns.set(index);
+          }
+        } else if (!Values.areEqual(valueAtStartPoint, valueAtEndPoint.getValue())) {
+          modifiedColumns.set(index);
+        }
+      }
+    } else {
+      List<Value> valuesList = (rowAtStartPoint != null ? rowAtStartPoint : rowAtEndPoint).getValuesList();
+      for (int index = 0; index < valuesList.size(); index++) {
+        Value value = valuesList.get(index);
+        if (value.getContentDigest() != null || value.getValue() != null) {
+          modifiedColumns.set(index);
+        }
+      }
+    }
+    return modifiedColumns;
   }
 
   /**
@@ -243,7 +337,7 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
    * @return The list of the column names.
    */
   public List<String> getColumnsNameList() {
-    return columnsNameList;
+    return columnsSchema.getColumnsNameList();
   }
 
   /**
@@ -272,4 +366,49 @@ public class Change implements DbElement, WithTableLetterCase, WithColumnLetterC
   public Row getRowAtEndPoint() {
     return rowAtEndPoint;
   }
+
+  /**
+   * Returns the indexes of the modified columns.
+   *
+   * @return A copy of the indexes of the modified columns.
+   * @since 2.1.0
+   */
+  public BitSet getModifiedColumns() {
+    return (BitSet) getModifiedColumnsBitSet().clone();
+  }
+
+  /**
+   * Returns if the column at the index is modified.
+   *
+   * @param index The index of the column.
+   * @return {@code true} if the column is modified, {@code false} otherwise.
+   * @since 2.1.0
+   */
+  public boolean isModified(int index) {
+    return getModifiedColumnsBitSet().get(index);
+  }
+
+  /**
+   * Returns the number of modified columns.
+   *
+   * @return The number of modified columns.
+   * @since 2.1.0
+   */
+  public int getNumberOfModifiedColumns() {
+    return getModifiedColumnsBitSet().cardinality();
+  }
+
+  /**
+   * Returns the indexes of the modified columns (which are computed at the first call).
+   *
+   * @return The indexes of the modified columns.
+   */
+  private BitSet getModifiedColumnsBitSet() {
+    BitSet modifiedColumns = this.modifiedColumns;
+    if (modifiedColumns == null) {
+      modifiedColumns = getModifiedColumns(rowAtStartPoint, rowAtEndPoint);
+      this.modifiedColumns = modifiedColumns;
+    }
+    return modifiedColumns;
+  }
 }
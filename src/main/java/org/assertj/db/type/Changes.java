@@ -13,6 +13,7 @@
 package org.assertj.db.type;
 
 import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.util.ChangeComparator;
 
 import javax.sql.DataSource;
@@ -60,6 +61,12 @@ public class Changes extends AbstractDbElement<Changes> {
    * The list of the changes.
    */
   private List<Change> changesList;
+  /**
+   * The isolation level of the transaction in which the tables of a point are captured with a single connection
+   * ({@link Connection#TRANSACTION_NONE} if each table is captured with its own connection).
+   * @since 2.1.0
+   */
+  private int captureIsolation = Connection.TRANSACTION_NONE;
 
   /**
    * Constructor.
@@ -92,6 +99,8 @@ public class Changes extends AbstractDbElement<Changes> {
    * Constructor.
    * 
    * @param tables Table on which are the comparison.
+   * @throws IllegalArgumentException If the sampling of a table takes other rows at each loading (see
+   *                                  {@link Sampling#tableSample(double)}).
    */
   public Changes(Table... tables) {
     super(Changes.class);
@@ -113,6 +122,8 @@ public class Changes extends AbstractDbElement<Changes> {
    * 
    * @param tables Table on which are the comparison.
    * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If the sampling of a table takes other rows at each loading (see
+   *                                  {@link Sampling#tableSample(double)}).
    */
   public Changes setTables(Table... tables) {
     request = null;
@@ -212,6 +223,57 @@ public class Changes extends AbstractDbElement<Changes> {
     return requestAtEndPoint;
   }
 
+  /**
+   * Returns the isolation level of the transaction in which the tables of a point are captured.
+   *
+   * @return The isolation level ({@link Connection#TRANSACTION_NONE} if each table is captured with its own
+   *         connection).
+   * @see #setCaptureIsolation(int)
+   * @since 2.1.0
+   */
+  public int getCaptureIsolation() {
+    return captureIsolation;
+  }
+
+  /**
+   * Sets the capture of all the tables of a point with a single connection, in a read-only transaction with the
+   * isolation level in parameter.
+   * <p>
+   * By default, each table of a start point or of an end point is loaded with its own connection and outside any
+   * transaction : if the database is modified during the capture, the tables are not captured at the same moment. With
+   * an isolation level like {@link Connection#TRANSACTION_REPEATABLE_READ} or {@link Connection#TRANSACTION_SERIALIZABLE}
+   * (if the database supports it), the tables are a consistent view of the database and only one connection is
+   * acquired by point :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * Changes changes = new Changes(dataSource).setCaptureIsolation(Connection.TRANSACTION_SERIALIZABLE);
+   * changes.setStartPointNow();
+   * </code></pre>
+   * <p>
+   * The tables are not loaded by ranges of primary keys during this capture (see {@link Table#setParallelLoading(int)}),
+   * because the ranges would be read with other connections. The tables which have not the same source (or data source)
+   * than the first one are captured with their own connection.
+   * </p>
+   *
+   * @param captureIsolation The isolation level : one of the {@code TRANSACTION_*} constants of {@link Connection}
+   *                         ({@link Connection#TRANSACTION_NONE} to capture each table with its own connection).
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code captureIsolation} is not an isolation level of {@link Connection}.
+   * @since 2.1.0
+   */
+  public Changes setCaptureIsolation(int captureIsolation) {
+    if (captureIsolation != Connection.TRANSACTION_NONE
+        && captureIsolation != Connection.TRANSACTION_READ_UNCOMMITTED
+        && captureIsolation != Connection.TRANSACTION_READ_COMMITTED
+        && captureIsolation != Connection.TRANSACTION_REPEATABLE_READ
+        && captureIsolation != Connection.TRANSACTION_SERIALIZABLE) {
+      throw new IllegalArgumentException(captureIsolation + " is not an isolation level");
+    }
+    this.captureIsolation = captureIsolation;
+    return myself;
+  }
+
   /**
    * Copy a {@link AbstractDbElement} in parameter on another.
    * 
@@ -225,6 +287,7 @@ public class Changes extends AbstractDbElement<Changes> {
     if (elementToCopy.getDataSource() != null) {
       element.setDataSource(elementToCopy.getDataSource());
     }
+    element.setFetchStrategy(elementToCopy.getFetchStrategy());
   }
 
   /**
@@ -236,6 +299,7 @@ public class Changes extends AbstractDbElement<Changes> {
   private static Request getDuplicatedRequest(Request request) {
     Request r = new Request();
     copyElement(request, r);
+    r.shareColumnsPlan(request);
     return r.setLetterCases(request.getTableLetterCase(),
                             request.getColumnLetterCase(),
                             request.getPrimaryKeyLetterCase())
@@ -249,19 +313,193 @@ public class Changes extends AbstractDbElement<Changes> {
    * 
    * @param table The {@link Table} to duplicate
    * @return The Duplication
+   * @throws IllegalArgumentException If the sampling of a table takes other rows at each loading (see
+   *                                  {@link Sampling#tableSample(double)}).
    */
   private static Table getDuplicatedTable(Table table) {
     Table t = new Table();
     copyElement(table, t);
-    return t.setLetterCases(table.getTableLetterCase(),
-                            table.getColumnLetterCase(),
-                            table.getPrimaryKeyLetterCase())
-            .setName(table.getName())
-            .setStartDelimiter(table.getStartDelimiter())
-            .setEndDelimiter(table.getEndDelimiter())
-            .setColumnsToCheck(table.getColumnsToCheck())
-            .setColumnsToExclude(table.getColumnsToExclude())
-            .setColumnsToOrder(table.getColumnsToOrder());
+    t.shareColumnsPlan(table);
+    t.setLetterCases(table.getTableLetterCase(),
+                     table.getColumnLetterCase(),
+                     table.getPrimaryKeyLetterCase())
+     .setName(table.getName())
+     .setStartDelimiter(table.getStartDelimiter())
+     .setEndDelimiter(table.getEndDelimiter())
+     .setColumnsToCheck(table.getColumnsToCheck())
+     .setColumnsToExclude(table.getColumnsToExclude())
+     .setColumnsToOrder(table.getColumnsToOrder())
+     .setWhere(table.getWhere(), table.getWhereParameters());
+    if (table.getSampling() != null) {
+      // The rows at the start point and at the end point must be the same sample to be compared
+      Sampling sampling = table.getSampling().getRepeatableSampling();
+      if (sampling == null) {
+        throw new IllegalArgumentException(String.format("The sampling of the %s table takes other rows at each "
+                                                         + "loading : use Sampling.modulo(int, int) to compare its "
+                                                         + "changes", table.getName()));
+      }
+      t.setSampling(sampling);
+    }
+    // The LOBs are not loaded lazily : the content at start point can not be loaded again once the row is modified
+    if (table.getPartitions() > 1) {
+      t.setParallelLoading(table.getPartitions(), table.getPartitionsExecutor());
+    }
+    return t;
+  }
+
+  /**
+   * Captures the data at the start point or at the end point (the data are loaded).
+   *
+   * @param data       The data to capture.
+   * @param startPoint {@code true} if it is the start point, {@code false} if it is the end point.
+   */
+  private void capture(AbstractDbData<?> data, boolean startPoint) {
+    if (!DbListeners.isEnabled()) {
+      data.getRowsList();
+      return;
+    }
+    long start = System.nanoTime();
+    data.getRowsList();
+    DbListeners.pointCaptured(this, data, startPoint, System.nanoTime() - start);
+  }
+
+  /**
+   * Captures the data at the start point or at the end point with the connection of the cache of statements in
+   * parameter (which is not closed).
+   *
+   * @param data           The data to capture.
+   * @param startPoint     {@code true} if it is the start point, {@code false} if it is the end point.
+   * @param statementCache The cache of the statements of the connection.
+   */
+  private void capture(AbstractDbData<?> data, boolean startPoint, StatementCache statementCache) {
+    if (!DbListeners.isEnabled()) {
+      data.load(statementCache);
+      return;
+    }
+    long start = System.nanoTime();
+    data.load(statementCache);
+    DbListeners.pointCaptured(this, data, startPoint, System.nanoTime() - start);
+  }
+
+  /**
+   * Captures the tables at the start point or at the end point.
+   * <p>
+   * Without isolation level, each table is loaded with its own connection. Otherwise the tables with the same source
+   * than the first one are loaded with a single connection in a read-only transaction.
+   * </p>
+   *
+   * @param startPoint {@code true} if it is the start point, {@code false} if it is the end point.
+   * @return The tables.
+   */
+  private List<Table> captureTables(boolean startPoint) {
+    List<Table> tables = new LinkedList<>();
+    if (captureIsolation == Connection.TRANSACTION_NONE || tablesList.isEmpty()) {
+      for (Table table : tablesList) {
+        Table t = getDuplicatedTable(table);
+        capture(t, startPoint);
+        tables.add(t);
+      }
+      return tables;
+    }
+
+    Table first = tablesList.get(0);
+    try (Connection connection = first.getConnection();
+         StatementCache statementCache = new StatementCache(connection)) {
+      boolean autoCommit = connection.getAutoCommit();
+      boolean readOnly = connection.isReadOnly();
+      int isolation = connection.getTransactionIsolation();
+      try {
+        connection.setReadOnly(true);
+        connection.setTransactionIsolation(captureIsolation);
+        connection.setAutoCommit(false);
+        for (Table table : tablesList) {
+          Table t;
+          if (table.getSource() == first.getSource() && table.getDataSource() == first.getDataSource()) {
+            // The copy is not loaded by ranges and its metadata are read in the transaction
+            t = table.getCopy();
+            t.shareColumnsPlan(table);
+            // The LOBs are loaded in the transaction too (not later with another connection)
+            t.setLazyLobs(false);
+            t.setNameFromDb(connection);
+            capture(t, startPoint, statementCache);
+          } else {
+            t = getDuplicatedTable(table);
+            capture(t, startPoint);
+          }
+          tables.add(t);
+        }
+      } catch (RuntimeException | SQLException e) {
+        try {
+          restoreConnection(connection, autoCommit, isolation, readOnly);
+        } catch (SQLException restorationException) {
+          e.addSuppressed(restorationException);
+        }
+        throw e;
+      }
+      restoreConnection(connection, autoCommit, isolation, readOnly);
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+    return tables;
+  }
+
+  /**
+   * Ends the transaction of a capture and restores the settings of the connection (it can come back to a pool).
+   * <p>
+   * Nothing is written : the transaction is rolled back. Each setting is restored even if the previous one fails.
+   * </p>
+   *
+   * @param connection The connection.
+   * @param autoCommit The auto-commit mode to restore.
+   * @param isolation  The isolation level to restore.
+   * @param readOnly   The read-only mode to restore.
+   * @throws SQLException The first exception during the restoration (the next ones are suppressed in it).
+   */
+  private static void restoreConnection(Connection connection, boolean autoCommit, int isolation, boolean readOnly)
+      throws SQLException {
+
+    SQLException exception = null;
+    try {
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+      }
+    } catch (SQLException e) {
+      exception = e;
+    }
+    try {
+      connection.setAutoCommit(autoCommit);
+    } catch (SQLException e) {
+      exception = addSuppressed(exception, e);
+    }
+    try {
+      connection.setTransactionIsolation(isolation);
+    } catch (SQLException e) {
+      exception = addSuppressed(exception, e);
+    }
+    try {
+      connection.setReadOnly(readOnly);
+    } catch (SQLException e) {
+      exception = addSuppressed(exception, e);
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  /**
+   * Adds an exception to the first exception.
+   *
+   * @param exception The first exception ({@code null} if there is none).
+   * @param other     The other exception.
+   * @return The first exception (with the other exception suppressed in it) or the other exception if there is no
+   *         first exception.
+   */
+  private static SQLException addSuppressed(SQLException exception, SQLException other) {
+    if (exception == null) {
+      return other;
+    }
+    exception.addSuppressed(other);
+    return exception;
   }
 
   /**
@@ -272,6 +510,8 @@ public class Changes extends AbstractDbElement<Changes> {
   public Changes setStartPointNow() {
     if (request == null && tablesList == null) {
       try (Connection connection = getConnection()) {
+        boolean monitored = DbListeners.isEnabled();
+        long start = monitored ? System.nanoTime() : 0;
         tablesList = new LinkedList<>();
         DatabaseMetaData metaData = connection.getMetaData();
         ResultSet resultSet = metaData.getTables(getCatalog(connection), getSchema(connection), null,
@@ -283,6 +523,9 @@ public class Changes extends AbstractDbElement<Changes> {
           copyElement(this, t);
           tablesList.add(t);
         }
+        if (monitored) {
+          DbListeners.metadataRead(this, null, System.nanoTime() - start);
+        }
       } catch (SQLException e) {
         throw new AssertJDBException(e);
       }
@@ -291,15 +534,10 @@ public class Changes extends AbstractDbElement<Changes> {
     if (request != null) {
       tablesAtStartPointList = null;
       requestAtStartPoint = getDuplicatedRequest(request);
-      requestAtStartPoint.getRowsList();
+      capture(requestAtStartPoint, true);
     } else {
       requestAtStartPoint = null;
-      tablesAtStartPointList = new LinkedList<>();
-      for (Table table : tablesList) {
-        Table t = getDuplicatedTable(table);
-        t.getRowsList();
-        tablesAtStartPointList.add(t);
-      }
+      tablesAtStartPointList = captureTables(true);
     }
     tablesAtEndPointList = null;
     requestAtEndPoint = null;
@@ -321,15 +559,48 @@ public class Changes extends AbstractDbElement<Changes> {
 
     if (requestAtStartPoint != null) {
       requestAtEndPoint = getDuplicatedRequest(request);
-      requestAtEndPoint.getRowsList();
+      capture(requestAtEndPoint, false);
     } else {
-      tablesAtEndPointList = new LinkedList<>();
-      for (Table table : tablesList) {
-        Table t = getDuplicatedTable(table);
-        t.getRowsList();
-        tablesAtEndPointList.add(t);
-      }
+      tablesAtEndPointList = captureTables(false);
+    }
+    changesList = null;
+
+    return myself;
+  }
+
+  /**
+   * Sets the start point for comparison at the end point (the end point is removed).
+   * <p>
+   * This method is equivalent to {@link #setStartPointNow()} if nothing changed in the database since the end point,
+   * but it reuses the data of the end point instead of loading them again. So in a test with several steps, each
+   * step loads the data only once :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * changes.setStartPointNow();
+   * // First step
+   * changes.setEndPointNow();
+   * assertThat(changes).hasNumberOfChanges(1);
+   *
+   * changes.setStartPointAtEndPoint();
+   * // Second step
+   * changes.setEndPointNow();
+   * assertThat(changes).hasNumberOfChanges(2);
+   * </code></pre>
+   *
+   * @return {@code this} actual instance.
+   * @throws AssertJDBException If the end point is not set
+   * @since 2.1.0
+   */
+  public Changes setStartPointAtEndPoint() {
+    if (requestAtEndPoint == null && tablesAtEndPointList == null) {
+      throw new AssertJDBException("End point must be set before");
     }
+
+    requestAtStartPoint = requestAtEndPoint;
+    tablesAtStartPointList = tablesAtEndPointList;
+    tablesAtEndPointList = null;
+    requestAtEndPoint = null;
     changesList = null;
 
     return myself;
@@ -366,10 +637,12 @@ public class Changes extends AbstractDbElement<Changes> {
         changesListWithPks.add(change);
       } else {
         // List the modified rows
-        if (!row.hasValues(rowAtEndPoint)) {
+        BitSet modifiedColumns = Change.getModifiedColumns(row, rowAtEndPoint);
+        if (!modifiedColumns.isEmpty()) {
           // If at least one value in the rows is different, add the change
           Change change = createModificationChange(dataAtStartPoint.getDataType(), dataName, row, rowAtEndPoint,
-                                                   getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase());
+                                                   modifiedColumns, getTableLetterCase(), getColumnLetterCase(),
+                                                   getPrimaryKeyLetterCase());
           changesListWithPks.add(change);
         }
       }
@@ -446,11 +719,19 @@ public class Changes extends AbstractDbElement<Changes> {
   private List<Change> getChangesList(String dataName, AbstractDbData<?> dataAtStartPoint,
       AbstractDbData<?> dataAtEndPoint) {
 
-    if (dataAtStartPoint.getPksNameList().isEmpty()) {
-      return getChangesListWithoutPks(dataName, dataAtStartPoint, dataAtEndPoint);
+    boolean monitored = DbListeners.isEnabled();
+    long start = monitored ? System.nanoTime() : 0;
+    List<Change> changesListOfData;
+    boolean withPks = !dataAtStartPoint.getPksNameList().isEmpty();
+    if (!withPks) {
+      changesListOfData = getChangesListWithoutPks(dataName, dataAtStartPoint, dataAtEndPoint);
     } else {
-      return getChangesListWithPks(dataName, dataAtStartPoint, dataAtEndPoint);
+      changesListOfData = getChangesListWithPks(dataName, dataAtStartPoint, dataAtEndPoint);
+    }
+    if (monitored) {
+      DbListeners.changesComputed(this, dataName, withPks, changesListOfData.size(), System.nanoTime() - start);
     }
+    return changesListOfData;
   }
 
   /**
@@ -530,6 +811,7 @@ public class Changes extends AbstractDbElement<Changes> {
    */
   private Changes createChangesFromThis() {
     Changes changes = new Changes();
+    changes.captureIsolation = captureIsolation;
     if (request != null) {
       changes.request = getDuplicatedRequest(request);
     }
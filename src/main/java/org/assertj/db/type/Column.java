@@ -45,6 +45,11 @@ public class Column implements DbElement, WithColumnLetterCase {
    * @since 1.1.0
    */
   private final LetterCase columnLetterCase;
+  /**
+   * The sampling of the rows of the data ({@code null} if all the rows are loaded).
+   * @since 2.1.0
+   */
+  private final Sampling sampling;
 
   /**
    * Constructor of the column with visibility in the package.
@@ -54,9 +59,32 @@ public class Column implements DbElement, WithColumnLetterCase {
    * @param columnLetterCase The letter case of the columns.
    */
   Column(String name, List<Value> valuesList, LetterCase columnLetterCase) {
+    this(name, valuesList, columnLetterCase, null);
+  }
+
+  /**
+   * Constructor of the column of a sample with visibility in the package.
+   *
+   * @param name The name of the column.
+   * @param valuesList The values in the column.
+   * @param columnLetterCase The letter case of the columns.
+   * @param sampling The sampling of the rows ({@code null} if all the rows are loaded).
+   */
+  Column(String name, List<Value> valuesList, LetterCase columnLetterCase, Sampling sampling) {
     this.name = name;
     this.valuesList = valuesList;
     this.columnLetterCase = columnLetterCase;
+    this.sampling = sampling;
+  }
+
+  /**
+   * Returns the sampling of the rows of the data of this column.
+   *
+   * @return The sampling ({@code null} if all the rows are loaded).
+   * @since 2.1.0
+   */
+  public Sampling getSampling() {
+    return sampling;
   }
 
   /**
@@ -92,6 +120,32 @@ public class Column implements DbElement, WithColumnLetterCase {
    * @return The value
    */
   public Value getRowValue(int index) {
-    return valuesList.get(index);
+    return getValuesList().get(index);
+  }
+
+  /**
+   * Returns the number of {@code null} values of the column.
+   *
+   * @return The number of {@code null} values.
+   * @since 2.1.0
+   */
+  public int getNumberOfNullValues() {
+    int numberOfNullValues = 0;
+    for (Value value : getValuesList()) {
+      if (value.isNull()) {
+        numberOfNullValues++;
+      }
+    }
+    return numberOfNullValues;
+  }
+
+  /**
+   * Returns the number of values of the column which are not {@code null}.
+   *
+   * @return The number of values which are not {@code null}.
+   * @since 2.1.0
+   */
+  public int getNumberOfNotNullValues() {
+    return getValuesList().size() - getNumberOfNullValues();
   }
 }
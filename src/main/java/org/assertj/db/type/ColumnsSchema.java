@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.type.lettercase.CaseComparison;
+import org.assertj.db.type.lettercase.CaseComparisons;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.assertj.db.util.NameComparator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The names of the columns of a {@link AbstractDbData}, shared by all its {@link Row}s (and by the {@link Change}s
+ * created from these rows).
+ * <p>
+ * The indexes of the names are computed once in hash maps for the {@link CaseComparisons#STRICT} and
+ * {@link CaseComparisons#IGNORE} comparisons, so finding a column by its name does not scan the list of the names.
+ * The other comparisons use {@link NameComparator}.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class ColumnsSchema {
+
+  /**
+   * The list of the columns name.
+   */
+  private final List<String> columnsNameList;
+  /**
+   * The indexes of the columns by name.
+   */
+  private final Map<String, Integer> strictIndexesMap;
+  /**
+   * The indexes of the columns by name normalized with {@link #getIgnoreCaseKey(String)}.
+   */
+  private final Map<String, Integer> ignoreCaseIndexesMap;
+
+  /**
+   * Constructor.
+   *
+   * @param columnsNameList The list of the columns name.
+   */
+  ColumnsSchema(List<String> columnsNameList) {
+    this.columnsNameList = columnsNameList;
+    int size = columnsNameList == null ? 0 : columnsNameList.size();
+    strictIndexesMap = new HashMap<>(size * 2);
+    ignoreCaseIndexesMap = new HashMap<>(size * 2);
+    for (int index = 0; index < size; index++) {
+      String columnName = columnsNameList.get(index);
+      if (columnName != null) {
+        strictIndexesMap.putIfAbsent(columnName, index);
+        ignoreCaseIndexesMap.putIfAbsent(getIgnoreCaseKey(columnName), index);
+      }
+    }
+  }
+
+  /**
+   * Returns the key of a name for the comparison which ignores the case.
+   * <p>
+   * Each character is converted like in {@link String#equalsIgnoreCase(String)} (to upper case then to lower case), so
+   * two names have the same key if and only if they are equal ignoring the case.
+   * </p>
+   *
+   * @param name The name.
+   * @return The key.
+   */
+  private static String getIgnoreCaseKey(String name) {
+    char[] characters = name.toCharArray();
+    for (int index = 0; index < characters.length; index++) {
+      characters[index] = Character.toLowerCase(Character.toUpperCase(characters[index]));
+    }
+    return new String(characters);
+  }
+
+  /**
+   * Returns the list of the columns name.
+   *
+   * @return The list of the columns name.
+   */
+  List<String> getColumnsNameList() {
+    return columnsNameList;
+  }
+
+  /**
+   * Returns the index of a column.
+   *
+   * @param name       The name of the column.
+   * @param comparison The comparison of the names.
+   * @return The index or {@code -1} if there is no column with this name.
+   */
+  int indexOf(String name, CaseComparison comparison) {
+    if (columnsNameList == null) {
+      return -1;
+    }
+    CaseComparison caseComparison = comparison;
+    if (comparison instanceof LetterCase) {
+      caseComparison = ((LetterCase) comparison).getComparison();
+    }
+    if (name != null) {
+      if (caseComparison == CaseComparisons.STRICT) {
+        return strictIndexesMap.getOrDefault(name, -1);
+      }
+      if (caseComparison == CaseComparisons.IGNORE) {
+        return ignoreCaseIndexesMap.getOrDefault(getIgnoreCaseKey(name), -1);
+      }
+    }
+    return NameComparator.INSTANCE.indexOf(columnsNameList, name, comparison);
+  }
+}
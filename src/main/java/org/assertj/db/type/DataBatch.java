@@ -0,0 +1,245 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch of {@link Table}s and {@link Request}s which are loaded together.
+ * <p>
+ * The data with the same {@link Source} or {@code DataSource} (compared by identity) are loaded one after the other
+ * with a single connection, instead of a connection by data (and the data with the same SQL request reuse the same
+ * {@link java.sql.PreparedStatement}) :
+ * </p>
+ *
+ * <pre><code class='java'>
+ * Request request1 = new Request(dataSource, &quot;select * from country where code = 'FR'&quot;);
+ * Request request2 = new Request(dataSource, &quot;select * from currency where code = 'EUR'&quot;);
+ * Table table = new Table(dataSource, &quot;movie&quot;);
+ * new DataBatch(request1, request2, table).load();
+ * </code></pre>
+ * <p>
+ * With {@link #setMultipleResultSets(boolean)}, the {@link Request}s without parameters are sent in a single
+ * {@link Statement} which returns a result set by request, if the driver supports multiple result sets (the SQL
+ * requests are separated by {@code ;} : the driver must accept several requests in a statement). So the requests are
+ * loaded in a single round trip to the database.
+ * </p>
+ * <p>
+ * The data which are already loaded or which use a {@link SnapshotCache} are loaded as usual.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public class DataBatch {
+
+  /**
+   * The data of the batch.
+   */
+  private final List<AbstractDbData<?>> dataList = new ArrayList<>();
+  /**
+   * Indicates if the requests without parameters are sent in a single statement.
+   */
+  private boolean multipleResultSets;
+
+  /**
+   * Key of the data which use the same {@link Source} or {@code DataSource} (compared by identity).
+   */
+  private static final class ConnectionProviderKey {
+    /**
+     * The source or the data source.
+     */
+    private final Object connectionProvider;
+
+    /**
+     * Constructor.
+     *
+     * @param data The data.
+     */
+    private ConnectionProviderKey(AbstractDbData<?> data) {
+      connectionProvider = data.getDataSource() != null ? data.getDataSource() : data.getSource();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object object) {
+      return object instanceof ConnectionProviderKey
+             && ((ConnectionProviderKey) object).connectionProvider == connectionProvider;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(connectionProvider);
+    }
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param data The data of the batch.
+   * @throws NullPointerException If one of the data is {@code null}.
+   */
+  public DataBatch(AbstractDbData<?>... data) {
+    add(data);
+  }
+
+  /**
+   * Adds data to the batch.
+   *
+   * @param data The data to add.
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If one of the data is {@code null}.
+   */
+  public DataBatch add(AbstractDbData<?>... data) {
+    for (AbstractDbData<?> element : data) {
+      if (element == null) {
+        throw new NullPointerException("The data must be not null");
+      }
+      dataList.add(element);
+    }
+    return this;
+  }
+
+  /**
+   * Returns the data of the batch.
+   *
+   * @return The data of the batch.
+   */
+  public List<AbstractDbData<?>> getDataList() {
+    return Collections.unmodifiableList(dataList);
+  }
+
+  /**
+   * Returns if the requests without parameters are sent in a single statement.
+   *
+   * @return {@code true} if the requests are sent in a single statement, {@code false} otherwise.
+   * @see #setMultipleResultSets(boolean)
+   */
+  public boolean isMultipleResultSets() {
+    return multipleResultSets;
+  }
+
+  /**
+   * Sets if the requests without parameters are sent in a single statement which returns several result sets.
+   *
+   * @param multipleResultSets {@code true} to send the requests in a single statement (if the driver supports
+   *                           multiple result sets).
+   * @return {@code this} actual instance.
+   */
+  public DataBatch setMultipleResultSets(boolean multipleResultSets) {
+    this.multipleResultSets = multipleResultSets;
+    return this;
+  }
+
+  /**
+   * Loads the data of the batch.
+   *
+   * @throws NullPointerException If the source and the data source of a data are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  public void load() {
+    Map<ConnectionProviderKey, List<AbstractDbData<?>>> dataByConnectionProvider = new LinkedHashMap<>();
+    for (AbstractDbData<?> data : dataList) {
+      if (data.isLoaded() || data.getSnapshotCache() != null) {
+        data.getRowsList();
+      } else {
+        dataByConnectionProvider.computeIfAbsent(new ConnectionProviderKey(data), key -> new ArrayList<>()).add(data);
+      }
+    }
+    for (List<AbstractDbData<?>> dataWithSameConnection : dataByConnectionProvider.values()) {
+      try (Connection connection = dataWithSameConnection.get(0).getConnection();
+           StatementCache statementCache = new StatementCache(connection)) {
+        List<Request> requests = new ArrayList<>();
+        if (multipleResultSets && connection.getMetaData().supportsMultipleResultSets()) {
+          for (AbstractDbData<?> data : dataWithSameConnection) {
+            if (data instanceof Request && ((Request) data).getRequest() != null
+                && ((Request) data).getParameters().length == 0) {
+              requests.add((Request) data);
+            }
+          }
+        }
+        if (requests.size() > 1) {
+          loadWithMultipleResultSets(statementCache, requests);
+        }
+        for (AbstractDbData<?> data : dataWithSameConnection) {
+          data.load(statementCache);
+        }
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+  }
+
+  /**
+   * Loads the requests with a single statement which returns a result set by request.
+   *
+   * @param statementCache The cache of the statements of the connection.
+   * @param requests       The requests (without parameters).
+   * @throws SQLException SQL Exception.
+   */
+  private static void loadWithMultipleResultSets(StatementCache statementCache, List<Request> requests)
+      throws SQLException {
+    Connection connection = statementCache.getConnection();
+    StringBuilder stringBuilder = new StringBuilder();
+    for (Request request : requests) {
+      if (stringBuilder.length() > 0) {
+        stringBuilder.append(";\n");
+      }
+      stringBuilder.append(request.getRequest());
+    }
+    boolean readOnly = requests.get(0).getFetchStrategy().isReadOnly() && !connection.isReadOnly();
+    if (readOnly) {
+      connection.setReadOnly(true);
+    }
+    try (Statement statement = requests.get(0).createStatement(connection)) {
+      boolean isResultSet = statement.execute(stringBuilder.toString());
+      for (Request request : requests) {
+        while (!isResultSet && statement.getUpdateCount() != -1) {
+          isResultSet = statement.getMoreResults();
+        }
+        if (!isResultSet) {
+          throw new AssertJDBException("The statement returned less result sets than the %s requests", requests.size());
+        }
+        try (ResultSet resultSet = statement.getResultSet()) {
+          // The request reads this result set instead of executing its SQL request again
+          statementCache.putResultSet(request, resultSet);
+          try {
+            request.load(statementCache);
+          } finally {
+            statementCache.removeResultSet(request);
+          }
+        }
+        isResultSet = statement.getMoreResults();
+      }
+    } finally {
+      if (readOnly) {
+        // The connection can come back to a pool.
+        connection.setReadOnly(false);
+      }
+    }
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The way the data are fetched from the database during the loading of a {@link Table} or a {@link Request}.
+ * <p>
+ * A fetch strategy is immutable : the {@code with...} methods return a new instance. It can be set on a {@link Source}
+ * (for all the elements using this source) and be overridden on each element with
+ * {@link AbstractDbElement#setFetchStrategy(FetchStrategy)}.
+ * </p>
+ * <p>Example of a strategy with a forward-only, read-only cursor fetching the rows by 1000 :</p>
+ * <pre><code class='java'>
+ * FetchStrategy strategy = FetchStrategy.forwardOnly(1000).withReadOnly(true);
+ * Table table = new Table(dataSource, &quot;movie&quot;).setFetchStrategy(strategy);
+ * </code></pre>
+ *
+ * @since 2.1.0
+ */
+public final class FetchStrategy {
+
+  /**
+   * The default strategy : the statements are created with the default values of the driver.
+   */
+  public static final FetchStrategy DEFAULT = new FetchStrategy(ResultSet.TYPE_FORWARD_ONLY, 0, 0, false);
+
+  /**
+   * The type of the result set (one of {@link ResultSet#TYPE_FORWARD_ONLY},
+   * {@link ResultSet#TYPE_SCROLL_INSENSITIVE} or {@link ResultSet#TYPE_SCROLL_SENSITIVE}).
+   */
+  private final int resultSetType;
+  /**
+   * The number of rows fetched in each round trip ({@code 0} for the default of the driver).
+   */
+  private final int fetchSize;
+  /**
+   * The timeout of the queries in seconds ({@code 0} for no timeout).
+   */
+  private final int queryTimeout;
+  /**
+   * Indicates if the connection is set read-only during the loading.
+   */
+  private final boolean readOnly;
+
+  /**
+   * Constructor.
+   *
+   * @param resultSetType The type of the result set.
+   * @param fetchSize     The number of rows fetched in each round trip.
+   * @param queryTimeout  The timeout of the queries in seconds.
+   * @param readOnly      Indicates if the connection is set read-only during the loading.
+   */
+  private FetchStrategy(int resultSetType, int fetchSize, int queryTimeout, boolean readOnly) {
+    this.resultSetType = resultSetType;
+    this.fetchSize = fetchSize;
+    this.queryTimeout = queryTimeout;
+    this.readOnly = readOnly;
+  }
+
+  /**
+   * Returns a strategy with a forward-only cursor which fetches the rows by {@code fetchSize}.
+   *
+   * @param fetchSize The number of rows fetched in each round trip.
+   * @return The strategy.
+   * @throws IllegalArgumentException If {@code fetchSize} is negative.
+   */
+  public static FetchStrategy forwardOnly(int fetchSize) {
+    return DEFAULT.withFetchSize(fetchSize);
+  }
+
+  /**
+   * Returns the type of the result set.
+   *
+   * @return The type of the result set.
+   */
+  public int getResultSetType() {
+    return resultSetType;
+  }
+
+  /**
+   * Returns the number of rows fetched in each round trip.
+   *
+   * @return The number of rows fetched in each round trip ({@code 0} for the default of the driver).
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Returns the timeout of the queries.
+   *
+   * @return The timeout of the queries in seconds ({@code 0} for no timeout).
+   */
+  public int getQueryTimeout() {
+    return queryTimeout;
+  }
+
+  /**
+   * Returns if the connection is set read-only during the loading.
+   *
+   * @return {@code true} if the connection is set read-only, {@code false} otherwise.
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Returns a copy of this strategy with another type of result set.
+   *
+   * @param resultSetType The type of the result set (one of {@link ResultSet#TYPE_FORWARD_ONLY},
+   *                      {@link ResultSet#TYPE_SCROLL_INSENSITIVE} or {@link ResultSet#TYPE_SCROLL_SENSITIVE}).
+   * @return The new strategy.
+   * @throws IllegalArgumentException If {@code resultSetType} is not a type of result set.
+   */
+  public FetchStrategy withResultSetType(int resultSetType) {
+    if (resultSetType != ResultSet.TYPE_FORWARD_ONLY
+        && resultSetType != ResultSet.TYPE_SCROLL_INSENSITIVE
+        && resultSetType != ResultSet.TYPE_SCROLL_SENSITIVE) {
+      throw new IllegalArgumentException(resultSetType + " is not a type of result set");
+    }
+    return new FetchStrategy(resultSetType, fetchSize, queryTimeout, readOnly);
+  }
+
+  /**
+   * Returns a copy of this strategy with another fetch size.
+   *
+   * @param fetchSize The number of rows fetched in each round trip ({@code 0} for the default of the driver).
+   * @return The new strategy.
+   * @throws IllegalArgumentException If {@code fetchSize} is negative.
+   */
+  public FetchStrategy withFetchSize(int fetchSize) {
+    if (fetchSize < 0) {
+      throw new IllegalArgumentException("fetchSize must be positive or zero");
+    }
+    return new FetchStrategy(resultSetType, fetchSize, queryTimeout, readOnly);
+  }
+
+  /**
+   * Returns a copy of this strategy with another query timeout.
+   *
+   * @param queryTimeout The timeout of the queries in seconds ({@code 0} for no timeout).
+   * @return The new strategy.
+   * @throws IllegalArgumentException If {@code queryTimeout} is negative.
+   */
+  public FetchStrategy withQueryTimeout(int queryTimeout) {
+    if (queryTimeout < 0) {
+      throw new IllegalArgumentException("queryTimeout must be positive or zero");
+    }
+    return new FetchStrategy(resultSetType, fetchSize, queryTimeout, readOnly);
+  }
+
+  /**
+   * Returns a copy of this strategy which sets (or not) the connection read-only during the loading.
+   *
+   * @param readOnly {@code true} to set the connection read-only during the loading.
+   * @return The new strategy.
+   */
+  public FetchStrategy withReadOnly(boolean readOnly) {
+    return new FetchStrategy(resultSetType, fetchSize, queryTimeout, readOnly);
+  }
+
+  /**
+   * Creates a {@link Statement} with this strategy.
+   *
+   * @param connection The connection.
+   * @return The statement.
+   * @throws SQLException SQL Exception.
+   */
+  Statement createStatement(Connection connection) throws SQLException {
+    return configure(connection.createStatement(resultSetType, ResultSet.CONCUR_READ_ONLY));
+  }
+
+  /**
+   * Creates a {@link PreparedStatement} with this strategy.
+   *
+   * @param connection The connection.
+   * @param sql        The SQL request.
+   * @return The statement.
+   * @throws SQLException SQL Exception.
+   */
+  PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+    return configure(connection.prepareStatement(sql, resultSetType, ResultSet.CONCUR_READ_ONLY));
+  }
+
+  /**
+   * Applies the fetch size and the query timeout on the statement.
+   *
+   * @param <S>       The type of the statement.
+   * @param statement The statement.
+   * @return The statement in parameter.
+   * @throws SQLException SQL Exception.
+   */
+  private <S extends Statement> S configure(S statement) throws SQLException {
+    try {
+      if (fetchSize > 0) {
+        statement.setFetchSize(fetchSize);
+      }
+      if (queryTimeout > 0) {
+        statement.setQueryTimeout(queryTimeout);
+      }
+      return statement;
+    } catch (SQLException e) {
+      statement.close();
+      throw e;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof FetchStrategy)) {
+      return false;
+    }
+    FetchStrategy other = (FetchStrategy) object;
+    return resultSetType == other.resultSetType && fetchSize == other.fetchSize
+           && queryTimeout == other.queryTimeout && readOnly == other.readOnly;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int hashCode() {
+    int result = resultSetType;
+    result = 31 * result + fetchSize;
+    result = 31 * result + queryTimeout;
+    return 31 * result + (readOnly ? 1 : 0);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "FetchStrategy[resultSetType=" + resultSetType + ", fetchSize=" + fetchSize + ", queryTimeout="
+           + queryTimeout + ", readOnly=" + readOnly + "]";
+  }
+}
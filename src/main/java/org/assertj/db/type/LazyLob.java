@@ -0,0 +1,227 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.util.Digests;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The content of a LOB (BLOB or CLOB) which is not kept in memory during the loading.
+ * <p>
+ * Only the length and the digest of the content are computed during the loading. The content is loaded again from the
+ * database at the first call to {@link #getContent()}.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class LazyLob {
+
+  /**
+   * The size of the buffers used to read the streams.
+   */
+  private static final int BUFFER_SIZE = 8192;
+
+  /**
+   * The data which contains the LOB.
+   */
+  private final AbstractDbData<?> data;
+  /**
+   * The name of the column of the LOB.
+   */
+  private final String columnName;
+  /**
+   * {@code true} if it is a CLOB, {@code false} if it is a BLOB.
+   */
+  private final boolean text;
+  /**
+   * The length of the content (number of bytes of a BLOB or number of characters of a CLOB).
+   */
+  private final long length;
+  /**
+   * The digest of the content.
+   */
+  private final byte[] digest;
+  /**
+   * The row which contains the LOB.
+   */
+  private Row row;
+  /**
+   * The content ({@code null} before the first call to {@link #getContent()}).
+   */
+  private Object content;
+  /**
+   * The lock of the loading of the content (not a monitor : the loading reads the database and would pin a virtual
+   * thread to its carrier thread).
+   */
+  private final Lock lock = new ReentrantLock();
+
+  /**
+   * Constructor.
+   *
+   * @param data       The data which contains the LOB.
+   * @param columnName The name of the column of the LOB.
+   * @param text       {@code true} if it is a CLOB, {@code false} if it is a BLOB.
+   * @param length     The length of the content.
+   * @param digest     The digest of the content.
+   */
+  private LazyLob(AbstractDbData<?> data, String columnName, boolean text, long length, byte[] digest) {
+    this.data = data;
+    this.columnName = columnName;
+    this.text = text;
+    this.length = length;
+    this.digest = digest;
+  }
+
+  /**
+   * Reads the stream of a BLOB and returns a {@code LazyLob} with its length and digest.
+   *
+   * @param data       The data which contains the LOB.
+   * @param columnName The name of the column of the LOB.
+   * @param stream     The stream of the BLOB (the stream is not closed).
+   * @return The {@code LazyLob}.
+   * @throws IOException If the stream can not be read.
+   */
+  static LazyLob of(AbstractDbData<?> data, String columnName, InputStream stream) throws IOException {
+    MessageDigest messageDigest = Digests.getMessageDigest();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    long length = 0;
+    int read;
+    while ((read = stream.read(buffer)) != -1) {
+      messageDigest.update(buffer, 0, read);
+      length += read;
+    }
+    return new LazyLob(data, columnName, false, length, messageDigest.digest());
+  }
+
+  /**
+   * Reads the stream of a CLOB and returns a {@code LazyLob} with its length and digest.
+   *
+   * @param data       The data which contains the LOB.
+   * @param columnName The name of the column of the LOB.
+   * @param reader     The stream of the CLOB (the stream is not closed).
+   * @return The {@code LazyLob}.
+   * @throws IOException If the stream can not be read.
+   */
+  static LazyLob of(AbstractDbData<?> data, String columnName, Reader reader) throws IOException {
+    MessageDigest messageDigest = Digests.getMessageDigest();
+    char[] buffer = new char[BUFFER_SIZE];
+    long length = 0;
+    int offset = 0;
+    int read;
+    while ((read = reader.read(buffer, offset, buffer.length - offset)) > 0) {
+      int end = offset + read;
+      length += read;
+      // The high surrogate of a pair is encoded with the low surrogate
+      int encoded = Character.isHighSurrogate(buffer[end - 1]) ? end - 1 : end;
+      messageDigest.update(new String(buffer, 0, encoded).getBytes(StandardCharsets.UTF_8));
+      offset = end - encoded;
+      if (offset > 0) {
+        buffer[0] = buffer[end - 1];
+      }
+    }
+    if (offset > 0) {
+      messageDigest.update(new String(buffer, 0, offset).getBytes(StandardCharsets.UTF_8));
+    }
+    return new LazyLob(data, columnName, true, length, messageDigest.digest());
+  }
+
+  /**
+   * Sets the row which contains the LOB (the row is created after the values).
+   *
+   * @param row The row.
+   */
+  void setRow(Row row) {
+    this.row = row;
+  }
+
+  /**
+   * Returns if it is a CLOB.
+   *
+   * @return {@code true} if it is a CLOB, {@code false} if it is a BLOB.
+   */
+  boolean isText() {
+    return text;
+  }
+
+  /**
+   * Returns the length of the content.
+   *
+   * @return The number of bytes of a BLOB or the number of characters of a CLOB.
+   */
+  long getLength() {
+    return length;
+  }
+
+  /**
+   * Returns the digest of the content.
+   *
+   * @return The digest.
+   */
+  byte[] getDigest() {
+    return digest;
+  }
+
+  /**
+   * Returns if the content is equal to the content of another {@code LazyLob} (without loading the contents).
+   *
+   * @param other The other {@code LazyLob}.
+   * @return {@code true} if the contents are equal, {@code false} otherwise.
+   */
+  boolean hasSameContent(LazyLob other) {
+    return text == other.text && length == other.length && Arrays.equals(digest, other.digest);
+  }
+
+  /**
+   * Returns the content (which is loaded from the database at the first call).
+   *
+   * @return The content : an array of {@code byte} for a BLOB or a {@code String} for a CLOB.
+   * @throws AssertJDBException If the content in the database is different of the content during the loading.
+   */
+  Object getContent() {
+    lock.lock();
+    try {
+      if (content == null) {
+        Object loadedContent = data.loadLob(columnName, row);
+        byte[] loadedDigest;
+        long loadedLength;
+        if (loadedContent instanceof String) {
+          loadedDigest = Digests.digest((String) loadedContent);
+          loadedLength = ((String) loadedContent).length();
+        } else if (loadedContent instanceof byte[]) {
+          loadedDigest = Digests.digest((byte[]) loadedContent);
+          loadedLength = ((byte[]) loadedContent).length;
+        } else {
+          loadedDigest = null;
+          loadedLength = -1;
+        }
+        if (loadedLength != length || !Arrays.equals(loadedDigest, digest)) {
+          throw new AssertJDBException("The value of the column %s changed in the database since the loading",
+                                       columnName);
+        }
+        content = loadedContent;
+      }
+      return content;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
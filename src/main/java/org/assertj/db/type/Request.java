@@ -69,6 +69,11 @@ public class Request extends AbstractDbData<Request> {
    * Parameters of the SQL request.
    */
   private Object[] parameters;
+  /**
+   * The primary keys name set with {@link #setPksName(String...)} ({@code null} if they are not set).
+   * @since 2.1.0
+   */
+  private String[] pksName;
 
   /**
    * Default constructor.
@@ -158,11 +163,28 @@ public class Request extends AbstractDbData<Request> {
    * @return {@code this} instance.
    */
   public Request setPksName(String... pksName) {
+    this.pksName = pksName.clone();
     List<String> pksNameList = new ArrayList<>(Arrays.asList(pksName));
     super.setPksNameList(pksNameList);
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  Object[] getSnapshotKeyComponents() {
+    return new Object[] { parameters, pksName };
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  Object[] getAggregateParameters() {
+    return parameters == null ? new Object[0] : parameters;
+  }
+
   /**
    * Collects the columns name from the {@code ResultSet} from the SQL request.
    * <p>
@@ -199,7 +221,16 @@ public class Request extends AbstractDbData<Request> {
       throw new NullPointerException("request can not be null");
     }
 
-    try (PreparedStatement statement = connection.prepareStatement(request)) {
+    ResultSet cachedResultSet = getCachedResultSet(connection);
+    if (cachedResultSet != null) {
+      // The request is already executed with the other requests of a DataBatch
+      collectColumnsNameFromResultSet(cachedResultSet);
+      collectRowsFromResultSet(cachedResultSet);
+      return;
+    }
+
+    PreparedStatement statement = prepareCachedStatement(connection, request);
+    try {
       for (int i = 0; i < parameters.length; i++) {
         statement.setObject(i + 1, parameters[i]);
       }
@@ -207,6 +238,8 @@ public class Request extends AbstractDbData<Request> {
         collectColumnsNameFromResultSet(resultSet);
         collectRowsFromResultSet(resultSet);
       }
+    } finally {
+      releaseStatement(statement);
     }
   }
 }
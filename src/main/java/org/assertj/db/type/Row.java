@@ -15,7 +15,6 @@ package org.assertj.db.type;
 import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.type.lettercase.WithColumnLetterCase;
 import org.assertj.db.type.lettercase.WithPrimaryKeyLetterCase;
-import org.assertj.db.util.NameComparator;
 import org.assertj.db.util.Values;
 
 import java.util.ArrayList;
@@ -42,9 +41,9 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    */
   private List<String> pksNameList;
   /**
-   * The list of columns name.
+   * The names of the columns (shared by the rows of the same data).
    */
-  private final List<String> columnsNameList;
+  private final ColumnsSchema columnsSchema;
   /**
    * The list of value.
    */
@@ -72,8 +71,24 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
   Row(List<String> pksNameList, List<String> columnsNameList, List<Value> valuesList,
       LetterCase columnLetterCase, LetterCase primaryKeyLetterCase) {
 
+    this(pksNameList, new ColumnsSchema(columnsNameList), valuesList, columnLetterCase, primaryKeyLetterCase);
+  }
+
+  /**
+   * Constructor of the row with visibility in the package.
+   *
+   * @param pksNameList The list of the primary keys name.
+   * @param columnsSchema The names of the columns (shared by the rows of the same data).
+   * @param valuesList The values in the row.
+   * @param columnLetterCase The letter case of the columns.
+   * @param primaryKeyLetterCase The letter case of the primary keys.
+   * @since 2.1.0
+   */
+  Row(List<String> pksNameList, ColumnsSchema columnsSchema, List<Value> valuesList,
+      LetterCase columnLetterCase, LetterCase primaryKeyLetterCase) {
+
     this.pksNameList = pksNameList;
-    this.columnsNameList = columnsNameList;
+    this.columnsSchema = columnsSchema;
     this.valuesList = valuesList;
     this.columnLetterCase = columnLetterCase;
     this.primaryKeyLetterCase = primaryKeyLetterCase;
@@ -113,7 +128,7 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
     List<Value> pksValueList = new ArrayList<>();
     if (pksNameList != null) {
       for (String name : pksNameList) {
-        int index = NameComparator.INSTANCE.indexOf(columnsNameList, name, primaryKeyLetterCase);
+        int index = columnsSchema.indexOf(name, primaryKeyLetterCase);
         Value value = valuesList.get(index);
         pksValueList.add(value);
       }
@@ -136,7 +151,17 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
    * @return The list of the columns name.
    */
   public List<String> getColumnsNameList() {
-    return columnsNameList;
+    return columnsSchema.getColumnsNameList();
+  }
+
+  /**
+   * Returns the names of the columns.
+   *
+   * @return The names of the columns (shared by the rows of the same data).
+   * @since 2.1.0
+   */
+  ColumnsSchema getColumnsSchema() {
+    return columnsSchema;
   }
 
   /**
@@ -157,7 +182,7 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
     List<Value> pksValuesList = new ArrayList<>();
     if (pksNameList != null) {
       for (String pkName : pksNameList) {
-        int index = NameComparator.INSTANCE.indexOf(columnsNameList, pkName, primaryKeyLetterCase);
+        int index = columnsSchema.indexOf(pkName, primaryKeyLetterCase);
         Value value = valuesList.get(index);
         pksValuesList.add(value);
       }
@@ -196,7 +221,12 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
     for (int index = 0; index < currentValuesList.size(); index++) {
       Value value = currentValuesList.get(index);
       Value rowValue = rowValuesList.get(index);
-      if (!Values.areEqual(value, rowValue.getValue())) {
+      if (value.getContentDigest() != null && rowValue.getContentDigest() != null) {
+        // LOBs loaded lazily : compared without loading the contents
+        if (!value.hasSameLobContent(rowValue)) {
+          return false;
+        }
+      } else if (!Values.areEqual(value, rowValue.getValue())) {
         return false;
       }
     }
@@ -226,7 +256,7 @@ public class Row implements DbElement, WithColumnLetterCase, WithPrimaryKeyLette
       throw new NullPointerException("Column name must be not null");
     }
 
-    int index = NameComparator.INSTANCE.indexOf(columnsNameList, columnName, columnLetterCase);
+    int index = columnsSchema.indexOf(columnName, columnLetterCase);
     if (index == -1) {
       return null;
     }
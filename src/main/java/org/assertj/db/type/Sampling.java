@@ -0,0 +1,261 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sampling of the rows of a {@link Table} : only a part of the rows is loaded (see {@link Table#setSampling(Sampling)}).
+ * <p>
+ * There are two ways to take a sample :
+ * </p>
+ * <ul>
+ * <li>the {@code TABLESAMPLE} clause of the database : {@link #tableSample(double)} uses the SQL standard syntax
+ * {@code TABLESAMPLE BERNOULLI (percentage)} (PostgreSQL, DB2, ...),</li>
+ * <li>a modulo on the primary key : {@link #modulo(int)} loads the rows with
+ * {@code MOD(primary key, modulus) = remainder} (the table needs a single numeric primary key).</li>
+ * </ul>
+ * <p>
+ * {@link #percentage(double)} uses the {@code TABLESAMPLE} clause (or its equivalent) if the database is known to
+ * support it (PostgreSQL, DB2, Microsoft SQL Server and Oracle) and the modulo otherwise.
+ * </p>
+ *
+ * <pre><code class='java'>
+ * Table table = new Table(dataSource, &quot;orders&quot;).setSampling(Sampling.percentage(0.1));
+ * assertThat(table).column(&quot;customer_id&quot;).hasOnlyNotNullValues();
+ * </code></pre>
+ * <p>
+ * The assertions on the type and on the nullity of the values of a column of a sampled table report the size of the
+ * sample and the estimated violation rate when they fail. This report contains the remainder of the modulo (chosen
+ * randomly by {@link #modulo(int)} and {@link #percentage(double)}) : the same sample is taken again with
+ * {@link #modulo(int, int)}.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public final class Sampling {
+
+  /**
+   * The kinds of sampling.
+   */
+  private enum Kind {
+    /**
+     * {@code TABLESAMPLE} clause.
+     */
+    TABLE_SAMPLE,
+    /**
+     * Modulo on the primary key.
+     */
+    MODULO,
+    /**
+     * {@code TABLESAMPLE} clause if the database supports it, modulo on the primary key otherwise.
+     */
+    PERCENTAGE
+  }
+
+  /**
+   * The kind of sampling.
+   */
+  private final Kind kind;
+  /**
+   * The percentage of the rows in the sample.
+   */
+  private final double percentage;
+  /**
+   * The modulus on the primary key.
+   */
+  private final int modulus;
+  /**
+   * The remainder of the modulo of the primary keys in the sample.
+   */
+  private final int remainder;
+
+  /**
+   * Constructor.
+   *
+   * @param kind       The kind of sampling.
+   * @param percentage The percentage of the rows in the sample.
+   * @param modulus    The modulus on the primary key.
+   * @param remainder  The remainder of the modulo of the primary keys in the sample.
+   */
+  private Sampling(Kind kind, double percentage, int modulus, int remainder) {
+    this.kind = kind;
+    this.percentage = percentage;
+    this.modulus = modulus;
+    this.remainder = remainder;
+  }
+
+  /**
+   * Checks that a percentage is valid.
+   *
+   * @param percentage The percentage.
+   * @throws IllegalArgumentException If the percentage is not greater than 0 and lower than or equal to 100.
+   */
+  private static void checkPercentage(double percentage) {
+    if (!(percentage > 0 && percentage <= 100)) {
+      throw new IllegalArgumentException("percentage must be greater than 0 and lower than or equal to 100");
+    }
+  }
+
+  /**
+   * Returns a sampling with the SQL standard {@code TABLESAMPLE BERNOULLI} clause.
+   *
+   * @param percentage The percentage of the rows in the sample (between 0 excluded and 100).
+   * @return The sampling.
+   * @throws IllegalArgumentException If the percentage is not greater than 0 and lower than or equal to 100.
+   */
+  public static Sampling tableSample(double percentage) {
+    checkPercentage(percentage);
+    return new Sampling(Kind.TABLE_SAMPLE, percentage, 0, 0);
+  }
+
+  /**
+   * Returns a sampling with a modulo on the primary key and a random remainder.
+   * <p>
+   * The remainder is chosen once : it is the same at each loading with this sampling, and it is reported by
+   * {@link #toString()} (so by the errors of the assertions on a sample).
+   * </p>
+   *
+   * @param modulus The modulus (the sample contains about one row for {@code modulus} rows).
+   * @return The sampling.
+   * @throws IllegalArgumentException If the modulus is lower than 1.
+   */
+  public static Sampling modulo(int modulus) {
+    if (modulus < 1) {
+      throw new IllegalArgumentException("modulus must be greater than or equal to 1");
+    }
+    return modulo(modulus, ThreadLocalRandom.current().nextInt(modulus));
+  }
+
+  /**
+   * Returns a sampling with a modulo on the primary key (the same rows are in the sample at each loading).
+   *
+   * @param modulus   The modulus (the sample contains about one row for {@code modulus} rows).
+   * @param remainder The remainder of the modulo of the primary keys in the sample.
+   * @return The sampling.
+   * @throws IllegalArgumentException If the modulus is lower than 1 or if the remainder is not between 0 and
+   *                                  {@code modulus - 1}.
+   */
+  public static Sampling modulo(int modulus, int remainder) {
+    if (modulus < 1) {
+      throw new IllegalArgumentException("modulus must be greater than or equal to 1");
+    }
+    if (remainder < 0 || remainder >= modulus) {
+      throw new IllegalArgumentException("remainder must be between 0 and modulus - 1");
+    }
+    return new Sampling(Kind.MODULO, 100d / modulus, modulus, remainder);
+  }
+
+  /**
+   * Returns a sampling with the {@code TABLESAMPLE} clause if the database supports it or with a modulo on the primary
+   * key otherwise.
+   * <p>
+   * Like {@link #modulo(int)}, the remainder of the modulo is chosen randomly once and reported by {@link #toString()}.
+   * </p>
+   *
+   * @param percentage The percentage of the rows in the sample (between 0 excluded and 100).
+   * @return The sampling.
+   * @throws IllegalArgumentException If the percentage is not greater than 0 and lower than or equal to 100.
+   */
+  public static Sampling percentage(double percentage) {
+    checkPercentage(percentage);
+    int modulus = (int) Math.max(1, Math.round(100 / percentage));
+    return new Sampling(Kind.PERCENTAGE, percentage, modulus, ThreadLocalRandom.current().nextInt(modulus));
+  }
+
+  /**
+   * Returns the percentage of the rows in the sample.
+   *
+   * @return The percentage (an estimation for a sampling with a modulo).
+   */
+  public double getPercentage() {
+    return percentage;
+  }
+
+  /**
+   * Returns the percentage as text in a SQL request.
+   *
+   * @return The percentage as text.
+   */
+  private String getPercentageText() {
+    return BigDecimal.valueOf(percentage).stripTrailingZeros().toPlainString();
+  }
+
+  /**
+   * Returns the clause to put after the name of the table.
+   *
+   * @param databaseProductName The name of the database product (see
+   *                            {@link java.sql.DatabaseMetaData#getDatabaseProductName()}).
+   * @return The clause or {@code null} if the sample is taken with a modulo on the primary key.
+   */
+  String getTableSampleClause(String databaseProductName) {
+    if (kind == Kind.TABLE_SAMPLE) {
+      return "TABLESAMPLE BERNOULLI (" + getPercentageText() + ")";
+    }
+    if (kind == Kind.PERCENTAGE && databaseProductName != null) {
+      if (databaseProductName.startsWith("PostgreSQL") || databaseProductName.startsWith("DB2")) {
+        return "TABLESAMPLE BERNOULLI (" + getPercentageText() + ")";
+      }
+      if (databaseProductName.startsWith("Microsoft SQL Server")) {
+        return "TABLESAMPLE (" + getPercentageText() + " PERCENT)";
+      }
+      if (databaseProductName.startsWith("Oracle")) {
+        return "SAMPLE (" + getPercentageText() + ")";
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the condition on the primary key of a sampling with a modulo.
+   *
+   * @param primaryKey The primary key (encoded for the SQL request).
+   * @return The condition.
+   */
+  String getModuloCondition(String primaryKey) {
+    return "MOD(" + primaryKey + ", " + modulus + ") = " + remainder;
+  }
+
+  /**
+   * Returns a sampling which takes the same rows at each loading (to compare the rows at the start point and at the
+   * end point of {@link Changes}).
+   *
+   * @return This sampling if it uses a modulo, the modulo of this sampling if it uses a percentage, or {@code null} if it
+   *         uses the {@code TABLESAMPLE} clause (which takes other rows at each loading).
+   */
+  Sampling getRepeatableSampling() {
+    if (kind == Kind.TABLE_SAMPLE) {
+      return null;
+    }
+    if (kind == Kind.PERCENTAGE) {
+      return new Sampling(Kind.MODULO, 100d / modulus, modulus, remainder);
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    if (kind == Kind.MODULO) {
+      return "Sampling[modulus=" + modulus + ", remainder=" + remainder + "]";
+    }
+    if (kind == Kind.PERCENTAGE) {
+      return "Sampling[" + kind + ", percentage=" + getPercentageText() + ", modulus=" + modulus + ", remainder="
+             + remainder + "]";
+    }
+    return "Sampling[" + kind + ", percentage=" + getPercentageText() + "]";
+  }
+}
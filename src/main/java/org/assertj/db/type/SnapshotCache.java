@@ -0,0 +1,281 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the data loaded from the database which can be shared by several {@link Table}s or {@link Request}s and
+ * by several threads.
+ * <p>
+ * The data are cached with a key made of the {@link Source} or of the {@code DataSource} (compared by identity), the
+ * SQL request (see {@link AbstractDbData#getRequest()}), the parameters of the request, the primary keys set on a
+ * request, the columns to exclude of a table and the letter cases. The lists of a snapshot can not be modified and are
+ * shared by the data loaded from it. Two elements with the same key are loaded only once, even if they are loaded at the same
+ * time by several threads.
+ * </p>
+ * <p>
+ * When the cache contains more than the maximum size of entries, the least recently used entry is evicted.
+ * The cache must only be used for data which are not modified by the tests (reference tables for example) : the
+ * entries can be invalidated with {@link #invalidate(AbstractDbData)} or {@link #invalidateAll()}.
+ * </p>
+ *
+ * <pre><code class='java'>
+ * static final SnapshotCache CACHE = new SnapshotCache(100);
+ * ...
+ * Table table = new Table(dataSource, &quot;country&quot;).setSnapshotCache(CACHE);
+ * </code></pre>
+ *
+ * @since 2.1.0
+ */
+public class SnapshotCache {
+
+  /**
+   * The maximum number of entries.
+   */
+  private final int maximumSize;
+  /**
+   * The entries in the access order (the first one is the least recently used).
+   */
+  private final Map<Key, CompletableFuture<Snapshot>> entries;
+  /**
+   * Lock on the entries.
+   */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * Key of an entry of the cache.
+   */
+  static final class Key {
+    /**
+     * The source or the data source (compared by identity).
+     */
+    private final Object connectionProvider;
+    /**
+     * The other components of the key (compared by value).
+     */
+    private final Object[] components;
+
+    /**
+     * Constructor.
+     *
+     * @param connectionProvider The source or the data source.
+     * @param components         The other components of the key.
+     */
+    Key(Object connectionProvider, Object... components) {
+      this.connectionProvider = connectionProvider;
+      this.components = components;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(connectionProvider) + Arrays.deepHashCode(components);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof Key) {
+        Key key = (Key) obj;
+        return connectionProvider == key.connectionProvider && Arrays.deepEquals(components, key.components);
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Data loaded for an entry of the cache.
+   */
+  static final class Snapshot {
+    /**
+     * List of the column names.
+     */
+    final List<String> columnsNameList;
+    /**
+     * List of the primary key names.
+     */
+    final List<String> pksNameList;
+    /**
+     * List of the rows.
+     */
+    final List<Row> rowsList;
+
+    /**
+     * Constructor.
+     *
+     * @param columnsNameList List of the column names.
+     * @param pksNameList     List of the primary key names.
+     * @param rowsList        List of the rows.
+     */
+    Snapshot(List<String> columnsNameList, List<String> pksNameList, List<Row> rowsList) {
+      // The lists are shared by all the data loaded from this snapshot, so they can not be modified
+      this.columnsNameList = unmodifiableList(columnsNameList);
+      this.pksNameList = unmodifiableList(pksNameList);
+      this.rowsList = unmodifiableList(rowsList);
+    }
+
+    /**
+     * Returns an unmodifiable view of a list.
+     *
+     * @param <T>  The type of the elements.
+     * @param list The list (can be {@code null}).
+     * @return The unmodifiable view or {@code null} if {@code list} is {@code null}.
+     */
+    private static <T> List<T> unmodifiableList(List<T> list) {
+      return list == null ? null : Collections.unmodifiableList(list);
+    }
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maximumSize The maximum number of entries (must be greater than 0).
+   * @throws IllegalArgumentException If {@code maximumSize} is less than or equal to 0.
+   */
+  public SnapshotCache(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be greater than 0");
+    }
+    this.maximumSize = maximumSize;
+    entries = new LinkedHashMap<Key, CompletableFuture<Snapshot>>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<Snapshot>> eldest) {
+        return size() > SnapshotCache.this.maximumSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the maximum number of entries.
+   *
+   * @return The maximum number of entries.
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Returns the number of entries.
+   *
+   * @return The number of entries.
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the snapshot corresponding to the key. If there is no snapshot for this key, the snapshot is loaded by the
+   * {@code loader} (only one thread loads the snapshot, the others wait for it).
+   *
+   * @param key    The key.
+   * @param loader The loader of the snapshot.
+   * @return The snapshot.
+   */
+  Snapshot get(Key key, Supplier<Snapshot> loader) {
+    CompletableFuture<Snapshot> future;
+    boolean mustLoad = false;
+    lock.lock();
+    try {
+      future = entries.get(key);
+      if (future == null) {
+        future = new CompletableFuture<>();
+        entries.put(key, future);
+        mustLoad = true;
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    if (mustLoad) {
+      try {
+        Snapshot snapshot = loader.get();
+        future.complete(snapshot);
+        return snapshot;
+      } catch (RuntimeException | Error e) {
+        remove(key, future);
+        future.completeExceptionally(e);
+        throw e;
+      }
+    }
+
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Removes the entry if it corresponds to the future in parameter.
+   *
+   * @param key    The key.
+   * @param future The future.
+   */
+  private void remove(Key key, CompletableFuture<Snapshot> future) {
+    lock.lock();
+    try {
+      entries.remove(key, future);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Invalidates the entry corresponding to the data in parameter.
+   *
+   * @param data The data.
+   */
+  public void invalidate(AbstractDbData<?> data) {
+    lock.lock();
+    try {
+      entries.remove(data.getSnapshotKey());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Invalidates all the entries.
+   */
+  public void invalidateAll() {
+    lock.lock();
+    try {
+      entries.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -38,6 +38,11 @@ public class Source {
    * Password to connect.
    */
   private final String password;
+  /**
+   * The way the data are fetched from the database.
+   * @since 2.1.0
+   */
+  private final FetchStrategy fetchStrategy;
 
   /**
    * Constructor with the information.
@@ -47,9 +52,27 @@ public class Source {
    * @param password Password to connect.
    */
   public Source(String url, String user, String password) {
+    this(url, user, password, FetchStrategy.DEFAULT);
+  }
+
+  /**
+   * Constructor with the information and the way the data are fetched.
+   *
+   * @param url URL to the database.
+   * @param user User to connect.
+   * @param password Password to connect.
+   * @param fetchStrategy The way the data are fetched from the database (must be not {@code null}).
+   * @throws NullPointerException If {@code fetchStrategy} is {@code null}.
+   * @since 2.1.0
+   */
+  public Source(String url, String user, String password, FetchStrategy fetchStrategy) {
+    if (fetchStrategy == null) {
+      throw new NullPointerException("fetchStrategy must be not null");
+    }
     this.url = url;
     this.user = user;
     this.password = password;
+    this.fetchStrategy = fetchStrategy;
   }
 
   /**
@@ -78,4 +101,14 @@ public class Source {
   public String getPassword() {
     return password;
   }
+
+  /**
+   * Returns the way the data are fetched from the database.
+   *
+   * @return The fetch strategy.
+   * @since 2.1.0
+   */
+  public FetchStrategy getFetchStrategy() {
+    return fetchStrategy;
+  }
 }
@@ -55,6 +55,29 @@ public class SourceWithLetterCase extends Source implements WithLetterCase {
     this.primaryKeyLetterCase = primaryKeyLetterCase;
   }
 
+  /**
+   * Constructor with the information and the way the data are fetched.
+   *
+   * @param url URL to the database.
+   * @param user User to connect.
+   * @param password Password to connect.
+   * @param fetchStrategy The way the data are fetched from the database (must be not {@code null}).
+   * @param tableLetterCase Letter case of the tables.
+   * @param columnLetterCase Letter case of the columns.
+   * @param primaryKeyLetterCase Letter case of the primary keys.
+   * @throws NullPointerException If {@code fetchStrategy} is {@code null}.
+   * @since 2.1.0
+   */
+  public SourceWithLetterCase(String url, String user, String password, FetchStrategy fetchStrategy,
+                              LetterCase tableLetterCase, LetterCase columnLetterCase,
+                              LetterCase primaryKeyLetterCase) {
+
+    super(url, user, password, fetchStrategy);
+    this.tableLetterCase = tableLetterCase;
+    this.columnLetterCase = columnLetterCase;
+    this.primaryKeyLetterCase = primaryKeyLetterCase;
+  }
+
   /**
    * {@inheritDoc}
    */
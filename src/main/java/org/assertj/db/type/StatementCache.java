@@ -0,0 +1,164 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache of the {@link PreparedStatement}s of a connection used to load several data (see {@link DataBatch} and
+ * {@link Changes#setCaptureIsolation(int)}).
+ * <p>
+ * The statements are kept by SQL request and by {@link FetchStrategy} : the data with the same request (with different
+ * parameters for example) reuse the same statement instead of preparing it again. The statements are closed with the
+ * cache, before the connection.
+ * </p>
+ * <p>
+ * The cache also keeps the result sets of the SQL requests already executed together by a {@link DataBatch} : the
+ * data read their result set instead of executing their request again.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+final class StatementCache implements AutoCloseable {
+
+  /**
+   * The connection.
+   */
+  private final Connection connection;
+  /**
+   * The statements with the SQL request and the fetch strategy in key.
+   */
+  private final Map<List<Object>, PreparedStatement> statementsMap = new LinkedHashMap<>();
+  /**
+   * The statements of the cache (compared by identity).
+   */
+  private final Set<PreparedStatement> statementsSet = Collections.newSetFromMap(new IdentityHashMap<>());
+  /**
+   * The result sets of the SQL requests already executed with the data in key (compared by identity).
+   */
+  private final Map<AbstractDbData<?>, ResultSet> resultSetsMap = new IdentityHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param connection The connection.
+   */
+  StatementCache(Connection connection) {
+    this.connection = connection;
+  }
+
+  /**
+   * Returns the connection.
+   *
+   * @return The connection.
+   */
+  Connection getConnection() {
+    return connection;
+  }
+
+  /**
+   * Returns the statement of a SQL request (which is prepared at the first call).
+   *
+   * @param fetchStrategy The fetch strategy.
+   * @param sql           The SQL request.
+   * @return The statement (without parameters).
+   * @throws SQLException SQL Exception.
+   */
+  PreparedStatement prepareStatement(FetchStrategy fetchStrategy, String sql) throws SQLException {
+    List<Object> key = Arrays.asList(sql, fetchStrategy);
+    PreparedStatement statement = statementsMap.get(key);
+    if (statement == null) {
+      statement = fetchStrategy.prepareStatement(connection, sql);
+      statementsMap.put(key, statement);
+      statementsSet.add(statement);
+    } else {
+      statement.clearParameters();
+    }
+    return statement;
+  }
+
+  /**
+   * Returns if the statement is in the cache.
+   *
+   * @param statement The statement.
+   * @return {@code true} if the statement is in the cache (it must not be closed), {@code false} otherwise.
+   */
+  boolean contains(PreparedStatement statement) {
+    return statementsSet.contains(statement);
+  }
+
+  /**
+   * Puts the result set of the SQL request of a data, which is already executed.
+   *
+   * @param data      The data.
+   * @param resultSet The result set (which is not closed by the cache).
+   */
+  void putResultSet(AbstractDbData<?> data, ResultSet resultSet) {
+    resultSetsMap.put(data, resultSet);
+  }
+
+  /**
+   * Returns the result set of the SQL request of a data.
+   *
+   * @param data The data.
+   * @return The result set or {@code null} if the SQL request of the data is not already executed.
+   */
+  ResultSet getResultSet(AbstractDbData<?> data) {
+    return resultSetsMap.get(data);
+  }
+
+  /**
+   * Removes the result set of the SQL request of a data.
+   *
+   * @param data The data.
+   */
+  void removeResultSet(AbstractDbData<?> data) {
+    resultSetsMap.remove(data);
+  }
+
+  /**
+   * Closes the statements of the cache.
+   *
+   * @throws SQLException SQL Exception.
+   */
+  @Override
+  public void close() throws SQLException {
+    SQLException exception = null;
+    for (PreparedStatement statement : statementsMap.values()) {
+      try {
+        statement.close();
+      } catch (SQLException e) {
+        if (exception == null) {
+          exception = e;
+        } else {
+          exception.addSuppressed(e);
+        }
+      }
+    }
+    statementsMap.clear();
+    statementsSet.clear();
+    if (exception != null) {
+      throw exception;
+    }
+  }
+}
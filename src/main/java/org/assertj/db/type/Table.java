@@ -13,14 +13,28 @@
 package org.assertj.db.type;
 
 import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.monitoring.DbListeners;
 import org.assertj.db.type.lettercase.LetterCase;
 import org.assertj.db.util.NameComparator;
+import org.assertj.db.util.Values;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.*;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A table in the database to read to get the values.
@@ -101,6 +115,94 @@ public class Table extends AbstractDbData<Table> {
    * @since 1.2.0
    */
   private Character endDelimiter = null;
+  /**
+   * The condition of the {@code WHERE} clause.
+   * @since 2.1.0
+   */
+  private String where;
+  /**
+   * The parameters of the condition of the {@code WHERE} clause.
+   * @since 2.1.0
+   */
+  private Object[] whereParameters = new Object[0];
+  /**
+   * Indicates if the columns are loaded separately when they are accessed.
+   * @since 2.1.0
+   */
+  private boolean lazyColumns;
+  /**
+   * The columns loaded separately (only used with lazy columns and before the loading of the table).
+   * @since 2.1.0
+   */
+  private LazyColumnsList lazyColumnsList;
+  /**
+   * Indicates if the contents of the LOBs are loaded at the first access.
+   * @since 2.1.0
+   */
+  private boolean lazyLobs;
+  /**
+   * Indicates if the contents of the LOBs are loaded at the first access during the current loading (that needs
+   * primary keys).
+   * @since 2.1.0
+   */
+  private boolean lobsLoadedLazily;
+  /**
+   * The number of rows in a page ({@code 0} if the rows are not loaded by pages).
+   * @since 2.1.0
+   */
+  private int pageSize;
+  /**
+   * The maximum number of pages kept in memory.
+   * @since 2.1.0
+   */
+  private int maxCachedPages;
+  /**
+   * The rows loaded by pages (only used with a page size and before the loading of the table).
+   * @since 2.1.0
+   */
+  private PagedRowsList pagedRowsList;
+  /**
+   * The lock of the creation of the lazy columns and of the rows loaded by pages (a lock rather than a monitor because
+   * the creation reads the database : a virtual thread waiting for the database is not pinned to its carrier thread).
+   * @since 2.1.0
+   */
+  private final Lock lazyLoadingLock = new ReentrantLock();
+  /**
+   * The sampling of the rows ({@code null} to load all the rows).
+   * @since 2.1.0
+   */
+  private Sampling sampling;
+  /**
+   * The clause of the sampling after the name of the table during the loading ({@code null} if there is none).
+   * @since 2.1.0
+   */
+  private String samplingClause;
+  /**
+   * The condition of the sampling during the loading ({@code null} if there is none).
+   * @since 2.1.0
+   */
+  private String samplingCondition;
+  /**
+   * The maximum number of rows to load ({@code 0} for no limit) : used to load a page.
+   * @since 2.1.0
+   */
+  private int maxRows;
+  /**
+   * The names of the primary keys read in the metadata ({@code null} before the first reading) : shared with the
+   * copies of the table which load the pages, the columns or the ranges of primary keys.
+   * @since 2.1.0
+   */
+  private List<String> primaryKeysNameFromMetadata;
+  /**
+   * The number of ranges of primary keys loaded at the same time ({@code 0} or {@code 1} for a single loading).
+   * @since 2.1.0
+   */
+  private int partitions;
+  /**
+   * The executor which loads the ranges of primary keys.
+   * @since 2.1.0
+   */
+  private Executor partitionsExecutor;
 
   /**
    * Indicates an order with the name on which is the order and the type.
@@ -496,34 +598,49 @@ public class Table extends AbstractDbData<Table> {
   private void setNameFromDb() {
     if (name != null && (getSource() != null || getDataSource() != null)) {
       try (Connection connection = getConnection()) {
-        LetterCase tableLetterCase = getTableLetterCase();
-        LetterCase columnLetterCase = getColumnLetterCase();
-
-        DatabaseMetaData metaData = connection.getMetaData();
-        try (ResultSet tableResultSet = metaData.getTables(getCatalog(connection), getSchema(connection), null,
-                                                           new String[] { "TABLE" })) {
-          while (tableResultSet.next()) {
-            String tableName = tableResultSet.getString("TABLE_NAME");
-            if (tableLetterCase.isEqual(tableName, name)) {
-              name = tableLetterCase.convert(tableName);
-              break;
-            }
-          }
-        }
-
-        columnsList = new ArrayList<>();
-        try (ResultSet columnsResultSet = metaData.getColumns(getCatalog(connection), getSchema(connection), name, null)) {
-          while (columnsResultSet.next()) {
-            String column = columnsResultSet.getString("COLUMN_NAME");
-            columnsList.add(columnLetterCase.convert(column));
-          }
-        }
+        setNameFromDb(connection);
       } catch (SQLException e) {
         throw new AssertJDBException(e);
       }
     }
   }
 
+  /**
+   * Set the name from the corresponding name in the database with the connection in parameter (which is not closed).
+   *
+   * @param connection The connection.
+   * @throws SQLException SQL Exception.
+   */
+  void setNameFromDb(Connection connection) throws SQLException {
+    boolean monitored = DbListeners.isEnabled();
+    long start = monitored ? System.nanoTime() : 0;
+    LetterCase tableLetterCase = getTableLetterCase();
+    LetterCase columnLetterCase = getColumnLetterCase();
+
+    DatabaseMetaData metaData = connection.getMetaData();
+    try (ResultSet tableResultSet = metaData.getTables(getCatalog(connection), getSchema(connection), null,
+                                                       new String[] { "TABLE" })) {
+      while (tableResultSet.next()) {
+        String tableName = tableResultSet.getString("TABLE_NAME");
+        if (tableLetterCase.isEqual(tableName, name)) {
+          name = tableLetterCase.convert(tableName);
+          break;
+        }
+      }
+    }
+
+    columnsList = new ArrayList<>();
+    try (ResultSet columnsResultSet = metaData.getColumns(getCatalog(connection), getSchema(connection), name, null)) {
+      while (columnsResultSet.next()) {
+        String column = columnsResultSet.getString("COLUMN_NAME");
+        columnsList.add(columnLetterCase.convert(column));
+      }
+    }
+    if (monitored) {
+      DbListeners.metadataRead(this, name, System.nanoTime() - start);
+    }
+  }
+
   /**
    * Returns the columns to check (which are present in {@link AbstractDbData#getColumnsNameList()}).
    *
@@ -710,6 +827,279 @@ public class Table extends AbstractDbData<Table> {
     return this;
   }
 
+  /**
+   * Returns the condition of the {@code WHERE} clause.
+   *
+   * @return The condition of the {@code WHERE} clause ({@code null} if all the rows of the table are loaded).
+   * @see #setWhere(String, Object...)
+   * @since 2.1.0
+   */
+  public String getWhere() {
+    return where;
+  }
+
+  /**
+   * Returns the parameters of the condition of the {@code WHERE} clause.
+   *
+   * @return The parameters of the condition of the {@code WHERE} clause.
+   * @see #setWhere(String, Object...)
+   * @since 2.1.0
+   */
+  public Object[] getWhereParameters() {
+    return whereParameters.clone();
+  }
+
+  /**
+   * Sets the condition of the {@code WHERE} clause (only the rows which satisfy this condition are loaded).
+   * <p>
+   * The condition can have parameters like in a {@link java.sql.PreparedStatement} :
+   * </p>
+   *
+   * <pre><code class='java'>
+   * Table table = new Table(source, &quot;movie&quot;).setWhere(&quot;year &gt; ?&quot;, 2000);
+   * </code></pre>
+   *
+   * @param where      The condition (without the {@code WHERE} keyword) or {@code null} to load all the rows.
+   * @param parameters The parameters of the condition.
+   * @return The actual instance.
+   * @see #getWhere()
+   * @see #getWhereParameters()
+   * @since 2.1.0
+   */
+  public Table setWhere(String where, Object... parameters) {
+    this.where = where;
+    this.whereParameters = parameters == null ? new Object[0] : parameters.clone();
+    return this;
+  }
+
+  /**
+   * Returns the sampling of the rows.
+   *
+   * @return The sampling ({@code null} if all the rows are loaded).
+   * @see #setSampling(Sampling)
+   * @since 2.1.0
+   */
+  @Override
+  public Sampling getSampling() {
+    return sampling;
+  }
+
+  /**
+   * Sets the sampling of the rows : only a sample of the rows is loaded.
+   * <p>
+   * The sampling is used to check invariants on a huge table without reading all its rows. The rows are not loaded by
+   * pages or by ranges of primary keys with a sampling (see {@link #setPaging(int, int)} and
+   * {@link #setParallelLoading(int)}). The columns are only loaded separately with a sampling which takes the same rows
+   * at each request (see {@link #setLazyColumns(boolean)} and {@link Sampling#modulo(int, int)}), and so are the tables
+   * of the start point and of the end point of a {@link Changes}.
+   * </p>
+   *
+   * @param sampling The sampling ({@code null} to load all the rows).
+   * @return The actual instance.
+   * @see #getSampling()
+   * @see Sampling
+   * @since 2.1.0
+   */
+  public Table setSampling(Sampling sampling) {
+    this.sampling = sampling;
+    return this;
+  }
+
+  /**
+   * Returns if the columns are loaded separately when they are accessed.
+   *
+   * @return {@code true} if the columns are loaded separately, {@code false} otherwise.
+   * @see #setLazyColumns(boolean)
+   * @since 2.1.0
+   */
+  public boolean isLazyColumns() {
+    return lazyColumns;
+  }
+
+  /**
+   * Sets if the columns are loaded separately when they are accessed.
+   * <p>
+   * With lazy columns, {@link #getColumnsNameList()} reads the names of the columns in the metadata and each column of
+   * {@link #getColumnsList()} is loaded with only the primary keys when it is accessed. So the navigation to a column
+   * ({@code assertThat(table).column("title")}) does not load the other columns. The access to the rows loads the whole
+   * table like without lazy columns.
+   * </p>
+   * <p>
+   * The primary keys give the same order to the rows of all the columns (after the columns to order if there are some).
+   * So for a table without primary keys, the first access to the values of a column loads the whole table. The columns
+   * are not loaded separately with a sampling which takes other rows at each request (the {@code TABLESAMPLE} clause).
+   * </p>
+   *
+   * @param lazyColumns {@code true} if the columns are loaded separately, {@code false} otherwise.
+   * @return The actual instance.
+   * @see #isLazyColumns()
+   * @since 2.1.0
+   */
+  public Table setLazyColumns(boolean lazyColumns) {
+    this.lazyColumns = lazyColumns;
+    return this;
+  }
+
+  /**
+   * Returns if the contents of the LOBs are loaded at the first access.
+   *
+   * @return {@code true} if the contents of the LOBs are loaded at the first access, {@code false} otherwise.
+   * @see #setLazyLobs(boolean)
+   * @since 2.1.0
+   */
+  public boolean isLazyLobs() {
+    return lazyLobs;
+  }
+
+  /**
+   * Sets if the contents of the LOBs are loaded at the first access.
+   * <p>
+   * With lazy LOBs, the BLOBs and CLOBs are read as streams during the loading and only their length and their SHA-256
+   * digest are kept in memory. The equality with an expected value and the detection of the changes use the length and
+   * the digest, and {@link Value#getValue()} loads the content again from the database with the primary keys (an
+   * {@link AssertJDBException} is thrown if the content changed since the loading).
+   * </p>
+   * <p>
+   * The LOBs are loaded normally if the table has no primary key or if a primary key is not among the columns to check.
+   * They are also loaded normally in the tables captured by {@link Changes} : the content at start point of a modified
+   * row could not be loaded again.
+   * </p>
+   *
+   * @param lazyLobs {@code true} if the contents of the LOBs are loaded at the first access, {@code false} otherwise.
+   * @return The actual instance.
+   * @see #isLazyLobs()
+   * @since 2.1.0
+   */
+  public Table setLazyLobs(boolean lazyLobs) {
+    this.lazyLobs = lazyLobs;
+    return this;
+  }
+
+  /**
+   * Returns the number of rows in a page.
+   *
+   * @return The number of rows in a page ({@code 0} if the rows are not loaded by pages).
+   * @see #setPaging(int, int)
+   * @since 2.1.0
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Returns the maximum number of pages kept in memory.
+   *
+   * @return The maximum number of pages kept in memory.
+   * @see #setPaging(int, int)
+   * @since 2.1.0
+   */
+  public int getMaxCachedPages() {
+    return maxCachedPages;
+  }
+
+  /**
+   * Sets the loading of the rows by pages.
+   * <p>
+   * With a page size, {@link #getRowsList()} returns a list whose size is counted by the database and whose rows are
+   * loaded by pages of {@code pageSize} rows in the order of the primary keys (keyset pagination : each page is read
+   * after the last primary keys of the previous one). Only the last {@code maxCachedPages} accessed pages are kept in
+   * memory and a sequential access also loads the next page. So {@code assertThat(table).row(index)} loads only the
+   * page containing the row.
+   * </p>
+   * <p>
+   * The rows are loaded normally if the table has no primary key, if a primary key is not among the columns to check,
+   * if a primary key is not a number or a date/time (the database orders the texts with its collation while the loaded
+   * rows are sorted with {@link String#compareTo(String)}, so the index of a row could change) or if there are columns
+   * to order.
+   * </p>
+   *
+   * @param pageSize       The number of rows in a page ({@code 0} to load all the rows at once).
+   * @param maxCachedPages The maximum number of pages kept in memory.
+   * @return The actual instance.
+   * @throws IllegalArgumentException If {@code pageSize} is negative or {@code maxCachedPages} is lower than 1 with
+   *                                  a page size.
+   * @see #getPageSize()
+   * @see #getMaxCachedPages()
+   * @since 2.1.0
+   */
+  public Table setPaging(int pageSize, int maxCachedPages) {
+    if (pageSize < 0) {
+      throw new IllegalArgumentException("pageSize must be positive or zero");
+    }
+    if (pageSize > 0 && maxCachedPages < 1) {
+      throw new IllegalArgumentException("maxCachedPages must be at least 1");
+    }
+    this.pageSize = pageSize;
+    this.maxCachedPages = maxCachedPages;
+    pagedRowsList = null;
+    return this;
+  }
+
+  /**
+   * Returns the number of ranges of primary keys loaded at the same time.
+   *
+   * @return The number of ranges ({@code 0} or {@code 1} for a single loading).
+   * @see #setParallelLoading(int, Executor)
+   * @since 2.1.0
+   */
+  public int getPartitions() {
+    return partitions;
+  }
+
+  /**
+   * Returns the executor which loads the ranges of primary keys.
+   *
+   * @return The executor ({@code null} for a single loading).
+   */
+  Executor getPartitionsExecutor() {
+    return partitionsExecutor;
+  }
+
+  /**
+   * Sets the loading of the table by ranges of primary keys at the same time with a default executor.
+   *
+   * @param partitions The number of ranges ({@code 0} or {@code 1} for a single loading).
+   * @return The actual instance.
+   * @throws IllegalArgumentException If {@code partitions} is negative.
+   * @see #setParallelLoading(int, Executor)
+   * @since 2.1.0
+   */
+  public Table setParallelLoading(int partitions) {
+    return setParallelLoading(partitions, getDefaultExecutor());
+  }
+
+  /**
+   * Sets the loading of the table by ranges of primary keys at the same time with the executor in parameter.
+   * <p>
+   * The minimum and the maximum of the primary key are read in the database and the interval between them is split in
+   * {@code partitions} ranges. Each range is loaded ordered by the primary key with its own connection, and the rows
+   * are put together in the order of the ranges (so they are not sorted again).
+   * </p>
+   * <p>
+   * The table is loaded at once if the primary key is not a single numeric column among the columns to check or if
+   * there are columns to order.
+   * </p>
+   *
+   * @param partitions The number of ranges ({@code 0} or {@code 1} for a single loading).
+   * @param executor   The executor which loads the ranges.
+   * @return The actual instance.
+   * @throws IllegalArgumentException If {@code partitions} is negative.
+   * @throws NullPointerException If {@code executor} is {@code null}.
+   * @see #getPartitions()
+   * @since 2.1.0
+   */
+  public Table setParallelLoading(int partitions, Executor executor) {
+    if (partitions < 0) {
+      throw new IllegalArgumentException("partitions must be positive or zero");
+    }
+    if (executor == null) {
+      throw new NullPointerException("executor must be not null");
+    }
+    this.partitions = partitions;
+    this.partitionsExecutor = executor;
+    return this;
+  }
+
   /**
    * Encode the column name and table name.
    * @param name The column name or table name.
@@ -735,6 +1125,50 @@ public class Table extends AbstractDbData<Table> {
    * @see AbstractDbData#getRequest()
    */
   public String getRequest() {
+    StringBuilder stringBuilder = new StringBuilder(getRequestToAggregate());
+    if (columnsToOrder != null) {
+      for (int index = 0; index < columnsToOrder.length; index++) {
+        if (index == 0) {
+          stringBuilder.append(" ORDER BY ");
+        } else {
+          stringBuilder.append(", ");
+        }
+        stringBuilder.append(encode(columnsToOrder[index].getName()));
+        if (columnsToOrder[index].getType() == Order.OrderType.DESC) {
+          stringBuilder.append(" DESC");
+        }
+      }
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The aggregates are not computed by the database on a sampled table : the condition of the sampling is only known
+   * during the loading (it depends on the database and on the primary key) and the {@code TABLESAMPLE} clause takes
+   * other rows at each request. {@code null} is returned, so the sample is loaded instead.
+   * </p>
+   */
+  @Override
+  Number getAggregate(String expression) {
+    if (sampling != null) {
+      return null;
+    }
+    return super.getAggregate(expression);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The order of the rows is useless in a sub-query (and is not allowed by some databases) : this is the request of
+   * the table without the {@code ORDER BY}.
+   * </p>
+   *
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   */
+  @Override
+  String getRequestToAggregate() {
     if (name == null) {
       throw new NullPointerException("name can not be null");
     }
@@ -753,22 +1187,41 @@ public class Table extends AbstractDbData<Table> {
     }
     stringBuilder.append(" FROM ");
     stringBuilder.append(encode(name));
-    if (columnsToOrder != null) {
-      for (int index = 0; index < columnsToOrder.length; index++) {
-        if (index == 0) {
-          stringBuilder.append(" ORDER BY ");
-        } else {
-          stringBuilder.append(", ");
-        }
-        stringBuilder.append(encode(columnsToOrder[index].getName()));
-        if (columnsToOrder[index].getType() == Order.OrderType.DESC) {
-          stringBuilder.append(" DESC");
-        }
-      }
+    if (samplingClause != null) {
+      stringBuilder.append(" ");
+      stringBuilder.append(samplingClause);
+    }
+    if (where != null && samplingCondition != null) {
+      stringBuilder.append(" WHERE (");
+      stringBuilder.append(where);
+      stringBuilder.append(") AND ");
+      stringBuilder.append(samplingCondition);
+    } else if (where != null) {
+      stringBuilder.append(" WHERE ");
+      stringBuilder.append(where);
+    } else if (samplingCondition != null) {
+      stringBuilder.append(" WHERE ");
+      stringBuilder.append(samplingCondition);
     }
     return stringBuilder.toString();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  Object[] getSnapshotKeyComponents() {
+    return new Object[] { columnsToExclude, whereParameters, lazyLobs, sampling };
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  Object[] getAggregateParameters() {
+    return whereParameters;
+  }
+
   /**
    * Collects the columns name from the {@code ResultSet} on the table.
    * <p>
@@ -810,41 +1263,957 @@ public class Table extends AbstractDbData<Table> {
    * @throws SQLException SQL Exception.
    */
   private void collectPrimaryKeyName(Connection connection) throws SQLException {
-    String catalog = getCatalog(connection);
-    String schema = getSchema(connection);
-    List<String> pksNameList = new ArrayList<>();
-    DatabaseMetaData metaData = connection.getMetaData();
+    setPksNameList(getPrimaryKeysNameFromDb(connection, super.getColumnsNameList()));
+  }
 
-    String tableName = name;
-    try (ResultSet resultSet = metaData.getTables(catalog, schema, null, new String[] { "TABLE" })) {
-      LetterCase letterCase = getTableLetterCase();
-      while (resultSet.next()) {
-        String tableResult = resultSet.getString("TABLE_NAME");
-        if (letterCase.isEqual(tableName, tableResult)) {
-          tableName = tableResult;
-          break;
-        }
-      }
-    }
+  /**
+   * Returns the primary key names read from the {@code Connection} to the database.
+   *
+   * @param connection       The {@code Connection} to the database.
+   * @param columnsNameList The names of the columns among which are the primary keys.
+   * @return The primary key names.
+   * @throws SQLException SQL Exception.
+   */
+  private List<String> getPrimaryKeysNameFromDb(Connection connection, List<String> columnsNameList)
+      throws SQLException {
 
-    try (ResultSet resultSet = metaData.getPrimaryKeys(catalog, schema, tableName)) {
-      LetterCase letterCase = getPrimaryKeyLetterCase();
-      while (resultSet.next()) {
-        String columnName = resultSet.getString("COLUMN_NAME");
-        if (NameComparator.INSTANCE.contains(getColumnsNameList(), columnName, letterCase)) {
-          String pkName = letterCase.convert(columnName);
-          pksNameList.add(pkName);
-        }
+    List<String> primaryKeysNameList = primaryKeysNameFromMetadata;
+    if (primaryKeysNameList == null) {
+      primaryKeysNameList = readPrimaryKeysNameFromMetadata(connection);
+      primaryKeysNameFromMetadata = primaryKeysNameList;
+    }
+    LetterCase letterCase = getPrimaryKeyLetterCase();
+    List<String> pksNameList = new ArrayList<>();
+    for (String columnName : primaryKeysNameList) {
+      if (NameComparator.INSTANCE.contains(columnsNameList, columnName, letterCase)) {
+        pksNameList.add(letterCase.convert(columnName));
       }
     }
-    setPksNameList(pksNameList);
+    return pksNameList;
   }
 
   /**
-   * Specific implementation of the loading for a {@code Table}.
+   * Reads the names of the primary keys in the metadata of the {@code Connection} to the database.
    *
-   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#load()} private method.
-   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @param connection The {@code Connection} to the database.
+   * @return The names of the primary keys (as written in the metadata).
+   * @throws SQLException SQL Exception.
+   */
+  private List<String> readPrimaryKeysNameFromMetadata(Connection connection) throws SQLException {
+    boolean monitored = DbListeners.isEnabled();
+    long start = monitored ? System.nanoTime() : 0;
+    String catalog = getCatalog(connection);
+    String schema = getSchema(connection);
+    List<String> pksNameList = new ArrayList<>();
+    DatabaseMetaData metaData = connection.getMetaData();
+
+    String tableName = readTableNameFromMetadata(metaData, catalog, schema);
+    try (ResultSet resultSet = metaData.getPrimaryKeys(catalog, schema, tableName)) {
+      while (resultSet.next()) {
+        pksNameList.add(resultSet.getString("COLUMN_NAME"));
+      }
+    }
+    if (monitored) {
+      DbListeners.metadataRead(this, tableName, System.nanoTime() - start);
+    }
+    return pksNameList;
+  }
+  /**
+   * Returns the name of the table as written in the metadata.
+   *
+   * @param metaData The metadata of the database.
+   * @param catalog  The catalog.
+   * @param schema   The schema.
+   * @return The name of the table in the metadata ({@link #getName()} if not found).
+   * @throws SQLException SQL Exception.
+   */
+  private String readTableNameFromMetadata(DatabaseMetaData metaData, String catalog, String schema)
+      throws SQLException {
+    try (ResultSet resultSet = metaData.getTables(catalog, schema, null, new String[] { "TABLE" })) {
+      LetterCase letterCase = getTableLetterCase();
+      while (resultSet.next()) {
+        String tableResult = resultSet.getString("TABLE_NAME");
+        if (letterCase.isEqual(name, tableResult)) {
+          return tableResult;
+        }
+      }
+    }
+    return name;
+  }
+
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * With lazy columns and if the table is not loaded yet, the names are read in the metadata.
+   * </p>
+   */
+  @Override
+  public List<String> getColumnsNameList() {
+    if (isLoadingColumnsLazily()) {
+      return getLazyColumnsList().columnsNameList;
+    }
+    return super.getColumnsNameList();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * With lazy columns and if the table is not loaded yet, each column is loaded when it is accessed.
+   * </p>
+   */
+  @Override
+  public List<Column> getColumnsList() {
+    if (isLoadingColumnsLazily()) {
+      return getLazyColumnsList();
+    }
+    return super.getColumnsList();
+  }
+
+  /**
+   * Returns if the columns are loaded separately : with lazy columns, if the table is not loaded yet and if the
+   * columns are loaded from the same rows (a sampling with a percentage can use the {@code TABLESAMPLE} clause, which
+   * takes other rows at each request).
+   *
+   * @return {@code true} if the columns are loaded separately, {@code false} otherwise.
+   */
+  private boolean isLoadingColumnsLazily() {
+    return lazyColumns && (sampling == null || sampling.getRepeatableSampling() == sampling) && !isLoaded();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * With a page size and if the table is not loaded yet, the rows are loaded by pages when they are accessed.
+   * </p>
+   */
+  @Override
+  public List<Row> getRowsList() {
+    if (pageSize > 0 && sampling == null && !isLoaded()) {
+      PagedRowsList rowsList = getPagedRowsList();
+      if (rowsList != null) {
+        return rowsList;
+      }
+    }
+    return super.getRowsList();
+  }
+
+  /**
+   * Returns the list of the rows loaded by pages.
+   *
+   * @return The list of the rows or {@code null} if the rows can not be loaded by pages.
+   */
+  private PagedRowsList getPagedRowsList() {
+    lazyLoadingLock.lock();
+    try {
+      return getPagedRowsListLocked();
+    } finally {
+      lazyLoadingLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the list of the rows loaded by pages (called with the lock held).
+   *
+   * @return The list of the rows or {@code null} if the rows can not be loaded by pages.
+   */
+  private PagedRowsList getPagedRowsListLocked() {
+    if (pagedRowsList == null) {
+      if (name == null) {
+        throw new NullPointerException("name can not be null");
+      }
+      if (columnsToOrder != null) {
+        return null;
+      }
+      List<String> pksNameList;
+      try (Connection connection = getConnection()) {
+        pksNameList = getPrimaryKeysNameFromDb(connection, columnsList);
+        if (!arePrimaryKeysOrderedLikeRows(connection, pksNameList)) {
+          return null;
+        }
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+      List<String> columnsNameList = getColumnsNameFromMetadata();
+      List<String> pksToOrder = new ArrayList<>();
+      for (String pkName : pksNameList) {
+        int index = NameComparator.INSTANCE.indexOf(columnsNameList, pkName, getPrimaryKeyLetterCase());
+        if (index == -1) {
+          return null;
+        }
+        pksToOrder.add(columnsNameList.get(index));
+      }
+      Number count = getAggregate("COUNT(*)");
+      if (pksToOrder.isEmpty() || count == null) {
+        return null;
+      }
+      pagedRowsList = new PagedRowsList(pksToOrder, count.intValue());
+    }
+    return pagedRowsList;
+  }
+
+  /**
+   * Returns if the database orders the primary keys like the loaded rows are sorted (see {@link #sortRows()}).
+   * <p>
+   * It is the case of the numbers and of the dates/times. The texts are ordered with the collation of the database
+   * (which can ignore the case for example) and the other types can be ordered differently (binaries, UUID, ...).
+   * </p>
+   *
+   * @param connection  The {@code Connection} to the database.
+   * @param pksNameList The names of the primary keys.
+   * @return {@code true} if all the primary keys are numbers or dates/times.
+   * @throws SQLException SQL Exception.
+   */
+  private boolean arePrimaryKeysOrderedLikeRows(Connection connection, List<String> pksNameList) throws SQLException {
+    boolean monitored = DbListeners.isEnabled();
+    long start = monitored ? System.nanoTime() : 0;
+    String catalog = getCatalog(connection);
+    String schema = getSchema(connection);
+    DatabaseMetaData metaData = connection.getMetaData();
+    String tableName = readTableNameFromMetadata(metaData, catalog, schema);
+
+    LetterCase letterCase = getPrimaryKeyLetterCase();
+    int orderedPksNumber = 0;
+    try (ResultSet resultSet = metaData.getColumns(catalog, schema, tableName, null)) {
+      while (resultSet.next()) {
+        String columnName = resultSet.getString("COLUMN_NAME");
+        if (NameComparator.INSTANCE.contains(pksNameList, columnName, letterCase)) {
+          switch (resultSet.getInt("DATA_TYPE")) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+              orderedPksNumber++;
+              break;
+            default:
+              return false;
+          }
+        }
+      }
+    }
+    if (monitored) {
+      DbListeners.metadataRead(this, tableName, System.nanoTime() - start);
+    }
+    return orderedPksNumber == pksNameList.size();
+  }
+
+  /**
+   * Returns the list of the columns loaded separately.
+   *
+   * @return The list of the columns.
+   */
+  private LazyColumnsList getLazyColumnsList() {
+    lazyLoadingLock.lock();
+    try {
+      if (lazyColumnsList == null) {
+        if (name == null) {
+          throw new NullPointerException("name can not be null");
+        }
+        lazyColumnsList = new LazyColumnsList(getColumnsNameFromMetadata());
+      }
+      return lazyColumnsList;
+    } finally {
+      lazyLoadingLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the names of the columns to load, read in the metadata.
+   *
+   * @return The names of the columns.
+   */
+  private List<String> getColumnsNameFromMetadata() {
+    List<String> columnsNameList = new ArrayList<>();
+    for (String column : columnsToCheck == null ? columnsList : Arrays.asList(columnsToCheck)) {
+      if (columnsToExclude == null || !Arrays.asList(columnsToExclude).contains(column)) {
+        columnsNameList.add(column);
+      }
+    }
+    return columnsNameList;
+  }
+
+  /**
+   * Returns if the LOBs can be loaded again with the primary keys.
+   *
+   * @param connection The {@code Connection} to the database.
+   * @return {@code true} if the table has primary keys and if they are among the columns to load.
+   * @throws SQLException SQL Exception.
+   */
+  private boolean canLoadLobsAgain(Connection connection) throws SQLException {
+    List<String> pksNameList = getPrimaryKeysNameFromDb(connection, columnsList);
+    List<String> columnsNameList = getColumnsNameFromMetadata();
+    for (String pkName : pksNameList) {
+      if (!NameComparator.INSTANCE.contains(columnsNameList, pkName, getPrimaryKeyLetterCase())) {
+        return false;
+      }
+    }
+    return !pksNameList.isEmpty();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  boolean hasLazyLobs() {
+    return lobsLoadedLazily;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  Object loadLob(String columnName, Row row) {
+    List<String> pksNameList = row.getPksNameList();
+    Value[] pksValues = row.getPksValues();
+    StringBuilder stringBuilder = new StringBuilder("SELECT ");
+    stringBuilder.append(encode(columnName)).append(" FROM ").append(encode(name)).append(" WHERE ");
+    for (int index = 0; index < pksNameList.size(); index++) {
+      if (index > 0) {
+        stringBuilder.append(" AND ");
+      }
+      stringBuilder.append(encode(pksNameList.get(index))).append(" = ?");
+    }
+    try (Connection connection = getConnection();
+         PreparedStatement statement = prepareStatement(connection, stringBuilder.toString())) {
+      for (int index = 0; index < pksValues.length; index++) {
+        statement.setObject(index + 1, pksValues[index].getValue());
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        if (!resultSet.next()) {
+          throw new AssertJDBException("The row of the value of the column %s does not exist anymore in the database",
+                                       columnName);
+        }
+        if (resultSet.getMetaData().getColumnType(1) == Types.CLOB) {
+          return resultSet.getString(1);
+        }
+        return resultSet.getBytes(1);
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns a copy of this table (which is not loaded).
+   *
+   * @return The copy.
+   */
+  Table getCopy() {
+    Table table = new Table();
+    if (getSource() != null) {
+      table.setSource(getSource());
+    }
+    if (getDataSource() != null) {
+      table.setDataSource(getDataSource());
+    }
+    table.setLetterCases(getTableLetterCase(), getColumnLetterCase(), getPrimaryKeyLetterCase());
+    table.setFetchStrategy(getFetchStrategy());
+    table.name = name;
+    table.columnsList = columnsList;
+    table.startDelimiter = startDelimiter;
+    table.endDelimiter = endDelimiter;
+    table.columnsToCheck = columnsToCheck;
+    table.columnsToExclude = columnsToExclude;
+    table.columnsToOrder = columnsToOrder;
+    table.where = where;
+    table.whereParameters = whereParameters;
+    table.lazyLobs = lazyLobs;
+    table.sampling = sampling;
+    table.primaryKeysNameFromMetadata = primaryKeysNameFromMetadata;
+    return table;
+  }
+
+  /**
+   * List of the columns which are loaded when they are accessed.
+   * <p>
+   * Each column is loaded with the primary keys (to have the rows in the same order than in the whole table). Without
+   * primary keys, the rows of two columns loaded separately could be in a different order : the whole table is loaded
+   * instead.
+   * </p>
+   */
+  private final class LazyColumnsList extends AbstractList<Column> {
+
+    /**
+     * The names of the columns.
+     */
+    private final List<String> columnsNameList;
+    /**
+     * The columns already loaded.
+     */
+    private final Column[] columns;
+    /**
+     * The names of the primary keys ({@code null} before the loading of the first column).
+     */
+    private List<String> pksNameList;
+    /**
+     * The lock of the loading of the columns.
+     */
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * Constructor.
+     *
+     * @param columnsNameList The names of the columns.
+     */
+    private LazyColumnsList(List<String> columnsNameList) {
+      this.columnsNameList = Collections.unmodifiableList(columnsNameList);
+      this.columns = new Column[columnsNameList.size()];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Column get(int index) {
+      lock.lock();
+      try {
+        Column column = columns[index];
+        if (column == null) {
+          column = new LazyColumn(columnsNameList.get(index), getColumnLetterCase());
+          columns[index] = column;
+        }
+        return column;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+      return columnsNameList.size();
+    }
+
+    /**
+     * Loads the values of a column (with the primary keys to have the rows in the same order than in the whole table).
+     * <p>
+     * The column is loaded with a copy of the table : the copy has the same columns to order (followed by the primary
+     * keys during the loading) and the same sampling, so it has the same rows in the same order.
+     * </p>
+     *
+     * @param columnName The name of the column.
+     * @return The values of the column.
+     */
+    private List<Value> loadValues(String columnName) {
+      lock.lock();
+      try {
+        if (pksNameList == null) {
+          try (Connection connection = getConnection()) {
+            pksNameList = getPrimaryKeysNameFromDb(connection, columnsList);
+          } catch (SQLException e) {
+            throw new AssertJDBException(e);
+          }
+        }
+        if (pksNameList.isEmpty()) {
+          // Nothing gives the same order to the rows of the columns loaded separately
+          int indexOf = NameComparator.INSTANCE.indexOf(Table.super.getColumnsNameList(), columnName,
+                                                        getColumnLetterCase());
+          return Table.super.getColumnsList().get(indexOf).getValuesList();
+        }
+        List<String> columnsToLoad = new ArrayList<>();
+        for (String pkName : pksNameList) {
+          int indexOf = NameComparator.INSTANCE.indexOf(columnsList, pkName, getPrimaryKeyLetterCase());
+          columnsToLoad.add(columnsList.get(indexOf));
+        }
+        if (!columnsToLoad.contains(columnName)) {
+          columnsToLoad.add(columnName);
+        }
+        Table table = getCopy();
+        table.columnsToCheck = columnsToLoad.toArray(new String[0]);
+        table.columnsToExclude = null;
+        return table.getColumn(columnsToLoad.indexOf(columnName)).getValuesList();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Column whose values are loaded when they are accessed.
+   * <p>
+   * Before this loading, the number of {@code null} values is computed by the database (so the values are not
+   * transferred).
+   * </p>
+   */
+  private final class LazyColumn extends Column {
+
+    /**
+     * The values of the column ({@code null} before the loading).
+     */
+    private volatile List<Value> valuesList;
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the column.
+     * @param columnLetterCase The letter case of the columns.
+     */
+    private LazyColumn(String name, LetterCase columnLetterCase) {
+      super(name, null, columnLetterCase, sampling);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Value> getValuesList() {
+      List<Value> valuesList = this.valuesList;
+      if (valuesList == null) {
+        valuesList = lazyColumnsList.loadValues(getName());
+        this.valuesList = valuesList;
+      }
+      return valuesList;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumberOfNullValues() {
+      if (valuesList == null) {
+        Number count = getAggregate("COUNT(*) - COUNT(" + encode(getName()) + ")");
+        if (count != null) {
+          return count.intValue();
+        }
+      }
+      return super.getNumberOfNullValues();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumberOfNotNullValues() {
+      if (valuesList == null) {
+        Number count = getAggregate("COUNT(" + encode(getName()) + ")");
+        if (count != null) {
+          return count.intValue();
+        }
+      }
+      return super.getNumberOfNotNullValues();
+    }
+  }
+
+  /**
+   * List of the rows which are loaded by pages when they are accessed.
+   * <p>
+   * The pages are read in the order of the primary keys : a page starts after the last primary keys of the previous
+   * page. These last primary keys are kept for the last {@value #MAX_KNOWN_PAGES} pages accessed, so going back to a
+   * page evicted from the cache is a single request. To reach a page further, the primary keys of the pages in between
+   * are read page by page.
+   * </p>
+   */
+  private final class PagedRowsList extends AbstractList<Row> implements RandomAccess {
+
+    /**
+     * The maximum number of pages whose last primary keys are kept.
+     */
+    private static final int MAX_KNOWN_PAGES = 1024;
+
+    /**
+     * The names of the primary keys (in the order of the pagination).
+     */
+    private final List<String> pksNameList;
+    /**
+     * The number of rows.
+     */
+    private final int size;
+    /**
+     * The pages kept in memory (the eldest accessed page is removed first).
+     */
+    private final Map<Integer, List<Row>> pages;
+    /**
+     * The values of the primary keys of the last row of the pages already read (the eldest accessed page is removed
+     * first).
+     */
+    private final Map<Integer, Object[]> lastPksValues = new LinkedHashMap<Integer, Object[]>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, Object[]> eldest) {
+        return size() > MAX_KNOWN_PAGES;
+      }
+    };
+    /**
+     * The index of the last accessed page.
+     */
+    private int lastPageIndex = -1;
+    /**
+     * The lock of the loading of the pages.
+     */
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * Constructor.
+     *
+     * @param pksNameList The names of the primary keys.
+     * @param size        The number of rows.
+     */
+    private PagedRowsList(List<String> pksNameList, int size) {
+      this.pksNameList = pksNameList;
+      this.size = size;
+      final int maxPages = maxCachedPages;
+      this.pages = new LinkedHashMap<Integer, List<Row>>(maxPages + 1, 1f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<Row>> eldest) {
+          return size() > maxPages;
+        }
+      };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Row get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+      lock.lock();
+      try {
+        int pageIndex = index / pageSize;
+        List<Row> page = pages.get(pageIndex);
+        if (page == null) {
+          page = loadPages(pageIndex);
+        }
+        lastPageIndex = pageIndex;
+        int indexInPage = index % pageSize;
+        if (indexInPage >= page.size()) {
+          throw new AssertJDBException("The row at index %s does not exist anymore in the database", index);
+        }
+        return page.get(indexInPage);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+      return size;
+    }
+
+    /**
+     * Loads the page in parameter (and the next one during a sequential access).
+     *
+     * @param pageIndex The index of the page.
+     * @return The page.
+     */
+    private List<Row> loadPages(int pageIndex) {
+      if (pageIndex > 0 && !lastPksValues.containsKey(pageIndex - 1)) {
+        collectLastPksValues(pageIndex - 1);
+      }
+      boolean sequential = pageIndex == lastPageIndex + 1 && (pageIndex + 1) * pageSize < size;
+      int numberOfPages = sequential ? 2 : 1;
+      Table table = getPageCopy(pageIndex == 0 ? null : lastPksValues.get(pageIndex - 1), columnsToCheck,
+                                numberOfPages * pageSize);
+      List<Row> rowsList = table.getRowsList();
+      List<Row> page = null;
+      for (int index = numberOfPages - 1; index >= 0; index--) {
+        int from = Math.min(index * pageSize, rowsList.size());
+        int to = Math.min(from + pageSize, rowsList.size());
+        List<Row> rows = new ArrayList<>(rowsList.subList(from, to));
+        if (rows.size() == pageSize) {
+          lastPksValues.put(pageIndex + index, getPksValues(rows.get(pageSize - 1)));
+        }
+        // The requested page is put last to be the most recently used.
+        pages.put(pageIndex + index, rows);
+        page = rows;
+      }
+      return page;
+    }
+
+    /**
+     * Collects the last primary keys of the pages up to the page in parameter by loading only the primary keys, page
+     * by page from the last known page (so at most a page of primary keys is in memory).
+     *
+     * @param pageIndex The index of the page.
+     */
+    private void collectLastPksValues(int pageIndex) {
+      int knownPageIndex = pageIndex - 1;
+      while (knownPageIndex >= 0 && !lastPksValues.containsKey(knownPageIndex)) {
+        knownPageIndex--;
+      }
+      String[] pksToLoad = pksNameList.toArray(new String[0]);
+      Object[] pksValues = knownPageIndex == -1 ? null : lastPksValues.get(knownPageIndex);
+      for (int index = knownPageIndex + 1; index <= pageIndex; index++) {
+        List<Row> rowsList = getPageCopy(pksValues, pksToLoad, pageSize).getRowsList();
+        if (rowsList.size() < pageSize) {
+          throw new AssertJDBException("The page at index %s does not exist anymore in the database", pageIndex);
+        }
+        pksValues = getPksValues(rowsList.get(pageSize - 1));
+        lastPksValues.put(index, pksValues);
+      }
+    }
+
+    /**
+     * Returns a copy of this table to load rows after primary keys in the order of the primary keys.
+     *
+     * @param pksValues      The values of the primary keys after which the rows are loaded ({@code null} for the
+     *                       first row).
+     * @param columnsToCheck The columns to load.
+     * @param maxRows        The maximum number of rows to load.
+     * @return The copy.
+     */
+    private Table getPageCopy(Object[] pksValues, String[] columnsToCheck, int maxRows) {
+      Table table = getCopy();
+      table.columnsToCheck = columnsToCheck;
+      table.maxRows = maxRows;
+      Order[] orders = new Order[pksNameList.size()];
+      for (int index = 0; index < orders.length; index++) {
+        orders[index] = Order.asc(pksNameList.get(index));
+      }
+      table.columnsToOrder = orders;
+      if (pksValues != null) {
+        // (pk1 > ?) OR (pk1 = ? AND pk2 > ?) OR ...
+        StringBuilder stringBuilder = new StringBuilder();
+        List<Object> parameters = new ArrayList<>(Arrays.asList(whereParameters));
+        if (where != null) {
+          stringBuilder.append("(").append(where).append(") AND ");
+        }
+        stringBuilder.append("(");
+        for (int index = 0; index < pksValues.length; index++) {
+          if (index > 0) {
+            stringBuilder.append(" OR ");
+          }
+          stringBuilder.append("(");
+          for (int equalIndex = 0; equalIndex < index; equalIndex++) {
+            stringBuilder.append(encode(pksNameList.get(equalIndex))).append(" = ? AND ");
+            parameters.add(pksValues[equalIndex]);
+          }
+          stringBuilder.append(encode(pksNameList.get(index))).append(" > ?)");
+          parameters.add(pksValues[index]);
+        }
+        stringBuilder.append(")");
+        table.setWhere(stringBuilder.toString(), parameters.toArray());
+      }
+      return table;
+    }
+
+    /**
+     * Returns the values of the primary keys of a row.
+     *
+     * @param row The row.
+     * @return The values of the primary keys.
+     */
+    private Object[] getPksValues(Row row) {
+      Value[] values = row.getPksValues();
+      Object[] pksValues = new Object[values.length];
+      for (int index = 0; index < values.length; index++) {
+        pksValues[index] = values[index].getValue();
+      }
+      return pksValues;
+    }
+  }
+
+  /**
+   * Returns the {@link Row} with the primary keys values in parameter.
+   * <p>
+   * If the table is not loaded yet, only the row is loaded from the database by adding a condition on the primary keys
+   * to the {@code WHERE} clause (the table stays not loaded). In both cases, the primary keys are the ones among the
+   * columns to load (see {@link Row#getPksValues()}). A table with a sampling is loaded, to only find the rows of the
+   * sample.
+   * </p>
+   *
+   * @param pksValues The primary keys values.
+   * @return The {@link Row} with the same primary keys values or {@code null} if there is no row.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   * @since 2.1.0
+   */
+  public Row getRowWithPks(Object... pksValues) {
+    if (isLoaded() || sampling != null) {
+      for (Row row : getRowsList()) {
+        Value[] values = row.getPksValues();
+        boolean equal = values.length != 0 && values.length == pksValues.length;
+        for (int index = 0; equal && index < values.length; index++) {
+          equal = Values.areEqual(values[index], pksValues[index]);
+        }
+        if (equal) {
+          return row;
+        }
+      }
+      return null;
+    }
+
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+    List<String> pksNameList = new ArrayList<>();
+    try (Connection connection = getConnection()) {
+      // Like in the loading : only the primary keys among the columns to load
+      List<String> columnsNameList = getColumnsNameFromMetadata();
+      for (String pkName : getPrimaryKeysNameFromDb(connection, columnsList)) {
+        int index = NameComparator.INSTANCE.indexOf(columnsNameList, pkName, getPrimaryKeyLetterCase());
+        if (index != -1) {
+          pksNameList.add(columnsNameList.get(index));
+        }
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+    if (pksNameList.isEmpty() || pksNameList.size() != pksValues.length) {
+      return null;
+    }
+
+    StringBuilder stringBuilder = new StringBuilder();
+    if (where != null) {
+      stringBuilder.append("(").append(where).append(") AND ");
+    }
+    for (int index = 0; index < pksNameList.size(); index++) {
+      if (index > 0) {
+        stringBuilder.append(" AND ");
+      }
+      stringBuilder.append(encode(pksNameList.get(index))).append(" = ?");
+    }
+    Object[] parameters = Arrays.copyOf(whereParameters, whereParameters.length + pksValues.length);
+    System.arraycopy(pksValues, 0, parameters, whereParameters.length, pksValues.length);
+
+    Table table = getCopy().setWhere(stringBuilder.toString(), parameters);
+    List<Row> rowsList = table.getRowsList();
+    return rowsList.isEmpty() ? null : rowsList.get(0);
+  }
+
+  /**
+   * Loads the table by ranges of primary keys at the same time.
+   *
+   * @param connection The {@code Connection} to the database.
+   * @return {@code true} if the table is loaded, {@code false} if the primary key can not be split in ranges.
+   * @throws SQLException SQL Exception.
+   */
+  private boolean loadByPartitions(Connection connection) throws SQLException {
+    List<String> pksNameList = getPrimaryKeysNameFromDb(connection, columnsList);
+    List<String> columnsNameList = getColumnsNameFromMetadata();
+    if (pksNameList.size() != 1) {
+      return false;
+    }
+    int pkIndex = NameComparator.INSTANCE.indexOf(columnsNameList, pksNameList.get(0), getPrimaryKeyLetterCase());
+    if (pkIndex == -1) {
+      return false;
+    }
+    String pkName = columnsNameList.get(pkIndex);
+
+    BigDecimal min;
+    BigDecimal max;
+    Object[] parameters = getAggregateParameters();
+    String request = getAggregateRequest("MIN(" + encode(pkName) + "), MAX(" + encode(pkName) + ")");
+    try (PreparedStatement statement = prepareStatement(connection, request)) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        if (!resultSet.next()) {
+          return false;
+        }
+        Object minObject = resultSet.getObject(1);
+        Object maxObject = resultSet.getObject(2);
+        if (!(minObject instanceof Number) || !(maxObject instanceof Number)) {
+          return false;
+        }
+        min = new BigDecimal(minObject.toString());
+        max = new BigDecimal(maxObject.toString());
+      }
+    }
+
+    // The bounds between the ranges (the first range has no lower bound and the last one no upper bound)
+    List<BigDecimal> boundsList = new ArrayList<>();
+    int scale = Math.max(min.scale(), max.scale());
+    BigDecimal interval = max.subtract(min);
+    for (int index = 1; index < partitions; index++) {
+      BigDecimal bound = min.add(interval.multiply(BigDecimal.valueOf(index))
+                                         .divide(BigDecimal.valueOf(partitions), scale, RoundingMode.FLOOR));
+      if (bound.compareTo(min) > 0
+          && (boundsList.isEmpty() || bound.compareTo(boundsList.get(boundsList.size() - 1)) > 0)) {
+        boundsList.add(bound);
+      }
+    }
+    if (boundsList.isEmpty()) {
+      return false;
+    }
+
+    List<CompletableFuture<Table>> futuresList = new ArrayList<>();
+    for (int index = 0; index <= boundsList.size(); index++) {
+      StringBuilder stringBuilder = new StringBuilder();
+      List<Object> partitionParameters = new ArrayList<>(Arrays.asList(whereParameters));
+      if (where != null) {
+        stringBuilder.append("(").append(where).append(")");
+      }
+      if (index > 0) {
+        stringBuilder.append(stringBuilder.length() > 0 ? " AND " : "").append(encode(pkName)).append(" >= ?");
+        partitionParameters.add(boundsList.get(index - 1));
+      }
+      if (index < boundsList.size()) {
+        stringBuilder.append(stringBuilder.length() > 0 ? " AND " : "").append(encode(pkName)).append(" < ?");
+        partitionParameters.add(boundsList.get(index));
+      }
+      Table table = getCopy().setWhere(stringBuilder.toString(), partitionParameters.toArray());
+      table.columnsToOrder = new Order[] { Order.asc(pkName) };
+      futuresList.add(CompletableFuture.supplyAsync(() -> {
+        table.getRowsList();
+        return table;
+      }, partitionsExecutor));
+    }
+
+    List<String> loadedColumnsNameList = null;
+    List<Row> rowsList = new ArrayList<>();
+    for (CompletableFuture<Table> future : futuresList) {
+      Table table;
+      try {
+        table = future.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+      if (loadedColumnsNameList == null) {
+        loadedColumnsNameList = table.getColumnsNameList();
+      }
+      rowsList.addAll(table.getRowsList());
+    }
+    setColumnsNameList(loadedColumnsNameList);
+    setRowsList(rowsList);
+    return true;
+  }
+
+  /**
+   * Sets the clause or the condition of the sampling from the database product and the primary key of the table.
+   *
+   * @param connection The connection.
+   * @throws SQLException SQL Exception.
+   * @throws AssertJDBException If the sample must be taken with a modulo and the primary key is not a single column.
+   */
+  private void setSamplingFromDb(Connection connection) throws SQLException {
+    samplingClause = sampling.getTableSampleClause(connection.getMetaData().getDatabaseProductName());
+    samplingCondition = null;
+    if (samplingClause == null) {
+      List<String> pksNameList = getPrimaryKeysNameFromDb(connection, columnsList);
+      if (pksNameList.size() != 1) {
+        throw new AssertJDBException("The table %s can not be sampled with a modulo : it needs a single numeric primary key",
+                                     name);
+      }
+      samplingCondition = sampling.getModuloCondition(encode(pksNameList.get(0)));
+    }
+  }
+
+  /**
+   * Returns if a column is in the columns to order.
+   *
+   * @param columnName The name of the column.
+   * @return {@code true} if the column is in the columns to order, {@code false} otherwise.
+   */
+  private boolean isInColumnsToOrder(String columnName) {
+    if (columnsToOrder != null) {
+      for (Order order : columnsToOrder) {
+        if (getColumnLetterCase().isEqual(order.getName(), columnName)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Specific implementation of the loading for a {@code Table}.
+   *
+   * @param connection {@link Connection} to the database provided by {@link AbstractDbData#load()} private method.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
    * @throws SQLException         SQL Exception.
    * @see AbstractDbData#loadImpl(Connection)
    */
@@ -854,13 +2223,63 @@ public class Table extends AbstractDbData<Table> {
       throw new NullPointerException("name can not be null");
     }
 
-    try (Statement statement = connection.createStatement()) {
-      try (ResultSet resultSet = statement.executeQuery(getRequest())) {
-        collectColumnsNameFromResultSet(resultSet);
-        collectRowsFromResultSet(resultSet);
+    if (sampling != null) {
+      setSamplingFromDb(connection);
+    } else if (partitions > 1 && columnsToOrder == null && loadByPartitions(connection)) {
+      collectPrimaryKeyName(connection);
+      return;
+    }
+    lobsLoadedLazily = lazyLobs && canLoadLobsAgain(connection);
+    // Without order, the rows are sorted by the database on the primary keys (and only checked after). With columns
+    // to order, the primary keys order the rows which are equal on these columns : each loading of the table (a lazy
+    // column for example) gives the same order
+    String request = getRequest();
+    List<String> pksNameList = null;
+    if (columnsList != null) {
+      pksNameList = getPrimaryKeysNameFromDb(connection, columnsList);
+      boolean ordered = columnsToOrder != null && columnsToOrder.length > 0;
+      for (String pkName : pksNameList) {
+        if (!isInColumnsToOrder(pkName)) {
+          request += (ordered ? ", " : " ORDER BY ") + encode(pkName);
+          ordered = true;
+        }
+      }
+    }
+    if (whereParameters.length == 0) {
+      try (Statement statement = createStatement(connection)) {
+        statement.setMaxRows(maxRows);
+        try (ResultSet resultSet = statement.executeQuery(request)) {
+          collectColumnsNameFromResultSet(resultSet);
+          collectRowsFromResultSet(resultSet);
+        }
+      }
+    } else {
+      PreparedStatement statement = prepareCachedStatement(connection, request);
+      try {
+        statement.setMaxRows(maxRows);
+        for (int i = 0; i < whereParameters.length; i++) {
+          statement.setObject(i + 1, whereParameters[i]);
+        }
+        try (ResultSet resultSet = statement.executeQuery()) {
+          collectColumnsNameFromResultSet(resultSet);
+          collectRowsFromResultSet(resultSet);
+        }
+      } finally {
+        releaseStatement(statement);
+      }
+    }
+    if (pksNameList == null) {
+      collectPrimaryKeyName(connection);
+    } else {
+      // The primary keys are already read : only keep the loaded ones
+      List<String> loadedPksNameList = new ArrayList<>();
+      for (String pkName : pksNameList) {
+        if (NameComparator.INSTANCE.contains(super.getColumnsNameList(), pkName, getPrimaryKeyLetterCase())) {
+          loadedPksNameList.add(pkName);
+        }
       }
+      setPksNameList(loadedPksNameList);
     }
-    collectPrimaryKeyName(connection);
     if (columnsToOrder == null) {
       sortRows();
     }
@@ -41,6 +41,11 @@ public class Value implements DbElement, WithColumnLetterCase {
    * The value.
    */
   private final Object value;
+  /**
+   * The content of a LOB which is loaded at the first access ({@code null} if the value is not a LOB loaded lazily).
+   * @since 2.1.0
+   */
+  private final LazyLob lob;
 
   /**
    * The type of value.
@@ -114,10 +119,41 @@ public class Value implements DbElement, WithColumnLetterCase {
    * @param columnLetterCase The letter case of the columns.
    */
   Value(String columnName, Object value, LetterCase columnLetterCase) {
+    this(columnName, value, null, columnLetterCase);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param columnName       The name of the column.
+   * @param value            The value ({@code null} for a LOB loaded lazily).
+   * @param lob              The content of a LOB loaded lazily ({@code null} otherwise).
+   * @param columnLetterCase The letter case of the columns.
+   * @since 2.1.0
+   */
+  private Value(String columnName, Object value, LazyLob lob, LetterCase columnLetterCase) {
     this.columnName = columnName;
     this.value = value;
+    this.lob = lob;
     this.columnLetterCase = columnLetterCase;
-    valueType = getType(value);
+    if (lob == null) {
+      valueType = getType(value);
+    } else {
+      valueType = lob.isText() ? ValueType.TEXT : ValueType.BYTES;
+    }
+  }
+
+  /**
+   * Returns a LOB value which is loaded at the first access.
+   *
+   * @param columnName       The name of the column.
+   * @param lob              The content of the LOB.
+   * @param columnLetterCase The letter case of the columns.
+   * @return The LOB value.
+   * @since 2.1.0
+   */
+  static Value lazyLob(String columnName, LazyLob lob, LetterCase columnLetterCase) {
+    return new Value(columnName, null, lob, columnLetterCase);
   }
 
   /**
@@ -143,9 +179,64 @@ public class Value implements DbElement, WithColumnLetterCase {
    * @return The value.
    */
   public Object getValue() {
+    if (lob != null) {
+      return lob.getContent();
+    }
     return value;
   }
 
+  /**
+   * Returns if the value is {@code null}.
+   * <p>
+   * Unlike {@code getValue() == null}, the content of a LOB loaded lazily is not loaded.
+   * </p>
+   *
+   * @return {@code true} if the value is {@code null}, {@code false} otherwise.
+   * @since 2.1.0
+   */
+  public boolean isNull() {
+    return lob == null && value == null;
+  }
+
+  /**
+   * Returns the digest of the content of a LOB loaded lazily.
+   * <p>
+   * The digest is computed with SHA-256 during the loading (the digest of a CLOB is the digest of its UTF-8 encoding).
+   * It allows to compare the content without loading it.
+   * </p>
+   *
+   * @return The digest or {@code null} if the value is not a LOB loaded lazily.
+   * @see Table#setLazyLobs(boolean)
+   * @since 2.1.0
+   */
+  public byte[] getContentDigest() {
+    return lob == null ? null : lob.getDigest().clone();
+  }
+
+  /**
+   * Returns the length of the content of a LOB loaded lazily.
+   *
+   * @return The number of bytes of a BLOB or the number of characters of a CLOB, or {@code -1} if the value is not a
+   *         LOB loaded lazily.
+   * @see Table#setLazyLobs(boolean)
+   * @since 2.1.0
+   */
+  public long getContentLength() {
+    return lob == null ? -1 : lob.getLength();
+  }
+
+  /**
+   * Returns if the content of this value is equal to the content of the value in parameter, when the two values are
+   * LOBs loaded lazily (the contents are not loaded).
+   *
+   * @param other The other value.
+   * @return {@code true} if the two values are LOBs loaded lazily with the same content, {@code false} otherwise.
+   * @since 2.1.0
+   */
+  public boolean hasSameLobContent(Value other) {
+    return lob != null && other.lob != null && lob.hasSameContent(other.lob);
+  }
+
   /**
    * Returns the type of the value.
    *
@@ -12,8 +12,8 @@
  */
 package org.assertj.db.type.lettercase;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The letter case which indicates a case conversion and a case comparison.
@@ -22,6 +22,13 @@ import java.util.Map;
  */
 public class LetterCase implements CaseConversion, CaseComparison {
 
+  /**
+   * The cache containing the different possible letter case after the first instantiation (declared before the default
+   * letter cases which are put in it during the initialization of the class).
+   */
+  private static final ConcurrentMap<CaseConversion, ConcurrentMap<CaseComparison, LetterCase>> CACHE =
+      new ConcurrentHashMap<>();
+
   /**
    * The default letter case for table.
    */
@@ -45,18 +52,13 @@ public class LetterCase implements CaseConversion, CaseComparison {
    */
   private final CaseComparison comparison;
 
-  /**
-   * The cache containing the different possible letter case after the first instantiation.
-   */
-  private static Map<CaseConversion, Map<CaseComparison, LetterCase>> cache;
-
   /**
    * Returns a instance of a letter case.
    * @param conversion The conversion of the case of a {@link java.lang.String}.
    * @param comparison The comparison on {@link java.lang.String} which consider the case.
    * @return An instance of a letter case.
    */
-  public static synchronized LetterCase getLetterCase(CaseConversion conversion, CaseComparison comparison) {
+  public static LetterCase getLetterCase(CaseConversion conversion, CaseComparison comparison) {
     if (conversion == null) {
       throw new NullPointerException("The case conversion must be not null");
     }
@@ -64,23 +66,8 @@ public class LetterCase implements CaseConversion, CaseComparison {
       throw new NullPointerException("The case comparison must be not null");
     }
 
-    if (cache == null) {
-      cache = new HashMap<>();
-    }
-    Map<CaseComparison, LetterCase> map = cache.get(conversion);
-    if (map == null) {
-      map = new HashMap<>();
-      cache.put(conversion, map);
-      LetterCase letterCase = new LetterCase(conversion, comparison);
-      map.put(comparison, letterCase);
-      return letterCase;
-    }
-    LetterCase letterCase = map.get(comparison);
-    if (letterCase == null) {
-      letterCase = new LetterCase(conversion, comparison);
-      map.put(comparison, letterCase);
-    }
-    return letterCase;
+    return CACHE.computeIfAbsent(conversion, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(comparison, key -> new LetterCase(conversion, comparison));
   }
 
   /**
@@ -93,6 +80,16 @@ public class LetterCase implements CaseConversion, CaseComparison {
     this.comparison = comparison;
   }
 
+  /**
+   * Returns the comparison on {@link java.lang.String} of this letter case.
+   *
+   * @return The comparison.
+   * @since 2.1.0
+   */
+  public CaseComparison getComparison() {
+    return comparison;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -13,12 +13,8 @@
 package org.assertj.db.util;
 
 import org.assertj.db.type.Change;
-import org.assertj.db.type.Row;
-import org.assertj.db.type.Value;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.BitSet;
 
 /**
  * Utility methods related to changes.
@@ -40,49 +36,13 @@ public class Changes {
    * @return The indexes.
    */
   public static Integer[] getIndexesOfModifiedColumns(Change change) {
-    List<Integer> indexesList = new ArrayList<>();
-    Row rowAtStartPoint = change.getRowAtStartPoint();
-    Row rowAtEndPoint = change.getRowAtEndPoint();
-    if (rowAtStartPoint != null && rowAtEndPoint != null) {
-      List<Value> valuesListAtStartPoint = rowAtStartPoint.getValuesList();
-      List<Value> valuesListAtEndPoint = rowAtEndPoint.getValuesList();
-      Iterator<Value> iteratorAtEndPoint = valuesListAtEndPoint.iterator();
-      int index = 0;
-      for (Value valueAtStartPoint : valuesListAtStartPoint) {
-        Value valueAtEndPoint  = iteratorAtEndPoint.next();
-        Object objectAtStartPoint = valueAtStartPoint.getValue();
-        Object objectAtEndPoint = valueAtEndPoint.getValue();
-
-        if ((objectAtStartPoint == null && objectAtEndPoint != null) ||
-            (objectAtStartPoint != null && !objectAtStartPoint.equals(objectAtEndPoint))) {
-
-          indexesList.add(index);
-        }
-        index++;
-      }
-    }
-    else if (rowAtStartPoint != null) {
-      List<Value> valuesListAtStartPoint = rowAtStartPoint.getValuesList();
-      int index = 0;
-      for (Value valueAtStartPoint : valuesListAtStartPoint) {
-        if (valueAtStartPoint.getValue() != null) {
-          indexesList.add(index);
-        }
-        index++;
-      }
+    BitSet modifiedColumns = change.getModifiedColumns();
+    Integer[] indexes = new Integer[modifiedColumns.cardinality()];
+    int index = 0;
+    for (int column = modifiedColumns.nextSetBit(0); column >= 0; column = modifiedColumns.nextSetBit(column + 1)) {
+      indexes[index++] = column;
     }
-    else {
-      List<Value> valuesListAtEndPoint = rowAtEndPoint.getValuesList();
-      int index = 0;
-      for (Value valueAtEndPoint : valuesListAtEndPoint) {
-        if (valueAtEndPoint.getValue() != null) {
-          indexesList.add(index);
-        }
-        index++;
-      }
-    }
-
-    return indexesList.toArray(new Integer[0]);
+    return indexes;
   }
 
 }
@@ -17,6 +17,7 @@ import org.assertj.db.type.*;
 import org.assertj.db.type.Changes;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -107,6 +108,18 @@ public class Descriptions {
     return "Row at index " + index + " of " + info.descriptionText();
   }
 
+  /**
+   * Returns the description of the {@code row} with primary keys values.
+   *
+   * @param info      Writable information about an assertion.
+   * @param pksValues The primary keys values of the row.
+   * @return The description
+   * @since 2.1.0
+   */
+  public static String getRowWithPksDescription(WritableAssertionInfo info, Object... pksValues) {
+    return "Row with primary key : " + Arrays.asList(pksValues) + " of " + info.descriptionText();
+  }
+
   /**
    * Returns the description of the {@code row}.
    *
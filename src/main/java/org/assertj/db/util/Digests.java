@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Utility methods related to the digests of the contents of the LOBs.
+ * <p>
+ * The digests are computed with the SHA-256 algorithm. The digest of a text is the digest of its UTF-8 encoding.
+ * </p>
+ *
+ * @since 2.1.0
+ */
+public class Digests {
+
+  /**
+   * The algorithm of the digests.
+   */
+  private static final String ALGORITHM = "SHA-256";
+
+  /**
+   * Private constructor.
+   */
+  private Digests() {
+    // Empty
+  }
+
+  /**
+   * Returns a new instance of {@code MessageDigest} (to compute a digest from a stream).
+   *
+   * @return The instance.
+   */
+  public static MessageDigest getMessageDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns the digest of an array of {@code byte}.
+   *
+   * @param bytes The array of {@code byte}.
+   * @return The digest.
+   */
+  public static byte[] digest(byte[] bytes) {
+    return getMessageDigest().digest(bytes);
+  }
+
+  /**
+   * Returns the digest of a text.
+   *
+   * @param text The text.
+   * @return The digest.
+   */
+  public static byte[] digest(String text) {
+    return digest(text.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -15,6 +15,8 @@ package org.assertj.db.util;
 import org.assertj.db.type.Row;
 import org.assertj.db.type.Value;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -41,29 +43,56 @@ public enum RowComparator implements Comparator<Row>{
   private static int compare(Value[] values1, Value[] values2) {
     if (values1.length == values2.length) {
       for (int index = 0; index < values1.length; index++) {
-        Value value1 = values1[index];
-        Value value2 = values2[index];
-        Object object1 = value1.getValue();
-        Object object2 = value2.getValue();
-        if (object1 == null && object2 != null) {
-          return 1;
+        int compare = compareObjects(values1[index].getValue(), values2[index].getValue());
+        if (compare != 0) {
+          return compare;
         }
-        if (object1 != null && object2 == null) {
-          return -1;
-        }
-        if (object1 instanceof Comparable && object2 instanceof Comparable) {
-          @SuppressWarnings("unchecked")
-          Comparable<Object> comparable1 = (Comparable) object1;
-          int compare = comparable1.compareTo(object2);
-          if (compare != 0) {
-            return compare;
-          }
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Compare one array of objects to another.
+   * @param objects1 The first array of objects.
+   * @param objects2 The second array of objects.
+   * @return The result.
+   * @see Comparator#compare(Object, Object)
+   */
+  private static int compareObjects(Object[] objects1, Object[] objects2) {
+    if (objects1.length == objects2.length) {
+      for (int index = 0; index < objects1.length; index++) {
+        int compare = compareObjects(objects1[index], objects2[index]);
+        if (compare != 0) {
+          return compare;
         }
       }
     }
     return 0;
   }
 
+  /**
+   * Compare one object to another (the {@code null} objects are after the others).
+   * @param object1 The first object.
+   * @param object2 The second object.
+   * @return The result.
+   * @see Comparator#compare(Object, Object)
+   */
+  private static int compareObjects(Object object1, Object object2) {
+    if (object1 == null && object2 != null) {
+      return 1;
+    }
+    if (object1 != null && object2 == null) {
+      return -1;
+    }
+    if (object1 instanceof Comparable && object2 instanceof Comparable) {
+      @SuppressWarnings("unchecked")
+      Comparable<Object> comparable1 = (Comparable) object1;
+      return comparable1.compareTo(object2);
+    }
+    return 0;
+  }
+
   /** {@inheritDoc} */
   @Override
   public int compare(Row row1, Row row2) {
@@ -79,4 +108,82 @@ public enum RowComparator implements Comparator<Row>{
     Value[] values2 = valuesList2.toArray(new Value[0]);
     return compare(values1, values2);
   }
+
+  /**
+   * Sorts the list of rows.
+   * <p>
+   * The values of the primary keys are read once for each row and the order is checked in one pass before sorting, so
+   * rows already sorted (by an {@code ORDER BY} on the primary keys for example) are not sorted again. The sort is done
+   * with {@link Arrays#parallelSort(Object[], Comparator)} which is stable like {@link List#sort(Comparator)}.
+   * </p>
+   *
+   * @param rowsList The list of rows.
+   * @return The list in parameter if it is already sorted, a new sorted list otherwise.
+   * @since 2.1.0
+   */
+  public static List<Row> sort(List<Row> rowsList) {
+    SortKey[] sortKeys = new SortKey[rowsList.size()];
+    boolean sorted = true;
+    for (int index = 0; index < sortKeys.length; index++) {
+      sortKeys[index] = new SortKey(rowsList.get(index));
+      if (sorted && index > 0 && SortKey.compare(sortKeys[index - 1], sortKeys[index]) > 0) {
+        sorted = false;
+      }
+    }
+    if (sorted) {
+      return rowsList;
+    }
+    Arrays.parallelSort(sortKeys, SortKey::compare);
+    List<Row> sortedRowsList = new ArrayList<>(sortKeys.length);
+    for (SortKey sortKey : sortKeys) {
+      sortedRowsList.add(sortKey.row);
+    }
+    return sortedRowsList;
+  }
+
+  /**
+   * A row with the values of its primary keys read once.
+   */
+  private static final class SortKey {
+
+    /**
+     * The row.
+     */
+    private final Row row;
+    /**
+     * The values of the primary keys.
+     */
+    private final Object[] pksObjects;
+
+    /**
+     * Constructor.
+     *
+     * @param row The row.
+     */
+    private SortKey(Row row) {
+      this.row = row;
+      Value[] pksValues = row.getPksValues();
+      pksObjects = new Object[pksValues.length];
+      for (int index = 0; index < pksValues.length; index++) {
+        pksObjects[index] = pksValues[index].getValue();
+      }
+    }
+
+    /**
+     * Compare one key to another like {@link RowComparator#compare(Row, Row)}.
+     *
+     * @param sortKey1 The first key.
+     * @param sortKey2 The second key.
+     * @return The result.
+     */
+    private static int compare(SortKey sortKey1, SortKey sortKey2) {
+      int compare = compareObjects(sortKey1.pksObjects, sortKey2.pksObjects);
+      if (compare != 0) {
+        return compare;
+      }
+      Value[] values1 = sortKey1.row.getValuesList().toArray(new Value[0]);
+      Value[] values2 = sortKey2.row.getValuesList().toArray(new Value[0]);
+      return RowComparator.compare(values1, values2);
+    }
+  }
 }
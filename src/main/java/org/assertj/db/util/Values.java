@@ -15,8 +15,16 @@ package org.assertj.db.util;
 import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -24,6 +32,7 @@ import java.text.ParseException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.UUID;
 
 /**
@@ -34,6 +43,16 @@ import java.util.UUID;
  */
 public class Values {
 
+  /**
+   * The size of the chunks of a file which are mapped in memory during a comparison.
+   */
+  private static final long MAPPED_CHUNK_SIZE = 64L * 1024 * 1024;
+
+  /**
+   * The size of the chunks of a stream which are read during a comparison.
+   */
+  private static final int STREAM_CHUNK_SIZE = 8192;
+
   /**
    * Private constructor.
    */
@@ -252,6 +271,13 @@ public class Values {
    * @return {@code true} if the value is equal to the array of {@code byte} parameter, {@code false} otherwise.
    */
   public static boolean areEqual(Value value, byte[] expected) {
+    byte[] digest = value.getContentDigest();
+    if (digest != null) {
+      // LOB loaded lazily : compared without loading the content
+      return expected != null && value.getValueType() == ValueType.BYTES
+             && value.getContentLength() == expected.length && Arrays.equals(digest, Digests.digest(expected));
+    }
+
     Object object = value.getValue();
     if (expected == null) {
       return object == null;
@@ -272,6 +298,93 @@ public class Values {
     return false;
   }
 
+  /**
+   * Returns if the value is equal to the content of the file in parameter.
+   * <p>
+   * The file is read by chunks mapped in memory, so its content is never loaded in the heap. If the value is a LOB
+   * loaded lazily, the content of the file is compared to the length and the digest of the LOB. Otherwise the value is
+   * the array of bytes read during the loading : only the content of the file is streamed.
+   * </p>
+   *
+   * @param value    The value.
+   * @param expected The path of the file to compare.
+   * @return {@code true} if the value is equal to the content of the file, {@code false} otherwise.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link IOException} during the reading.
+   * @since 2.1.0
+   */
+  public static boolean areEqual(Value value, Path expected) {
+    byte[] digest = value.getContentDigest();
+    Object object = digest == null ? value.getValue() : null;
+    if (digest == null && !(object instanceof byte[])) {
+      return false;
+    }
+    try (FileChannel channel = FileChannel.open(expected, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size != (digest == null ? ((byte[]) object).length : value.getContentLength())) {
+        return false;
+      }
+      MessageDigest messageDigest = digest == null ? null : Digests.getMessageDigest();
+      for (long position = 0; position < size; position += MAPPED_CHUNK_SIZE) {
+        int chunkSize = (int) Math.min(MAPPED_CHUNK_SIZE, size - position);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, chunkSize);
+        if (messageDigest != null) {
+          messageDigest.update(buffer);
+        } else if (!buffer.equals(ByteBuffer.wrap((byte[]) object, (int) position, chunkSize))) {
+          return false;
+        }
+      }
+      return messageDigest == null || Arrays.equals(digest, messageDigest.digest());
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns if the value is equal to the content of the stream in parameter.
+   * <p>
+   * The stream is read by chunks and is not closed. If the value is a LOB loaded lazily, the content of the stream is
+   * compared to the length and the digest of the LOB. Otherwise the value is the array of bytes read during the
+   * loading : only the stream is read by chunks.
+   * </p>
+   *
+   * @param value    The value.
+   * @param expected The stream to compare.
+   * @return {@code true} if the value is equal to the content of the stream, {@code false} otherwise.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link IOException} during the reading.
+   * @since 2.1.0
+   */
+  public static boolean areEqual(Value value, InputStream expected) {
+    byte[] digest = value.getContentDigest();
+    Object object = digest == null ? value.getValue() : null;
+    if (digest == null && !(object instanceof byte[])) {
+      return false;
+    }
+    try {
+      MessageDigest messageDigest = digest == null ? null : Digests.getMessageDigest();
+      byte[] buffer = new byte[STREAM_CHUNK_SIZE];
+      long position = 0;
+      int read;
+      while ((read = expected.read(buffer)) != -1) {
+        if (messageDigest != null) {
+          messageDigest.update(buffer, 0, read);
+        } else {
+          byte[] bytes = (byte[]) object;
+          if (position + read > bytes.length
+              || !ByteBuffer.wrap(buffer, 0, read).equals(ByteBuffer.wrap(bytes, (int) position, read))) {
+            return false;
+          }
+        }
+        position += read;
+      }
+      if (messageDigest != null) {
+        return position == value.getContentLength() && Arrays.equals(digest, messageDigest.digest());
+      }
+      return position == ((byte[]) object).length;
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
   /**
    * Returns if the date is equal to the {@code String} representation in parameter.
    *
@@ -396,6 +509,13 @@ public class Values {
    *                              {@code expected}.
    */
   public static boolean areEqual(Value value, String expected) {
+    byte[] digest = value.getContentDigest();
+    if (digest != null) {
+      // LOB loaded lazily : compared without loading the content
+      return expected != null && value.getValueType() == ValueType.TEXT
+             && value.getContentLength() == expected.length() && Arrays.equals(digest, Digests.digest(expected));
+    }
+
     Object object = value.getValue();
     if (expected == null) {
       return object == null;
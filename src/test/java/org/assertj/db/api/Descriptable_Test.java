@@ -14,9 +14,11 @@ package org.assertj.db.api;
 
 import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.core.description.Description;
+import org.assertj.core.description.LazyTextDescription;
 import org.assertj.core.description.TextDescription;
 import org.assertj.db.common.AbstractTest;
 import org.assertj.db.global.AbstractElement;
+import org.assertj.db.type.Request;
 import org.assertj.db.type.Table;
 import org.junit.Test;
 
@@ -55,4 +57,22 @@ public class Descriptable_Test extends AbstractTest {
     WritableAssertionInfo info3 = (WritableAssertionInfo) field.get(assertion3);
     assertThat(info3.descriptionText()).isEqualTo("description with information");
   }
+
+  /**
+   * This method tests that the description of an element of navigation is built only when it is read.
+   */
+  @Test
+  public void test_description_is_lazy() throws Exception {
+    Request request = new Request(source, "select * from actor");
+
+    RequestRowAssert assertion = assertThat(request).row();
+    assertThat(assertion.getInfo().description()).isInstanceOf(LazyTextDescription.class);
+    assertThat(assertion.getInfo().descriptionText())
+        .isEqualTo("Row at index 0 of 'select * from actor' request");
+
+    RequestColumnValueAssert assertion2 = assertion.returnToRequest().column(1).value();
+    assertThat(assertion2.getInfo().description()).isInstanceOf(LazyTextDescription.class);
+    assertThat(assertion2.getInfo().descriptionText())
+        .isEqualTo("Value at index 0 of Column at index 1 (column name : NAME) of 'select * from actor' request");
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.api.assertions;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.api.ChangeColumnValueAssert;
+import org.assertj.db.api.TableColumnValueAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.Changes;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on {@link  org.assertj.db.api.assertions.AssertOnValueEquality} class :
+ * {@link  org.assertj.db.api.assertions.AssertOnValueEquality#isEqualToContentOf(java.nio.file.Path)} and
+ * {@link  org.assertj.db.api.assertions.AssertOnValueEquality#isEqualToContentFromClassPathOf(String)} methods.
+ *
+ *
+ */
+public class AssertOnValueEquality_IsEqualToContentOf_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code isEqualToContentOf} assertion method.
+   */
+  @Test
+  @NeedReload
+  public void test_is_equal_to_content_of() throws Exception {
+    Path path = Paths.get(getClass().getResource("/h2-logo-2.png").toURI());
+
+    Table table = new Table(source, "test");
+    Changes changes = new Changes(table).setStartPointNow();
+    update("update test set var14 = 1 where var1 = 1");
+    changes.setEndPointNow();
+
+    ChangeColumnValueAssert changeColumnValueAssert = assertThat(changes).change().column("var11").valueAtEndPoint();
+    ChangeColumnValueAssert changeColumnValueAssert2 = changeColumnValueAssert.isEqualToContentOf(path);
+    Assertions.assertThat(changeColumnValueAssert).isSameAs(changeColumnValueAssert2);
+
+    TableColumnValueAssert tableColumnValueAssert = assertThat(table).column("var11").value();
+    TableColumnValueAssert tableColumnValueAssert2 = tableColumnValueAssert.isEqualToContentOf(path);
+    Assertions.assertThat(tableColumnValueAssert).isSameAs(tableColumnValueAssert2);
+  }
+
+  /**
+   * This method tests the {@code isEqualToContentFromClassPathOf} assertion method.
+   */
+  @Test
+  @NeedReload
+  public void test_is_equal_to_content_from_class_path_of() {
+    Table table = new Table(source, "test");
+    Changes changes = new Changes(table).setStartPointNow();
+    update("update test set var14 = 1 where var1 = 1");
+    changes.setEndPointNow();
+
+    ChangeColumnValueAssert changeColumnValueAssert = assertThat(changes).change().column("var11").valueAtEndPoint();
+    ChangeColumnValueAssert changeColumnValueAssert2 = changeColumnValueAssert
+        .isEqualToContentFromClassPathOf("h2-logo-2.png");
+    Assertions.assertThat(changeColumnValueAssert).isSameAs(changeColumnValueAssert2);
+
+    TableColumnValueAssert tableColumnValueAssert = assertThat(table).column("var11").value();
+    TableColumnValueAssert tableColumnValueAssert2 = tableColumnValueAssert
+        .isEqualToContentFromClassPathOf("h2-logo-2.png");
+    Assertions.assertThat(tableColumnValueAssert).isSameAs(tableColumnValueAssert2);
+  }
+
+  /**
+   * This method should fail because the value is no equal to the content.
+   */
+  @Test
+  @NeedReload
+  public void should_fail_because_value_is_not_equal_to_content() throws Exception {
+    Path path = Paths.get(getClass().getResource("/logo-dev.jpg").toURI());
+
+    Table table = new Table(source, "test");
+    Changes changes = new Changes(table).setStartPointNow();
+    update("update test set var14 = 1 where var1 = 1");
+    changes.setEndPointNow();
+
+    try {
+      assertThat(changes).change().column("var11").valueAtEndPoint().isEqualToContentOf(path);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Value at end point of Column at index 10 (column name : VAR11) of Change at index 0 (with primary key : [1]) of Changes on TEST table of 'sa/jdbc:h2:mem:test' source] %n"
+                                                      + "Expecting to be equal to the expected value but was not equal"));
+    }
+    try {
+      assertThat(table).column("var11").value().isEqualToContentFromClassPathOf("logo-dev.jpg");
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Value at index 0 of Column at index 10 (column name : VAR11) of TEST table] %n"
+                                                      + "Expecting to be equal to the expected value but was not equal"));
+    }
+  }
+
+  /**
+   * This method should fail because the resource is not found.
+   */
+  @Test
+  public void should_fail_because_resource_is_not_found() {
+    Table table = new Table(source, "test");
+
+    try {
+      assertThat(table).column("var11").value().isEqualToContentFromClassPathOf("not-existing.png");
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("Resource not-existing.png not found in the classpath");
+    }
+  }
+}
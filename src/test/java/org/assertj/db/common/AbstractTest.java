@@ -208,6 +208,9 @@ public abstract class AbstractTest {
     Field field3 = AbstractDbData.class.getDeclaredField("rowsList");
     field3.setAccessible(true);
     field3.set(table, rowsList);
+    Field field4 = AbstractDbData.class.getDeclaredField("loaded");
+    field4.setAccessible(true);
+    field4.set(table, true);
     return table;
   }
 
@@ -237,6 +240,9 @@ public abstract class AbstractTest {
     Field field3 = AbstractDbData.class.getDeclaredField("rowsList");
     field3.setAccessible(true);
     field3.set(request, rowsList);
+    Field field4 = AbstractDbData.class.getDeclaredField("loaded");
+    field4.setAccessible(true);
+    field4.set(request, true);
     return request;
   }
 
@@ -0,0 +1,173 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.monitoring;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.type.Changes;
+import org.assertj.db.type.Table;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.db.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@link DbListeners} and on the {@link AggregatingDbListener}.
+ */
+public class DbListeners_Test extends AbstractTest {
+
+  /**
+   * Unregisters the listeners after each test.
+   */
+  @After
+  public void clearListeners() {
+    DbListeners.clear();
+  }
+
+  /**
+   * This method tests that the listeners are disabled by default and enabled after a registration.
+   */
+  @Test
+  public void test_enabled() {
+    assertThat(DbListeners.isEnabled()).isFalse();
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+    assertThat(DbListeners.isEnabled()).isTrue();
+    DbListeners.remove(listener);
+    assertThat(DbListeners.isEnabled()).isFalse();
+  }
+
+  /**
+   * This method tests the events during the loading of a table.
+   */
+  @Test
+  public void test_loading_of_table() {
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+
+    Table table = new Table(source, "movie");
+    table.getRowsList();
+
+    assertThat(listener.getConnections().getCount()).isEqualTo(2);
+    assertThat(listener.getLoadings().getCount()).isEqualTo(1);
+    assertThat(listener.getMetadata().getCount()).isEqualTo(2);
+    assertThat(listener.getRowsNumber()).isEqualTo(3);
+    assertThat(listener.getBytesFetched()).isGreaterThan(0);
+    assertThat(listener.getReport()).contains("Loadings", "rows=3");
+  }
+
+  /**
+   * This method tests the events during the computation of changes.
+   */
+  @Test
+  @NeedReload
+  public void test_computation_of_changes() {
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+
+    Changes changes = new Changes(new Table(source, "movie")).setStartPointNow();
+    updateChangesForTests();
+    changes.setEndPointNow();
+    changes.getChangesList();
+
+    assertThat(listener.getCaptures().getCount()).isEqualTo(2);
+    assertThat(listener.getDiffs().getCount()).isEqualTo(1);
+    assertThat(listener.getChangesNumber()).isEqualTo(changes.getChangesList().size());
+  }
+
+  /**
+   * This method tests the events during the evaluation of assertions.
+   */
+  @Test
+  public void test_evaluation_of_assertions() {
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+
+    Table table = new Table(source, "movie");
+    assertThat(table).hasNumberOfRows(3);
+    try {
+      assertThat(table).hasNumberOfRows(4);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      assertThat(listener.getAssertions("hasNumberOfRows").getCount()).isEqualTo(2);
+      assertThat(listener.getFailedAssertionsNumber()).isEqualTo(1);
+    }
+  }
+
+  /**
+   * This method tests the events during the evaluation of assertions on a column and on a value.
+   */
+  @Test
+  public void test_evaluation_of_assertions_on_column_and_value() {
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+
+    Table table = new Table(source, "movie");
+    assertThat(table).column("title").isText(false)
+                     .value().isEqualTo("Alien")
+                     .row(1).value("year").isNumber().isGreaterThan(2000);
+    try {
+      assertThat(table).column("year").hasOnlyNullValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      assertThat(listener.getAssertions("isText").getCount()).isEqualTo(1);
+      assertThat(listener.getAssertions("isEqualTo").getCount()).isEqualTo(1);
+      assertThat(listener.getAssertions("isNumber").getCount()).isEqualTo(1);
+      assertThat(listener.getAssertions("isGreaterThan").getCount()).isEqualTo(1);
+      assertThat(listener.getAssertions("hasOnlyNullValues").getCount()).isEqualTo(1);
+      assertThat(listener.getFailedAssertionsNumber()).isEqualTo(1);
+    }
+  }
+
+  /**
+   * This method tests that the listeners stay enabled while a listener is registered, whatever the concurrent
+   * registrations and unregistrations of other listeners.
+   */
+  @Test
+  public void test_enabled_with_concurrent_registrations() throws InterruptedException {
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+    Thread thread = new Thread(() -> {
+      for (int i = 0; i < 10000; i++) {
+        AggregatingDbListener other = new AggregatingDbListener();
+        DbListeners.add(other);
+        DbListeners.remove(other);
+      }
+    });
+    thread.start();
+    for (int i = 0; i < 10000; i++) {
+      assertThat(DbListeners.isEnabled()).isTrue();
+    }
+    thread.join();
+    assertThat(DbListeners.isEnabled()).isTrue();
+    DbListeners.remove(listener);
+    assertThat(DbListeners.isEnabled()).isFalse();
+  }
+
+  /**
+   * This method tests that an evaluation started before the registration of a listener is not notified.
+   */
+  @Test
+  public void test_evaluation_started_without_listener() {
+    long start = DbListeners.assertionStarted();
+    assertThat(start).isEqualTo(DbListeners.NOT_MONITORED);
+
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+    DbListeners.assertionEvaluated("hasNumberOfRows", start, true);
+
+    assertThat(listener.getAssertions("hasNumberOfRows")).isNull();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.monitoring.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.monitoring.DbListeners;
+import org.assertj.db.type.Changes;
+import org.assertj.db.type.Table;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the events emitted by {@link JfrDbListener}.
+ */
+public class JfrDbListener_Test extends AbstractTest {
+
+  /**
+   * Unregisters the listeners after each test.
+   */
+  @After
+  public void clearListeners() {
+    DbListeners.clear();
+  }
+
+  /**
+   * Returns the events of the recording with the name in parameter.
+   *
+   * @param recording The recording.
+   * @param name      The name of the events.
+   * @return The events.
+   * @throws Exception Exception
+   */
+  private static List<RecordedEvent> getEvents(Recording recording, String name) throws Exception {
+    Path path = Files.createTempFile("assertj-db", ".jfr");
+    try {
+      recording.dump(path);
+      return RecordingFile.readAllEvents(path).stream()
+                          .filter(event -> event.getEventType().getName().equals(name))
+                          .collect(Collectors.toList());
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  /**
+   * This method tests the event of loading.
+   */
+  @Test
+  public void test_load_event() throws Exception {
+    DbListeners.add(new JfrDbListener());
+    try (Recording recording = new Recording()) {
+      recording.enable("org.assertj.db.Load");
+      recording.start();
+      new Table(source, "movie").getRowsList();
+      recording.stop();
+
+      List<RecordedEvent> events = getEvents(recording, "org.assertj.db.Load");
+      assertThat(events).hasSize(1);
+      assertThat(events.get(0).getString("sql")).isEqualTo("SELECT * FROM MOVIE");
+      assertThat(events.get(0).getInt("rows")).isEqualTo(3);
+      assertThat(events.get(0).getInt("columns")).isEqualTo(4);
+    }
+  }
+
+  /**
+   * This method tests the events of capture and of computation of changes.
+   */
+  @Test
+  @NeedReload
+  public void test_capture_and_diff_events() throws Exception {
+    DbListeners.add(new JfrDbListener());
+    try (Recording recording = new Recording()) {
+      recording.enable("org.assertj.db.Capture");
+      recording.enable("org.assertj.db.Diff");
+      recording.start();
+      Changes changes = new Changes(new Table(source, "movie")).setStartPointNow();
+      updateChangesForTests();
+      changes.setEndPointNow();
+      int size = changes.getChangesList().size();
+      recording.stop();
+
+      List<RecordedEvent> captures = getEvents(recording, "org.assertj.db.Capture");
+      assertThat(captures).extracting(event -> event.getString("point")).containsExactly("START", "END");
+      assertThat(captures.get(0).getInt("rows")).isEqualTo(3);
+      List<RecordedEvent> diffs = getEvents(recording, "org.assertj.db.Diff");
+      assertThat(diffs).hasSize(1);
+      assertThat(diffs.get(0).getBoolean("withPks")).isTrue();
+      assertThat(diffs.get(0).getInt("changes")).isEqualTo(size);
+    }
+  }
+}
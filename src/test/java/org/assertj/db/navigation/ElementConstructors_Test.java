@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.navigation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.db.api.Assertions.assertThat;
+
+import java.lang.invoke.MethodHandle;
+
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.api.TableRowAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+/**
+ * Tests on the registry of the constructors of the elements of navigation.
+ */
+public class ElementConstructors_Test extends AbstractTest {
+
+  /**
+   * This method tests that the constructor is looked up once and creates the elements.
+   */
+  @Test
+  public void test_get_constructor_and_new_instance() throws Exception {
+    Table table = new Table(source, "actor");
+    TableAssert tableAssert = assertThat(table);
+
+    MethodHandle constructor = ElementConstructors.getConstructor(TableRowAssert.class, TableAssert.class, Row.class);
+    assertThat(ElementConstructors.getConstructor(TableRowAssert.class, TableAssert.class, Row.class))
+        .isSameAs(constructor);
+
+    Object instance = ElementConstructors.newInstance(constructor, tableAssert, table.getRow(1));
+    assertThat(instance).isInstanceOf(TableRowAssert.class);
+    assertThat(((TableRowAssert) instance).returnToTable()).isSameAs(tableAssert);
+  }
+
+  /**
+   * This method tests that the elements of navigation are cached by index.
+   */
+  @Test
+  public void test_elements_are_cached_by_index() {
+    Table table = new Table(source, "actor");
+    TableAssert tableAssert = assertThat(table);
+
+    TableRowAssert rowAssert2 = tableAssert.row(2);
+    TableRowAssert rowAssert0 = tableAssert.row(0);
+    TableRowAssert rowAssert1 = tableAssert.row();
+
+    assertThat(rowAssert1).isNotSameAs(rowAssert0).isNotSameAs(rowAssert2);
+    assertThat(tableAssert.row(2)).isSameAs(rowAssert2);
+    assertThat(tableAssert.row(1)).isSameAs(rowAssert1);
+    assertThat(tableAssert.row(0)).isSameAs(rowAssert0);
+    assertThat(tableAssert.row()).isSameAs(rowAssert1);
+  }
+}
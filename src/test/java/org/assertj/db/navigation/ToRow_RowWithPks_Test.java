@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.navigation;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.db.api.TableAssert;
+import org.assertj.db.api.TableRowAssert;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.global.AbstractElement;
+import org.assertj.db.type.Table;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.db.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@link TableAssert#rowWithPks(Object...)} method.
+ */
+public class ToRow_RowWithPks_Test extends AbstractTest {
+
+  /**
+   * This method tests the {@code rowWithPks} navigation method.
+   */
+  @Test
+  public void test_row_with_pks() throws Exception {
+    Field field = AbstractElement.class.getDeclaredField("info");
+    field.setAccessible(true);
+    Table table = new Table(source, "movie");
+
+    TableAssert tableAssert = assertThat(table);
+    TableRowAssert rowAssert = tableAssert.rowWithPks(3);
+    rowAssert.value("title").isEqualTo("Avatar");
+    WritableAssertionInfo info = (WritableAssertionInfo) field.get(rowAssert);
+    org.assertj.core.api.Assertions.assertThat(info.descriptionText()).isEqualTo("Row with primary key : [3] of MOVIE table");
+    org.assertj.core.api.Assertions.assertThat(rowAssert.returnToTable()).isSameAs(tableAssert);
+  }
+
+  /**
+   * This method should fail because there is no row with the primary keys.
+   */
+  @Test
+  public void should_fail_because_there_is_no_row_with_the_pks() {
+    assertThatThrownBy(() -> assertThat(new Table(source, "movie")).rowWithPks(5))
+        .isInstanceOf(AssertJDBException.class)
+        .hasMessage("No row found for primary keys [5]");
+  }
+}
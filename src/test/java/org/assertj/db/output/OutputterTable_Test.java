@@ -14,6 +14,7 @@ package org.assertj.db.output;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.db.common.AbstractTest;
+import org.assertj.db.output.impl.OutputType;
 import org.assertj.db.type.Table;
 import org.junit.Test;
 
@@ -175,4 +176,42 @@ public class OutputterTable_Test extends AbstractTest {
 
     Assertions.assertThat(tableOutputter).isSameAs(tableOutputterFromRow).isSameAs(tableOutputterFromRowValue).isSameAs(tableOutputterFromColumn).isSameAs(tableOutputterFromColumnValue);
   }
-}
\ No newline at end of file
+
+  /**
+   * This method tests the {@code output} output method with a maximum number of rows.
+   */
+  @Test
+  public void test_output_with_max_rows() throws Exception {
+    Table table = new Table(source, "actor");
+
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    output(table).withMaxRows(2).toStream(byteArrayOutputStream);
+    Assertions.assertThat(byteArrayOutputStream.toString()).isEqualTo(String.format("[ACTOR table]%n"
+                                                                                    + "|-----------|---------|-----------|-----------|-----------|------------|--------------------------------------|%n"
+                                                                                    + "|           |         | *         |           |           |            |                                      |%n"
+                                                                                    + "|           | PRIMARY | ID        | NAME      | FIRSTNAME | BIRTH      | ACTOR_IMDB                           |%n"
+                                                                                    + "|           | KEY     | (NUMBER)  | (TEXT)    | (TEXT)    | (DATE)     | (UUID)                               |%n"
+                                                                                    + "|           |         | Index : 0 | Index : 1 | Index : 2 | Index : 3  | Index : 4                            |%n"
+                                                                                    + "|-----------|---------|-----------|-----------|-----------|------------|--------------------------------------|%n"
+                                                                                    + "| Index : 0 | 1       | 1         | Weaver    | Sigourney | 1949-10-08 | 30b443ae-c0c9-4790-9bec-ce1380808435 |%n"
+                                                                                    + "| Index : 1 | 2       | 2         | Phoenix   | Joaquim   | 1974-10-28 | 16319617-ae95-4087-9264-d3d21bf611b6 |%n"
+                                                                                    + "|-----------|---------|-----------|-----------|-----------|------------|--------------------------------------|%n"
+                                                                                    + "... 1 more rows%n"));
+
+    ByteArrayOutputStream byteArrayOutputStream2 = new ByteArrayOutputStream();
+    output(table).withMaxRows(1).withType(OutputType.HTML).toStream(byteArrayOutputStream2);
+    Assertions.assertThat(byteArrayOutputStream2.toString()).contains("<td>Index :0</td><td>1</td>")
+                                                            .doesNotContain("<td>Index :1</td>")
+                                                            .endsWith("</table><p>... 2 more rows</p></body></html>");
+  }
+
+  /**
+   * This method should fail because the maximum number of rows is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_max_rows_is_negative() throws Exception {
+    Table table = new Table(source, "actor");
+
+    output(table).withMaxRows(-1);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.output.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Change;
+import org.assertj.db.type.Row;
+import org.assertj.db.type.Table;
+import org.assertj.db.type.Value;
+import org.assertj.db.util.Digests;
+import org.junit.Test;
+
+/**
+ * Test on the utility class {@code CsvOutput}.
+ */
+public class CsvOutput_Test extends AbstractTest {
+
+  private static Row getRow(Object... values) throws Exception {
+    return getRow(Collections.singletonList("ID"), Arrays.asList("ID", "NAME", "ACTIVE", "DATA", "NOTE"),
+                  Arrays.asList(getValue(null, values[0]), getValue(null, values[1]), getValue(null, values[2]),
+                                getValue(null, values[3]), getValue(null, values[4])));
+  }
+
+  /**
+   * This method tests the {@code getTableOutput} output method.
+   */
+  @Test
+  public void test_table_output() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Row row1 = getRow(1, "Weaver, \"S\"", true, new byte[] { 0, 1 }, null);
+    Row row2 = getRow(2, "Phoenix\n", false, null, "note");
+
+    assertThat(CsvOutput.INSTANCE.getTableOutput(info, getTable(row1.getColumnsNameList(), row1.getPksNameList(),
+                                                                Arrays.asList(row1, row2))))
+        .isEqualTo("ID,NAME,ACTIVE,DATA,NOTE\r\n"
+                   + "1,\"Weaver, \"\"S\"\"\",true,AAE=,\r\n"
+                   + "2,\"Phoenix\n\",false,,note\r\n");
+  }
+
+  /**
+   * This method tests the {@code writeTableOutput} output method with a maximum number of rows.
+   */
+  @Test
+  public void test_table_output_with_max_rows() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Row row1 = getRow(1, "Weaver", true, null, null);
+    Row row2 = getRow(2, "Phoenix", false, null, null);
+
+    StringBuilder stringBuilder = new StringBuilder();
+    CsvOutput.INSTANCE.writeTableOutput(info, getTable(row1.getColumnsNameList(), row1.getPksNameList(),
+                                                       Arrays.asList(row1, row2)),
+                                        1, stringBuilder);
+    assertThat(stringBuilder.toString()).isEqualTo("ID,NAME,ACTIVE,DATA,NOTE\r\n"
+                                                   + "1,Weaver,true,,\r\n");
+  }
+
+  /**
+   * This method tests the {@code getChangesOutput} output method.
+   */
+  @Test
+  public void test_changes_output() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Change change1 = getTableCreationChange("actor", getRow(3, "Worthington", true, null, null));
+    Change change2 = getTableModificationChange("actor", getRow(1, "Weaver", true, new byte[] { 0, 1 }, null),
+                                                getRow(1, "Weaver", false, new byte[] { 0, 1 }, "note"));
+    Change change3 = getTableDeletionChange("actor", getRow(2, "Phoenix", false, null, null));
+
+    assertThat(CsvOutput.INSTANCE.getChangesOutput(info, getChanges(Arrays.asList(change1, change2, change3))))
+        .isEqualTo("changeType,dataType,dataName,primaryKey,modifiedColumns\r\n"
+                   + "CREATION,TABLE,actor,3,\"ID,NAME,ACTIVE\"\r\n"
+                   + "MODIFICATION,TABLE,actor,1,\"ACTIVE,NOTE\"\r\n"
+                   + "DELETION,TABLE,actor,2,\"ID,NAME,ACTIVE\"\r\n");
+  }
+
+  /**
+   * This method tests that a {@code null} value and an empty text are written differently.
+   */
+  @Test
+  public void test_null_and_empty_text() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Row row = getRow(1, "", true, null, null);
+
+    assertThat(CsvOutput.INSTANCE.getRowOutput(info, row)).isEqualTo("ID,NAME,ACTIVE,DATA,NOTE\r\n"
+                                                                     + "1,\"\",true,,\r\n");
+  }
+
+  /**
+   * This method tests the field of a primary key with several values.
+   */
+  @Test
+  public void test_change_output_with_composite_primary_key() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Row row = getRow(Arrays.asList("ID", "NAME"), Arrays.asList("ID", "NAME"),
+                     Arrays.asList(getValue(null, 1), getValue(null, "Weaver, S")));
+    Change change = getTableCreationChange("actor", row);
+
+    assertThat(CsvOutput.INSTANCE.getChangeOutput(info, change))
+        .isEqualTo("changeType,dataType,dataName,primaryKey,modifiedColumns\r\n"
+                   + "CREATION,TABLE,actor,\"1,\"\"Weaver, S\"\"\",\"ID,NAME\"\r\n");
+  }
+
+  /**
+   * This method tests that the digest of a CLOB loaded lazily is written (the content is not loaded).
+   */
+  @Test
+  public void test_lazy_clob() {
+    update("create table lob_output(id int primary key, text clob)");
+    try {
+      update("insert into lob_output values(1, 'text')");
+      Table table = new Table(source, "lob_output").setLazyLobs(true);
+      Value value = table.getRow(0).getColumnValue("text");
+
+      assertThat(CsvOutput.INSTANCE.getValueOutput(new WritableAssertionInfo(), value))
+          .isEqualTo("sha256:" + Base64.getEncoder().encodeToString(Digests.digest("text")) + "\r\n");
+    } finally {
+      update("drop table lob_output");
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.output.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Change;
+import org.assertj.db.type.Row;
+import org.junit.Test;
+
+/**
+ * Test on the utility class {@code JsonLinesOutput}.
+ */
+public class JsonLinesOutput_Test extends AbstractTest {
+
+  private static Row getRow(Object... values) throws Exception {
+    return getRow(Collections.singletonList("ID"), Arrays.asList("ID", "NAME", "ACTIVE", "DATA", "NOTE"),
+                  Arrays.asList(getValue(null, values[0]), getValue(null, values[1]), getValue(null, values[2]),
+                                getValue(null, values[3]), getValue(null, values[4])));
+  }
+
+  /**
+   * This method tests the {@code getTableOutput} output method.
+   */
+  @Test
+  public void test_table_output() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Row row1 = getRow(1, "Weaver, \"S\"", true, new byte[] { 0, 1 }, null);
+    Row row2 = getRow(2, "Phoenix\n", false, null, "note");
+
+    assertThat(JsonLinesOutput.INSTANCE.getTableOutput(info, getTable(row1.getColumnsNameList(), row1.getPksNameList(),
+                                                                      Arrays.asList(row1, row2))))
+        .isEqualTo("{\"index\":0,\"primaryKey\":{\"ID\":1},"
+                   + "\"values\":{\"ID\":1,\"NAME\":\"Weaver, \\\"S\\\"\",\"ACTIVE\":true,\"DATA\":\"AAE=\",\"NOTE\":null}}\n"
+                   + "{\"index\":1,\"primaryKey\":{\"ID\":2},"
+                   + "\"values\":{\"ID\":2,\"NAME\":\"Phoenix\\n\",\"ACTIVE\":false,\"DATA\":null,\"NOTE\":\"note\"}}\n");
+  }
+
+  /**
+   * This method tests the {@code writeRequestOutput} output method with a maximum number of rows.
+   */
+  @Test
+  public void test_request_output_with_max_rows() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Row row1 = getRow(1, "Weaver", true, null, null);
+    Row row2 = getRow(2, "Phoenix", false, null, null);
+
+    StringBuilder stringBuilder = new StringBuilder();
+    JsonLinesOutput.INSTANCE.writeRequestOutput(info, getRequest(row1.getColumnsNameList(), row1.getPksNameList(),
+                                                                 Arrays.asList(row1, row2)),
+                                                1, stringBuilder);
+    assertThat(stringBuilder.toString())
+        .isEqualTo("{\"index\":0,\"primaryKey\":{\"ID\":1},"
+                   + "\"values\":{\"ID\":1,\"NAME\":\"Weaver\",\"ACTIVE\":true,\"DATA\":null,\"NOTE\":null}}\n");
+  }
+
+  /**
+   * This method tests the {@code getChangesOutput} output method.
+   */
+  @Test
+  public void test_changes_output() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+    Change change1 = getTableCreationChange("actor", getRow(3, "Worthington", true, null, null));
+    Change change2 = getTableModificationChange("actor", getRow(1, "Weaver", true, new byte[] { 0, 1 }, null),
+                                                getRow(1, "Weaver", false, new byte[] { 0, 1 }, "note"));
+    Change change3 = getTableDeletionChange("actor", getRow(2, "Phoenix", false, null, null));
+
+    assertThat(JsonLinesOutput.INSTANCE.getChangesOutput(info, getChanges(Arrays.asList(change1, change2, change3))))
+        .isEqualTo("{\"index\":0,\"changeType\":\"CREATION\",\"dataType\":\"TABLE\",\"dataName\":\"actor\","
+                   + "\"primaryKey\":{\"ID\":3},\"modifiedColumns\":[\"ID\",\"NAME\",\"ACTIVE\"],"
+                   + "\"atStartPoint\":null,\"atEndPoint\":{\"ID\":3,\"NAME\":\"Worthington\",\"ACTIVE\":true}}\n"
+                   + "{\"index\":1,\"changeType\":\"MODIFICATION\",\"dataType\":\"TABLE\",\"dataName\":\"actor\","
+                   + "\"primaryKey\":{\"ID\":1},\"modifiedColumns\":[\"ACTIVE\",\"NOTE\"],"
+                   + "\"atStartPoint\":{\"ACTIVE\":true,\"NOTE\":null},\"atEndPoint\":{\"ACTIVE\":false,\"NOTE\":\"note\"}}\n"
+                   + "{\"index\":2,\"changeType\":\"DELETION\",\"dataType\":\"TABLE\",\"dataName\":\"actor\","
+                   + "\"primaryKey\":{\"ID\":2},\"modifiedColumns\":[\"ID\",\"NAME\",\"ACTIVE\"],"
+                   + "\"atStartPoint\":{\"ID\":2,\"NAME\":\"Phoenix\",\"ACTIVE\":false},\"atEndPoint\":null}\n");
+  }
+
+  /**
+   * This method tests the {@code getValueOutput} output method.
+   */
+  @Test
+  public void test_value_output() throws Exception {
+    WritableAssertionInfo info = new WritableAssertionInfo();
+    info.description("description");
+
+    assertThat(JsonLinesOutput.INSTANCE.getValueOutput(info, getValue(null, 1.5))).isEqualTo("1.5\n");
+    assertThat(JsonLinesOutput.INSTANCE.getValueOutput(info, getValue(null, Double.NaN))).isEqualTo("\"NaN\"\n");
+    assertThat(JsonLinesOutput.INSTANCE.getValueOutput(info, getValue(null, "a\tb"))).isEqualTo("\"a\\tb\"\n");
+    assertThat(JsonLinesOutput.INSTANCE.getValueOutput(info, getValue(null, null))).isEqualTo("null\n");
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.monitoring.AggregatingDbListener;
+import org.assertj.db.monitoring.DbListeners;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.db.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code getNumberOfRows} method which computes the number of rows in the database.
+ */
+public class AbstractDbData_GetNumberOfRows_Test extends AbstractTest {
+
+  /**
+   * Unregisters the listeners after each test.
+   */
+  @After
+  public void clearListeners() {
+    DbListeners.clear();
+  }
+
+  /**
+   * This method tests that the number of rows of a table is computed without loading the rows.
+   */
+  @Test
+  public void test_number_of_rows_of_table() {
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+
+    Table table = new Table(source, "movie");
+    Table tableWithOrder = new Table(source, "movie", new Table.Order[] { Table.Order.desc("year") });
+
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    assertThat(tableWithOrder.getNumberOfRows()).isEqualTo(3);
+    assertThat(listener.getLoadings().getCount()).isEqualTo(0);
+  }
+
+  /**
+   * This method tests that the number of rows of a request with parameters is computed without loading the rows.
+   */
+  @Test
+  public void test_number_of_rows_of_request() {
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+
+    Request request = new Request(source, "select * from movie where year > ?", 2000);
+
+    assertThat(request.getNumberOfRows()).isEqualTo(2);
+    assertThat(listener.getLoadings().getCount()).isEqualTo(0);
+  }
+
+  /**
+   * This method tests that the number of rows of loaded data is the size of the rows.
+   */
+  @Test
+  public void test_number_of_rows_of_loaded_data() {
+    Table table = new Table(source, "actor");
+    table.getRowsList();
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    assertThat(listener.getConnections().getCount()).isEqualTo(0);
+  }
+
+  /**
+   * This method tests that the number of rows of a request ending with a {@code ;} is computed without loading the
+   * rows.
+   */
+  @Test
+  public void test_number_of_rows_of_request_ending_with_semicolon() {
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+
+    Request request = new Request(source, "select * from movie;");
+
+    assertThat(request.getNumberOfRows()).isEqualTo(3);
+    assertThat(listener.getLoadings().getCount()).isEqualTo(0);
+  }
+
+  /**
+   * This method tests that the error of an invalid request is not hidden by the computation of the number of rows.
+   */
+  @Test
+  public void test_number_of_rows_of_invalid_request() {
+    Request request = new Request(source, "select * from unknown_table");
+
+    try {
+      request.getNumberOfRows();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getCause()).hasMessageContaining("UNKNOWN_TABLE");
+    }
+  }
+
+  /**
+   * This method tests that the number of rows is computed once before the loading and that the loaded rows replace it
+   * (the navigation does not fail if the number of rows changed in the meantime).
+   */
+  @Test
+  @NeedReload
+  public void test_number_of_rows_changed_before_the_loading() {
+    Table table = new Table(source, "movie");
+
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    assertThat(table.getRowsList()).hasSize(4);
+    assertThat(table.isLoaded()).isTrue();
+    assertThat(table.getNumberOfRows()).isEqualTo(4);
+  }
+
+  /**
+   * This method tests that an assertion chain which counts the rows and then navigates in the rows does not fail if
+   * the number of rows changed in the meantime.
+   */
+  @Test
+  @NeedReload
+  public void test_assertion_chain_with_number_of_rows_changed() {
+    Table table = new Table(source, "movie");
+
+    assertThat(table).hasNumberOfRows(3);
+    update("delete from interpretation where id_movie = 3");
+    update("delete from movie where id = 3");
+    assertThat(table).hasNumberOfRows(3).row(1).value("title").isEqualTo("The Village");
+    assertThat(table.getRowsList()).hasSize(2);
+  }
+}
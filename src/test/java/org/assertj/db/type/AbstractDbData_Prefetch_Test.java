@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.monitoring.AggregatingDbListener;
+import org.assertj.db.monitoring.DbListeners;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests on the prefetching of {@code Table} and {@code Request}.
+ */
+public class AbstractDbData_Prefetch_Test extends AbstractTest {
+
+  /**
+   * This method tests that the prefetched table contains the same data than the table loaded normally.
+   */
+  @Test
+  public void test_prefetch_of_table() {
+    Table table = new Table(source, "movie").prefetch();
+    Table expected = new Table(source, "movie");
+
+    assertThat(table.getColumnsNameList()).isEqualTo(expected.getColumnsNameList());
+    assertThat(table.getPksNameList()).containsExactly("ID");
+    assertThat(table.getRowsList()).hasSize(3);
+    assertThat(table.getRow(2).getColumnValue("title").getValue()).isEqualTo("Avatar");
+  }
+
+  /**
+   * This method tests the prefetching of a request with an executor.
+   */
+  @Test
+  public void test_prefetch_of_request_with_executor() {
+    AtomicInteger executions = new AtomicInteger();
+    Request request = new Request(source, "select title from movie where year > ?", 2000)
+        .prefetch(runnable -> {
+          executions.incrementAndGet();
+          runnable.run();
+        });
+    request.prefetch(runnable -> executions.incrementAndGet());
+
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(request.getRowsList()).hasSize(2);
+  }
+
+  /**
+   * This method tests that the exception during the prefetching is thrown by the getter.
+   */
+  @Test
+  public void test_prefetch_with_exception() {
+    Request request = new Request(source, "select * from not_existing_table").prefetch();
+
+    assertThatThrownBy(request::getRowsList).isInstanceOf(AssertJDBException.class);
+  }
+
+  /**
+   * This method tests that the exception during the prefetching is reported by the next getter without loading again,
+   * and that the following getters load again.
+   */
+  @Test
+  public void test_exception_of_prefetch_is_reported_once() {
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+    try {
+      Request request = new Request(source, "select * from not_existing_table").prefetch(Runnable::run);
+      assertThat(listener.getConnections().getCount()).isEqualTo(1);
+
+      Throwable reported = catchThrowable(request::getRowsList);
+      assertThat(reported).isInstanceOf(AssertJDBException.class);
+      assertThat(listener.getConnections().getCount()).isEqualTo(1);
+
+      Throwable loadedAgain = catchThrowable(request::getRowsList);
+      assertThat(loadedAgain).isInstanceOf(AssertJDBException.class).isNotSameAs(reported);
+      assertThat(listener.getConnections().getCount()).isEqualTo(2);
+    } finally {
+      DbListeners.clear();
+    }
+  }
+
+  /**
+   * This method tests that the executor must be not null.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_executor_is_null() {
+    new Table(source, "movie").prefetch(null);
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.monitoring.DbListener;
+import org.assertj.db.monitoring.DbListeners;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests on the capture of the tables of a point in a single transaction.
+ */
+public class Changes_CaptureIsolation_Test extends AbstractTest {
+
+  /**
+   * Removes the listeners.
+   */
+  @After
+  public void clearListeners() {
+    DbListeners.clear();
+  }
+
+  /**
+   * This method tests the default isolation level and its setting.
+   */
+  @Test
+  public void test_capture_isolation() {
+    Changes changes = new Changes(source);
+    assertThat(changes.getCaptureIsolation()).isEqualTo(Connection.TRANSACTION_NONE);
+    assertThat(changes.setCaptureIsolation(Connection.TRANSACTION_SERIALIZABLE)).isSameAs(changes);
+    assertThat(changes.getCaptureIsolation()).isEqualTo(Connection.TRANSACTION_SERIALIZABLE);
+  }
+
+  /**
+   * This method tests that the tables of a point are captured with a single connection.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_captured_in_transaction() {
+    Changes changes = new Changes(new Table(source, "movie"), new Table(source, "actor"), new Table(source, "interpretation"))
+        .setCaptureIsolation(Connection.TRANSACTION_SERIALIZABLE);
+    AtomicInteger connectionsNumber = new AtomicInteger();
+    DbListeners.add(new DbListener() {
+      @Override
+      public void connectionAcquired(DbElement element, long durationNanos) {
+        connectionsNumber.incrementAndGet();
+      }
+    });
+
+    changes.setStartPointNow();
+    assertThat(connectionsNumber.get()).isEqualTo(1);
+    assertThat(changes.getTablesAtStartPointList()).hasSize(3);
+    assertThat(changes.getTablesAtStartPointList().get(0).getRowsList()).hasSize(3);
+
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    update("delete from interpretation where id = 5");
+    connectionsNumber.set(0);
+    changes.setEndPointNow();
+    assertThat(connectionsNumber.get()).isEqualTo(1);
+    assertThat(changes.getChangesList()).hasSize(2);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changes.getChangesList().get(0).getDataName()).isEqualTo("MOVIE");
+    assertThat(changes.getChangesList().get(1).getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(changes.getChangesList().get(1).getDataName()).isEqualTo("INTERPRETATION");
+  }
+
+  /**
+   * This method tests that the LOBs are loaded in the transaction (and not later with another connection).
+   */
+  @Test
+  public void test_lobs_captured_in_transaction() {
+    update("create table lob_capture(id int primary key, text clob)");
+    try {
+      update("insert into lob_capture values(1, 'text')");
+      Changes changes = new Changes(new Table(source, "lob_capture").setLazyLobs(true))
+          .setCaptureIsolation(Connection.TRANSACTION_SERIALIZABLE);
+      changes.setStartPointNow();
+      update("update lob_capture set text = 'modified text' where id = 1");
+      changes.setEndPointNow();
+      AtomicInteger connectionsNumber = new AtomicInteger();
+      DbListeners.add(new DbListener() {
+        @Override
+        public void connectionAcquired(DbElement element, long durationNanos) {
+          connectionsNumber.incrementAndGet();
+        }
+      });
+
+      Change change = changes.getChangesList().get(0);
+      assertThat(change.getRowAtStartPoint().getColumnValue("text").getValue()).isEqualTo("text");
+      assertThat(change.getRowAtEndPoint().getColumnValue("text").getValue()).isEqualTo("modified text");
+      assertThat(change.getRowAtEndPoint().getColumnValue("text").getContentDigest()).isNull();
+      assertThat(connectionsNumber.get()).isEqualTo(0);
+    } finally {
+      update("drop table lob_capture");
+    }
+  }
+
+  /**
+   * This method tests that the settings of the connection are all restored even if one of them fails.
+   */
+  @Test
+  public void test_settings_restored_independently() throws SQLException {
+    List<String> calls = new ArrayList<>();
+    try (Connection connection = dataSource.getConnection()) {
+      boolean autoCommit = connection.getAutoCommit();
+      int isolation = connection.getTransactionIsolation();
+      Connection failingConnection = (Connection) Proxy.newProxyInstance(
+          getClass().getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            if (method.getName().startsWith("set")) {
+              calls.add(method.getName() + "(" + args[0] + ")");
+              if (method.getName().equals("setAutoCommit") && args[0].equals(autoCommit)) {
+                throw new SQLException("restoration failure");
+              }
+            }
+            if (method.getName().equals("close")) {
+              return null;
+            }
+            try {
+              return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+              throw e.getCause();
+            }
+          });
+      DataSource failingDataSource = (DataSource) Proxy.newProxyInstance(
+          getClass().getClassLoader(), new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+            if (method.getName().equals("getConnection")) {
+              return failingConnection;
+            }
+            return method.invoke(dataSource, args);
+          });
+      Changes changes = new Changes(new Table(failingDataSource, "movie"))
+          .setCaptureIsolation(Connection.TRANSACTION_SERIALIZABLE);
+
+      assertThatThrownBy(changes::setStartPointNow).isInstanceOf(AssertJDBException.class)
+                                                   .hasMessageContaining("restoration failure");
+      assertThat(calls).endsWith("setAutoCommit(" + autoCommit + ")", "setTransactionIsolation(" + isolation + ")",
+                                 "setReadOnly(false)");
+      connection.setAutoCommit(autoCommit);
+    }
+  }
+
+  /**
+   * This method should fail because the value is not an isolation level.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_value_is_not_an_isolation_level() {
+    new Changes(source).setCaptureIsolation(3);
+  }
+}
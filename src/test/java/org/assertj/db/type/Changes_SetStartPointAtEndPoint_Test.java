@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code setStartPointAtEndPoint} method.
+ */
+public class Changes_SetStartPointAtEndPoint_Test extends AbstractTest {
+
+  /**
+   * This method tests the steps with the tables of a source.
+   */
+  @Test
+  @NeedReload
+  public void test_steps_with_tables() {
+    Changes changes = new Changes(source).setStartPointNow();
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(1);
+    List<Table> tablesAtEndPointList = changes.getTablesAtEndPointList();
+
+    changes.setStartPointAtEndPoint();
+    assertThat(changes.getTablesAtStartPointList()).isSameAs(tablesAtEndPointList);
+    assertThat(changes.getTablesAtEndPointList()).isNull();
+
+    update("update movie set title = 'The Avatar' where id = 3");
+    update("delete from interpretation where id = 5");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(2);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(changes.getChangesList().get(0).getDataName()).isEqualTo("MOVIE");
+    assertThat(changes.getChangesList().get(1).getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(changes.getChangesList().get(1).getDataName()).isEqualTo("INTERPRETATION");
+  }
+
+  /**
+   * This method tests the steps with a request.
+   */
+  @Test
+  @NeedReload
+  public void test_steps_with_request() {
+    Changes changes = new Changes(new Request(source, "select * from movie")).setStartPointNow();
+    update("insert into movie values(4, 'Ghostbusters', 1984, '30B443AE-C0C9-4790-9BEC-CE1380808435')");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(1);
+    Request requestAtEndPoint = changes.getRequestAtEndPoint();
+
+    changes.setStartPointAtEndPoint();
+    assertThat(changes.getRequestAtStartPoint()).isSameAs(requestAtEndPoint);
+    assertThat(changes.getRequestAtEndPoint()).isNull();
+
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).isEmpty();
+  }
+
+  /**
+   * This method should fail because the end point is not set.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_end_point_is_not_set() {
+    new Changes(source).setStartPointNow().setStartPointAtEndPoint();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.lettercase.CaseComparison;
+import org.assertj.db.type.lettercase.CaseComparisons;
+import org.assertj.db.type.lettercase.CaseConversions;
+import org.assertj.db.type.lettercase.LetterCase;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@link ColumnsSchema}.
+ */
+public class ColumnsSchema_Test extends AbstractTest {
+
+  /**
+   * This method tests the index of the columns with the different comparisons.
+   */
+  @Test
+  public void test_index_of() {
+    ColumnsSchema columnsSchema = new ColumnsSchema(Arrays.asList("ID", "Name", "name", "FIRSTNAME"));
+    CaseComparison reverse = new CaseComparison() {
+      @Override
+      public String getComparisonName() {
+        return "REVERSE";
+      }
+
+      @Override
+      public int compare(String value1, String value2) {
+        return new StringBuilder(value1).reverse().toString().compareTo(value2);
+      }
+
+      @Override
+      public boolean isEqual(String value1, String value2) {
+        return compare(value1, value2) == 0;
+      }
+    };
+
+    assertThat(columnsSchema.indexOf("name", CaseComparisons.STRICT)).isEqualTo(2);
+    assertThat(columnsSchema.indexOf("NAME", CaseComparisons.STRICT)).isEqualTo(-1);
+    assertThat(columnsSchema.indexOf("NAME", CaseComparisons.IGNORE)).isEqualTo(1);
+    assertThat(columnsSchema.indexOf("firstName", LetterCase.COLUMN_DEFAULT)).isEqualTo(3);
+    assertThat(columnsSchema.indexOf("id",
+                                     LetterCase.getLetterCase(CaseConversions.NO, CaseComparisons.STRICT))).isEqualTo(-1);
+    assertThat(columnsSchema.indexOf("EMANTSRIF", reverse)).isEqualTo(3);
+    assertThat(columnsSchema.indexOf(null, CaseComparisons.IGNORE)).isEqualTo(-1);
+  }
+
+  /**
+   * This method tests that the rows of a table share the same names of the columns.
+   */
+  @Test
+  public void test_rows_share_the_schema() {
+    Table table = new Table(source, "actor");
+    List<Row> rowsList = table.getRowsList();
+
+    assertThat(rowsList.get(1).getColumnsSchema()).isSameAs(rowsList.get(0).getColumnsSchema());
+    assertThat(rowsList.get(2).getColumnValue("firstName").getValue()).isEqualTo("Sam");
+    assertThat(((Number) rowsList.get(2).getPksValues()[0].getValue()).intValue()).isEqualTo(3);
+  }
+}
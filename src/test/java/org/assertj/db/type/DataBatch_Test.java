@@ -0,0 +1,265 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.monitoring.DbListener;
+import org.assertj.db.monitoring.DbListeners;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests on {@code DataBatch}.
+ */
+public class DataBatch_Test extends AbstractTest {
+
+  /**
+   * Removes the listeners.
+   */
+  @After
+  public void clearListeners() {
+    DbListeners.clear();
+  }
+
+  /**
+   * This method tests that the data with the same source are loaded with a single connection.
+   */
+  @Test
+  public void test_load_with_a_single_connection() {
+    Request request1 = new Request(source, "select * from movie");
+    Request request2 = new Request(source, "select * from actor where id = ?", 1);
+    Table table = new Table(source, "interpretation");
+    AtomicInteger connectionsNumber = new AtomicInteger();
+    DbListeners.add(new DbListener() {
+      @Override
+      public void connectionAcquired(DbElement element, long durationNanos) {
+        connectionsNumber.incrementAndGet();
+      }
+    });
+
+    DataBatch batch = new DataBatch(request1, request2).add(table);
+    assertThat(batch.getDataList()).containsExactly(request1, request2, table);
+    batch.load();
+
+    assertThat(connectionsNumber.get()).isEqualTo(1);
+    assertThat(request1.isLoaded()).isTrue();
+    assertThat(request2.isLoaded()).isTrue();
+    assertThat(table.isLoaded()).isTrue();
+    assertThat(request1.getRowsList()).hasSize(3);
+    assertThat(request2.getRowsList()).hasSize(1);
+    assertThat(table.getRowsList()).hasSize(5);
+    assertThat(connectionsNumber.get()).isEqualTo(1);
+  }
+
+  /**
+   * This method tests the loading with multiple result sets (the requests are loaded one after the other if the driver
+   * does not support multiple result sets).
+   */
+  @Test
+  public void test_load_with_multiple_result_sets() {
+    Request request1 = new Request(source, "select * from movie");
+    Request request2 = new Request(source, "select * from actor");
+    DataBatch batch = new DataBatch(request1, request2);
+    assertThat(batch.isMultipleResultSets()).isFalse();
+    assertThat(batch.setMultipleResultSets(true)).isSameAs(batch);
+    assertThat(batch.isMultipleResultSets()).isTrue();
+    batch.load();
+
+    assertThat(request1.getColumnsNameList()).containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+    assertThat(request1.getRowsList()).hasSize(3);
+    assertThat(request2.getRowsList()).hasSize(3);
+  }
+
+  /**
+   * This method tests that the requests are loaded from the result sets of a single statement if the driver supports
+   * multiple result sets.
+   */
+  @Test
+  public void test_load_with_multiple_result_sets_supported() throws SQLException {
+    List<String> executedRequests = new ArrayList<>();
+    DataSource dataSource = getDataSourceWithMultipleResultSets(executedRequests);
+    Request request1 = new Request(dataSource, "select * from movie");
+    Request request2 = new Request(dataSource, "select * from actor where id = ?", 1);
+    Request request3 = new Request(dataSource, "select * from actor");
+    Table table = new Table(dataSource, "interpretation");
+
+    new DataBatch(request1, request2, request3, table).setMultipleResultSets(true).load();
+
+    // The requests without parameters are not executed again with a prepared statement
+    assertThat(executedRequests).startsWith("select * from movie;\nselect * from actor")
+                                .contains("select * from actor where id = ?")
+                                .doesNotContain("select * from movie", "select * from actor");
+    assertThat(request1.isLoaded()).isTrue();
+    assertThat(request3.isLoaded()).isTrue();
+    assertThat(request1.getColumnsNameList()).containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+    assertThat(request1.getRowsList()).hasSize(3);
+    assertThat(request1.getRow(0).getValuesList().get(1).getValue()).isEqualTo("Alien");
+    assertThat(request2.getRowsList()).hasSize(1);
+    assertThat(request3.getColumnsNameList()).containsExactly("ID", "NAME", "FIRSTNAME", "BIRTH", "ACTOR_IMDB");
+    assertThat(request3.getRowsList()).hasSize(3);
+    assertThat(table.getRowsList()).hasSize(5);
+  }
+
+  /**
+   * This method should fail because the statement returns less result sets than the requests.
+   */
+  @Test
+  public void should_fail_because_the_statement_returns_less_result_sets() throws SQLException {
+    DataSource dataSource = getDataSourceWithMultipleResultSets(new ArrayList<>());
+    Request request1 = new Request(dataSource, "select * from movie");
+    Request request2 = new Request(dataSource, "select * from actor");
+    // The third request is only a comment : the statement returns a single result set
+    Request request3 = new Request(dataSource, "-- no request");
+
+    assertThatThrownBy(() -> new DataBatch(request1, request2, request3).setMultipleResultSets(true).load())
+        .isInstanceOf(AssertJDBException.class)
+        .hasMessage("The statement returned less result sets than the 3 requests");
+  }
+
+  /**
+   * Returns a data source whose connections support multiple result sets : a statement executes each SQL request
+   * separated by {@code ;} (H2 does not support it).
+   *
+   * @param executedRequests The list in which the SQL requests executed by the statements are added.
+   * @return The data source.
+   */
+  private DataSource getDataSourceWithMultipleResultSets(List<String> executedRequests) {
+    return (DataSource) Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+          if (method.getName().equals("getConnection")) {
+            return getConnectionWithMultipleResultSets(dataSource.getConnection(), executedRequests);
+          }
+          return invoke(dataSource, method, args);
+        });
+  }
+
+  /**
+   * Returns a connection which supports multiple result sets.
+   *
+   * @param connection       The H2 connection.
+   * @param executedRequests The list in which the SQL requests executed or prepared by the statements are added.
+   * @return The connection.
+   */
+  private Connection getConnectionWithMultipleResultSets(Connection connection, List<String> executedRequests) {
+    DatabaseMetaData metaData = (DatabaseMetaData) Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[] { DatabaseMetaData.class }, (proxy, method, args) -> {
+          if (method.getName().equals("supportsMultipleResultSets")) {
+            return true;
+          }
+          return invoke(connection.getMetaData(), method, args);
+        });
+    return (Connection) Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+          if (method.getName().equals("getMetaData")) {
+            return metaData;
+          }
+          if (method.getName().equals("createStatement")) {
+            return getStatementWithMultipleResultSets(connection, executedRequests);
+          }
+          if (method.getName().equals("prepareStatement")) {
+            executedRequests.add((String) args[0]);
+          }
+          return invoke(connection, method, args);
+        });
+  }
+
+  /**
+   * Returns a statement which executes each SQL request separated by {@code ;} and returns their result sets (the
+   * other methods are delegated to a H2 statement).
+   *
+   * @param connection       The H2 connection.
+   * @param executedRequests The list in which the SQL requests executed by the statement are added.
+   * @return The statement.
+   * @throws SQLException SQL Exception.
+   */
+  private Statement getStatementWithMultipleResultSets(Connection connection, List<String> executedRequests)
+      throws SQLException {
+    LinkedList<ResultSet> resultSets = new LinkedList<>();
+    List<Statement> statements = new ArrayList<>();
+    Statement delegate = connection.createStatement();
+    statements.add(delegate);
+    return (Statement) Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[] { Statement.class }, (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "execute":
+              String sql = (String) args[0];
+              executedRequests.add(sql);
+              for (String request : sql.split(";\n")) {
+                if (!request.startsWith("--")) {
+                  Statement statement = connection.createStatement();
+                  statements.add(statement);
+                  resultSets.add(statement.executeQuery(request));
+                }
+              }
+              return !resultSets.isEmpty();
+            case "getResultSet":
+              return resultSets.peek();
+            case "getMoreResults":
+              resultSets.poll();
+              return !resultSets.isEmpty();
+            case "getUpdateCount":
+              return -1;
+            case "close":
+              for (Statement statement : statements) {
+                statement.close();
+              }
+              return null;
+            default:
+              return invoke(delegate, method, args);
+          }
+        });
+  }
+
+  /**
+   * Invokes a method on an object and throws the exception of the method.
+   *
+   * @param object The object.
+   * @param method The method.
+   * @param args   The arguments.
+   * @return The result of the method.
+   * @throws Throwable The exception of the method.
+   */
+  private static Object invoke(Object object, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(object, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * This method should fail because the data is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_data_is_null() {
+    new DataBatch(new Request(source, "select * from movie"), null);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the {@link FetchStrategy} used to load a {@code Table} or a {@code Request}.
+ */
+public class FetchStrategy_Test extends AbstractTest {
+
+  /**
+   * This method tests the creation of the strategies.
+   */
+  @Test
+  public void test_strategies() {
+    FetchStrategy strategy = FetchStrategy.forwardOnly(500).withQueryTimeout(10).withReadOnly(true);
+
+    assertThat(FetchStrategy.DEFAULT.getFetchSize()).isEqualTo(0);
+    assertThat(FetchStrategy.DEFAULT.isReadOnly()).isFalse();
+    assertThat(strategy.getResultSetType()).isEqualTo(ResultSet.TYPE_FORWARD_ONLY);
+    assertThat(strategy.getFetchSize()).isEqualTo(500);
+    assertThat(strategy.getQueryTimeout()).isEqualTo(10);
+    assertThat(strategy.isReadOnly()).isTrue();
+    assertThat(strategy.withResultSetType(ResultSet.TYPE_SCROLL_INSENSITIVE).getResultSetType())
+        .isEqualTo(ResultSet.TYPE_SCROLL_INSENSITIVE);
+    assertThat(strategy).isEqualTo(FetchStrategy.forwardOnly(500).withReadOnly(true).withQueryTimeout(10));
+  }
+
+  /**
+   * This method should fail because the fetch size is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_fetch_size_is_negative() {
+    FetchStrategy.forwardOnly(-1);
+  }
+
+  /**
+   * This method should fail because the type of result set is unknown.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_result_set_type_is_unknown() {
+    FetchStrategy.DEFAULT.withResultSetType(ResultSet.CONCUR_READ_ONLY);
+  }
+
+  /**
+   * This method tests that the strategy of the source is used and can be overridden by the element.
+   */
+  @Test
+  public void test_strategy_of_source_and_override() {
+    FetchStrategy sourceStrategy = FetchStrategy.forwardOnly(100);
+    FetchStrategy tableStrategy = FetchStrategy.forwardOnly(2);
+    Source sourceWithStrategy = new Source(source.getUrl(), source.getUser(), source.getPassword(), sourceStrategy);
+
+    Table table = new Table(sourceWithStrategy, "movie");
+    assertThat(table.getFetchStrategy()).isSameAs(sourceStrategy);
+    assertThat(table.setFetchStrategy(tableStrategy).getFetchStrategy()).isSameAs(tableStrategy);
+    assertThat(table.setFetchStrategy(null).getFetchStrategy()).isSameAs(sourceStrategy);
+    assertThat(new Table(dataSource, "movie").getFetchStrategy()).isSameAs(FetchStrategy.DEFAULT);
+    assertThat(new Changes(sourceWithStrategy).getFetchStrategy()).isSameAs(sourceStrategy);
+  }
+
+  /**
+   * This method tests the loading of a table and of a request with a strategy.
+   */
+  @Test
+  public void test_loading_with_strategy() throws Exception {
+    FetchStrategy strategy = FetchStrategy.forwardOnly(1).withQueryTimeout(5).withReadOnly(true);
+
+    Table table = new Table(dataSource, "movie").setFetchStrategy(strategy);
+    assertThat(table.getRowsList()).hasSize(3);
+    assertThat(table.getRow(1).getColumnValue("title").getValue()).isEqualTo("The Village");
+
+    Request request = new Request(dataSource, "select title from movie where year > ?", 2000)
+        .setFetchStrategy(strategy);
+    assertThat(request.getRowsList()).hasSize(2);
+
+    Table tableWithWhere = new Table(dataSource, "movie").setWhere("id = ?", 1).setFetchStrategy(strategy);
+    assertThat(tableWithWhere.getRowsList()).hasSize(1);
+
+    try (Connection connection = dataSource.getConnection()) {
+      assertThat(connection.isReadOnly()).isFalse();
+    }
+  }
+
+  /**
+   * This method should fail because the timeout is negative.
+   */
+  @Test
+  public void should_fail_because_timeout_is_negative() {
+    try {
+      FetchStrategy.DEFAULT.withQueryTimeout(-1);
+      fail("An exception must be raised");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage()).isEqualTo("queryTimeout must be positive or zero");
+    }
+  }
+}
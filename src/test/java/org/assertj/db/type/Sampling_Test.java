@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on {@code Sampling}.
+ */
+public class Sampling_Test extends AbstractTest {
+
+  /**
+   * This method tests the sampling with the {@code TABLESAMPLE} clause.
+   */
+  @Test
+  public void test_table_sample() {
+    Sampling sampling = Sampling.tableSample(1.5);
+    assertThat(sampling.getPercentage()).isEqualTo(1.5);
+    assertThat(sampling.getTableSampleClause("H2")).isEqualTo("TABLESAMPLE BERNOULLI (1.5)");
+    assertThat(sampling.toString()).isEqualTo("Sampling[TABLE_SAMPLE, percentage=1.5]");
+  }
+
+  /**
+   * This method tests the sampling with a modulo.
+   */
+  @Test
+  public void test_modulo() {
+    Sampling sampling = Sampling.modulo(4, 3);
+    assertThat(sampling.getPercentage()).isEqualTo(25);
+    assertThat(sampling.getTableSampleClause("PostgreSQL")).isNull();
+    assertThat(sampling.getModuloCondition("ID")).isEqualTo("MOD(ID, 4) = 3");
+    assertThat(sampling.toString()).isEqualTo("Sampling[modulus=4, remainder=3]");
+    assertThat(Sampling.modulo(4).getModuloCondition("ID")).matches("MOD\\(ID, 4\\) = [0-3]");
+  }
+
+  /**
+   * This method tests the sampling with a percentage.
+   */
+  @Test
+  public void test_percentage() {
+    Sampling sampling = Sampling.percentage(10);
+    assertThat(sampling.getPercentage()).isEqualTo(10);
+    assertThat(sampling.getTableSampleClause("PostgreSQL")).isEqualTo("TABLESAMPLE BERNOULLI (10)");
+    assertThat(sampling.getTableSampleClause("DB2/LINUXX8664")).isEqualTo("TABLESAMPLE BERNOULLI (10)");
+    assertThat(sampling.getTableSampleClause("Microsoft SQL Server")).isEqualTo("TABLESAMPLE (10 PERCENT)");
+    assertThat(sampling.getTableSampleClause("Oracle")).isEqualTo("SAMPLE (10)");
+    assertThat(sampling.getTableSampleClause("H2")).isNull();
+    assertThat(sampling.getModuloCondition("ID")).matches("MOD\\(ID, 10\\) = [0-9]");
+    assertThat(sampling.toString()).matches("Sampling\\[PERCENTAGE, percentage=10, modulus=10, remainder=[0-9]\\]");
+  }
+
+  /**
+   * This method tests the sampling which takes the same rows at each loading.
+   */
+  @Test
+  public void test_repeatable_sampling() {
+    Sampling modulo = Sampling.modulo(4, 3);
+    assertThat(modulo.getRepeatableSampling()).isSameAs(modulo);
+    assertThat(Sampling.tableSample(10).getRepeatableSampling()).isNull();
+    Sampling percentage = Sampling.percentage(10);
+    Sampling repeatable = percentage.getRepeatableSampling();
+    assertThat(repeatable.getTableSampleClause("PostgreSQL")).isNull();
+    assertThat(repeatable.getModuloCondition("ID")).isEqualTo(percentage.getModuloCondition("ID"));
+  }
+
+  /**
+   * This method should fail because the percentage is zero.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_percentage_is_zero() {
+    Sampling.percentage(0);
+  }
+
+  /**
+   * This method should fail because the percentage is greater than 100.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_percentage_is_greater_than_100() {
+    Sampling.tableSample(101);
+  }
+
+  /**
+   * This method should fail because the modulus is zero.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_modulus_is_zero() {
+    Sampling.modulo(0);
+  }
+
+  /**
+   * This method should fail because the remainder is equal to the modulus.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_remainder_is_equal_to_modulus() {
+    Sampling.modulo(3, 3);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests on the {@link SnapshotCache}.
+ */
+public class SnapshotCache_Test extends AbstractTest {
+
+  /**
+   * This method tests that the tables with the same key share the same rows.
+   */
+  @Test
+  public void test_tables_share_the_rows() {
+    SnapshotCache cache = new SnapshotCache(10);
+    Table table1 = new Table(source, "movie").setSnapshotCache(cache);
+    Table table2 = new Table(source, "movie").setSnapshotCache(cache);
+    Table table3 = new Table(source, "movie", null, new String[] { "title" }).setSnapshotCache(cache);
+
+    assertThat(table1.getSnapshotCache()).isSameAs(cache);
+    assertThat(table2.getRowsList()).isSameAs(table1.getRowsList());
+    assertThat(table2.getPksNameList()).containsExactly("ID");
+    assertThat(table3.getRowsList()).isNotSameAs(table1.getRowsList());
+    assertThat(table3.getColumnsNameList()).doesNotContain("TITLE");
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  /**
+   * This method tests that the requests with different parameters do not share the rows.
+   */
+  @Test
+  public void test_requests_with_parameters() {
+    SnapshotCache cache = new SnapshotCache(10);
+    Request request1 = new Request(source, "select * from movie where year > ?", 2000).setSnapshotCache(cache);
+    Request request2 = new Request(source, "select * from movie where year > ?", 2000).setSnapshotCache(cache);
+    Request request3 = new Request(source, "select * from movie where year > ?", 2005).setSnapshotCache(cache);
+
+    assertThat(request2.getRowsList()).isSameAs(request1.getRowsList());
+    assertThat(request3.getRowsList()).hasSize(1);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  /**
+   * This method tests that the requests with different primary keys do not share the rows, and that setting the
+   * primary keys after the loading does not modify the rows of the other requests.
+   */
+  @Test
+  public void test_requests_with_primary_keys() {
+    SnapshotCache cache = new SnapshotCache(10);
+    Request request1 = new Request(source, "select * from movie").setSnapshotCache(cache);
+    Request request2 = new Request(source, "select * from movie").setPksName("ID").setSnapshotCache(cache);
+    Request request3 = new Request(source, "select * from movie").setSnapshotCache(cache);
+
+    assertThat(request2.getRowsList()).isNotSameAs(request1.getRowsList());
+    assertThat(request2.getRow(0).getPksNameList()).containsExactly("ID");
+    assertThat(request3.getRowsList()).isSameAs(request1.getRowsList());
+    assertThat(cache.size()).isEqualTo(2);
+
+    request3.setPksName("TITLE");
+    assertThat(request3.getRow(0).getPksNameList()).containsExactly("TITLE");
+    assertThat(request1.getRow(0).getPksValueList()).isEmpty();
+  }
+
+  /**
+   * This method tests that the lists shared by the cache can not be modified.
+   */
+  @Test
+  public void test_shared_lists_are_unmodifiable() {
+    SnapshotCache cache = new SnapshotCache(10);
+    Table table = new Table(source, "movie").setSnapshotCache(cache);
+
+    assertThatThrownBy(() -> table.getRowsList().remove(0)).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> table.getColumnsNameList().clear()).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  /**
+   * This method tests the invalidation of the cache.
+   */
+  @Test
+  public void test_invalidate() {
+    SnapshotCache cache = new SnapshotCache(10);
+    Table table1 = new Table(source, "movie").setSnapshotCache(cache);
+    Table table2 = new Table(source, "actor").setSnapshotCache(cache);
+    List<Row> rowsList = table1.getRowsList();
+    table2.getRowsList();
+    assertThat(cache.size()).isEqualTo(2);
+
+    cache.invalidate(table1);
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(new Table(source, "movie").setSnapshotCache(cache).getRowsList()).isNotSameAs(rowsList);
+
+    cache.invalidateAll();
+    assertThat(cache.size()).isEqualTo(0);
+  }
+
+  /**
+   * This method tests that the least recently used snapshot is evicted.
+   */
+  @Test
+  public void test_eviction() {
+    SnapshotCache cache = new SnapshotCache(1);
+    List<Row> rowsList = new Table(source, "movie").setSnapshotCache(cache).getRowsList();
+    new Table(source, "actor").setSnapshotCache(cache).getRowsList();
+
+    assertThat(cache.getMaximumSize()).isEqualTo(1);
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(new Table(source, "movie").setSnapshotCache(cache).getRowsList()).isNotSameAs(rowsList);
+  }
+
+  /**
+   * This method tests that the data are loaded only once when several threads access to them.
+   */
+  @Test
+  public void test_concurrent_access() throws Exception {
+    SnapshotCache cache = new SnapshotCache(10);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Callable<List<Row>>> tasks = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        tasks.add(() -> new Table(source, "movie").setSnapshotCache(cache).getRowsList());
+      }
+      List<Future<List<Row>>> futures = executor.invokeAll(tasks);
+      List<Row> rowsList = futures.get(0).get();
+      for (Future<List<Row>> future : futures) {
+        assertThat(future.get()).isSameAs(rowsList);
+      }
+      assertThat(cache.size()).isEqualTo(1);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * This method should fail because the maximum size must be positive.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_maximum_size_is_not_positive() {
+    new SnapshotCache(0);
+  }
+}
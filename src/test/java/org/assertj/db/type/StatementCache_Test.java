@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on {@code StatementCache} and on the reuse of the plan of the columns.
+ */
+public class StatementCache_Test extends AbstractTest {
+
+  /**
+   * This method tests that the statements are prepared once by SQL request and closed with the cache.
+   */
+  @Test
+  public void test_statements_are_reused() throws Exception {
+    try (Connection connection = dataSource.getConnection()) {
+      StatementCache statementCache = new StatementCache(connection);
+      assertThat(statementCache.getConnection()).isSameAs(connection);
+      PreparedStatement statement1 = statementCache.prepareStatement(FetchStrategy.DEFAULT,
+                                                                     "select * from movie where id = ?");
+      PreparedStatement statement2 = statementCache.prepareStatement(FetchStrategy.DEFAULT,
+                                                                     "select * from movie where id = ?");
+      PreparedStatement statement3 = statementCache.prepareStatement(FetchStrategy.DEFAULT, "select * from actor");
+      PreparedStatement statement4 = statementCache.prepareStatement(FetchStrategy.forwardOnly(10),
+                                                                     "select * from actor");
+      assertThat(statement2).isSameAs(statement1);
+      assertThat(statement3).isNotSameAs(statement1);
+      assertThat(statement4).isNotSameAs(statement3);
+      assertThat(statementCache.contains(statement1)).isTrue();
+
+      statementCache.close();
+      assertThat(statement1.isClosed()).isTrue();
+      assertThat(statement3.isClosed()).isTrue();
+      assertThat(statement4.isClosed()).isTrue();
+      assertThat(statementCache.contains(statement1)).isFalse();
+    }
+  }
+
+  /**
+   * This method tests that the requests of a batch with the same SQL request are loaded with the same statement.
+   */
+  @Test
+  public void test_requests_with_same_sql_in_batch() {
+    Request request1 = new Request(source, "select * from movie where id = ?", 1);
+    Request request2 = new Request(source, "select * from movie where id = ?", 2);
+    new DataBatch(request1, request2).load();
+
+    assertThat(request1.getRowsList()).hasSize(1);
+    assertThat(request1.getRowsList().get(0).getValuesList().get(1).getValue()).isEqualTo("Alien");
+    assertThat(request2.getRowsList()).hasSize(1);
+    assertThat(request2.getRowsList().get(0).getValuesList().get(1).getValue()).isEqualTo("The Village");
+  }
+
+  /**
+   * This method tests that the plan of the columns is reused by the data which share it.
+   */
+  @Test
+  public void test_columns_plan_is_shared() {
+    Request request = new Request(source, "select * from movie");
+    Request request1 = new Request(source, "select * from movie");
+    Request request2 = new Request(source, "select * from movie");
+    Request request3 = new Request(source, "select * from movie");
+    request1.shareColumnsPlan(request);
+    request2.shareColumnsPlan(request);
+
+    ColumnsSchema columnsSchema = request1.getRowsList().get(0).getColumnsSchema();
+    assertThat(request1.getRowsList().get(1).getColumnsSchema()).isSameAs(columnsSchema);
+    assertThat(request2.getRowsList().get(0).getColumnsSchema()).isSameAs(columnsSchema);
+    assertThat(request3.getRowsList().get(0).getColumnsSchema()).isNotSameAs(columnsSchema);
+  }
+}
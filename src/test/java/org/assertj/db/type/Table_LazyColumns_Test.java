@@ -0,0 +1,196 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.monitoring.DbListener;
+import org.assertj.db.monitoring.DbListeners;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.db.api.Assertions.assertThat;
+
+/**
+ * Tests on the lazy columns of a {@code Table}.
+ */
+public class Table_LazyColumns_Test extends AbstractTest {
+
+  /**
+   * The requests of the loadings.
+   */
+  private final List<String> requestsList = new ArrayList<>();
+
+  /**
+   * Unregisters the listeners after each test.
+   */
+  @After
+  public void clearListeners() {
+    DbListeners.clear();
+  }
+
+  /**
+   * Registers a listener which keeps the requests of the loadings.
+   */
+  private void listenLoadings() {
+    DbListeners.add(new DbListener() {
+      @Override
+      public void dataLoaded(AbstractDbData<?> data, String request, int rowsNumber, int columnsNumber,
+                             long bytesFetched, long durationNanos) {
+        requestsList.add(request);
+      }
+    });
+  }
+
+  /**
+   * This method tests that only the accessed column is loaded.
+   */
+  @Test
+  public void test_lazy_columns() {
+    Table expected = new Table(source, "movie");
+    Table table = new Table(source, "movie").setLazyColumns(true);
+    listenLoadings();
+
+    assertThat(table.isLazyColumns()).isTrue();
+    assertThat(table.getColumnsNameList()).containsExactly("ID", "TITLE", "YEAR", "MOVIE_IMDB");
+    assertThat(table.getColumnsList()).hasSize(4);
+    assertThat(requestsList).isEmpty();
+
+    Column column = table.getColumn(1);
+    assertThat(column.getName()).isEqualTo("TITLE");
+    assertThat(column.getValuesList()).extracting(Value::getValue).containsExactly("Alien", "The Village", "Avatar");
+    assertThat(table.getColumn(1)).isSameAs(column);
+    assertThat(requestsList).containsExactly("SELECT ID, TITLE FROM MOVIE");
+
+    table.getColumn(0).getValuesList();
+    assertThat(requestsList).containsExactly("SELECT ID, TITLE FROM MOVIE", "SELECT ID FROM MOVIE");
+
+    assertThat(table.getRowsList()).hasSize(3);
+    assertThat(requestsList).hasSize(3);
+    assertThat(table.getColumnsNameList()).isEqualTo(expected.getColumnsNameList());
+  }
+
+  /**
+   * This method tests the lazy columns with columns to check and to exclude.
+   */
+  @Test
+  public void test_lazy_columns_with_columns_to_check_and_to_exclude() {
+    Table table = new Table(source, "movie", new String[] { "year", "title", "id" }, new String[] { "id" })
+        .setLazyColumns(true);
+    listenLoadings();
+
+    assertThat(table.getColumnsNameList()).containsExactly("YEAR", "TITLE");
+    assertThat(table.getColumn(0).getValuesList()).extracting(Value::getValue).hasSize(3);
+    assertThat(requestsList).containsExactly("SELECT ID, YEAR FROM MOVIE");
+  }
+
+  /**
+   * This method tests that the nullity of a lazy column is computed by the database without loading the values.
+   */
+  @Test
+  public void test_nullity_of_lazy_column() {
+    Table table = new Table(source, "test2").setLazyColumns(true);
+    listenLoadings();
+
+    assertThat(table.getColumn(14).getNumberOfNullValues()).isEqualTo(2);
+    assertThat(table.getColumn(0).getNumberOfNullValues()).isEqualTo(1);
+    assertThat(table.getColumn(0).getNumberOfNotNullValues()).isEqualTo(1);
+    assertThat(table).column("var15").hasOnlyNullValues();
+    assertThat(requestsList).isEmpty();
+
+    try {
+      assertThat(table).column("var1").hasOnlyNotNullValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).contains("Expecting to contain only not null:");
+    }
+    assertThat(requestsList).hasSize(1);
+  }
+
+  /**
+   * This method tests that the lazy columns of a table without primary keys are in the order of the rows of the whole
+   * table.
+   */
+  @Test
+  public void test_lazy_columns_without_primary_keys() {
+    Table expected = new Table(source, "test2");
+    expected.getRowsList();
+    Table table = new Table(source, "test2").setLazyColumns(true);
+    listenLoadings();
+
+    Column column1 = table.getColumn(0);
+    Column column12 = table.getColumn(11);
+    assertThat(column1.getValuesList()).extracting(Value::getValue)
+                                       .isEqualTo(expected.getColumn(0).getValuesList().stream()
+                                                          .map(Value::getValue).collect(Collectors.toList()));
+    assertThat(column12.getValuesList()).extracting(Value::getValue)
+                                        .isEqualTo(expected.getColumn(11).getValuesList().stream()
+                                                           .map(Value::getValue).collect(Collectors.toList()));
+    assertThat(requestsList).containsExactly("SELECT * FROM TEST2");
+  }
+
+  /**
+   * This method tests that the lazy columns of a table with columns to order are in the order of the rows of the
+   * whole table when several rows are equal on the columns to order (the primary keys order them).
+   */
+  @Test
+  public void test_lazy_columns_with_columns_to_order() {
+    Table.Order[] orders = { Table.Order.desc("id_actor") };
+    Table expected = new Table(source, "interpretation", orders);
+    expected.getRowsList();
+    Table table = new Table(source, "interpretation", orders).setLazyColumns(true);
+
+    assertThat(table.getColumn(0).getValuesList()).extracting(value -> value.getValue().toString())
+                                                  .containsExactly("5", "4", "1", "2", "3");
+    assertThat(table.getColumn(3).getValuesList()).extracting(Value::getValue)
+                                                  .containsExactly("Jake Sully", "Lucius Hunt", "Ellen Louise Ripley",
+                                                                   "Alice Hunt", "Dr Grace Augustine");
+    assertThat(expected.getColumn(3).getValuesList()).extracting(Value::getValue)
+                                                     .isEqualTo(table.getColumn(3).getValuesList().stream()
+                                                                     .map(Value::getValue).collect(Collectors.toList()));
+  }
+
+  /**
+   * This method tests the lazy columns of a sample with a modulo (which takes the same rows at each request).
+   */
+  @Test
+  public void test_lazy_columns_with_sampling() {
+    Sampling sampling = Sampling.modulo(2, 1);
+    Table table = new Table(source, "movie").setSampling(sampling).setLazyColumns(true);
+    listenLoadings();
+
+    Column column = table.getColumn(1);
+    assertThat(column.getSampling()).isSameAs(sampling);
+    assertThat(column.getValuesList()).extracting(Value::getValue).containsExactly("Alien", "Avatar");
+    assertThat(requestsList).containsExactly("SELECT ID, TITLE FROM MOVIE WHERE MOD(ID, 2) = 1");
+  }
+
+  /**
+   * This method tests that the columns are not loaded separately with a sampling which can take other rows at each
+   * request.
+   */
+  @Test
+  public void test_lazy_columns_with_sampling_not_repeatable() {
+    Table table = new Table(source, "movie").setSampling(Sampling.percentage(50)).setLazyColumns(true);
+    listenLoadings();
+
+    table.getColumn(1).getValuesList();
+    assertThat(requestsList).hasSize(1);
+    assertThat(requestsList.get(0)).matches("SELECT \\* FROM MOVIE WHERE MOD\\(ID, 2\\) = [01]");
+  }
+}
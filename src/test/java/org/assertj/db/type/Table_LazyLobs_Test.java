@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.util.Digests;
+import org.assertj.db.util.Values;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.db.api.Assertions.assertThat;
+
+/**
+ * Tests on the lazy LOBs of a {@code Table}.
+ */
+public class Table_LazyLobs_Test extends AbstractTest {
+
+  /**
+   * Creates the table with LOBs.
+   */
+  @Before
+  public void createTable() {
+    update("create table lob_test(id int primary key, data blob, text clob)");
+    update("insert into lob_test values(1, ?, ?)", new byte[] { 1, 2, 3 }, "first text");
+    update("insert into lob_test values(2, ?, ?)", new byte[] { 4, 5 }, "second text 😀");
+    update("insert into lob_test values(3, null, null)");
+  }
+
+  /**
+   * Drops the table with LOBs.
+   */
+  @After
+  public void dropTable() {
+    update("drop table lob_test");
+  }
+
+  /**
+   * This method tests the values of the LOBs loaded lazily.
+   */
+  @Test
+  public void test_lazy_lobs() {
+    Table table = new Table(source, "lob_test").setLazyLobs(true);
+    Value data = table.getRow(0).getColumnValue("data");
+    Value text = table.getRow(1).getColumnValue("text");
+
+    assertThat(table.isLazyLobs()).isTrue();
+    assertThat(data.getValueType()).isEqualTo(ValueType.BYTES);
+    assertThat(data.getContentLength()).isEqualTo(3);
+    assertThat(data.getContentDigest()).isEqualTo(Digests.digest(new byte[] { 1, 2, 3 }));
+    assertThat(Values.areEqual(data, new byte[] { 1, 2, 3 })).isTrue();
+    assertThat(Values.areEqual(data, new byte[] { 1, 2, 4 })).isFalse();
+    assertThat(text.getValueType()).isEqualTo(ValueType.TEXT);
+    assertThat(text.getContentLength()).isEqualTo(14);
+    assertThat(Values.areEqual(text, "second text 😀")).isTrue();
+    assertThat(Values.areEqual(text, "second text")).isFalse();
+    assertThat(table.getRow(2).getColumnValue("data").getValue()).isNull();
+    assertThat(table.getRow(2).getColumnValue("data").getContentDigest()).isNull();
+
+    assertThat(data.getValue()).isEqualTo(new byte[] { 1, 2, 3 });
+    assertThat(text.getValue()).isEqualTo("second text 😀");
+  }
+
+  /**
+   * This method tests that the LOBs are loaded normally without lazy LOBs.
+   */
+  @Test
+  public void test_without_lazy_lobs() {
+    Table table = new Table(source, "lob_test");
+
+    assertThat(table.getRow(0).getColumnValue("data").getContentDigest()).isNull();
+    assertThat(table.getRow(0).getColumnValue("data").getContentLength()).isEqualTo(-1);
+    assertThat(table.getRow(0).getColumnValue("data").getValue()).isEqualTo(new byte[] { 1, 2, 3 });
+  }
+
+  /**
+   * This method tests that the LOBs of the changes are not loaded lazily (the value at start point is kept).
+   */
+  @Test
+  public void test_changes() {
+    Changes changes = new Changes(new Table(source, "lob_test").setLazyLobs(true)).setStartPointNow();
+    update("update lob_test set text = 'modified text' where id = 2");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(1);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(org.assertj.db.util.Changes.getIndexesOfModifiedColumns(change)).containsExactly(2);
+    assertThat(change.getRowAtEndPoint().getColumnValue("text").getValue()).isEqualTo("modified text");
+    assertThat(change.getRowAtStartPoint().getColumnValue("text").getValue()).isEqualTo("second text 😀");
+    assertThat(change.getRowAtStartPoint().getColumnValue("text").getContentDigest()).isNull();
+  }
+
+  /**
+   * This method tests the nullity of the LOBs loaded lazily (the contents are not loaded).
+   */
+  @Test
+  public void test_nullity() {
+    Table table = new Table(source, "lob_test").setLazyLobs(true);
+    table.getRowsList();
+    update("update lob_test set text = 'modified text' where id = 2");
+
+    assertThat(table.getRow(1).getColumnValue("text").isNull()).isFalse();
+    assertThat(table.getRow(2).getColumnValue("text").isNull()).isTrue();
+    assertThat(table).row(1).value("text").isNotNull();
+    assertThat(table).row(2).value("text").isNull();
+    assertThat(table).column("text").hasValues("first text", "second text 😀", null);
+    assertThatThrownBy(() -> table.getRow(1).getColumnValue("text").getValue())
+        .isInstanceOf(AssertJDBException.class)
+        .hasMessage("The value of the column TEXT changed in the database since the loading");
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.monitoring.DbListener;
+import org.assertj.db.monitoring.DbListeners;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.db.api.Assertions.assertThat;
+
+/**
+ * Tests on the loading by pages of a {@code Table}.
+ */
+public class Table_Paging_Test extends AbstractTest {
+
+  /**
+   * The numbers of rows of the loadings.
+   */
+  private final List<Integer> loadedRowsNumbers = new ArrayList<>();
+  /**
+   * The names of the tables of the readings of metadata.
+   */
+  private final List<String> metadataTablesNames = new ArrayList<>();
+
+  /**
+   * Creates the table with a composite primary key and records the loadings.
+   */
+  @Before
+  public void createTable() {
+    update("create table page_test(a int, b int, label varchar(10), primary key (a, b))");
+    for (int index = 0; index < 7; index++) {
+      update("insert into page_test values(?, ?, ?)", index / 3, index % 3, "row " + index);
+    }
+    DbListeners.add(new DbListener() {
+      @Override
+      public void dataLoaded(AbstractDbData<?> data, String request, int rowsNumber, int columnsNumber,
+                             long bytesFetched, long durationNanos) {
+        loadedRowsNumbers.add(rowsNumber);
+      }
+
+      @Override
+      public void metadataRead(DbElement element, String tableName, long durationNanos) {
+        metadataTablesNames.add(tableName);
+      }
+    });
+  }
+
+  /**
+   * Drops the table and unregisters the listeners.
+   */
+  @After
+  public void dropTable() {
+    DbListeners.clear();
+    update("drop table page_test");
+  }
+
+  /**
+   * This method tests the random access to the rows.
+   */
+  @Test
+  public void test_random_access() {
+    Table table = new Table(source, "page_test").setPaging(2, 1);
+    List<Row> rowsList = table.getRowsList();
+
+    assertThat(rowsList).hasSize(7);
+    assertThat(rowsList.get(5).getColumnValue("label").getValue()).isEqualTo("row 5");
+    // The primary keys of the previous pages (page by page) then the page.
+    assertThat(loadedRowsNumbers).containsExactly(2, 2, 2);
+    assertThat(rowsList.get(4).getColumnValue("label").getValue()).isEqualTo("row 4");
+    assertThat(rowsList.get(0).getColumnValue("label").getValue()).isEqualTo("row 0");
+    // Sequential access : the page and the next one.
+    assertThat(rowsList.get(3).getColumnValue("label").getValue()).isEqualTo("row 3");
+    assertThat(rowsList.get(6).getColumnValue("label").getValue()).isEqualTo("row 6");
+    assertThat(loadedRowsNumbers).containsExactly(2, 2, 2, 2, 4, 1);
+    assertThat(table.isLoaded()).isFalse();
+  }
+
+  /**
+   * This method tests the sequential access to the rows which loads the next page.
+   */
+  @Test
+  public void test_sequential_access() {
+    Table table = new Table(source, "page_test").setPaging(2, 2);
+    List<Row> rowsList = table.getRowsList();
+
+    for (int index = 0; index < rowsList.size(); index++) {
+      assertThat(rowsList.get(index).getColumnValue("label").getValue()).isEqualTo("row " + index);
+    }
+    assertThat(loadedRowsNumbers).containsExactly(4, 3);
+  }
+
+  /**
+   * This method tests that the primary keys are read once in the metadata and not for each page.
+   */
+  @Test
+  public void test_primary_keys_read_once() {
+    Table table = new Table(source, "page_test").setPaging(2, 1);
+    List<Row> rowsList = table.getRowsList();
+    rowsList.get(0);
+    int metadataReadingsNumber = metadataTablesNames.size();
+
+    for (int index = rowsList.size() - 1; index >= 0; index--) {
+      assertThat(rowsList.get(index).getColumnValue("label").getValue()).isEqualTo("row " + index);
+    }
+    assertThat(metadataTablesNames).hasSize(metadataReadingsNumber);
+  }
+
+  /**
+   * This method tests the navigation with the assertions.
+   */
+  @Test
+  public void test_navigation() {
+    Table table = new Table(source, "page_test").setPaging(3, 1).setWhere("label <> ?", "row 1");
+
+    assertThat(table).hasNumberOfRows(6)
+                     .row(4).value("label").isEqualTo("row 5")
+                     .row().value("label").isEqualTo("row 6");
+  }
+
+  /**
+   * This method tests that the rows are loaded at once without primary key or with columns to order.
+   */
+  @Test
+  public void test_loading_without_paging() {
+    Table table = new Table(source, "page_test", new Table.Order[] { Table.Order.desc("label") }).setPaging(2, 1);
+    assertThat(table.getRowsList()).hasSize(7);
+    assertThat(table.isLoaded()).isTrue();
+
+    Table tableWithoutPk = new Table(source, "page_test", new String[] { "label" }, null).setPaging(2, 1);
+    assertThat(tableWithoutPk.getRowsList()).hasSize(7);
+    assertThat(tableWithoutPk.isLoaded()).isTrue();
+  }
+
+  /**
+   * This method tests that the rows are loaded at once with a text primary key, in the same order as without paging.
+   */
+  @Test
+  public void test_loading_without_paging_with_text_primary_key() {
+    update("create table page_text_test(code varchar(10) primary key, label varchar(10))");
+    try {
+      update("insert into page_text_test values('b', 'row 0')");
+      update("insert into page_text_test values('B', 'row 1')");
+      update("insert into page_text_test values('a', 'row 2')");
+      update("insert into page_text_test values('Aa', 'row 3')");
+
+      Table table = new Table(source, "page_text_test").setPaging(2, 1);
+      assertThat(table).hasNumberOfRows(4)
+                       .row(0).value("code").isEqualTo("Aa")
+                       .row(1).value("code").isEqualTo("B")
+                       .row(2).value("code").isEqualTo("a")
+                       .row(3).value("code").isEqualTo("b");
+      assertThat(table.isLoaded()).isTrue();
+      assertThat(loadedRowsNumbers).containsExactly(4);
+    } finally {
+      update("drop table page_text_test");
+    }
+  }
+
+  /**
+   * This method should fail because the page size is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_page_size_is_negative() {
+    new Table(source, "page_test").setPaging(-1, 1);
+  }
+}
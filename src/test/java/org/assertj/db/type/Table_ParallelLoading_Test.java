@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.monitoring.DbListener;
+import org.assertj.db.monitoring.DbListeners;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the loading of a {@code Table} by ranges of primary keys at the same time.
+ */
+public class Table_ParallelLoading_Test extends AbstractTest {
+
+  /**
+   * The numbers of rows of the loadings.
+   */
+  private final List<Integer> loadedRowsNumbers = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates the tables and records the loadings.
+   */
+  @Before
+  public void createTables() {
+    update("create table partition_test(id int primary key, label varchar(10))");
+    update("create table partition_text_test(code varchar(10) primary key, label varchar(10))");
+    for (int index = 0; index < 100; index++) {
+      // The rows are not inserted in the order of the primary keys
+      int id = (index * 37) % 100 - 20;
+      update("insert into partition_test values(?, ?)", id, "row " + id);
+      update("insert into partition_text_test values(?, ?)", "code " + id, "row " + id);
+    }
+    DbListeners.add(new DbListener() {
+      @Override
+      public void dataLoaded(AbstractDbData<?> data, String request, int rowsNumber, int columnsNumber,
+                             long bytesFetched, long durationNanos) {
+        loadedRowsNumbers.add(rowsNumber);
+      }
+    });
+  }
+
+  /**
+   * Drops the tables and unregisters the listeners.
+   */
+  @After
+  public void dropTables() {
+    DbListeners.clear();
+    update("drop table partition_test");
+    update("drop table partition_text_test");
+  }
+
+  /**
+   * This method tests that the rows loaded by ranges are the same as the rows loaded at once.
+   */
+  @Test
+  public void test_parallel_loading() {
+    Table table = new Table(source, "partition_test").setParallelLoading(4);
+    List<Row> rowsList = table.getRowsList();
+
+    assertThat(table.getPartitions()).isEqualTo(4);
+    assertThat(rowsList).hasSize(100);
+    for (int index = 0; index < 100; index++) {
+      assertThat(rowsList.get(index).getColumnValue("label").getValue()).isEqualTo("row " + (index - 20));
+    }
+    assertThat(table.getPksNameList()).containsExactly("ID");
+    assertThat(rowsList.get(0).getPksNameList()).containsExactly("ID");
+    // The 4 ranges ([-20, 4[, [4, 29[, [29, 54[ and [54, 79]) and the table
+    assertThat(loadedRowsNumbers).containsExactlyInAnyOrder(24, 25, 25, 26, 100);
+  }
+
+  /**
+   * This method tests the loading by ranges with a {@code WHERE} clause.
+   */
+  @Test
+  public void test_parallel_loading_with_where() {
+    Table table = new Table(source, "partition_test").setWhere("id >= ?", 50).setParallelLoading(3);
+    List<Row> rowsList = table.getRowsList();
+
+    assertThat(rowsList).hasSize(30);
+    assertThat(rowsList.get(0).getColumnValue("label").getValue()).isEqualTo("row 50");
+    assertThat(rowsList.get(29).getColumnValue("label").getValue()).isEqualTo("row 79");
+    assertThat(loadedRowsNumbers).hasSize(4);
+  }
+
+  /**
+   * This method tests that a table with a primary key which is not numeric is loaded at once.
+   */
+  @Test
+  public void test_loading_without_ranges() {
+    Table table = new Table(source, "partition_text_test").setParallelLoading(4);
+
+    assertThat(table.getRowsList()).hasSize(100);
+    assertThat(loadedRowsNumbers).containsExactly(100);
+  }
+
+  /**
+   * This method should fail because the number of ranges is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_partitions_is_negative() {
+    new Table(source, "partition_test").setParallelLoading(-1);
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import static org.assertj.db.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the sampling of the rows of a {@code Table}.
+ */
+public class Table_Sampling_Test extends AbstractTest {
+
+  /**
+   * This method tests the loading of a sample with a modulo on the primary key.
+   */
+  @Test
+  public void test_sample_with_modulo() {
+    Sampling sampling = Sampling.modulo(2, 1);
+    Table table = new Table(source, "movie").setSampling(sampling);
+    Assertions.assertThat(table.getSampling()).isSameAs(sampling);
+
+    Assertions.assertThat(table.getRowsList()).hasSize(2);
+    Assertions.assertThat(table.getRowsList().get(0).getValuesList().get(0).getValue().toString()).isEqualTo("1");
+    Assertions.assertThat(table.getRowsList().get(1).getValuesList().get(0).getValue().toString()).isEqualTo("3");
+    Assertions.assertThat(table.getRequest()).isEqualTo("SELECT * FROM MOVIE WHERE MOD(ID, 2) = 1");
+    Assertions.assertThat(table.getColumn(1).getSampling()).isSameAs(sampling);
+  }
+
+  /**
+   * This method tests that the number of rows of a sample is counted before the loading (the rows are not counted in
+   * the whole table).
+   */
+  @Test
+  public void test_number_of_rows_of_sample_before_loading() {
+    Table table = new Table(source, "movie").setSampling(Sampling.modulo(2, 1));
+
+    assertThat(table).hasNumberOfRows(2)
+                     .row(1).value("title").isEqualTo("Avatar");
+    Assertions.assertThat(table.getNumberOfRows()).isEqualTo(2);
+  }
+
+  /**
+   * This method tests that the nullity of a column of a sample with lazy columns is checked on the sample.
+   */
+  @Test
+  @NeedReload
+  public void test_nullity_of_lazy_column_of_sample() {
+    update("update movie set year = null where id = 2");
+    Table table = new Table(source, "movie").setSampling(Sampling.modulo(2, 1)).setLazyColumns(true);
+
+    assertThat(table).column("year").hasOnlyNotNullValues();
+    Assertions.assertThat(table.getColumn(2).getNumberOfNullValues()).isEqualTo(0);
+  }
+
+  /**
+   * This method tests the loading of a sample with a condition.
+   */
+  @Test
+  public void test_sample_with_where() {
+    Table table = new Table(source, "movie").setWhere("year > ?", 2000).setSampling(Sampling.modulo(2, 0));
+
+    Assertions.assertThat(table.getRowsList()).hasSize(1);
+    Assertions.assertThat(table.getRowsList().get(0).getValuesList().get(1).getValue()).isEqualTo("The Village");
+    Assertions.assertThat(table.getRequest()).isEqualTo("SELECT * FROM MOVIE WHERE (year > ?) AND MOD(ID, 2) = 0");
+  }
+
+  /**
+   * This method tests the loading of a sample with a percentage (with a modulo because H2 has no {@code TABLESAMPLE}).
+   */
+  @Test
+  public void test_sample_with_percentage() {
+    Table table = new Table(source, "movie").setSampling(Sampling.percentage(50)).setPaging(1, 1);
+
+    Assertions.assertThat(table.getRowsList()).hasSizeBetween(1, 2);
+    Assertions.assertThat(table.getRequest()).matches("SELECT \\* FROM MOVIE WHERE MOD\\(ID, 2\\) = [01]");
+  }
+
+  /**
+   * This method tests the report of the sample in the error of an assertion on a column.
+   */
+  @Test
+  @NeedReload
+  public void test_error_on_sample() {
+    update("update movie set year = null where id = 1");
+    Table table = new Table(source, "movie").setSampling(Sampling.modulo(1, 0));
+    try {
+      assertThat(table).column("year").hasOnlyNotNullValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo(String.format("[Column at index 2 (column name : YEAR) of MOVIE table] %n"
+                                                                    + "Expecting to contain only not null:%n"
+                                                                    + "but contains null at index: 0%n"
+                                                                    + "(on a sample of 3 rows with Sampling[modulus=1, remainder=0] : "
+                                                                    + "1 violations, estimated violation rate : 33.33%%)"));
+    }
+  }
+
+  /**
+   * This method tests that the random remainder of a modulo is reported in the error of an assertion on a column.
+   */
+  @Test
+  @NeedReload
+  public void test_error_on_sample_with_random_remainder() {
+    update("update movie set year = null");
+    Sampling sampling = Sampling.modulo(2);
+    Table table = new Table(source, "movie").setSampling(sampling);
+    try {
+      assertThat(table).column("year").hasOnlyNotNullValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      Assertions.assertThat(e.getMessage()).contains("with " + sampling + " : ")
+                                           .containsPattern("remainder=[01]");
+    }
+  }
+
+  /**
+   * This method tests that the copy of a table has the same sampling.
+   */
+  @Test
+  public void test_copy_with_sampling() {
+    Sampling sampling = Sampling.modulo(2, 1);
+    Table table = new Table(source, "movie").setSampling(sampling);
+
+    Table copy = table.getCopy();
+    Assertions.assertThat(copy.getSampling()).isSameAs(sampling);
+    Assertions.assertThat(copy.getRowsList()).hasSize(2);
+  }
+
+  /**
+   * This method tests the changes on a sample : the same rows are compared at the start point and at the end point.
+   */
+  @Test
+  @NeedReload
+  public void test_changes_on_sample() {
+    Changes changes = new Changes(new Table(source, "movie").setSampling(Sampling.modulo(2, 1)));
+    Assertions.assertThat(changes.getTablesList().get(0).getSampling().toString())
+              .isEqualTo("Sampling[modulus=2, remainder=1]");
+    changes.setStartPointNow();
+    update("update movie set year = 1980 where id = 1");
+    update("update movie set year = 2005 where id = 2");
+    changes.setEndPointNow();
+
+    assertThat(changes).hasNumberOfChanges(1)
+                       .change().isModification().hasPksValues(1);
+  }
+
+  /**
+   * This method tests the changes on a sample with a percentage : the modulo is used at each point.
+   */
+  @Test
+  public void test_changes_on_sample_with_percentage() {
+    Sampling sampling = Sampling.percentage(50);
+    Changes changes = new Changes(new Table(source, "movie").setSampling(sampling));
+
+    Assertions.assertThat(changes.getTablesList().get(0).getSampling().toString())
+              .isEqualTo(sampling.toString().replace("PERCENTAGE, percentage=50, ", ""));
+  }
+
+  /**
+   * This method should fail because the sampling with the {@code TABLESAMPLE} clause takes other rows at each
+   * loading.
+   */
+  @Test
+  public void should_fail_because_changes_on_table_sample() {
+    try {
+      new Changes(new Table(source, "movie").setSampling(Sampling.tableSample(50)));
+      fail("An exception must be raised");
+    } catch (IllegalArgumentException e) {
+      Assertions.assertThat(e.getMessage()).isEqualTo("The sampling of the MOVIE table takes other rows at each "
+                                                       + "loading : use Sampling.modulo(int, int) to compare its "
+                                                       + "changes");
+    }
+  }
+
+  /**
+   * This method should fail because the table has no primary key to take a sample with a modulo.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_table_has_no_single_primary_key() {
+    new Table(source, "test2").setSampling(Sampling.modulo(2)).getRowsList();
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2015-2021 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.monitoring.AggregatingDbListener;
+import org.assertj.db.monitoring.DbListeners;
+import org.junit.After;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code WHERE} clause of a {@code Table} and on the {@code getRowWithPks} method.
+ */
+public class Table_Where_Test extends AbstractTest {
+
+  /**
+   * Unregisters the listeners after each test.
+   */
+  @After
+  public void clearListeners() {
+    DbListeners.clear();
+  }
+
+  /**
+   * This method tests the request and the rows of a table with a {@code WHERE} clause.
+   */
+  @Test
+  public void test_where() {
+    Table table = new Table(source, "movie").setWhere("year > ?", 2000);
+
+    assertThat(table.getWhere()).isEqualTo("year > ?");
+    assertThat(table.getWhereParameters()).containsExactly(2000);
+    assertThat(table.getRequest()).isEqualTo("SELECT * FROM MOVIE WHERE year > ?");
+    assertThat(table.getNumberOfRows()).isEqualTo(2);
+    assertThat(table.getRowsList()).hasSize(2);
+    assertThat(table.getRow(0).getColumnValue("title").getValue()).isEqualTo("The Village");
+    assertThat(table.getPksNameList()).containsExactly("ID");
+  }
+
+  /**
+   * This method tests the request of a table with a {@code WHERE} clause and an order.
+   */
+  @Test
+  public void test_where_with_order() {
+    Table table = new Table(source, "movie", new Table.Order[] { Table.Order.desc("year") })
+        .setWhere("title <> 'Alien'");
+
+    assertThat(table.getRequest()).isEqualTo("SELECT * FROM MOVIE WHERE title <> 'Alien' ORDER BY YEAR DESC");
+    assertThat(table.getRowsList()).hasSize(2);
+    assertThat(table.getRow(0).getColumnValue("title").getValue()).isEqualTo("Avatar");
+  }
+
+  /**
+   * This method tests the search of a row with the primary keys in a table which is not loaded.
+   */
+  @Test
+  public void test_get_row_with_pks_without_loading() {
+    AggregatingDbListener listener = new AggregatingDbListener();
+    DbListeners.add(listener);
+
+    Table table = new Table(source, "movie");
+    Row row = table.getRowWithPks(2);
+
+    assertThat(row.getColumnValue("title").getValue()).isEqualTo("The Village");
+    assertThat(listener.getRowsNumber()).isEqualTo(1);
+    assertThat(table.getRowWithPks(5)).isNull();
+    assertThat(table.getRowWithPks(1, 2)).isNull();
+    assertThat(new Table(source, "movie").setWhere("year < ?", 2000).getRowWithPks(2)).isNull();
+  }
+
+  /**
+   * This method tests the search of a row with the primary keys in a table which is loaded.
+   */
+  @Test
+  public void test_get_row_with_pks_with_loading() {
+    Table table = new Table(source, "movie");
+    table.getRowsList();
+
+    assertThat(table.getRowWithPks(new BigDecimal(3))).isSameAs(table.getRow(2));
+    assertThat(table.getRowWithPks(5)).isNull();
+  }
+
+  /**
+   * This method tests that the search of a row ignores the excluded primary keys, with and without loading.
+   */
+  @Test
+  public void test_get_row_with_pks_with_excluded_primary_key() {
+    update("create table pks_test(a int, b int, label varchar(10), primary key (a, b))");
+    try {
+      update("insert into pks_test values(1, 1, 'first')");
+      update("insert into pks_test values(2, 1, 'second')");
+
+      for (boolean loaded : new boolean[] { false, true }) {
+        Table table = new Table(source, "pks_test", null, new String[] { "b" });
+        Table tableWithoutPk = new Table(source, "movie", null, new String[] { "id" });
+        if (loaded) {
+          table.getRowsList();
+          tableWithoutPk.getRowsList();
+        }
+
+        assertThat(table.getRowWithPks(2).getColumnValue("label").getValue()).isEqualTo("second");
+        assertThat(table.getRowWithPks(2, 1)).isNull();
+        assertThat(tableWithoutPk.getRowWithPks(2)).isNull();
+        assertThat(table.isLoaded()).isEqualTo(loaded);
+      }
+    } finally {
+      update("drop table pks_test");
+    }
+  }
+
+  /**
+   * This method tests that the search of a row in a table with a sampling only finds the rows of the sample.
+   */
+  @Test
+  public void test_get_row_with_pks_with_sampling() {
+    Table table = new Table(source, "movie").setSampling(Sampling.modulo(2, 1));
+
+    assertThat(table.getRowWithPks(3).getColumnValue("title").getValue()).isEqualTo("Avatar");
+    assertThat(table.getRowWithPks(2)).isNull();
+  }
+}
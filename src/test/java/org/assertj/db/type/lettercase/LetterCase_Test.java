@@ -15,6 +15,13 @@ package org.assertj.db.type.lettercase;
 import org.assertj.db.common.AbstractTest;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -68,4 +75,27 @@ public class LetterCase_Test extends AbstractTest {
     assertThat(LetterCase.COLUMN_DEFAULT.getComparisonName()).isEqualTo("IGNORE - Ignore the case");
     assertThat(LetterCase.PRIMARY_KEY_DEFAULT.getComparisonName()).isEqualTo("IGNORE - Ignore the case");
   }
+
+  /**
+   * This method tests that {@code getLetterCase} returns the same instance, even when called concurrently.
+   */
+  @Test
+  public void test_same_instance_when_called_concurrently() throws Exception {
+    assertThat(LetterCase.getLetterCase(CaseConversions.UPPER, CaseComparisons.IGNORE)).isSameAs(LetterCase.COLUMN_DEFAULT);
+    assertThat(LetterCase.getLetterCase(CaseConversions.NO, CaseComparisons.IGNORE)).isSameAs(LetterCase.TABLE_DEFAULT);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<LetterCase>> callables = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        callables.add(() -> LetterCase.getLetterCase(CaseConversions.LOWER, CaseComparisons.STRICT));
+      }
+      LetterCase letterCase = LetterCase.getLetterCase(CaseConversions.LOWER, CaseComparisons.STRICT);
+      for (Future<LetterCase> future : executorService.invokeAll(callables)) {
+        assertThat(future.get()).isSameAs(letterCase);
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
 }
@@ -72,4 +72,27 @@ public class Changes_GetIndexesOfModifiedColumns_Test extends AbstractTest {
     Assertions.assertThat(modificationIndexes).contains(1, 2);
     Assertions.assertThat(deletionIndexes).contains(0, 1);
   }
+
+  /**
+   * This method tests that the values are compared with their content (like the detection of the modification).
+   */
+  @Test
+  public void test_get_indexes_of_modified_columns_with_same_content() throws Exception {
+    Change modificationChange = getChange(DataType.TABLE, "test", ChangeType.MODIFICATION,
+                                      getRow(Arrays.asList("var1"),
+                                             Arrays.asList("var1", "var2", "var3"),
+                                             Arrays.asList(getValue("var1", 1),
+                                                           getValue("var2", new byte[] { 1, 2 }),
+                                                           getValue("var3", "text1"))),
+                                      getRow(Arrays.asList("var1"),
+                                             Arrays.asList("var1", "var2", "var3"),
+                                             Arrays.asList(getValue("var1", 1),
+                                                           getValue("var2", new byte[] { 1, 2 }),
+                                                           getValue("var3", "text2"))));
+
+    Assertions.assertThat(Changes.getIndexesOfModifiedColumns(modificationChange)).containsExactly(2);
+    Assertions.assertThat(modificationChange.getNumberOfModifiedColumns()).isEqualTo(1);
+    Assertions.assertThat(modificationChange.isModified(1)).isFalse();
+    Assertions.assertThat(modificationChange.isModified(2)).isTrue();
+  }
 }
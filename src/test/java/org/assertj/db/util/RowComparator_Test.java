@@ -13,9 +13,12 @@
 package org.assertj.db.util;
 
 import org.assertj.db.common.AbstractTest;
+import org.assertj.db.type.Row;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -138,4 +141,26 @@ public class RowComparator_Test extends AbstractTest {
             getRow(Arrays.asList("name"), Arrays.asList("id", "name"), Arrays.asList(getValue(null, 1), getValue(null,
                                                                                                                  new byte[] {1}))))).isEqualTo(0);
   }
+
+  /**
+   * Test the {@code sort} method.
+   *
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_sort() throws Exception {
+    Row row1 = getRow(Arrays.asList("id"), Arrays.asList("id", "name"), Arrays.asList(getValue(null, 1),
+                                                                                      getValue(null, "test1")));
+    Row row2 = getRow(Arrays.asList("id"), Arrays.asList("id", "name"), Arrays.asList(getValue(null, 2),
+                                                                                      getValue(null, "test2")));
+    Row row3 = getRow(Arrays.asList("id"), Arrays.asList("id", "name"), Arrays.asList(getValue(null, 2),
+                                                                                      getValue(null, "test3")));
+    Row row4 = getRow(Arrays.asList("id"), Arrays.asList("id", "name"), Arrays.asList(getValue(null, null),
+                                                                                      getValue(null, "test4")));
+
+    List<Row> sortedRowsList = Arrays.asList(row1, row2, row3, row4);
+    assertThat(RowComparator.sort(sortedRowsList)).isSameAs(sortedRowsList);
+    assertThat(RowComparator.sort(Arrays.asList(row4, row3, row1, row2))).containsExactly(row1, row2, row3, row4);
+    assertThat(RowComparator.sort(new ArrayList<Row>())).isEmpty();
+  }
 }